@@ -0,0 +1,202 @@
+package org.ldbcouncil.finbench.driver;
+
+import static java.lang.String.format;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.ldbcouncil.finbench.driver.control.DriverConfiguration;
+import org.ldbcouncil.finbench.driver.generator.GeneratorFactory;
+import org.ldbcouncil.finbench.driver.log.LoggingServiceFactory;
+import org.ldbcouncil.finbench.driver.util.Tuple;
+import org.ldbcouncil.finbench.driver.util.Tuple3;
+import org.ldbcouncil.finbench.driver.workloads.WorkloadFactory;
+
+/**
+ * Keeps the operations of the streams of one workload in memory, so the streams can be read repeatedly, from
+ * different offsets and with different limits, without loading the workload again. Operations are only pulled from
+ * the workload streams when a read goes beyond what is cached.
+ * <p>
+ * Time mapping overwrites the scheduled start times of operations, the original ones are restored every time
+ * offset and limited streams are created. Only one set of offset and limited streams may be in use at a time.
+ */
+public class CachedWorkloadStreams implements Closeable {
+    private final Workload workload;
+    private final WorkloadStreams unlimitedWorkloadStreams;
+    // in the order of WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams:
+    // asynchronous dependency, asynchronous non dependency, then dependency and non dependency of every blocking
+    private final List<CachedOperationStream> streams = new ArrayList<>();
+    // generators of a workload without DB connection, only used to count child operations while calculating limits
+    private final List<ChildOperationGenerator> countingChildOperationGenerators = new ArrayList<>();
+
+    public CachedWorkloadStreams(
+        WorkloadFactory workloadFactory,
+        DriverConfiguration configuration,
+        GeneratorFactory gf) throws WorkloadException {
+        Workload countingWorkload = workloadFactory.createWorkload();
+        countingWorkload.init(configuration);
+        WorkloadStreams countingWorkloadStreams = countingWorkload.streams(gf, false);
+        countingChildOperationGenerators.add(countingWorkloadStreams.asynchronousStream().childOperationGenerator());
+        countingChildOperationGenerators.add(countingWorkloadStreams.asynchronousStream().childOperationGenerator());
+        for (WorkloadStreams.WorkloadStreamDefinition stream : countingWorkloadStreams.blockingStreamDefinitions()) {
+            countingChildOperationGenerators.add(stream.childOperationGenerator());
+            countingChildOperationGenerators.add(stream.childOperationGenerator());
+        }
+        try {
+            countingWorkload.close();
+        } catch (IOException e) {
+            throw new WorkloadException("Error closing workload used to count child operations", e);
+        }
+
+        this.workload = workloadFactory.createWorkload();
+        workload.init(configuration);
+        this.unlimitedWorkloadStreams = workload.streams(gf, true);
+        streams.add(new CachedOperationStream(unlimitedWorkloadStreams.asynchronousStream().dependencyOperations()));
+        streams.add(
+            new CachedOperationStream(unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations()));
+        for (WorkloadStreams.WorkloadStreamDefinition stream : unlimitedWorkloadStreams.blockingStreamDefinitions()) {
+            streams.add(new CachedOperationStream(stream.dependencyOperations()));
+            streams.add(new CachedOperationStream(stream.nonDependencyOperations()));
+        }
+    }
+
+    /**
+     * Same as {@link WorkloadStreams#createNewWorkloadWithOffsetAndLimitedWorkloadStreams}, but reads the cached
+     * operations and always returns the same workload instance, which is closed by {@link #close()}.
+     *
+     * @return (workload_streams, workload, minimum_timestamp)
+     */
+    public Tuple3<WorkloadStreams, Workload, Long> createOffsetAndLimitedWorkloadStreams(
+        long offset,
+        long limit,
+        LoggingServiceFactory loggingServiceFactory) throws WorkloadException {
+        List<Iterator<Operation>> scanStreams = new ArrayList<>();
+        for (CachedOperationStream stream : streams) {
+            stream.restoreScheduledStartTimes();
+            scanStreams.add(stream.iterator(0, Integer.MAX_VALUE));
+        }
+        Tuple3<long[], long[], Long> limitsAndMinimumsForStream =
+            WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                scanStreams,
+                offset,
+                limit,
+                countingChildOperationGenerators,
+                loggingServiceFactory
+            );
+        long[] startForStream = limitsAndMinimumsForStream._1();
+        long[] limitForStream = limitsAndMinimumsForStream._2();
+
+        WorkloadStreams workloadStreams = new WorkloadStreams();
+        workloadStreams.setAsynchronousStream(
+            unlimitedWorkloadStreams.asynchronousStream().dependentOperationTypes(),
+            unlimitedWorkloadStreams.asynchronousStream().dependencyOperationTypes(),
+            limitedIterator(0, startForStream, limitForStream),
+            limitedIterator(1, startForStream, limitForStream),
+            unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator()
+        );
+        List<WorkloadStreams.WorkloadStreamDefinition> unlimitedBlockingStreams =
+            unlimitedWorkloadStreams.blockingStreamDefinitions();
+        for (int i = 0; i < unlimitedBlockingStreams.size(); i++) {
+            workloadStreams.addBlockingStream(
+                unlimitedBlockingStreams.get(i).dependentOperationTypes(),
+                unlimitedBlockingStreams.get(i).dependencyOperationTypes(),
+                limitedIterator(i * 2 + 2, startForStream, limitForStream),
+                limitedIterator(i * 2 + 3, startForStream, limitForStream),
+                unlimitedBlockingStreams.get(i).childOperationGenerator()
+            );
+        }
+        return Tuple.tuple3(workloadStreams, workload, limitsAndMinimumsForStream._3());
+    }
+
+    private Iterator<Operation> limitedIterator(int streamIndex, long[] startForStream, long[] limitForStream)
+        throws WorkloadException {
+        long from = startForStream[streamIndex];
+        long to = from + limitForStream[streamIndex];
+        if (to > Integer.MAX_VALUE) {
+            throw new WorkloadException(format("Can not cache more than %s operations per stream, %s requested",
+                Integer.MAX_VALUE, to));
+        }
+        return streams.get(streamIndex).iterator((int) from, (int) to);
+    }
+
+    /**
+     * @return number of operations currently held in memory
+     */
+    public long cachedOperationCount() {
+        long cachedOperationCount = 0;
+        for (CachedOperationStream stream : streams) {
+            cachedOperationCount += stream.size();
+        }
+        return cachedOperationCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        workload.close();
+    }
+
+    private static class CachedOperationStream {
+        private final Iterator<Operation> source;
+        private final List<Operation> operations = new ArrayList<>();
+        private long[] scheduledStartTimesAsMilli = new long[1024];
+
+        private CachedOperationStream(Iterator<Operation> source) {
+            this.source = source;
+        }
+
+        private int size() {
+            return operations.size();
+        }
+
+        /**
+         * Pulls operations from the source until index is cached, false if the source ends before
+         */
+        private boolean fill(int index) {
+            while (operations.size() <= index) {
+                if (!source.hasNext()) {
+                    return false;
+                }
+                Operation operation = source.next();
+                if (operations.size() == scheduledStartTimesAsMilli.length) {
+                    scheduledStartTimesAsMilli =
+                        Arrays.copyOf(scheduledStartTimesAsMilli, scheduledStartTimesAsMilli.length * 2);
+                }
+                scheduledStartTimesAsMilli[operations.size()] = operation.scheduledStartTimeAsMilli();
+                operations.add(operation);
+            }
+            return true;
+        }
+
+        private void restoreScheduledStartTimes() {
+            for (int i = 0; i < operations.size(); i++) {
+                operations.get(i).setScheduledStartTimeAsMilli(scheduledStartTimesAsMilli[i]);
+            }
+        }
+
+        /**
+         * Iterates over the operations from (inclusive) to (exclusive), or until the source ends
+         */
+        private Iterator<Operation> iterator(int from, int to) {
+            return new Iterator<Operation>() {
+                private int index = from;
+
+                @Override
+                public boolean hasNext() {
+                    return index < to && fill(index);
+                }
+
+                @Override
+                public Operation next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return operations.get(index++);
+                }
+            };
+        }
+    }
+}
@@ -116,10 +116,12 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable {
                 return;
             }
             resultReporter.setActualStartTimeAsMilli(timeSource.nowAsMilli());
+            resultReporter.resetExcludedDuration();
             long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
             operationHandler.executeOperation(operation, dbConnectionState, resultReporter);
             long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
-            resultReporter.setRunDurationAsNano(endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano);
+            resultReporter.setRunDurationAsNano(endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano
+                - resultReporter.excludedDurationAsNano());
             if (null == resultReporter().result()) {
                 errorReporter.reportError(this, format("Operation result is null\nOperation: %s", operation));
             } else {
@@ -0,0 +1,33 @@
+package org.ldbcouncil.finbench.driver;
+
+/**
+ * Assigns the operations of one stream to the partitions of a workload that is executed by several driver processes,
+ * each executing the operations of one partition. A new partitioner is created for every stream and sees all
+ * operations of the stream in order, so it may keep state.
+ */
+public interface OperationPartitioner {
+    /**
+     * @param operation Next operation of the stream
+     * @return Partition of the operation, from 0 to partition count - 1
+     */
+    int partitionOf(Operation operation);
+
+    /**
+     * Assigns operations to partitions in turn, regardless of their parameters
+     */
+    class RoundRobin implements OperationPartitioner {
+        private final int partitionCount;
+        private int nextPartition = 0;
+
+        public RoundRobin(int partitionCount) {
+            this.partitionCount = partitionCount;
+        }
+
+        @Override
+        public int partitionOf(Operation operation) {
+            int partition = nextPartition;
+            nextPartition = (nextPartition + 1 == partitionCount) ? 0 : nextPartition + 1;
+            return partition;
+        }
+    }
+}
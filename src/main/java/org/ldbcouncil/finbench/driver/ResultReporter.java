@@ -18,12 +18,19 @@ public interface ResultReporter {
 
     long actualStartTimeAsMilli();
 
+    /**
+     * Excludes time spent in the driver while executing the operation, e.g. waiting for a pooled connection, from
+     * the run duration of the operation
+     */
+    void excludeFromRunDuration(long durationAsNano);
+
     class SimpleResultReporter implements ResultReporter {
         private final ConcurrentErrorReporter errorReporter;
         private Object result = null;
         private int resultCode = -1;
         private long actualStartTimeAsMilli = -1;
         private long runDurationAsNano = -1;
+        private long excludedDurationAsNano = 0;
 
         public SimpleResultReporter(ConcurrentErrorReporter errorReporter) {
             this.errorReporter = errorReporter;
@@ -64,6 +71,19 @@ public interface ResultReporter {
             return runDurationAsNano;
         }
 
+        @Override
+        public void excludeFromRunDuration(long durationAsNano) {
+            excludedDurationAsNano += durationAsNano;
+        }
+
+        public long excludedDurationAsNano() {
+            return excludedDurationAsNano;
+        }
+
+        public void resetExcludedDuration() {
+            excludedDurationAsNano = 0;
+        }
+
         public void setActualStartTimeAsMilli(long actualStartTimeAsMilli) {
             this.actualStartTimeAsMilli = actualStartTimeAsMilli;
         }
@@ -106,6 +106,31 @@ public abstract class Workload implements Closeable {
     protected abstract WorkloadStreams getStreams(GeneratorFactory generators, boolean hasDbConnected)
             throws WorkloadException;
 
+    /**
+     * Partitioner of the dependency or non dependency operation streams of the workload, when it is executed by
+     * several driver processes. Operations are assigned round robin unless the workload knows better.
+     *
+     * @param partitionCount       Number of partitions
+     * @param dependencyOperations Whether the partitioner is for a dependency operation stream
+     */
+    public OperationPartitioner newOperationPartitioner(int partitionCount, boolean dependencyOperations) {
+        return new OperationPartitioner.RoundRobin(partitionCount);
+    }
+
+    /**
+     * Converts the operation stream files of the workload into compiled operation streams, which later runs replay
+     * instead of parsing the files again. Called after {@link #init}.
+     *
+     * @throws WorkloadException When the workload does not support compiled operation streams or compilation fails
+     */
+    public void compileOperationStreams() throws WorkloadException {
+        if (!isInitialized) {
+            throw new WorkloadException("Workload has not been initialized");
+        }
+        throw new WorkloadException(
+                String.format("%s does not support compiled operation streams", getClass().getName()));
+    }
+
     public DbValidationParametersFilter dbValidationParametersFilter(final Integer requiredValidationParameterCount) {
         return new DbValidationParametersFilter() {
             private final List<Operation> injectedOperations = new ArrayList<>();
@@ -140,6 +165,21 @@ public abstract class Workload implements Closeable {
         return DEFAULT_MAXIMUM_EXPECTED_INTERLEAVE_AS_MILLI;
     }
 
+    /**
+     * Number of times the driver had to wait for operations the workload loads in the background, zero for workloads
+     * that do not load operations in the background
+     */
+    public long operationStreamStallCount() {
+        return 0;
+    }
+
+    /**
+     * Total time the driver waited for operations the workload loads in the background
+     */
+    public long operationStreamStallDurationAsNano() {
+        return 0;
+    }
+
     public abstract Set<Class> enabledValidationOperations();
 
     public interface DbValidationParametersFilter {
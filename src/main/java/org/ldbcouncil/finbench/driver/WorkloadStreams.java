@@ -177,6 +177,41 @@ public class WorkloadStreams {
         return timeOffsetAndCompressedWorkloadStreams;
     }
 
+    /**
+     * Keeps the operations of one partition of every stream, as assigned by the partitioners of the workload. Applied
+     * after the time mapping, so that all partitions map operation times in the same way.
+     */
+    public static WorkloadStreams partitionWorkloadStreams(
+        WorkloadStreams originalWorkloadStreams,
+        Workload workload,
+        int partitionCount,
+        int partition,
+        GeneratorFactory gf) {
+        WorkloadStreams partitionedWorkloadStreams = new WorkloadStreams();
+        WorkloadStreamDefinition asynchronousStream = originalWorkloadStreams.asynchronousStream();
+        partitionedWorkloadStreams.setAsynchronousStream(
+            asynchronousStream.dependentOperationTypes(),
+            asynchronousStream.dependencyOperationTypes(),
+            gf.partition(asynchronousStream.dependencyOperations(),
+                workload.newOperationPartitioner(partitionCount, true), partition),
+            gf.partition(asynchronousStream.nonDependencyOperations(),
+                workload.newOperationPartitioner(partitionCount, false), partition),
+            asynchronousStream.childOperationGenerator()
+        );
+        for (WorkloadStreamDefinition blockingStream : originalWorkloadStreams.blockingStreamDefinitions()) {
+            partitionedWorkloadStreams.addBlockingStream(
+                blockingStream.dependentOperationTypes(),
+                blockingStream.dependencyOperationTypes(),
+                gf.partition(blockingStream.dependencyOperations(),
+                    workload.newOperationPartitioner(partitionCount, true), partition),
+                gf.partition(blockingStream.nonDependencyOperations(),
+                    workload.newOperationPartitioner(partitionCount, false), partition),
+                blockingStream.childOperationGenerator()
+            );
+        }
+        return partitionedWorkloadStreams;
+    }
+
     // returns (workload_streams, workload, minimum_timestamp)
     public static Tuple3<WorkloadStreams, Workload, Long> createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
         DriverConfiguration configuration,
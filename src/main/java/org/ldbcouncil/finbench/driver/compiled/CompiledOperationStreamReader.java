@@ -0,0 +1,197 @@
+package org.ldbcouncil.finbench.driver.compiled;
+
+import static java.lang.String.format;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.WorkloadException;
+import org.ldbcouncil.finbench.driver.generator.Generator;
+import org.ldbcouncil.finbench.driver.generator.GeneratorException;
+import org.ldbcouncil.finbench.driver.generator.RewindableIterator;
+
+/**
+ * Replays a compiled operation stream written by {@link CompiledOperationStreamWriter}. Records are read directly
+ * from memory mapped regions of the file, the strings of the stream are read once when it is opened and shared by
+ * all operations.
+ */
+public class CompiledOperationStreamReader extends Generator<Operation>
+    implements RewindableIterator<Operation>, Closeable {
+    private static final long RECORDS_PER_REGION = 1 << 20;
+
+    private final File file;
+    private final RandomAccessFile randomAccessFile;
+    private final FileChannel channel;
+    private final OperationCodec codec;
+    private final String[] strings;
+    private final long operationCount;
+    private final long recordsStartPosition;
+    private final int recordSize;
+    private final long[] slots;
+    private final Object[] args;
+    private MappedByteBuffer region = null;
+    private long regionFirstRecord = 0;
+    private long nextRecord = 0;
+
+    public CompiledOperationStreamReader(File file) throws WorkloadException {
+        this.file = file;
+        try {
+            this.randomAccessFile = new RandomAccessFile(file, "r");
+        } catch (IOException e) {
+            throw new WorkloadException(format("Error opening compiled operation stream: %s", file.getAbsolutePath()),
+                e);
+        }
+        this.channel = randomAccessFile.getChannel();
+        try {
+            DataInputStream header = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            if (CompiledOperationStreamWriter.MAGIC != header.readInt()) {
+                throw new WorkloadException(format("Not a compiled operation stream: %s", file.getAbsolutePath()));
+            }
+            int version = header.readInt();
+            if (CompiledOperationStreamWriter.VERSION != version) {
+                throw new WorkloadException(format("Unsupported compiled operation stream version %s: %s", version,
+                    file.getAbsolutePath()));
+            }
+            this.codec = new OperationCodec(operationClass(header.readUTF()));
+            int fieldCount = header.readInt();
+            int headerSize = Integer.BYTES * 3 + utfSize(codec.operationClass().getName());
+            if (fieldCount != codec.fieldKinds().length) {
+                throw staleFile();
+            }
+            for (int i = 0; i < fieldCount; i++) {
+                int kind = header.readByte();
+                String name = header.readUTF();
+                if (kind != codec.fieldKinds()[i].ordinal() || !name.equals(codec.fieldNames()[i])) {
+                    throw staleFile();
+                }
+                headerSize += 1 + utfSize(name);
+            }
+            this.operationCount = header.readLong();
+            long dictionaryPosition = header.readLong();
+            this.recordsStartPosition = headerSize + Long.BYTES * 2;
+            this.recordSize = CompiledOperationStreamWriter.recordSize(fieldCount);
+            this.slots = new long[fieldCount];
+            this.args = new Object[fieldCount];
+
+            channel.position(dictionaryPosition);
+            DataInputStream dictionary =
+                new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+            this.strings = new String[dictionary.readInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[dictionary.readInt()];
+                dictionary.readFully(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        } catch (IOException | WorkloadException e) {
+            try {
+                randomAccessFile.close();
+            } catch (IOException ignored) {
+                // already failing
+            }
+            if (e instanceof WorkloadException) {
+                throw (WorkloadException) e;
+            }
+            throw new WorkloadException(format("Error opening compiled operation stream: %s", file.getAbsolutePath()),
+                e);
+        }
+    }
+
+    private WorkloadException staleFile() {
+        return new WorkloadException(format("Compiled operation stream does not match the parameters of %s, "
+            + "compile it again: %s", codec.operationClass().getName(), file.getAbsolutePath()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Operation> operationClass(String className) throws WorkloadException {
+        try {
+            return (Class<? extends Operation>) Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new WorkloadException(format("Unknown operation class: %s", className), e);
+        }
+    }
+
+    private static int utfSize(String string) {
+        // same length DataOutputStream.writeUTF writes, 2 length bytes then modified UTF-8
+        int size = Short.BYTES;
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                size += 1;
+            } else if (c > 0x07FF) {
+                size += 3;
+            } else {
+                size += 2;
+            }
+        }
+        return size;
+    }
+
+    public Class<? extends Operation> operationClass() {
+        return codec.operationClass();
+    }
+
+    public long operationCount() {
+        return operationCount;
+    }
+
+    @Override
+    protected Operation doNext() throws GeneratorException {
+        if (nextRecord >= operationCount) {
+            return null;
+        }
+        try {
+            if (null == region || nextRecord - regionFirstRecord >= RECORDS_PER_REGION) {
+                mapRegion(nextRecord);
+            }
+            long scheduledStartTimeAsMilli = region.getLong();
+            long timeStamp = region.getLong();
+            long dependencyTimeStamp = region.getLong();
+            long expiryTimeStamp = region.getLong();
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = region.getLong();
+            }
+            nextRecord++;
+            Operation operation = codec.decode(slots, strings, args);
+            operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
+            operation.setTimeStamp(timeStamp);
+            operation.setDependencyTimeStamp(dependencyTimeStamp);
+            operation.setExpiryTimeStamp(expiryTimeStamp);
+            return operation;
+        } catch (IOException | WorkloadException e) {
+            throw new GeneratorException(
+                format("Error reading compiled operation stream: %s", file.getAbsolutePath()), e);
+        }
+    }
+
+    private void mapRegion(long firstRecord) throws IOException {
+        long recordCount = Math.min(RECORDS_PER_REGION, operationCount - firstRecord);
+        region = channel.map(FileChannel.MapMode.READ_ONLY, recordsStartPosition + firstRecord * recordSize,
+            recordCount * recordSize);
+        regionFirstRecord = firstRecord;
+    }
+
+    @Override
+    public void rewind() {
+        nextRecord = 0;
+        if (null != region && 0 == regionFirstRecord) {
+            region.rewind();
+        } else {
+            region = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null;
+        channel.close();
+        randomAccessFile.close();
+    }
+}
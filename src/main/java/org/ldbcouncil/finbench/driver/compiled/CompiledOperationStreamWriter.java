@@ -0,0 +1,114 @@
+package org.ldbcouncil.finbench.driver.compiled;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.WorkloadException;
+
+/**
+ * Writes the operations of one operation class as a compiled operation stream, which
+ * {@link CompiledOperationStreamReader} replays without parsing.
+ * <p>
+ * Layout, all numbers big endian:
+ * <ul>
+ * <li>header: magic, version, operation class name, field count, kind and name of every field, operation count,
+ * position of the string dictionary</li>
+ * <li>records: scheduled start time, time stamp, dependency time stamp and expiry time stamp, then one 8 byte slot
+ * per field, see {@link OperationCodec}</li>
+ * <li>string dictionary: string count, then length and UTF-8 bytes of every string</li>
+ * </ul>
+ * Records have a fixed width, so they can be memory mapped and read at any position. The file is written under a
+ * temporary name and only renamed to its final name when closed, so an interrupted compilation leaves no file behind
+ * that looks complete.
+ */
+public class CompiledOperationStreamWriter implements Closeable {
+    static final int MAGIC = 0x4642434F;
+    static final int VERSION = 1;
+    static final int TIME_FIELD_COUNT = 4;
+
+    private final File file;
+    private final File temporaryFile;
+    private final OperationCodec codec;
+    private final DataOutputStream out;
+    private final StringDictionary strings = new StringDictionary();
+    private final long[] slots;
+    // position of the operation count in the header, followed by the dictionary position
+    private final long operationCountPosition;
+    private long position;
+    private long operationCount = 0;
+
+    public CompiledOperationStreamWriter(File file, OperationCodec codec) throws IOException {
+        this.file = file;
+        this.temporaryFile = new File(file.getPath() + ".tmp");
+        this.codec = codec;
+        this.slots = new long[codec.fieldKinds().length];
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile), 1 << 16));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeUTF(codec.operationClass().getName());
+        out.writeInt(slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            out.writeByte(codec.fieldKinds()[i].ordinal());
+            out.writeUTF(codec.fieldNames()[i]);
+        }
+        this.operationCountPosition = out.size();
+        out.writeLong(0);
+        out.writeLong(0);
+        this.position = out.size();
+    }
+
+    static int recordSize(int fieldCount) {
+        return (TIME_FIELD_COUNT + fieldCount) * Long.BYTES;
+    }
+
+    public void write(Operation operation) throws IOException, WorkloadException {
+        codec.encode(operation, slots, strings);
+        out.writeLong(operation.scheduledStartTimeAsMilli());
+        out.writeLong(operation.timeStamp());
+        out.writeLong(operation.dependencyTimeStamp());
+        out.writeLong(operation.expiryTimeStamp());
+        for (long slot : slots) {
+            out.writeLong(slot);
+        }
+        position += recordSize(slots.length);
+        operationCount++;
+    }
+
+    public long operationCount() {
+        return operationCount;
+    }
+
+    /**
+     * Close without completing the file, e.g. after the source of the operations failed
+     */
+    public void discard() throws IOException {
+        out.close();
+        Files.deleteIfExists(temporaryFile.toPath());
+    }
+
+    @Override
+    public void close() throws IOException {
+        long dictionaryPosition = position;
+        out.writeInt(strings.strings().size());
+        for (String string : strings.strings()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        out.close();
+        try (RandomAccessFile header = new RandomAccessFile(temporaryFile, "rw")) {
+            header.seek(operationCountPosition);
+            header.writeLong(operationCount);
+            header.writeLong(dictionaryPosition);
+        }
+        Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,201 @@
+package org.ldbcouncil.finbench.driver.compiled;
+
+import static java.lang.String.format;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.WorkloadException;
+
+/**
+ * Converts the parameters of an operation class to and from fixed width 8 byte slots, one per parameter of its
+ * {@link JsonProperty} annotated constructor, the same constructor used to read operations from JSON. Parameter
+ * values are taken from {@link Operation#parameterMap()} by the names of the annotations.
+ */
+public class OperationCodec {
+    // never a valid slot of a DATE, STRING or ENUM parameter, used for null
+    static final long NULL_SLOT = Long.MIN_VALUE;
+
+    public enum FieldKind {
+        LONG,
+        INT,
+        FLOAT,
+        DOUBLE,
+        BOOLEAN,
+        DATE,
+        STRING,
+        ENUM
+    }
+
+    private final Class<? extends Operation> operationClass;
+    private final Constructor<? extends Operation> constructor;
+    private final String[] fieldNames;
+    private final FieldKind[] fieldKinds;
+    private final Object[][] enumConstants;
+
+    public OperationCodec(Class<? extends Operation> operationClass) throws WorkloadException {
+        this.operationClass = operationClass;
+        this.constructor = jsonConstructor(operationClass);
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Annotation[][] parameterAnnotations = constructor.getParameterAnnotations();
+        this.fieldNames = new String[parameterTypes.length];
+        this.fieldKinds = new FieldKind[parameterTypes.length];
+        this.enumConstants = new Object[parameterTypes.length][];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            fieldNames[i] = jsonProperty(parameterAnnotations[i]).value();
+            fieldKinds[i] = fieldKind(operationClass, parameterTypes[i]);
+            if (FieldKind.ENUM == fieldKinds[i]) {
+                enumConstants[i] = parameterTypes[i].getEnumConstants();
+            }
+        }
+    }
+
+    public Class<? extends Operation> operationClass() {
+        return operationClass;
+    }
+
+    public String[] fieldNames() {
+        return fieldNames;
+    }
+
+    public FieldKind[] fieldKinds() {
+        return fieldKinds;
+    }
+
+    /**
+     * @param operation Operation to encode
+     * @param slots     Receives one slot per field
+     * @param strings   Dictionary of the strings of the stream, new strings are added
+     */
+    public void encode(Operation operation, long[] slots, StringDictionary strings)
+        throws WorkloadException {
+        Map<String, Object> parameters = operation.parameterMap();
+        for (int i = 0; i < fieldNames.length; i++) {
+            Object value = parameters.get(fieldNames[i]);
+            if (null == value && !isNullable(fieldKinds[i])) {
+                throw new WorkloadException(
+                    format("Parameter %s of %s is missing or null", fieldNames[i], operationClass.getName()));
+            }
+            slots[i] = encode(fieldKinds[i], value, strings);
+        }
+    }
+
+    private static boolean isNullable(FieldKind kind) {
+        return FieldKind.DATE == kind || FieldKind.STRING == kind || FieldKind.ENUM == kind;
+    }
+
+    private static long encode(FieldKind kind, Object value, StringDictionary strings) {
+        switch (kind) {
+            case LONG:
+                return ((Number) value).longValue();
+            case INT:
+                return ((Number) value).intValue();
+            case FLOAT:
+                return Float.floatToRawIntBits(((Number) value).floatValue());
+            case DOUBLE:
+                return Double.doubleToRawLongBits(((Number) value).doubleValue());
+            case BOOLEAN:
+                return ((Boolean) value) ? 1 : 0;
+            case DATE:
+                return (null == value) ? NULL_SLOT : ((Date) value).getTime();
+            case STRING:
+                return (null == value) ? NULL_SLOT : strings.idOf((String) value);
+            case ENUM:
+            default:
+                return (null == value) ? NULL_SLOT : ((Enum<?>) value).ordinal();
+        }
+    }
+
+    /**
+     * @param slots   One slot per field, as written by {@link #encode}
+     * @param strings Strings of the stream, by dictionary id
+     * @param args    Receives the constructor arguments, one per field
+     */
+    public Operation decode(long[] slots, String[] strings, Object[] args) throws WorkloadException {
+        for (int i = 0; i < fieldKinds.length; i++) {
+            args[i] = decode(i, slots[i], strings);
+        }
+        try {
+            return constructor.newInstance(args);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new WorkloadException(
+                format("Error creating %s from %s", operationClass.getName(), Arrays.toString(args)), e);
+        }
+    }
+
+    private Object decode(int field, long slot, String[] strings) {
+        switch (fieldKinds[field]) {
+            case LONG:
+                return slot;
+            case INT:
+                return (int) slot;
+            case FLOAT:
+                return Float.intBitsToFloat((int) slot);
+            case DOUBLE:
+                return Double.longBitsToDouble(slot);
+            case BOOLEAN:
+                return slot != 0;
+            case DATE:
+                return (NULL_SLOT == slot) ? null : new Date(slot);
+            case STRING:
+                return (NULL_SLOT == slot) ? null : strings[(int) slot];
+            case ENUM:
+            default:
+                return (NULL_SLOT == slot) ? null : enumConstants[field][(int) slot];
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Constructor<? extends Operation> jsonConstructor(Class<? extends Operation> operationClass)
+        throws WorkloadException {
+        for (Constructor<?> constructor : operationClass.getConstructors()) {
+            Annotation[][] parameterAnnotations = constructor.getParameterAnnotations();
+            boolean allParametersAnnotated = parameterAnnotations.length > 0;
+            for (Annotation[] annotations : parameterAnnotations) {
+                allParametersAnnotated &= null != jsonProperty(annotations);
+            }
+            if (allParametersAnnotated) {
+                return (Constructor<? extends Operation>) constructor;
+            }
+        }
+        throw new WorkloadException(
+            format("%s has no constructor with only @JsonProperty parameters", operationClass.getName()));
+    }
+
+    private static JsonProperty jsonProperty(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof JsonProperty) {
+                return (JsonProperty) annotation;
+            }
+        }
+        return null;
+    }
+
+    private static FieldKind fieldKind(Class<? extends Operation> operationClass, Class<?> type)
+        throws WorkloadException {
+        if (long.class == type || Long.class == type) {
+            return FieldKind.LONG;
+        } else if (int.class == type || Integer.class == type) {
+            return FieldKind.INT;
+        } else if (float.class == type || Float.class == type) {
+            return FieldKind.FLOAT;
+        } else if (double.class == type || Double.class == type) {
+            return FieldKind.DOUBLE;
+        } else if (boolean.class == type || Boolean.class == type) {
+            return FieldKind.BOOLEAN;
+        } else if (Date.class == type) {
+            return FieldKind.DATE;
+        } else if (String.class == type) {
+            return FieldKind.STRING;
+        } else if (type.isEnum()) {
+            return FieldKind.ENUM;
+        }
+        throw new WorkloadException(
+            format("Unsupported parameter type %s of %s", type.getName(), operationClass.getName()));
+    }
+}
@@ -0,0 +1,28 @@
+package org.ldbcouncil.finbench.driver.compiled;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distinct strings of a compiled operation stream, each stored once and referenced by its id
+ */
+public class StringDictionary {
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    public int idOf(String string) {
+        Integer id = ids.get(string);
+        if (null == id) {
+            id = strings.size();
+            ids.put(string, id);
+            strings.add(string);
+        }
+        return id;
+    }
+
+    public List<String> strings() {
+        return strings;
+    }
+}
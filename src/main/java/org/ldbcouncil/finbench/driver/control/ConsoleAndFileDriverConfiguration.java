@@ -30,6 +30,14 @@ import org.apache.commons.cli.OptionBuilder;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 import org.ldbcouncil.finbench.driver.driver.Driver;
+import org.ldbcouncil.finbench.driver.driver.search.TimeCompressionRatioSearchType;
+import org.ldbcouncil.finbench.driver.runtime.ResultsLogConverter;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeServiceType;
+import org.ldbcouncil.finbench.driver.runtime.executor.OperationExecutorType;
+import org.ldbcouncil.finbench.driver.runtime.metrics.DisruptorSbeMetricsService;
+import org.ldbcouncil.finbench.driver.runtime.metrics.MetricsWaitStrategy;
+import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogFormat;
+import org.ldbcouncil.finbench.driver.runtime.scheduling.SchedulerType;
 import org.ldbcouncil.finbench.driver.temporal.TemporalUtil;
 import org.ldbcouncil.finbench.driver.util.MapUtils;
 import org.ldbcouncil.finbench.driver.workloads.simple.SimpleWorkload;
@@ -139,6 +147,99 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration {
             "Specifies the fraction of the delay threshold that is allowed to be exceeded (default: %s)",
             DEFAULT_TIMEOUT_RATE_STRING);
 
+    public static final String EXECUTOR_TYPE_ARG = "et";
+    public static final OperationExecutorType DEFAULT_EXECUTOR_TYPE = OperationExecutorType.THREAD_POOL;
+    public static final String DEFAULT_EXECUTOR_TYPE_STRING = DEFAULT_EXECUTOR_TYPE.name();
+    public static final String EXECUTOR_TYPE_DESCRIPTION = format(
+            "Operation executor, one of %s (default: %s). With ASYNC every operation runs as its own task "
+                    + "(on a virtual thread when the JVM supports it) and thread count bounds in-flight operations",
+            Arrays.toString(OperationExecutorType.values()), DEFAULT_EXECUTOR_TYPE_STRING);
+    public static final String SCHEDULER_TYPE_ARG = "st";
+    public static final SchedulerType DEFAULT_SCHEDULER_TYPE = SchedulerType.SPINNER;
+    public static final String DEFAULT_SCHEDULER_TYPE_STRING = DEFAULT_SCHEDULER_TYPE.name();
+    public static final String SCHEDULER_TYPE_DESCRIPTION = format(
+            "How operations are held until their scheduled start time, one of %s (default: %s). DISPATCHER* "
+                    + "types hold operations in a central dispatcher so executor threads only receive due operations",
+            Arrays.toString(SchedulerType.values()), DEFAULT_SCHEDULER_TYPE_STRING);
+    public static final String DEPENDENCY_GATING_ARG = "dg";
+    public static final boolean DEFAULT_DEPENDENCY_GATING = false;
+    public static final String DEFAULT_DEPENDENCY_GATING_STRING = Boolean.toString(DEFAULT_DEPENDENCY_GATING);
+    public static final String DEPENDENCY_GATING_DESCRIPTION =
+            "hold dependent operations outside the executor until completion time reaches their dependency time "
+                    + "stamp, instead of polling completion time on executor threads";
+    public static final String COMPLETION_TIME_SERVICE_TYPE_ARG = "cts";
+    public static final CompletionTimeServiceType DEFAULT_COMPLETION_TIME_SERVICE_TYPE =
+            CompletionTimeServiceType.THREADED_QUEUED;
+    public static final String DEFAULT_COMPLETION_TIME_SERVICE_TYPE_STRING =
+            DEFAULT_COMPLETION_TIME_SERVICE_TYPE.name();
+    public static final String COMPLETION_TIME_SERVICE_TYPE_DESCRIPTION = format(
+            "Completion time service, one of %s (default: %s). LOCK_FREE has no central thread, writers track "
+                    + "their own watermarks and completion time is computed on demand",
+            Arrays.toString(CompletionTimeServiceType.values()), DEFAULT_COMPLETION_TIME_SERVICE_TYPE_STRING);
+    public static final String METRICS_RING_BUFFER_SIZE_ARG = "mrs";
+    public static final int DEFAULT_METRICS_RING_BUFFER_SIZE = DisruptorSbeMetricsService.DEFAULT_RING_BUFFER_SIZE;
+    public static final String DEFAULT_METRICS_RING_BUFFER_SIZE_STRING =
+            Integer.toString(DEFAULT_METRICS_RING_BUFFER_SIZE);
+    public static final String METRICS_RING_BUFFER_SIZE_DESCRIPTION = format(
+            "size of the metrics collection ring buffer, must be a power of 2 (default: %s)",
+            DEFAULT_METRICS_RING_BUFFER_SIZE_STRING);
+    public static final String METRICS_WAIT_STRATEGY_ARG = "mws";
+    public static final MetricsWaitStrategy DEFAULT_METRICS_WAIT_STRATEGY =
+            DisruptorSbeMetricsService.DEFAULT_WAIT_STRATEGY;
+    public static final String DEFAULT_METRICS_WAIT_STRATEGY_STRING = DEFAULT_METRICS_WAIT_STRATEGY.name();
+    public static final String METRICS_WAIT_STRATEGY_DESCRIPTION = format(
+            "how the metrics collection thread waits for results, one of %s (default: %s)",
+            Arrays.toString(MetricsWaitStrategy.values()), DEFAULT_METRICS_WAIT_STRATEGY_STRING);
+    public static final String RESULTS_LOG_FORMAT_ARG = "rlf";
+    public static final ResultsLogFormat DEFAULT_RESULTS_LOG_FORMAT = ResultsLogFormat.CSV;
+    public static final String DEFAULT_RESULTS_LOG_FORMAT_STRING = DEFAULT_RESULTS_LOG_FORMAT.name();
+    public static final String RESULTS_LOG_FORMAT_DESCRIPTION = format(
+            "results log format, one of %s (default: %s). BINARY logs can be converted to CSV with %s",
+            Arrays.toString(ResultsLogFormat.values()), DEFAULT_RESULTS_LOG_FORMAT_STRING,
+            ResultsLogConverter.class.getName());
+    public static final String TCR_SEARCH_ARG = "tcrSearch";
+    public static final TimeCompressionRatioSearchType DEFAULT_TCR_SEARCH = TimeCompressionRatioSearchType.BISECTION;
+    public static final String DEFAULT_TCR_SEARCH_STRING = DEFAULT_TCR_SEARCH.name();
+    public static final String TCR_SEARCH_DESCRIPTION = format(
+            "time compression ratio search of the automatic test, one of %s (default: %s)",
+            Arrays.toString(TimeCompressionRatioSearchType.values()), DEFAULT_TCR_SEARCH_STRING);
+    public static final String TCR_SEARCH_STABLE_ROUNDS_ARG = "tcrStable";
+    public static final int DEFAULT_TCR_SEARCH_STABLE_ROUNDS = 0;
+    public static final String DEFAULT_TCR_SEARCH_STABLE_ROUNDS_STRING =
+            Integer.toString(DEFAULT_TCR_SEARCH_STABLE_ROUNDS);
+    public static final String TCR_SEARCH_STABLE_ROUNDS_DESCRIPTION = format(
+            "finish a time compression ratio search phase once this many consecutive rounds had the same "
+                    + "verdict, 0 to disable (default: %s)", DEFAULT_TCR_SEARCH_STABLE_ROUNDS_STRING);
+    public static final String EARLY_ABORT_ARG = "ea";
+    public static final boolean DEFAULT_EARLY_ABORT = false;
+    public static final String DEFAULT_EARLY_ABORT_STRING = Boolean.toString(DEFAULT_EARLY_ABORT);
+    public static final String EARLY_ABORT_DESCRIPTION =
+            "automatic test only: end a round as soon as its late operation ratio is certain to exceed the "
+                    + "timeout rate, instead of running it to completion";
+    public static final String CACHE_WORKLOAD_STREAMS_ARG = "cws";
+    public static final boolean DEFAULT_CACHE_WORKLOAD_STREAMS = false;
+    public static final String DEFAULT_CACHE_WORKLOAD_STREAMS_STRING = Boolean.toString(DEFAULT_CACHE_WORKLOAD_STREAMS);
+    public static final String CACHE_WORKLOAD_STREAMS_DESCRIPTION =
+            "automatic test only: load the workload once and keep its operations in memory for all rounds, "
+                    + "instead of loading it for every round. Memory grows with the largest round";
+    public static final String PARTITION_COUNT_ARG = "partitions";
+    public static final int DEFAULT_PARTITION_COUNT = 1;
+    public static final String DEFAULT_PARTITION_COUNT_STRING = Integer.toString(DEFAULT_PARTITION_COUNT);
+    public static final String PARTITION_COUNT_DESCRIPTION = format(
+            "number of driver processes that each execute a disjoint partition of the workload, coordinated by "
+                    + "a COORDINATE_PARTITIONS process on the same host (default: %s)", DEFAULT_PARTITION_COUNT_STRING);
+    public static final String PARTITION_INDEX_ARG = "partition";
+    public static final int DEFAULT_PARTITION_INDEX = 0;
+    public static final String DEFAULT_PARTITION_INDEX_STRING = Integer.toString(DEFAULT_PARTITION_INDEX);
+    public static final String PARTITION_INDEX_DESCRIPTION = format(
+            "partition of the workload executed by this driver process, from 0 to partition count - 1 "
+                    + "(default: %s)", DEFAULT_PARTITION_INDEX_STRING);
+    public static final String PARTITION_COORDINATOR_PORT_ARG = "coordinatorPort";
+    public static final int DEFAULT_PARTITION_COORDINATOR_PORT = 7870;
+    public static final String DEFAULT_PARTITION_COORDINATOR_PORT_STRING =
+            Integer.toString(DEFAULT_PARTITION_COORDINATOR_PORT);
+    public static final String PARTITION_COORDINATOR_PORT_DESCRIPTION = format(
+            "loopback port of the partition coordinator (default: %s)", DEFAULT_PARTITION_COORDINATOR_PORT_STRING);
 
     public static final String PROPERTY_FILE_ARG = "P";
     public static final String PROPERTY_ARG = "p";
@@ -154,7 +255,7 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration {
     private static final String MODE_ARG_LONG = "mode";
     private static final String MODE_DESCRIPTION =
             "mode the driver should execute (e.g. CREATE_VALIDATION, VALIDATE_DATABASE, CREATE_STATISTICS, "
-                    + "EXECUTE_BENCHMARK)";
+                    + "EXECUTE_BENCHMARK, COMPILE_OPERATION_STREAMS, COORDINATE_PARTITIONS)";
     private static final String OPERATION_COUNT_ARG_LONG = "operation_count";
     private static final String OPERATION_COUNT_DESCRIPTION = "number of operations to execute";
     private static final String WORKLOAD_ARG_LONG = "workload";
@@ -206,6 +307,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration {
     public static final String TCR_MIN_ARG_LONG = "tcr_min";
     public static final String TCR_MAX_ARG_LONG = "tcr_max";
     public static final String TIMEOUT_RATE_ARG_LONG = "timeout_rate";
+    public static final String EXECUTOR_TYPE_ARG_LONG = "executor_type";
+    public static final String SCHEDULER_TYPE_ARG_LONG = "scheduler";
+    public static final String DEPENDENCY_GATING_ARG_LONG = "dependency_gating";
+    public static final String COMPLETION_TIME_SERVICE_TYPE_ARG_LONG = "completion_time_service";
+    public static final String METRICS_RING_BUFFER_SIZE_ARG_LONG = "metrics_ring_buffer_size";
+    public static final String METRICS_WAIT_STRATEGY_ARG_LONG = "metrics_wait_strategy";
+    public static final String RESULTS_LOG_FORMAT_ARG_LONG = "results_log_format";
+    public static final String TCR_SEARCH_ARG_LONG = "tcr_search";
+    public static final String TCR_SEARCH_STABLE_ROUNDS_ARG_LONG = "tcr_search_stable_rounds";
+    public static final String EARLY_ABORT_ARG_LONG = "early_abort";
+    public static final String CACHE_WORKLOAD_STREAMS_ARG_LONG = "cache_workload_streams";
+    public static final String PARTITION_COUNT_ARG_LONG = "partition_count";
+    public static final String PARTITION_INDEX_ARG_LONG = "partition_index";
+    public static final String PARTITION_COORDINATOR_PORT_ARG_LONG = "partition_coordinator_port";
     private static final String PROPERTY_FILE_DESCRIPTION =
             "load properties from file(s) - files will be loaded in the order provided\n"
                     + "first files are highest priority; later values will not override earlier values";
@@ -240,6 +355,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration {
     private final double tcrMin;
     private final double tcrMax;
     private final double timeoutRate;
+    private final OperationExecutorType executorType;
+    private final SchedulerType schedulerType;
+    private final boolean dependencyGating;
+    private final CompletionTimeServiceType completionTimeServiceType;
+    private final int metricsRingBufferSize;
+    private final MetricsWaitStrategy metricsWaitStrategy;
+    private final ResultsLogFormat resultsLogFormat;
+    private final TimeCompressionRatioSearchType tcrSearchType;
+    private final int tcrSearchStableRounds;
+    private final boolean earlyAbort;
+    private final boolean cacheWorkloadStreams;
+    private final int partitionCount;
+    private final int partitionIndex;
+    private final int partitionCoordinatorPort;
 
     public ConsoleAndFileDriverConfiguration(Map<String, String> paramsMap,
                                              String mode,
@@ -267,7 +396,21 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration {
                                              double dichotomyErrorRange,
                                              double tcrMin,
                                              double tcrMax,
-                                             double timeoutRate) {
+                                             double timeoutRate,
+                                             OperationExecutorType executorType,
+                                             SchedulerType schedulerType,
+                                             boolean dependencyGating,
+                                             CompletionTimeServiceType completionTimeServiceType,
+                                             int metricsRingBufferSize,
+                                             MetricsWaitStrategy metricsWaitStrategy,
+                                             ResultsLogFormat resultsLogFormat,
+                                             TimeCompressionRatioSearchType tcrSearchType,
+                                             int tcrSearchStableRounds,
+                                             boolean earlyAbort,
+                                             boolean cacheWorkloadStreams,
+                                             int partitionCount,
+                                             int partitionIndex,
+                                             int partitionCoordinatorPort) {
         if (null == paramsMap) {
             paramsMap = new HashMap<>();
         }
@@ -298,6 +441,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration {
         this.tcrMin = tcrMin;
         this.tcrMax = tcrMax;
         this.timeoutRate = timeoutRate;
+        this.executorType = executorType;
+        this.schedulerType = schedulerType;
+        this.dependencyGating = dependencyGating;
+        this.completionTimeServiceType = completionTimeServiceType;
+        this.metricsRingBufferSize = metricsRingBufferSize;
+        this.metricsWaitStrategy = metricsWaitStrategy;
+        this.resultsLogFormat = resultsLogFormat;
+        this.tcrSearchType = tcrSearchType;
+        this.tcrSearchStableRounds = tcrSearchStableRounds;
+        this.earlyAbort = earlyAbort;
+        this.cacheWorkloadStreams = cacheWorkloadStreams;
+        this.partitionCount = partitionCount;
+        this.partitionIndex = partitionIndex;
+        this.partitionCoordinatorPort = partitionCoordinatorPort;
         if (null != mode) {
             paramsMap.put(MODE_ARG, mode);
         }
@@ -333,6 +490,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration {
         paramsMap.put(TCR_MIN_ARG, Double.toString(tcrMin));
         paramsMap.put(TCR_MAX_ARG, Double.toString(tcrMax));
         paramsMap.put(TIMEOUT_RATE_ARG, Double.toString(timeoutRate));
+        paramsMap.put(EXECUTOR_TYPE_ARG, executorType.name());
+        paramsMap.put(SCHEDULER_TYPE_ARG, schedulerType.name());
+        paramsMap.put(DEPENDENCY_GATING_ARG, Boolean.toString(dependencyGating));
+        paramsMap.put(COMPLETION_TIME_SERVICE_TYPE_ARG, completionTimeServiceType.name());
+        paramsMap.put(METRICS_RING_BUFFER_SIZE_ARG, Integer.toString(metricsRingBufferSize));
+        paramsMap.put(METRICS_WAIT_STRATEGY_ARG, metricsWaitStrategy.name());
+        paramsMap.put(RESULTS_LOG_FORMAT_ARG, resultsLogFormat.name());
+        paramsMap.put(TCR_SEARCH_ARG, tcrSearchType.name());
+        paramsMap.put(TCR_SEARCH_STABLE_ROUNDS_ARG, Integer.toString(tcrSearchStableRounds));
+        paramsMap.put(EARLY_ABORT_ARG, Boolean.toString(earlyAbort));
+        paramsMap.put(CACHE_WORKLOAD_STREAMS_ARG, Boolean.toString(cacheWorkloadStreams));
+        paramsMap.put(PARTITION_COUNT_ARG, Integer.toString(partitionCount));
+        paramsMap.put(PARTITION_INDEX_ARG, Integer.toString(partitionIndex));
+        paramsMap.put(PARTITION_COORDINATOR_PORT_ARG, Integer.toString(partitionCoordinatorPort));
         // Validation specific
         if (null != databaseValidationFilePath) {
             paramsMap.put(DB_VALIDATION_FILE_PATH_ARG, databaseValidationFilePath);
@@ -371,6 +542,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration {
         defaultParamsMap.put(TCR_MIN_ARG, DEFAULT_TCR_MIN_STRING);
         defaultParamsMap.put(TCR_MAX_ARG, DEFAULT_TCR_MAX_STRING);
         defaultParamsMap.put(TIMEOUT_RATE_ARG, DEFAULT_TIMEOUT_RATE_STRING);
+        defaultParamsMap.put(EXECUTOR_TYPE_ARG, DEFAULT_EXECUTOR_TYPE_STRING);
+        defaultParamsMap.put(SCHEDULER_TYPE_ARG, DEFAULT_SCHEDULER_TYPE_STRING);
+        defaultParamsMap.put(DEPENDENCY_GATING_ARG, DEFAULT_DEPENDENCY_GATING_STRING);
+        defaultParamsMap.put(COMPLETION_TIME_SERVICE_TYPE_ARG, DEFAULT_COMPLETION_TIME_SERVICE_TYPE_STRING);
+        defaultParamsMap.put(METRICS_RING_BUFFER_SIZE_ARG, DEFAULT_METRICS_RING_BUFFER_SIZE_STRING);
+        defaultParamsMap.put(METRICS_WAIT_STRATEGY_ARG, DEFAULT_METRICS_WAIT_STRATEGY_STRING);
+        defaultParamsMap.put(RESULTS_LOG_FORMAT_ARG, DEFAULT_RESULTS_LOG_FORMAT_STRING);
+        defaultParamsMap.put(TCR_SEARCH_ARG, DEFAULT_TCR_SEARCH_STRING);
+        defaultParamsMap.put(TCR_SEARCH_STABLE_ROUNDS_ARG, DEFAULT_TCR_SEARCH_STABLE_ROUNDS_STRING);
+        defaultParamsMap.put(EARLY_ABORT_ARG, DEFAULT_EARLY_ABORT_STRING);
+        defaultParamsMap.put(CACHE_WORKLOAD_STREAMS_ARG, DEFAULT_CACHE_WORKLOAD_STREAMS_STRING);
+        defaultParamsMap.put(PARTITION_COUNT_ARG, DEFAULT_PARTITION_COUNT_STRING);
+        defaultParamsMap.put(PARTITION_INDEX_ARG, DEFAULT_PARTITION_INDEX_STRING);
+        defaultParamsMap.put(PARTITION_COORDINATOR_PORT_ARG, DEFAULT_PARTITION_COORDINATOR_PORT_STRING);
         return defaultParamsMap;
     }
 
@@ -400,6 +585,9 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration {
                     missingParams.add(ConsoleAndFileDriverConfiguration.DB_ARG);
                 }
                 break;
+            case COMPILE_OPERATION_STREAMS:
+            case COORDINATE_PARTITIONS:
+                break;
             case CREATE_VALIDATION:
             case EXECUTE_BENCHMARK:
             default: // Execute benchmark is default behaviour
@@ -467,12 +655,32 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration {
             double tcrMax = Double.parseDouble(paramsMap.get(TCR_MAX_ARG));
             double timeoutRate = Double.parseDouble(paramsMap.get(TIMEOUT_RATE_ARG));
             boolean flushLog = Boolean.parseBoolean(paramsMap.get(FLUSH_LOG_ARG));
+            OperationExecutorType executorType = OperationExecutorType.valueOf(paramsMap.get(EXECUTOR_TYPE_ARG));
+            SchedulerType schedulerType = SchedulerType.valueOf(paramsMap.get(SCHEDULER_TYPE_ARG));
+            boolean dependencyGating = Boolean.parseBoolean(paramsMap.get(DEPENDENCY_GATING_ARG));
+            CompletionTimeServiceType completionTimeServiceType =
+                    CompletionTimeServiceType.valueOf(paramsMap.get(COMPLETION_TIME_SERVICE_TYPE_ARG));
+            int metricsRingBufferSize = Integer.parseInt(paramsMap.get(METRICS_RING_BUFFER_SIZE_ARG));
+            MetricsWaitStrategy metricsWaitStrategy =
+                    MetricsWaitStrategy.valueOf(paramsMap.get(METRICS_WAIT_STRATEGY_ARG));
+            ResultsLogFormat resultsLogFormat = ResultsLogFormat.valueOf(paramsMap.get(RESULTS_LOG_FORMAT_ARG));
+            TimeCompressionRatioSearchType tcrSearchType =
+                    TimeCompressionRatioSearchType.valueOf(paramsMap.get(TCR_SEARCH_ARG));
+            int tcrSearchStableRounds = Integer.parseInt(paramsMap.get(TCR_SEARCH_STABLE_ROUNDS_ARG));
+            boolean earlyAbort = Boolean.parseBoolean(paramsMap.get(EARLY_ABORT_ARG));
+            boolean cacheWorkloadStreams = Boolean.parseBoolean(paramsMap.get(CACHE_WORKLOAD_STREAMS_ARG));
+            int partitionCount = Integer.parseInt(paramsMap.get(PARTITION_COUNT_ARG));
+            int partitionIndex = Integer.parseInt(paramsMap.get(PARTITION_INDEX_ARG));
+            int partitionCoordinatorPort = Integer.parseInt(paramsMap.get(PARTITION_COORDINATOR_PORT_ARG));
             return new ConsoleAndFileDriverConfiguration(paramsMap, mode, name, dbClassName, workloadClassName,
                     operationCount, threadCount, statusDisplayIntervalAsSeconds, timeUnit, resultDirPath,
                     timeCompressionRatio, validationParametersSize, validationSerializationCheck,
                     recordDelayedOperations, databaseValidationFilePath, spinnerSleepDurationAsMilli,
                     printHelp, ignoreScheduledStartTimes, warmupCount, skipCount, flushLog, estimateTestTime,
-                    accurateTestTime, dichotomyErrorRange, tcrMin, tcrMax, timeoutRate);
+                    accurateTestTime, dichotomyErrorRange, tcrMin, tcrMax, timeoutRate, executorType, schedulerType,
+                    dependencyGating, completionTimeServiceType, metricsRingBufferSize, metricsWaitStrategy,
+                    resultsLogFormat, tcrSearchType, tcrSearchStableRounds, earlyAbort, cacheWorkloadStreams,
+                    partitionCount, partitionIndex, partitionCoordinatorPort);
         } catch (DriverConfigurationException e) {
             throw new DriverConfigurationException(format("%s\n%s", e.getMessage(), commandlineHelpString()), e);
         }
@@ -579,6 +787,62 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration {
             cmdParams.put(SKIP_COUNT_ARG, cmd.getOptionValue(SKIP_COUNT_ARG));
         }
 
+        if (cmd.hasOption(EXECUTOR_TYPE_ARG)) {
+            cmdParams.put(EXECUTOR_TYPE_ARG, cmd.getOptionValue(EXECUTOR_TYPE_ARG));
+        }
+
+        if (cmd.hasOption(SCHEDULER_TYPE_ARG)) {
+            cmdParams.put(SCHEDULER_TYPE_ARG, cmd.getOptionValue(SCHEDULER_TYPE_ARG));
+        }
+
+        if (cmd.hasOption(DEPENDENCY_GATING_ARG)) {
+            cmdParams.put(DEPENDENCY_GATING_ARG, Boolean.toString(true));
+        }
+
+        if (cmd.hasOption(COMPLETION_TIME_SERVICE_TYPE_ARG)) {
+            cmdParams.put(COMPLETION_TIME_SERVICE_TYPE_ARG, cmd.getOptionValue(COMPLETION_TIME_SERVICE_TYPE_ARG));
+        }
+
+        if (cmd.hasOption(METRICS_RING_BUFFER_SIZE_ARG)) {
+            cmdParams.put(METRICS_RING_BUFFER_SIZE_ARG, cmd.getOptionValue(METRICS_RING_BUFFER_SIZE_ARG));
+        }
+
+        if (cmd.hasOption(METRICS_WAIT_STRATEGY_ARG)) {
+            cmdParams.put(METRICS_WAIT_STRATEGY_ARG, cmd.getOptionValue(METRICS_WAIT_STRATEGY_ARG));
+        }
+
+        if (cmd.hasOption(RESULTS_LOG_FORMAT_ARG)) {
+            cmdParams.put(RESULTS_LOG_FORMAT_ARG, cmd.getOptionValue(RESULTS_LOG_FORMAT_ARG));
+        }
+
+        if (cmd.hasOption(TCR_SEARCH_ARG)) {
+            cmdParams.put(TCR_SEARCH_ARG, cmd.getOptionValue(TCR_SEARCH_ARG));
+        }
+
+        if (cmd.hasOption(TCR_SEARCH_STABLE_ROUNDS_ARG)) {
+            cmdParams.put(TCR_SEARCH_STABLE_ROUNDS_ARG, cmd.getOptionValue(TCR_SEARCH_STABLE_ROUNDS_ARG));
+        }
+
+        if (cmd.hasOption(EARLY_ABORT_ARG)) {
+            cmdParams.put(EARLY_ABORT_ARG, Boolean.toString(true));
+        }
+
+        if (cmd.hasOption(CACHE_WORKLOAD_STREAMS_ARG)) {
+            cmdParams.put(CACHE_WORKLOAD_STREAMS_ARG, Boolean.toString(true));
+        }
+
+        if (cmd.hasOption(PARTITION_COUNT_ARG)) {
+            cmdParams.put(PARTITION_COUNT_ARG, cmd.getOptionValue(PARTITION_COUNT_ARG));
+        }
+
+        if (cmd.hasOption(PARTITION_INDEX_ARG)) {
+            cmdParams.put(PARTITION_INDEX_ARG, cmd.getOptionValue(PARTITION_INDEX_ARG));
+        }
+
+        if (cmd.hasOption(PARTITION_COORDINATOR_PORT_ARG)) {
+            cmdParams.put(PARTITION_COORDINATOR_PORT_ARG, cmd.getOptionValue(PARTITION_COORDINATOR_PORT_ARG));
+        }
+
         if (cmd.hasOption(PROPERTY_FILE_ARG)) {
             for (String propertyFilePath : cmd.getOptionValues(PROPERTY_FILE_ARG)) {
                 // code assumes ordering -> first files more important than last, first values get priority
@@ -630,6 +894,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration {
         paramsMap = replaceKey(paramsMap, TCR_MIN_ARG_LONG, TCR_MIN_ARG);
         paramsMap = replaceKey(paramsMap, TCR_MAX_ARG_LONG, TCR_MAX_ARG);
         paramsMap = replaceKey(paramsMap, TIMEOUT_RATE_ARG_LONG, TIMEOUT_RATE_ARG);
+        paramsMap = replaceKey(paramsMap, EXECUTOR_TYPE_ARG_LONG, EXECUTOR_TYPE_ARG);
+        paramsMap = replaceKey(paramsMap, SCHEDULER_TYPE_ARG_LONG, SCHEDULER_TYPE_ARG);
+        paramsMap = replaceKey(paramsMap, DEPENDENCY_GATING_ARG_LONG, DEPENDENCY_GATING_ARG);
+        paramsMap = replaceKey(paramsMap, COMPLETION_TIME_SERVICE_TYPE_ARG_LONG, COMPLETION_TIME_SERVICE_TYPE_ARG);
+        paramsMap = replaceKey(paramsMap, METRICS_RING_BUFFER_SIZE_ARG_LONG, METRICS_RING_BUFFER_SIZE_ARG);
+        paramsMap = replaceKey(paramsMap, METRICS_WAIT_STRATEGY_ARG_LONG, METRICS_WAIT_STRATEGY_ARG);
+        paramsMap = replaceKey(paramsMap, RESULTS_LOG_FORMAT_ARG_LONG, RESULTS_LOG_FORMAT_ARG);
+        paramsMap = replaceKey(paramsMap, TCR_SEARCH_ARG_LONG, TCR_SEARCH_ARG);
+        paramsMap = replaceKey(paramsMap, TCR_SEARCH_STABLE_ROUNDS_ARG_LONG, TCR_SEARCH_STABLE_ROUNDS_ARG);
+        paramsMap = replaceKey(paramsMap, EARLY_ABORT_ARG_LONG, EARLY_ABORT_ARG);
+        paramsMap = replaceKey(paramsMap, CACHE_WORKLOAD_STREAMS_ARG_LONG, CACHE_WORKLOAD_STREAMS_ARG);
+        paramsMap = replaceKey(paramsMap, PARTITION_COUNT_ARG_LONG, PARTITION_COUNT_ARG);
+        paramsMap = replaceKey(paramsMap, PARTITION_INDEX_ARG_LONG, PARTITION_INDEX_ARG);
+        paramsMap = replaceKey(paramsMap, PARTITION_COORDINATOR_PORT_ARG_LONG, PARTITION_COORDINATOR_PORT_ARG);
         return paramsMap;
     }
 
@@ -823,6 +1101,98 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration {
                 .create(TIMEOUT_RATE_ARG);
         options.addOption(timeoutRateOption);
 
+        Option executorTypeOption = OptionBuilder.hasArgs(1)
+                .withArgName("type")
+                .withDescription(EXECUTOR_TYPE_DESCRIPTION)
+                .withLongOpt(EXECUTOR_TYPE_ARG_LONG)
+                .create(EXECUTOR_TYPE_ARG);
+        options.addOption(executorTypeOption);
+
+        Option schedulerTypeOption = OptionBuilder.hasArgs(1)
+                .withArgName("type")
+                .withDescription(SCHEDULER_TYPE_DESCRIPTION)
+                .withLongOpt(SCHEDULER_TYPE_ARG_LONG)
+                .create(SCHEDULER_TYPE_ARG);
+        options.addOption(schedulerTypeOption);
+
+        Option dependencyGatingOption = OptionBuilder.withDescription(DEPENDENCY_GATING_DESCRIPTION)
+                .withLongOpt(DEPENDENCY_GATING_ARG_LONG)
+                .create(DEPENDENCY_GATING_ARG);
+        options.addOption(dependencyGatingOption);
+
+        Option completionTimeServiceTypeOption = OptionBuilder.hasArgs(1)
+                .withArgName("type")
+                .withDescription(COMPLETION_TIME_SERVICE_TYPE_DESCRIPTION)
+                .withLongOpt(COMPLETION_TIME_SERVICE_TYPE_ARG_LONG)
+                .create(COMPLETION_TIME_SERVICE_TYPE_ARG);
+        options.addOption(completionTimeServiceTypeOption);
+
+        Option metricsRingBufferSizeOption = OptionBuilder.hasArgs(1)
+                .withArgName("size")
+                .withDescription(METRICS_RING_BUFFER_SIZE_DESCRIPTION)
+                .withLongOpt(METRICS_RING_BUFFER_SIZE_ARG_LONG)
+                .create(METRICS_RING_BUFFER_SIZE_ARG);
+        options.addOption(metricsRingBufferSizeOption);
+
+        Option metricsWaitStrategyOption = OptionBuilder.hasArgs(1)
+                .withArgName("strategy")
+                .withDescription(METRICS_WAIT_STRATEGY_DESCRIPTION)
+                .withLongOpt(METRICS_WAIT_STRATEGY_ARG_LONG)
+                .create(METRICS_WAIT_STRATEGY_ARG);
+        options.addOption(metricsWaitStrategyOption);
+
+        Option resultsLogFormatOption = OptionBuilder.hasArgs(1)
+                .withArgName("format")
+                .withDescription(RESULTS_LOG_FORMAT_DESCRIPTION)
+                .withLongOpt(RESULTS_LOG_FORMAT_ARG_LONG)
+                .create(RESULTS_LOG_FORMAT_ARG);
+        options.addOption(resultsLogFormatOption);
+
+        Option tcrSearchTypeOption = OptionBuilder.hasArgs(1)
+                .withArgName("type")
+                .withDescription(TCR_SEARCH_DESCRIPTION)
+                .withLongOpt(TCR_SEARCH_ARG_LONG)
+                .create(TCR_SEARCH_ARG);
+        options.addOption(tcrSearchTypeOption);
+
+        Option tcrSearchStableRoundsOption = OptionBuilder.hasArgs(1)
+                .withArgName("count")
+                .withDescription(TCR_SEARCH_STABLE_ROUNDS_DESCRIPTION)
+                .withLongOpt(TCR_SEARCH_STABLE_ROUNDS_ARG_LONG)
+                .create(TCR_SEARCH_STABLE_ROUNDS_ARG);
+        options.addOption(tcrSearchStableRoundsOption);
+
+        Option earlyAbortOption = OptionBuilder.withDescription(EARLY_ABORT_DESCRIPTION)
+                .withLongOpt(EARLY_ABORT_ARG_LONG)
+                .create(EARLY_ABORT_ARG);
+        options.addOption(earlyAbortOption);
+
+        Option cacheWorkloadStreamsOption = OptionBuilder.withDescription(CACHE_WORKLOAD_STREAMS_DESCRIPTION)
+                .withLongOpt(CACHE_WORKLOAD_STREAMS_ARG_LONG)
+                .create(CACHE_WORKLOAD_STREAMS_ARG);
+        options.addOption(cacheWorkloadStreamsOption);
+
+        Option partitionCountOption = OptionBuilder.hasArgs(1)
+                .withArgName("count")
+                .withDescription(PARTITION_COUNT_DESCRIPTION)
+                .withLongOpt(PARTITION_COUNT_ARG_LONG)
+                .create(PARTITION_COUNT_ARG);
+        options.addOption(partitionCountOption);
+
+        Option partitionIndexOption = OptionBuilder.hasArgs(1)
+                .withArgName("index")
+                .withDescription(PARTITION_INDEX_DESCRIPTION)
+                .withLongOpt(PARTITION_INDEX_ARG_LONG)
+                .create(PARTITION_INDEX_ARG);
+        options.addOption(partitionIndexOption);
+
+        Option partitionCoordinatorPortOption = OptionBuilder.hasArgs(1)
+                .withArgName("port")
+                .withDescription(PARTITION_COORDINATOR_PORT_DESCRIPTION)
+                .withLongOpt(PARTITION_COORDINATOR_PORT_ARG_LONG)
+                .create(PARTITION_COORDINATOR_PORT_ARG);
+        options.addOption(partitionCoordinatorPortOption);
+
         Option printHelpOption = OptionBuilder.withDescription(HELP_DESCRIPTION)
                 .create(HELP_ARG);
         options.addOption(printHelpOption);
@@ -1044,6 +1414,76 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration {
         return timeoutRate;
     }
 
+    @Override
+    public OperationExecutorType executorType() {
+        return executorType;
+    }
+
+    @Override
+    public SchedulerType schedulerType() {
+        return schedulerType;
+    }
+
+    @Override
+    public boolean dependencyGating() {
+        return dependencyGating;
+    }
+
+    @Override
+    public CompletionTimeServiceType completionTimeServiceType() {
+        return completionTimeServiceType;
+    }
+
+    @Override
+    public int metricsRingBufferSize() {
+        return metricsRingBufferSize;
+    }
+
+    @Override
+    public MetricsWaitStrategy metricsWaitStrategy() {
+        return metricsWaitStrategy;
+    }
+
+    @Override
+    public ResultsLogFormat resultsLogFormat() {
+        return resultsLogFormat;
+    }
+
+    @Override
+    public TimeCompressionRatioSearchType tcrSearchType() {
+        return tcrSearchType;
+    }
+
+    @Override
+    public int tcrSearchStableRounds() {
+        return tcrSearchStableRounds;
+    }
+
+    @Override
+    public boolean earlyAbort() {
+        return earlyAbort;
+    }
+
+    @Override
+    public boolean cacheWorkloadStreams() {
+        return cacheWorkloadStreams;
+    }
+
+    @Override
+    public int partitionCount() {
+        return partitionCount;
+    }
+
+    @Override
+    public int partitionIndex() {
+        return partitionIndex;
+    }
+
+    @Override
+    public int partitionCoordinatorPort() {
+        return partitionCoordinatorPort;
+    }
+
     @Override
     public Map<String, String> asMap() {
         return paramsMap;
@@ -1144,13 +1584,60 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration {
         double newTimeoutRate = (newParamsMapWithSimpleKeys.containsKey(TIMEOUT_RATE_ARG))
                 ? Double.parseDouble(paramsMap.get(TIMEOUT_RATE_ARG))
                 : timeoutRate;
+        OperationExecutorType newExecutorType = (newParamsMapWithSimpleKeys.containsKey(EXECUTOR_TYPE_ARG))
+                ? OperationExecutorType.valueOf(newParamsMapWithSimpleKeys.get(EXECUTOR_TYPE_ARG))
+                : executorType;
+        SchedulerType newSchedulerType = (newParamsMapWithSimpleKeys.containsKey(SCHEDULER_TYPE_ARG))
+                ? SchedulerType.valueOf(newParamsMapWithSimpleKeys.get(SCHEDULER_TYPE_ARG))
+                : schedulerType;
+        boolean newDependencyGating = (newParamsMapWithSimpleKeys.containsKey(DEPENDENCY_GATING_ARG))
+                ? Boolean.parseBoolean(newParamsMapWithSimpleKeys.get(DEPENDENCY_GATING_ARG))
+                : dependencyGating;
+        CompletionTimeServiceType newCompletionTimeServiceType =
+                (newParamsMapWithSimpleKeys.containsKey(COMPLETION_TIME_SERVICE_TYPE_ARG))
+                ? CompletionTimeServiceType.valueOf(newParamsMapWithSimpleKeys.get(COMPLETION_TIME_SERVICE_TYPE_ARG))
+                : completionTimeServiceType;
+        int newMetricsRingBufferSize = (newParamsMapWithSimpleKeys.containsKey(METRICS_RING_BUFFER_SIZE_ARG))
+                ? Integer.parseInt(newParamsMapWithSimpleKeys.get(METRICS_RING_BUFFER_SIZE_ARG))
+                : metricsRingBufferSize;
+        MetricsWaitStrategy newMetricsWaitStrategy = (newParamsMapWithSimpleKeys.containsKey(METRICS_WAIT_STRATEGY_ARG))
+                ? MetricsWaitStrategy.valueOf(newParamsMapWithSimpleKeys.get(METRICS_WAIT_STRATEGY_ARG))
+                : metricsWaitStrategy;
+        ResultsLogFormat newResultsLogFormat = (newParamsMapWithSimpleKeys.containsKey(RESULTS_LOG_FORMAT_ARG))
+                ? ResultsLogFormat.valueOf(newParamsMapWithSimpleKeys.get(RESULTS_LOG_FORMAT_ARG))
+                : resultsLogFormat;
+        TimeCompressionRatioSearchType newTcrSearchType = (newParamsMapWithSimpleKeys.containsKey(TCR_SEARCH_ARG))
+                ? TimeCompressionRatioSearchType.valueOf(newParamsMapWithSimpleKeys.get(TCR_SEARCH_ARG))
+                : tcrSearchType;
+        int newTcrSearchStableRounds = (newParamsMapWithSimpleKeys.containsKey(TCR_SEARCH_STABLE_ROUNDS_ARG))
+                ? Integer.parseInt(newParamsMapWithSimpleKeys.get(TCR_SEARCH_STABLE_ROUNDS_ARG))
+                : tcrSearchStableRounds;
+        boolean newEarlyAbort = (newParamsMapWithSimpleKeys.containsKey(EARLY_ABORT_ARG))
+                ? Boolean.parseBoolean(newParamsMapWithSimpleKeys.get(EARLY_ABORT_ARG))
+                : earlyAbort;
+        boolean newCacheWorkloadStreams = (newParamsMapWithSimpleKeys.containsKey(CACHE_WORKLOAD_STREAMS_ARG))
+                ? Boolean.parseBoolean(newParamsMapWithSimpleKeys.get(CACHE_WORKLOAD_STREAMS_ARG))
+                : cacheWorkloadStreams;
+        int newPartitionCount = (newParamsMapWithSimpleKeys.containsKey(PARTITION_COUNT_ARG))
+                ? Integer.parseInt(newParamsMapWithSimpleKeys.get(PARTITION_COUNT_ARG))
+                : partitionCount;
+        int newPartitionIndex = (newParamsMapWithSimpleKeys.containsKey(PARTITION_INDEX_ARG))
+                ? Integer.parseInt(newParamsMapWithSimpleKeys.get(PARTITION_INDEX_ARG))
+                : partitionIndex;
+        int newPartitionCoordinatorPort = (newParamsMapWithSimpleKeys.containsKey(PARTITION_COORDINATOR_PORT_ARG))
+                ? Integer.parseInt(newParamsMapWithSimpleKeys.get(PARTITION_COORDINATOR_PORT_ARG))
+                : partitionCoordinatorPort;
 
         return new ConsoleAndFileDriverConfiguration(newOtherParams, newMode, newName, newDbClassName,
                 newWorkloadClassName, newOperationCount, newThreadCount, newStatusDisplayIntervalAsSeconds, newTimeUnit,
                 newResultDirPath, newTimeCompressionRatio, newValidationParametersSize, newValidationSerializationCheck,
                 newRecordDelayedOperations, newDatabaseValidationFilePath, newSpinnerSleepDurationAsMilli, newPrintHelp,
                 newIgnoreScheduledStartTimes, newWarmupCount, newSkipCount, newFlushLog, newEstimateTestTime,
-                newAccurateTestTime, newDichotomyErrorRange, newTcrMin, newTcrMax, newTimeoutRate);
+                newAccurateTestTime, newDichotomyErrorRange, newTcrMin, newTcrMax, newTimeoutRate, newExecutorType,
+                newSchedulerType, newDependencyGating, newCompletionTimeServiceType, newMetricsRingBufferSize,
+                newMetricsWaitStrategy, newResultsLogFormat, newTcrSearchType,
+                newTcrSearchStableRounds, newEarlyAbort, newCacheWorkloadStreams, newPartitionCount, newPartitionIndex,
+                newPartitionCoordinatorPort);
     }
 
     /**
@@ -2,6 +2,12 @@ package org.ldbcouncil.finbench.driver.control;
 
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import org.ldbcouncil.finbench.driver.driver.search.TimeCompressionRatioSearchType;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeServiceType;
+import org.ldbcouncil.finbench.driver.runtime.executor.OperationExecutorType;
+import org.ldbcouncil.finbench.driver.runtime.metrics.MetricsWaitStrategy;
+import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogFormat;
+import org.ldbcouncil.finbench.driver.runtime.scheduling.SchedulerType;
 
 public interface DriverConfiguration {
     String mode();
@@ -64,6 +70,34 @@ public interface DriverConfiguration {
 
     double timeoutRate();
 
+    OperationExecutorType executorType();
+
+    SchedulerType schedulerType();
+
+    boolean dependencyGating();
+
+    CompletionTimeServiceType completionTimeServiceType();
+
+    int metricsRingBufferSize();
+
+    MetricsWaitStrategy metricsWaitStrategy();
+
+    ResultsLogFormat resultsLogFormat();
+
+    TimeCompressionRatioSearchType tcrSearchType();
+
+    int tcrSearchStableRounds();
+
+    boolean earlyAbort();
+
+    boolean cacheWorkloadStreams();
+
+    int partitionCount();
+
+    int partitionIndex();
+
+    int partitionCoordinatorPort();
+
     String toPropertiesString() throws DriverConfigurationException;
 
     Map<String, String> asMap();
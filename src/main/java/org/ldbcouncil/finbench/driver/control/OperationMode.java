@@ -5,5 +5,7 @@ public enum OperationMode {
     VALIDATE_DATABASE,
     CREATE_STATISTICS,
     EXECUTE_BENCHMARK,
-    AUTOMATIC_TEST
+    AUTOMATIC_TEST,
+    COMPILE_OPERATION_STREAMS,
+    COORDINATE_PARTITIONS
 }
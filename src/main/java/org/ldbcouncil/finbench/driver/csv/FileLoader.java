@@ -5,60 +5,86 @@ import org.ldbcouncil.finbench.driver.WorkloadException;
 import org.ldbcouncil.finbench.driver.generator.EventStreamReader;
 import org.ldbcouncil.finbench.driver.util.Tuple2;
 
+import java.io.Closeable;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import static java.lang.String.format;
 
 /**
  * Class to read Parquet/CSV files for operation streams.
  */
-public class FileLoader {
+public class FileLoader implements Closeable {
+
+    // operations decoded at a time by the cursors of loadOperationStream
+    public static final int DEFAULT_FETCH_SIZE = 4096;
 
     private final DuckDbExtractor db;
+    // batch queries of getOperationStreamBatch, by view and batch column
+    private final Map<String, PreparedStatement> batchStatements = new HashMap<>();
 
     public FileLoader(DuckDbExtractor db) throws SQLException {
         this.db = db;
     }
 
-    public Iterator<Operation> loadOperationStream(String path, EventStreamReader.EventDecoder<Operation> decoder)
-        throws WorkloadException, SQLException {
-        Statement stmt = null;
-        List<Operation> results = new ArrayList<>();
-        try {
-            Connection connection = db.getConnection();
-            stmt = connection.createStatement();
-            ResultSet rs;
-            if (path.contains(".parquet")) {
-                rs = stmt.executeQuery("SELECT * FROM read_parquet('" + path + "');");
-            } else {
-                rs = stmt.executeQuery("SELECT * FROM read_csv_auto('" + path + "', delim='|', header=TRUE);");
-            }
-            while (rs.next()) {
-                Operation obj = decoder.decodeEvent(rs);
-                results.add(obj);
-            }
-            rs.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
-            throw new WorkloadException(
-                format("Error loading substitution parameters into temporary database: %s", path), e);
-        } finally {
-            if (stmt != null) {
-                stmt.close();
-            }
+    /**
+     * Open a streaming cursor on a Parquet/CSV file, see {@link OperationStreamCursor}
+     *
+     * @param path    Path of the Parquet/CSV file
+     * @param decoder Decoder of the rows
+     * @return Cursor over the decoded operations, to be closed by the caller
+     * @throws WorkloadException When the file could not be queried
+     */
+    public OperationStreamCursor loadOperationStream(String path, EventStreamReader.EventDecoder<Operation> decoder)
+        throws WorkloadException {
+        return loadOperationStream(path, decoder, DEFAULT_FETCH_SIZE);
+    }
+
+    public OperationStreamCursor loadOperationStream(
+        String path,
+        EventStreamReader.EventDecoder<Operation> decoder,
+        int fetchSize
+    ) throws WorkloadException {
+        return new OperationStreamCursor(db.getConnection(), selectFrom(path) + ";", decoder, fetchSize);
+    }
+
+    /**
+     * Open a streaming cursor on a Parquet/CSV file, with the rows sorted by a column
+     *
+     * @param path            Path of the Parquet/CSV file
+     * @param decoder         Decoder of the rows
+     * @param orderColumnName Column to sort the rows by, ascending
+     * @return Cursor over the decoded operations, to be closed by the caller
+     * @throws WorkloadException When the file could not be queried
+     */
+    public OperationStreamCursor loadOperationStreamOrderedBy(
+        String path,
+        EventStreamReader.EventDecoder<Operation> decoder,
+        String orderColumnName
+    ) throws WorkloadException {
+        return new OperationStreamCursor(db.getConnection(),
+            selectFrom(path) + " ORDER BY " + orderColumnName + " ASC;", decoder, DEFAULT_FETCH_SIZE);
+    }
+
+    private static String selectFrom(String path) {
+        if (path.contains(".parquet")) {
+            return "SELECT * FROM read_parquet('" + path + "')";
+        } else {
+            return "SELECT * FROM read_csv_auto('" + path + "', delim='|', header=TRUE)";
         }
-        return results.iterator();
     }
 
 
     /**
-     * Fetch a batch from the parquet file
+     * Fetch a batch from the parquet file. The query of a view is prepared once and reused for all its batches.
      *
      * @param offset    Offset to use
      * @param batchSize Size of the batch to load.
@@ -73,32 +99,38 @@ public class FileLoader {
         long offset,
         long batchSize
     ) throws WorkloadException, SQLException {
-        Statement stmt = null;
         List<Operation> results = new ArrayList<>();
         try {
-            Connection connection = db.getConnection();
-            stmt = connection.createStatement();
-            ResultSet rs = stmt.executeQuery(
-                format("SELECT * FROM %s WHERE %s >= %d AND %s < %d ORDER BY %s ASC", viewName, batchColumnName, offset,
-                    batchColumnName, offset + batchSize, batchColumnName));
-            while (rs.next()) {
-                Operation obj = decoder.decodeEvent(rs);
-                results.add(obj);
+            PreparedStatement stmt = batchStatement(viewName, batchColumnName);
+            stmt.setLong(1, offset);
+            stmt.setLong(2, offset + batchSize);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Operation obj = decoder.decodeEvent(rs);
+                    results.add(obj);
+                }
             }
-            rs.close();
         } catch (SQLException e) {
             e.printStackTrace();
             throw new WorkloadException(
                 format("Error loading batch from database from view: %s on batch column %s", viewName, batchColumnName),
                 e);
-        } finally {
-            if (stmt != null) {
-                stmt.close();
-            }
         }
         return results.iterator();
     }
 
+    private PreparedStatement batchStatement(String viewName, String batchColumnName) throws SQLException {
+        String key = viewName + "." + batchColumnName;
+        PreparedStatement stmt = batchStatements.get(key);
+        if (null == stmt) {
+            stmt = db.getConnection().prepareStatement(
+                format("SELECT * FROM %s WHERE %s >= ? AND %s < ? ORDER BY %s ASC", viewName, batchColumnName,
+                    batchColumnName, batchColumnName));
+            batchStatements.put(key, stmt);
+        }
+        return stmt;
+    }
+
 
     /**
      * Creates a view on a parquet file using DuckDBs read_parquet function.
@@ -130,6 +162,39 @@ public class FileLoader {
         }
     }
 
+    /**
+     * Loads a parquet file into a DuckDB table sorted by the batch column. Batches are range scans of the table, which
+     * skip the row groups outside the batch, instead of decoding the whole file for every batch as with a view. The
+     * table is held in memory, in DuckDB's compressed columnar format.
+     *
+     * @throws WorkloadException When the table could not be created
+     * @throws SQLException      When the statement could not be closed properly.
+     */
+    public void createTableOnParquetFile(String path, String tableName, String batchColumnName)
+        throws WorkloadException, SQLException {
+        Statement stmt = null;
+        try {
+            Connection connection = db.getConnection();
+            stmt = connection.createStatement();
+
+            if (path.contains(".parquet")) {
+                stmt.execute("CREATE TABLE " + tableName + " AS SELECT * FROM read_parquet('" + path + "') ORDER BY "
+                    + batchColumnName + ";");
+            } else {
+                stmt.execute("CREATE TABLE " + tableName + " AS SELECT * FROM read_csv_auto("
+                    + "'" + path + "', delim='|', header=TRUE) ORDER BY " + batchColumnName + ";");
+            }
+
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new WorkloadException(format("Error creating table on temporary database: %s", path), e);
+        } finally {
+            if (stmt != null) {
+                stmt.close();
+            }
+        }
+    }
+
     /**
      * Get the start and end values of the column used for the batching. These values are used to
      * determine when there are no more events left to load.
@@ -145,18 +210,18 @@ public class FileLoader {
         try {
             Connection connection = db.getConnection();
             stmt = connection.createStatement();
-            ResultSet rsStart = stmt.executeQuery(
-                "SELECT " + batchColumnName + " FROM " + viewName + " ORDER BY " + batchColumnName + " ASC LIMIT 1 ");
-            while (rsStart.next()) {
-                startValue = rsStart.getLong(1);
-            }
-            rsStart.close();
-            ResultSet rsEnd = stmt.executeQuery(
-                "SELECT " + batchColumnName + " FROM " + viewName + " ORDER BY " + batchColumnName + " DESC LIMIT 1 ");
-            while (rsEnd.next()) {
-                endValue = rsEnd.getLong(1);
+            // one aggregate scan instead of sorting the view twice
+            ResultSet rs = stmt.executeQuery(
+                "SELECT min(" + batchColumnName + "), max(" + batchColumnName + ") FROM " + viewName);
+            if (rs.next()) {
+                long min = rs.getLong(1);
+                // min and max of an empty view are NULL
+                if (!rs.wasNull()) {
+                    startValue = min;
+                    endValue = rs.getLong(2);
+                }
             }
-            rsEnd.close();
+            rs.close();
         } catch (SQLException e) {
             e.printStackTrace();
             throw new WorkloadException(format("Error executing query on temporary database with view: %s", viewName),
@@ -168,4 +233,19 @@ public class FileLoader {
         }
         return new Tuple2<>(startValue, endValue);
     }
+
+    /**
+     * Close the prepared statements, the DuckDB connection is not closed
+     */
+    @Override
+    public void close() {
+        for (PreparedStatement stmt : batchStatements.values()) {
+            try {
+                stmt.close();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+        batchStatements.clear();
+    }
 }
@@ -0,0 +1,143 @@
+package org.ldbcouncil.finbench.driver.csv;
+
+import static java.lang.String.format;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.WorkloadException;
+import org.ldbcouncil.finbench.driver.generator.EventStreamReader;
+import org.ldbcouncil.finbench.driver.generator.Generator;
+import org.ldbcouncil.finbench.driver.generator.GeneratorException;
+import org.ldbcouncil.finbench.driver.generator.RewindableIterator;
+
+/**
+ * Streams the operations of a Parquet/CSV file from an open result set. Rows are decoded lazily, a batch of fetch
+ * size rows at a time, so only one batch of decoded operations is on the heap.
+ * <p>
+ * Rewinding executes the query again. A file that fits into the first batch is not queried again, the decoded batch
+ * is replayed instead.
+ */
+public class OperationStreamCursor extends Generator<Operation> implements RewindableIterator<Operation>, Closeable {
+
+    private final Connection connection;
+    private final String query;
+    private final EventStreamReader.EventDecoder<Operation> decoder;
+    private final Operation[] batch;
+    private Statement stmt = null;
+    private ResultSet rs = null;
+    // number of decoded operations in batch and index of the next one to return
+    private int batchSize = 0;
+    private int batchIndex = 0;
+    // true once the result set is exhausted, while the first batch is still the current batch
+    private boolean singleBatch = false;
+    private boolean firstBatch = true;
+
+    OperationStreamCursor(
+        Connection connection,
+        String query,
+        EventStreamReader.EventDecoder<Operation> decoder,
+        int fetchSize) throws WorkloadException {
+        if (fetchSize < 1) {
+            throw new WorkloadException(format("Fetch size must be positive, was %s", fetchSize));
+        }
+        this.connection = connection;
+        this.query = query;
+        this.decoder = decoder;
+        this.batch = new Operation[fetchSize];
+        open();
+    }
+
+    private void open() throws WorkloadException {
+        try {
+            stmt = connection.createStatement();
+            stmt.setFetchSize(batch.length);
+            rs = stmt.executeQuery(query);
+        } catch (SQLException e) {
+            closeQuietly();
+            throw new WorkloadException(format("Error executing operation stream query: %s", query), e);
+        }
+        batchSize = 0;
+        batchIndex = 0;
+        firstBatch = true;
+    }
+
+    /**
+     * Decodes the next batch, returns false if there are no rows left
+     */
+    private boolean fetchBatch() throws WorkloadException {
+        if (null == rs) {
+            return false;
+        }
+        batchSize = 0;
+        batchIndex = 0;
+        try {
+            while (batchSize < batch.length && rs.next()) {
+                batch[batchSize++] = decoder.decodeEvent(rs);
+            }
+            if (batchSize < batch.length) {
+                singleBatch = firstBatch;
+                closeQuietly();
+            }
+        } catch (SQLException e) {
+            closeQuietly();
+            throw new WorkloadException(format("Error reading operation stream query: %s", query), e);
+        }
+        firstBatch = false;
+        return batchSize > 0;
+    }
+
+    @Override
+    protected Operation doNext() throws GeneratorException {
+        if (batchIndex == batchSize) {
+            try {
+                if (!fetchBatch()) {
+                    return null;
+                }
+            } catch (WorkloadException e) {
+                throw new GeneratorException("Error decoding operation stream", e);
+            }
+        }
+        Operation operation = batch[batchIndex];
+        if (!singleBatch) {
+            batch[batchIndex] = null;
+        }
+        batchIndex++;
+        return operation;
+    }
+
+    @Override
+    public void rewind() throws GeneratorException {
+        if (singleBatch) {
+            batchIndex = 0;
+            return;
+        }
+        closeQuietly();
+        try {
+            open();
+        } catch (WorkloadException e) {
+            throw new GeneratorException("Error rewinding operation stream", e);
+        }
+    }
+
+    private void closeQuietly() {
+        // closing the statement also closes its result set
+        if (null != stmt) {
+            try {
+                stmt.close();
+            } catch (SQLException e) {
+                // nothing left to read from it either way
+            }
+        }
+        stmt = null;
+        rs = null;
+    }
+
+    @Override
+    public void close() {
+        closeQuietly();
+    }
+}
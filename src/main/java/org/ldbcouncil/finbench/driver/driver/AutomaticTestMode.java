@@ -11,15 +11,18 @@ import java.nio.file.Files;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.TimeUnit;
+import org.ldbcouncil.finbench.driver.CachedWorkloadStreams;
 import org.ldbcouncil.finbench.driver.Db;
 import org.ldbcouncil.finbench.driver.DbException;
 import org.ldbcouncil.finbench.driver.Workload;
 import org.ldbcouncil.finbench.driver.WorkloadException;
 import org.ldbcouncil.finbench.driver.WorkloadStreams;
 import org.ldbcouncil.finbench.driver.control.ControlService;
+import org.ldbcouncil.finbench.driver.driver.search.TimeCompressionRatioSearch;
 import org.ldbcouncil.finbench.driver.generator.GeneratorFactory;
 import org.ldbcouncil.finbench.driver.generator.RandomDataGeneratorFactory;
 import org.ldbcouncil.finbench.driver.log.LoggingService;
+import org.ldbcouncil.finbench.driver.runtime.BinaryResultsLogWriter;
 import org.ldbcouncil.finbench.driver.runtime.ConcurrentErrorReporter;
 import org.ldbcouncil.finbench.driver.runtime.DefaultQueues;
 import org.ldbcouncil.finbench.driver.runtime.SimpleResultsLogWriter;
@@ -34,6 +37,8 @@ import org.ldbcouncil.finbench.driver.runtime.metrics.MetricsCollectionException
 import org.ldbcouncil.finbench.driver.runtime.metrics.MetricsManager;
 import org.ldbcouncil.finbench.driver.runtime.metrics.MetricsService;
 import org.ldbcouncil.finbench.driver.runtime.metrics.NullResultsLogWriter;
+import org.ldbcouncil.finbench.driver.runtime.metrics.OnTimeTracker;
+import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogFormat;
 import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogWriter;
 import org.ldbcouncil.finbench.driver.runtime.metrics.WorkloadResultsSnapshot;
 import org.ldbcouncil.finbench.driver.runtime.metrics.WorkloadStatusSnapshot;
@@ -45,9 +50,11 @@ import org.ldbcouncil.finbench.driver.validation.ResultsLogValidationResult;
 import org.ldbcouncil.finbench.driver.validation.ResultsLogValidationSummary;
 import org.ldbcouncil.finbench.driver.validation.ResultsLogValidationTolerances;
 import org.ldbcouncil.finbench.driver.validation.ResultsLogValidator;
+import org.ldbcouncil.finbench.driver.workloads.ClassNameWorkloadFactory;
 
 /**
- * Automatic test mode, using dichotomous method to test the configuration parameters suitable for the current machine
+ * Automatic test mode, searching the time compression ratio suitable for the current machine, see
+ * {@link TimeCompressionRatioSearch}
  */
 public class AutomaticTestMode implements DriverMode<Object> {
     private final ControlService controlService;
@@ -58,11 +65,18 @@ public class AutomaticTestMode implements DriverMode<Object> {
     private final ResultsDirectory resultsDirectory;
 
     private Workload workload = null;
+    // null unless workload streams are cached, then shared by all rounds
+    private CachedWorkloadStreams cachedWorkloadStreams = null;
+    // stalls of the workload before this round started, the cached workload counts them over all rounds
+    private long roundStartOperationStreamStallCount = 0;
+    private long roundStartOperationStreamStallDurationAsNano = 0;
     private Db database = null;
     private MetricsService metricsService = null;
     private CompletionTimeService completionTimeService = null;
     private WorkloadRunner workloadRunner = null;
     private ResultsLogWriter resultsLogWriter = null;
+    // null unless early abort is enabled
+    private OnTimeTracker onTimeTracker = null;
 
     public AutomaticTestMode(
         ControlService controlService,
@@ -83,14 +97,19 @@ public class AutomaticTestMode implements DriverMode<Object> {
 
     @Override
     public void init() throws DriverException {
+        if (controlService.configuration().partitionCount() > 1) {
+            // rounds restart the workload with different throughput, which partitions cannot agree on yet
+            throw new DriverException("Automatic test does not support partitioned execution, use EXECUTE_BENCHMARK");
+        }
         loggingService.info("Driver Configuration");
         loggingService.info(controlService.toString());
     }
 
     @Override
     public Object startExecutionAndAwaitCompletion() throws DriverException {
-        double l = controlService.configuration().tcrMin();
-        double r = controlService.configuration().tcrMax();
+        TimeCompressionRatioSearch search =
+            controlService.configuration().tcrSearchType().newSearch(controlService.configuration());
+        search.reset(controlService.configuration().tcrMin(), controlService.configuration().tcrMax());
         // Record the results of the current and last successful one
         ResultsLogValidationResult successfulResult = new ResultsLogValidationResult();
         ResultsLogValidationResult currentResult;
@@ -102,15 +121,13 @@ public class AutomaticTestMode implements DriverMode<Object> {
         // Stores the original total number of operations
         long sourceOpCnt = controlService.configuration().operationCount();
         long sourceWaCnt = controlService.configuration().operationCount();
-        // Gets the binary end condition, tolerance range
-        double range = controlService.configuration().dichotomyErrorRange();
         // Time compression ratio of this round
         double tcr = 0;
         int numberOfRounds = 1;
-        while (r - l >= range) {
+        while (!search.isFinished()) {
             // The first time you try to run with the tcr specified by the configuration
             if (tcr != 0) {
-                tcr = l + (r - l) / 2;
+                tcr = search.nextTimeCompressionRatio();
                 controlService.configuration().setTimeCompressionRatio(tcr);
             } else {
                 tcr = controlService.configuration().timeCompressionRatio();
@@ -122,11 +139,9 @@ public class AutomaticTestMode implements DriverMode<Object> {
             ));
             currentResult = validationTest(true);
 
+            search.report(tcr, currentResult);
             if (currentResult.isSuccessful()) {
-                r = tcr;
                 successfulResult = currentResult;
-            } else {
-                l = tcr;
             }
             // Based on the current throughput, determine the base operand per minute at tcr=1
             baseCnt = (long) (Math.ceil(currentResult.throughput()) * tcr * 60);
@@ -135,15 +150,16 @@ public class AutomaticTestMode implements DriverMode<Object> {
         loggingService.info("--------------------------Accurate adjust parameter phase--------------------------");
         // The theory is accurate tcr >= estimated tcr,
         // to prevent accidents and give a little bit of room that may be smaller
-        l = controlService.configuration().tcrMin() + (l - controlService.configuration().tcrMin()) * 0.7;
-        r = Math.min(l * 10, controlService.configuration().tcrMax());
+        double l = controlService.configuration().tcrMin()
+            + (search.lowerTcr() - controlService.configuration().tcrMin()) * 0.7;
+        search.reset(l, Math.min(l * 10, controlService.configuration().tcrMax()));
         // Ensure that at least one precision tuning phase is performed
         tcr = 0;
         numberOfRounds = 1;
         do {
             // The first attempt is to run with the results of the estimation phase
             if (tcr != 0) {
-                tcr = l + (r - l) / 2;
+                tcr = search.nextTimeCompressionRatio();
                 controlService.configuration().setTimeCompressionRatio(tcr);
             } else {
                 tcr = controlService.configuration().timeCompressionRatio();
@@ -157,20 +173,26 @@ public class AutomaticTestMode implements DriverMode<Object> {
             ));
 
             currentResult = validationTest(false);
+            search.report(tcr, currentResult);
             if (currentResult.isSuccessful()) {
-                r = tcr;
                 successfulResult = currentResult;
-            } else {
-                l = tcr;
             }
             baseCnt = (long) (Math.ceil(currentResult.throughput()) * tcr * 60);
-        } while (r - l >= range);
+        } while (!search.isFinished());
 
         // If finding the last l is not successful, replace it with the last successful one
         if (!currentResult.isSuccessful()) {
-            controlService.configuration().setTimeCompressionRatio(r);
+            controlService.configuration().setTimeCompressionRatio(search.upperTcr());
             // At this point, the state of the machine has slipped, and there is no need to repeat the test
         }
+        if (null != cachedWorkloadStreams) {
+            loggingService.info("Shutting down workload...");
+            try {
+                cachedWorkloadStreams.close();
+            } catch (IOException e) {
+                throw new DriverException("Error shutting down workload", e);
+            }
+        }
         try {
             loggingService.info("Shutting down database connector...");
             Instant dbShutdownStart = Instant.now();
@@ -287,21 +309,8 @@ public class AutomaticTestMode implements DriverMode<Object> {
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         GeneratorFactory gf = new GeneratorFactory(new RandomDataGeneratorFactory(randomSeed));
 
-        //  ================================
-        //  ===  Results Log CSV Writer  ===
-        //  ================================
+        // results log is the first file of a run, see ResultsDirectory.phase(), its writer is created below
         File resultsLog = resultsDirectory.getOrCreateResultsLogFile(warmup);
-        try {
-            resultsLogWriter = (null == resultsLog)
-                ? new NullResultsLogWriter()
-                : new SimpleResultsLogWriter(
-                    resultsLog,
-                    controlService.configuration().timeUnit(),
-                    controlService.configuration().flushLog());
-        } catch (IOException e) {
-            throw new DriverException(
-                format("Error creating results log writer for: %s", resultsLog.getAbsolutePath()), e);
-        }
 
         //  ------------------
         //  ---  Workload  ---
@@ -319,15 +328,31 @@ public class AutomaticTestMode implements DriverMode<Object> {
         long minimumTimeStamp;
         try {
             boolean returnStreamsWithDbConnector = true;
-            Tuple3<WorkloadStreams, Workload, Long> streamsAndWorkloadAndMinimumTimeStamp =
-                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
-                    controlService.configuration(),
-                    gf,
-                    returnStreamsWithDbConnector,
+            Tuple3<WorkloadStreams, Workload, Long> streamsAndWorkloadAndMinimumTimeStamp;
+            if (controlService.configuration().cacheWorkloadStreams()) {
+                if (null == cachedWorkloadStreams) {
+                    cachedWorkloadStreams = new CachedWorkloadStreams(
+                        new ClassNameWorkloadFactory(controlService.configuration().workloadClassName()),
+                        controlService.configuration(),
+                        gf);
+                }
+                streamsAndWorkloadAndMinimumTimeStamp = cachedWorkloadStreams.createOffsetAndLimitedWorkloadStreams(
                     offset,
                     limit,
                     controlService.loggingServiceFactory()
                 );
+                loggingService.info(format("Cached operations: %s", cachedWorkloadStreams.cachedOperationCount()));
+            } else {
+                streamsAndWorkloadAndMinimumTimeStamp =
+                    WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        controlService.configuration(),
+                        gf,
+                        returnStreamsWithDbConnector,
+                        offset,
+                        limit,
+                        controlService.loggingServiceFactory()
+                    );
+            }
             workloadStreams = streamsAndWorkloadAndMinimumTimeStamp._1();
             workload = streamsAndWorkloadAndMinimumTimeStamp._2();
             minimumTimeStamp = streamsAndWorkloadAndMinimumTimeStamp._3();
@@ -336,6 +361,8 @@ public class AutomaticTestMode implements DriverMode<Object> {
                 controlService.configuration().workloadClassName()), e);
         }
         loggingService.info(format("Loaded workload: %s", workload.getClass().getName()));
+        roundStartOperationStreamStallCount = workload.operationStreamStallCount();
+        roundStartOperationStreamStallDurationAsNano = workload.operationStreamStallDurationAsNano();
 
         loggingService.info(format("Retrieving workload stream: %s", workload.getClass().getSimpleName()));
         controlService.setWorkloadStartTimeAsMilli(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5));
@@ -369,10 +396,44 @@ public class AutomaticTestMode implements DriverMode<Object> {
             loggingService.info(format("Loaded DB: %s", database.getClass().getName()));
         }
 
+        //  ----------------------------
+        //  ---  Results Log Writer  ---
+        //  ----------------------------
+        try {
+            // binary writer needs the operation types of the workload
+            if (null == resultsLog) {
+                resultsLogWriter = new NullResultsLogWriter();
+            } else if (ResultsLogFormat.BINARY == controlService.configuration().resultsLogFormat()) {
+                resultsLogWriter = new BinaryResultsLogWriter(
+                    resultsLog,
+                    controlService.configuration().timeUnit(),
+                    workload.operationTypeToClassMapping());
+            } else {
+                resultsLogWriter = new SimpleResultsLogWriter(
+                    resultsLog,
+                    controlService.configuration().timeUnit(),
+                    controlService.configuration().flushLog());
+            }
+        } catch (IOException e) {
+            throw new DriverException(
+                format("Error creating results log writer for: %s", resultsLog.getAbsolutePath()), e);
+        }
+
         //  ------------------------
         //  ---  Metrics Service  ==
         //  ------------------------
         try {
+            if (controlService.configuration().earlyAbort()) {
+                // same tolerances the results log of this round is validated with
+                ResultsLogValidationTolerances resultsLogValidationTolerances =
+                    workload.resultsLogValidationTolerancesAutomatic(controlService.configuration(), limit);
+                onTimeTracker = new OnTimeTracker(
+                    workload.operationTypeToClassMapping(),
+                    resultsLogValidationTolerances.excessiveDelayThresholdAsMilli(),
+                    resultsLogValidationTolerances.toleratedExcessiveDelayCountPercentage());
+            } else {
+                onTimeTracker = null;
+            }
             // TODO create metrics service factory so different ones can be easily created
             metricsService = new DisruptorSbeMetricsService(
                 timeSource,
@@ -381,7 +442,10 @@ public class AutomaticTestMode implements DriverMode<Object> {
                 DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
                 resultsLogWriter,
                 workload.operationTypeToClassMapping(),
-                controlService.loggingServiceFactory()
+                controlService.loggingServiceFactory(),
+                controlService.configuration().metricsRingBufferSize(),
+                controlService.configuration().metricsWaitStrategy(),
+                onTimeTracker
             );
         } catch (MetricsCollectionException e) {
             throw new DriverException("Error creating metrics service", e);
@@ -393,7 +457,8 @@ public class AutomaticTestMode implements DriverMode<Object> {
         CompletionTimeServiceAssistant completionTimeServiceAssistant = new CompletionTimeServiceAssistant();
         try {
             completionTimeService =
-                completionTimeServiceAssistant.newThreadedQueuedCompletionTimeService(
+                completionTimeServiceAssistant.newCompletionTimeService(
+                    controlService.configuration().completionTimeServiceType(),
                     timeSource,
                     errorReporter
                 );
@@ -416,6 +481,9 @@ public class AutomaticTestMode implements DriverMode<Object> {
                 completionTimeService,
                 controlService.loggingServiceFactory(),
                 controlService.configuration().threadCount(),
+                controlService.configuration().executorType(),
+                controlService.configuration().schedulerType(),
+                controlService.configuration().dependencyGating(),
                 controlService.configuration().statusDisplayIntervalAsSeconds(),
                 controlService.configuration().spinnerSleepDurationAsMilli(),
                 controlService.configuration().ignoreScheduledStartTimes(),
@@ -480,14 +548,23 @@ public class AutomaticTestMode implements DriverMode<Object> {
                                                  long milli) throws DriverException {
         try {
             ConcurrentErrorReporter errorReporter = null;
-            if (milli == -1) {
+            if (null != onTimeTracker) {
+                errorReporter = workloadRunner.getFuture(milli, onTimeTracker::failureIsCertain);
+                if (onTimeTracker.failureIsCertain()) {
+                    loggingService.info(format("Round aborted early, %s of %s operations late, late ratio per "
+                            + "type: %s", onTimeTracker.lateOperationCount(), onTimeTracker.operationCount(),
+                        onTimeTracker.lateOperationRatioPerType()));
+                }
+            } else if (milli == -1) {
                 // To execute normally, follow the EXECUTE_BENCHMARK process
                 errorReporter = workloadRunner.getFuture().get();
             } else {
                 errorReporter = workloadRunner.getFuture(milli);
             }
-            loggingService.info("Shutting down workload...");
-            workload.close();
+            if (null == cachedWorkloadStreams) {
+                loggingService.info("Shutting down workload...");
+                workload.close();
+            }
             if (errorReporter.errorEncountered()) {
                 throw new DriverException("Error running workload\n" + errorReporter.toString());
             }
@@ -505,8 +582,16 @@ public class AutomaticTestMode implements DriverMode<Object> {
         loggingService.info("Shutting down metrics collection service...");
         WorkloadResultsSnapshot workloadResults;
         try {
-            workloadResults = metricsService.getWriter().results();
+            workloadResults = metricsService.getWriter().results().withOperationStreamStalls(
+                workload.operationStreamStallCount() - roundStartOperationStreamStallCount,
+                workload.operationStreamStallDurationAsNano() - roundStartOperationStreamStallDurationAsNano
+            );
             metricsService.shutdown();
+            if (workloadResults.operationStreamStallCount() > 0) {
+                loggingService.info(format("Waited %s times for background loaded operations, %s ms in total",
+                    workloadResults.operationStreamStallCount(),
+                    TimeUnit.NANOSECONDS.toMillis(workloadResults.operationStreamStallDurationAsNano())));
+            }
         } catch (MetricsCollectionException e) {
             throw new DriverException("Error during shutdown of metrics collection service", e);
         }
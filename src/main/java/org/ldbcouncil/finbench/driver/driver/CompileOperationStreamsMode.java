@@ -0,0 +1,59 @@
+package org.ldbcouncil.finbench.driver.driver;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import org.ldbcouncil.finbench.driver.Workload;
+import org.ldbcouncil.finbench.driver.WorkloadException;
+import org.ldbcouncil.finbench.driver.control.ControlService;
+import org.ldbcouncil.finbench.driver.log.LoggingService;
+import org.ldbcouncil.finbench.driver.workloads.ClassNameWorkloadFactory;
+
+/**
+ * Converts the operation stream files of the workload into compiled operation streams, once, so that later runs
+ * replay them instead of parsing the parameter and update files again.
+ */
+public class CompileOperationStreamsMode implements DriverMode<Object> {
+    private final ControlService controlService;
+    private final LoggingService loggingService;
+
+    private Workload workload = null;
+
+    public CompileOperationStreamsMode(ControlService controlService) throws DriverException {
+        this.controlService = controlService;
+        this.loggingService = controlService.loggingServiceFactory().loggingServiceFor(getClass().getSimpleName());
+    }
+
+    @Override
+    public void init() throws DriverException {
+        try {
+            workload = new ClassNameWorkloadFactory(controlService.configuration().workloadClassName())
+                .createWorkload();
+            workload.init(controlService.configuration());
+        } catch (WorkloadException e) {
+            throw new DriverException(format("Error loading Workload class: %s",
+                controlService.configuration().workloadClassName()), e);
+        }
+        loggingService.info(format("Loaded Workload: %s", workload.getClass().getName()));
+    }
+
+    @Override
+    public Object startExecutionAndAwaitCompletion() throws DriverException {
+        loggingService.info(
+            format("Compiling operation streams for: %s", workload.getClass().getSimpleName()));
+        long startTimeAsMilli = System.currentTimeMillis();
+        try {
+            workload.compileOperationStreams();
+        } catch (WorkloadException e) {
+            throw new DriverException("Error while compiling operation streams", e);
+        } finally {
+            try {
+                workload.close();
+            } catch (IOException e) {
+                loggingService.info(format("Error closing workload: %s", e.getMessage()));
+            }
+        }
+        loggingService.info(format("Compilation complete in %s ms", System.currentTimeMillis() - startTimeAsMilli));
+        return null;
+    }
+}
@@ -0,0 +1,58 @@
+package org.ldbcouncil.finbench.driver.driver;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import org.ldbcouncil.finbench.driver.control.ControlService;
+import org.ldbcouncil.finbench.driver.log.LoggingService;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeException;
+import org.ldbcouncil.finbench.driver.runtime.coordination.PartitionCoordinator;
+
+/**
+ * Coordinates the driver processes that execute the partitions of one benchmark run, started before them with the
+ * same partition count and coordinator port. Exits once all partitions have finished the run.
+ */
+public class CoordinatePartitionsMode implements DriverMode<Object> {
+    private final ControlService controlService;
+    private final LoggingService loggingService;
+
+    private PartitionCoordinator coordinator = null;
+
+    public CoordinatePartitionsMode(ControlService controlService) throws DriverException {
+        this.controlService = controlService;
+        this.loggingService = controlService.loggingServiceFactory().loggingServiceFor(getClass().getSimpleName());
+    }
+
+    @Override
+    public void init() throws DriverException {
+        int partitionCount = controlService.configuration().partitionCount();
+        if (partitionCount < 2) {
+            throw new DriverException(format("Coordinating partitions requires at least 2 partitions, got %s",
+                partitionCount));
+        }
+        int port = controlService.configuration().partitionCoordinatorPort();
+        try {
+            coordinator = new PartitionCoordinator(partitionCount, port);
+        } catch (IOException e) {
+            throw new DriverException(format("Error listening for partitions on port %s", port), e);
+        }
+        loggingService.info(format("Waiting for %s partitions on port %s", partitionCount, coordinator.port()));
+    }
+
+    @Override
+    public Object startExecutionAndAwaitCompletion() throws DriverException {
+        try {
+            int phaseCount = coordinator.run();
+            loggingService.info(format("All partitions finished, %s phases coordinated", phaseCount));
+        } catch (CompletionTimeException e) {
+            throw new DriverException("Error while coordinating partitions", e);
+        } finally {
+            try {
+                coordinator.close();
+            } catch (IOException e) {
+                loggingService.info(format("Error closing partition coordinator: %s", e.getMessage()));
+            }
+        }
+        return null;
+    }
+}
@@ -85,6 +85,10 @@ public class Driver {
                 return new ValidateDatabaseMode(controlService);
             case AUTOMATIC_TEST:
                 return new AutomaticTestMode(controlService, new SystemTimeSource(), RANDOM_SEED);
+            case COMPILE_OPERATION_STREAMS:
+                return new CompileOperationStreamsMode(controlService);
+            case COORDINATE_PARTITIONS:
+                return new CoordinatePartitionsMode(controlService);
             case EXECUTE_BENCHMARK:
             default: // Execute benchmark is default behaviour
                 return new ExecuteWorkloadMode(controlService, new SystemTimeSource(), RANDOM_SEED);
@@ -20,6 +20,7 @@ import org.ldbcouncil.finbench.driver.control.ControlService;
 import org.ldbcouncil.finbench.driver.generator.GeneratorFactory;
 import org.ldbcouncil.finbench.driver.generator.RandomDataGeneratorFactory;
 import org.ldbcouncil.finbench.driver.log.LoggingService;
+import org.ldbcouncil.finbench.driver.runtime.BinaryResultsLogWriter;
 import org.ldbcouncil.finbench.driver.runtime.ConcurrentErrorReporter;
 import org.ldbcouncil.finbench.driver.runtime.DefaultQueues;
 import org.ldbcouncil.finbench.driver.runtime.SimpleResultsLogWriter;
@@ -28,12 +29,15 @@ import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeExcepti
 import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeService;
 import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeServiceAssistant;
 import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeWriter;
+import org.ldbcouncil.finbench.driver.runtime.coordination.PartitionCoordinatorClient;
+import org.ldbcouncil.finbench.driver.runtime.coordination.PartitionedCompletionTimeService;
 import org.ldbcouncil.finbench.driver.runtime.metrics.DisruptorSbeMetricsService;
 import org.ldbcouncil.finbench.driver.runtime.metrics.JsonWorkloadMetricsFormatter;
 import org.ldbcouncil.finbench.driver.runtime.metrics.MetricsCollectionException;
 import org.ldbcouncil.finbench.driver.runtime.metrics.MetricsManager;
 import org.ldbcouncil.finbench.driver.runtime.metrics.MetricsService;
 import org.ldbcouncil.finbench.driver.runtime.metrics.NullResultsLogWriter;
+import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogFormat;
 import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogWriter;
 import org.ldbcouncil.finbench.driver.runtime.metrics.WorkloadResultsSnapshot;
 import org.ldbcouncil.finbench.driver.runtime.metrics.WorkloadStatusSnapshot;
@@ -47,6 +51,8 @@ import org.ldbcouncil.finbench.driver.validation.ResultsLogValidationTolerances;
 import org.ldbcouncil.finbench.driver.validation.ResultsLogValidator;
 
 public class ExecuteWorkloadMode implements DriverMode<Object> {
+    private static final long PARTITION_COORDINATOR_CONNECT_TIMEOUT_AS_MILLI = TimeUnit.MINUTES.toMillis(1);
+
     private final ControlService controlService;
     private final TimeSource timeSource;
     private final LoggingService loggingService;
@@ -60,6 +66,9 @@ public class ExecuteWorkloadMode implements DriverMode<Object> {
     private CompletionTimeService completionTimeService = null;
     private WorkloadRunner workloadRunner = null;
     private ResultsLogWriter resultsLogWriter = null;
+    // stalls of the workload while it was loaded and skipped to its offset, they are not part of the measured run
+    private long runStartOperationStreamStallCount = 0;
+    private long runStartOperationStreamStallDurationAsNano = 0;
 
     public ExecuteWorkloadMode(
         ControlService controlService,
@@ -83,6 +92,11 @@ public class ExecuteWorkloadMode implements DriverMode<Object> {
 
     @Override
     public void init() throws DriverException {
+        int partitionCount = controlService.configuration().partitionCount();
+        int partition = controlService.configuration().partitionIndex();
+        if (partitionCount < 1 || partition < 0 || partition >= partitionCount) {
+            throw new DriverException(format("Invalid partition %s of %s partitions", partition, partitionCount));
+        }
         loggingService.info("Driver Configuration");
         loggingService.info(controlService.toString());
     }
@@ -135,22 +149,8 @@ public class ExecuteWorkloadMode implements DriverMode<Object> {
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         GeneratorFactory gf = new GeneratorFactory(new RandomDataGeneratorFactory(randomSeed));
 
-        //  ================================
-        //  ===  Results Log CSV Writer  ===
-        //  ================================
+        // results log is the first file of a run, see ResultsDirectory.phase(), its writer is created below
         File resultsLog = resultsDirectory.getOrCreateResultsLogFile(warmup);
-        try {
-            // 如果 resultLog 不为空，则创建文件、写入HEADER列标题
-            resultsLogWriter = (null == resultsLog)
-                ? new NullResultsLogWriter()
-                : new SimpleResultsLogWriter(
-                resultsLog,
-                controlService.configuration().timeUnit(),
-                controlService.configuration().flushLog());
-        } catch (IOException e) {
-            throw new DriverException(
-                format("Error creating results log writer for: %s", resultsLog.getAbsolutePath()), e);
-        }
 
         //  ==================
         //  ===  Workload  ===
@@ -189,20 +189,8 @@ public class ExecuteWorkloadMode implements DriverMode<Object> {
                 controlService.configuration().workloadClassName()), e);
         }
         loggingService.info(format("Loaded workload: %s", workload.getClass().getName()));
-
-        loggingService.info(format("Retrieving workload stream: %s", workload.getClass().getSimpleName()));
-        controlService.setWorkloadStartTimeAsMilli(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5));
-        WorkloadStreams timeMappedWorkloadStreams;
-        try {
-            timeMappedWorkloadStreams = WorkloadStreams.timeOffsetAndCompressWorkloadStreams(
-                workloadStreams,
-                controlService.workloadStartTimeAsMilli(),
-                controlService.configuration().timeCompressionRatio(),
-                gf
-            );
-        } catch (WorkloadException e) {
-            throw new DriverException("Error while retrieving operation stream for workload", e);
-        }
+        runStartOperationStreamStallCount = workload.operationStreamStallCount();
+        runStartOperationStreamStallDurationAsNano = workload.operationStreamStallDurationAsNano();
 
         //  ================
         //  =====  DB  =====
@@ -222,6 +210,80 @@ public class ExecuteWorkloadMode implements DriverMode<Object> {
             loggingService.info(format("Loaded DB: %s", database.getClass().getName()));
         }
 
+        //  ==================
+        //  ===  Partition  ===
+        //  ==================
+        // partitions start once all of them are initialized, so the same start time is proposed by the slowest one
+        int partitionCount = controlService.configuration().partitionCount();
+        int partition = controlService.configuration().partitionIndex();
+        long workloadStartTimeAsMilli = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        PartitionCoordinatorClient partitionCoordinatorClient = null;
+        if (partitionCount > 1) {
+            int port = controlService.configuration().partitionCoordinatorPort();
+            loggingService.info(format("Partition %s of %s waiting for the other partitions at coordinator port %s...",
+                partition, partitionCount, port));
+            try {
+                partitionCoordinatorClient = PartitionCoordinatorClient.connect(
+                    port,
+                    partitionCount,
+                    partition,
+                    workloadStartTimeAsMilli,
+                    !warmup,
+                    PARTITION_COORDINATOR_CONNECT_TIMEOUT_AS_MILLI
+                );
+            } catch (CompletionTimeException e) {
+                throw new DriverException("Error connecting to partition coordinator", e);
+            }
+            workloadStartTimeAsMilli = partitionCoordinatorClient.workloadStartTimeAsMilli();
+        }
+
+        loggingService.info(format("Retrieving workload stream: %s", workload.getClass().getSimpleName()));
+        controlService.setWorkloadStartTimeAsMilli(workloadStartTimeAsMilli);
+        WorkloadStreams timeMappedWorkloadStreams;
+        try {
+            timeMappedWorkloadStreams = WorkloadStreams.timeOffsetAndCompressWorkloadStreams(
+                workloadStreams,
+                controlService.workloadStartTimeAsMilli(),
+                controlService.configuration().timeCompressionRatio(),
+                gf
+            );
+            if (null != partitionCoordinatorClient) {
+                // after time mapping, so all partitions map the times of the full streams in the same way
+                timeMappedWorkloadStreams = WorkloadStreams.partitionWorkloadStreams(
+                    timeMappedWorkloadStreams,
+                    workload,
+                    partitionCount,
+                    partition,
+                    gf
+                );
+            }
+        } catch (WorkloadException e) {
+            throw new DriverException("Error while retrieving operation stream for workload", e);
+        }
+
+        //  ============================
+        //  ===  Results Log Writer  ===
+        //  ============================
+        try {
+            // binary writer needs the operation types of the workload
+            if (null == resultsLog) {
+                resultsLogWriter = new NullResultsLogWriter();
+            } else if (ResultsLogFormat.BINARY == controlService.configuration().resultsLogFormat()) {
+                resultsLogWriter = new BinaryResultsLogWriter(
+                    resultsLog,
+                    controlService.configuration().timeUnit(),
+                    workload.operationTypeToClassMapping());
+            } else {
+                resultsLogWriter = new SimpleResultsLogWriter(
+                    resultsLog,
+                    controlService.configuration().timeUnit(),
+                    controlService.configuration().flushLog());
+            }
+        } catch (IOException e) {
+            throw new DriverException(
+                format("Error creating results log writer for: %s", resultsLog.getAbsolutePath()), e);
+        }
+
         //  ========================
         //  ===  Metrics Service  ==
         //  ========================
@@ -235,7 +297,9 @@ public class ExecuteWorkloadMode implements DriverMode<Object> {
                 DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
                 resultsLogWriter,
                 workload.operationTypeToClassMapping(),
-                controlService.loggingServiceFactory()
+                controlService.loggingServiceFactory(),
+                controlService.configuration().metricsRingBufferSize(),
+                controlService.configuration().metricsWaitStrategy()
             );
         } catch (MetricsCollectionException e) {
             throw new DriverException("Error creating metrics service", e);
@@ -245,12 +309,18 @@ public class ExecuteWorkloadMode implements DriverMode<Object> {
         //  ===  Completion Time Service  ===
         //  =================================
         CompletionTimeServiceAssistant completionTimeServiceAssistant = new CompletionTimeServiceAssistant();
+        // only tracks the operations of this partition, the same service as completionTimeService when not partitioned
+        CompletionTimeService localCompletionTimeService;
         try {
-            completionTimeService =
-                completionTimeServiceAssistant.newThreadedQueuedCompletionTimeService(
+            localCompletionTimeService =
+                completionTimeServiceAssistant.newCompletionTimeService(
+                    controlService.configuration().completionTimeServiceType(),
                     timeSource,
                     errorReporter
                 );
+            completionTimeService = (null == partitionCoordinatorClient)
+                ? localCompletionTimeService
+                : new PartitionedCompletionTimeService(localCompletionTimeService, partitionCoordinatorClient);
         } catch (CompletionTimeException e) {
             throw new DriverException("Error instantiating Completion Time Service", e);
         }
@@ -270,6 +340,9 @@ public class ExecuteWorkloadMode implements DriverMode<Object> {
                 completionTimeService,
                 controlService.loggingServiceFactory(),
                 controlService.configuration().threadCount(),
+                controlService.configuration().executorType(),
+                controlService.configuration().schedulerType(),
+                controlService.configuration().dependencyGating(),
                 controlService.configuration().statusDisplayIntervalAsSeconds(),
                 controlService.configuration().spinnerSleepDurationAsMilli(),
                 controlService.configuration().ignoreScheduledStartTimes(),
@@ -306,7 +379,7 @@ public class ExecuteWorkloadMode implements DriverMode<Object> {
                         timeSource,
                         minimumTimeStamp - 1,
                         TimeUnit.SECONDS.toMillis(5),
-                        completionTimeService,
+                        localCompletionTimeService,
                         errorReporter
                     );
                 long completionTimeWaitTimeoutDurationAsMilli = TimeUnit.SECONDS.toMillis(5);
@@ -354,8 +427,16 @@ public class ExecuteWorkloadMode implements DriverMode<Object> {
         loggingService.info("Shutting down metrics collection service...");
         WorkloadResultsSnapshot workloadResults;
         try {
-            workloadResults = metricsService.getWriter().results();
+            workloadResults = metricsService.getWriter().results().withOperationStreamStalls(
+                workload.operationStreamStallCount() - runStartOperationStreamStallCount,
+                workload.operationStreamStallDurationAsNano() - runStartOperationStreamStallDurationAsNano
+            );
             metricsService.shutdown();
+            if (workloadResults.operationStreamStallCount() > 0) {
+                loggingService.info(format("Waited %s times for background loaded operations, %s ms in total",
+                    workloadResults.operationStreamStallCount(),
+                    TimeUnit.NANOSECONDS.toMillis(workloadResults.operationStreamStallDurationAsNano())));
+            }
         } catch (MetricsCollectionException e) {
             throw new DriverException("Error during shutdown of metrics collection service", e);
         }
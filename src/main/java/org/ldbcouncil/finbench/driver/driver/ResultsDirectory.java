@@ -6,6 +6,8 @@ import org.ldbcouncil.finbench.driver.control.ConsoleAndFileDriverConfiguration;
 import org.ldbcouncil.finbench.driver.control.DriverConfiguration;
 import org.ldbcouncil.finbench.driver.control.DriverConfigurationException;
 import org.ldbcouncil.finbench.driver.csv.simple.SimpleCsvFileReader;
+import org.ldbcouncil.finbench.driver.runtime.BinaryResultsLogReader;
+import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogFormat;
 import org.ldbcouncil.finbench.driver.util.FileUtils;
 import org.ldbcouncil.finbench.driver.util.MapUtils;
 
@@ -29,7 +31,6 @@ public class ResultsDirectory {
 
     private static final String WARMUP_IDENTIFIER = "-WARMUP-";
 
-    private static final String RESULTS_LOG_FILENAME_SUFFIX = "-results_log.csv";
     private static final String RESULTS_METRICS_FILENAME_SUFFIX = "-results.json";
     private static final String RESULTS_CONFIGURATION_FILENAME_SUFFIX = "-configuration.properties";
 
@@ -97,6 +98,16 @@ public class ResultsDirectory {
     }
 
     public long getResultsLogFileLength(boolean warmup) throws DriverException {
+        if (ResultsLogFormat.BINARY == configuration.resultsLogFormat()) {
+            // length in CSV rows, including header
+            try (BinaryResultsLogReader binaryResultsLogReader =
+                     new BinaryResultsLogReader(getResultsLogFile(resultsDir, configuration, warmup))) {
+                return binaryResultsLogReader.recordCount() + 1;
+            } catch (Exception e) {
+                throw new DriverException(
+                    "Error calculating length of " + getResultsLogFile(warmup).getAbsolutePath(), e);
+            }
+        }
         try (SimpleCsvFileReader csvResultsLogReader = new SimpleCsvFileReader(
             getResultsLogFile(resultsDir, configuration, warmup),
             SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING)) {
@@ -259,7 +270,8 @@ public class ResultsDirectory {
         throws DriverConfigurationException, IOException {
         FileFilter resultsLogFileFilter = file ->
             file.getName().contains(WARMUP_IDENTIFIER) == warmup
-                && file.getName().endsWith(RESULTS_LOG_FILENAME_SUFFIX);
+                && Arrays.stream(ResultsLogFormat.values())
+                .anyMatch(format -> file.getName().endsWith(format.filenameSuffix()));
         File[] resultFiles = resultsDir.listFiles(resultsLogFileFilter);
         if (null == resultFiles || resultFiles.length == 0) {
             return null;
@@ -278,8 +290,9 @@ public class ResultsDirectory {
     }
 
     private static String resultsLogFilename(DriverConfiguration configuration, boolean warmup) {
-        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_LOG_FILENAME_SUFFIX
-            : configuration.name() + RESULTS_LOG_FILENAME_SUFFIX;
+        String suffix = configuration.resultsLogFormat().filenameSuffix();
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + suffix
+            : configuration.name() + suffix;
     }
 
     private static String resultsSummaryFilename(DriverConfiguration configuration, boolean warmup) {
@@ -0,0 +1,69 @@
+package org.ldbcouncil.finbench.driver.driver.search;
+
+import org.ldbcouncil.finbench.driver.validation.ResultsLogValidationResult;
+
+/**
+ * Bisects the bracket on a linear scale. Finishes when the bracket is narrower than the error range or, if enabled,
+ * when the same verdict was reported for a number of consecutive rounds.
+ */
+public class BisectionSearch implements TimeCompressionRatioSearch {
+    private final double errorRange;
+    private final int stableRounds;
+    private double lowerTcr;
+    private double upperTcr;
+    private Boolean lastVerdict;
+    private int sameVerdictRounds;
+
+    /**
+     * @param errorRange   search finishes once upper - lower is below this
+     * @param stableRounds search finishes once this many consecutive rounds had the same verdict, 0 to disable
+     */
+    public BisectionSearch(double errorRange, int stableRounds) {
+        this.errorRange = errorRange;
+        this.stableRounds = stableRounds;
+    }
+
+    @Override
+    public void reset(double lowerTcr, double upperTcr) {
+        this.lowerTcr = lowerTcr;
+        this.upperTcr = upperTcr;
+        this.lastVerdict = null;
+        this.sameVerdictRounds = 0;
+    }
+
+    @Override
+    public double nextTimeCompressionRatio() {
+        return lowerTcr + (upperTcr - lowerTcr) / 2;
+    }
+
+    @Override
+    public void report(double tcr, ResultsLogValidationResult result) {
+        boolean verdict = result.isSuccessful();
+        if (verdict) {
+            upperTcr = tcr;
+        } else {
+            lowerTcr = tcr;
+        }
+        sameVerdictRounds = (null != lastVerdict && lastVerdict == verdict) ? sameVerdictRounds + 1 : 1;
+        lastVerdict = verdict;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return upperTcr - lowerTcr < errorRange || (stableRounds > 0 && sameVerdictRounds >= stableRounds);
+    }
+
+    protected double errorRange() {
+        return errorRange;
+    }
+
+    @Override
+    public double lowerTcr() {
+        return lowerTcr;
+    }
+
+    @Override
+    public double upperTcr() {
+        return upperTcr;
+    }
+}
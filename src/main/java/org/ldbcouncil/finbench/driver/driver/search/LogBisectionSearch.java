@@ -0,0 +1,21 @@
+package org.ldbcouncil.finbench.driver.driver.search;
+
+/**
+ * Bisects the bracket on a logarithmic scale, i.e. probes the geometric mean of the bounds. With the default bracket
+ * of 1E-9..1 every round removes an equal share of the orders of magnitude left, instead of linear bisection spending
+ * its first rounds between 0.1 and 1.
+ */
+public class LogBisectionSearch extends BisectionSearch {
+
+    public LogBisectionSearch(double errorRange, int stableRounds) {
+        super(errorRange, stableRounds);
+    }
+
+    @Override
+    public double nextTimeCompressionRatio() {
+        if (lowerTcr() <= 0) {
+            return super.nextTimeCompressionRatio();
+        }
+        return Math.sqrt(lowerTcr() * upperTcr());
+    }
+}
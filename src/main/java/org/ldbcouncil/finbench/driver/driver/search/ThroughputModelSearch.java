@@ -0,0 +1,106 @@
+package org.ldbcouncil.finbench.driver.driver.search;
+
+import org.ldbcouncil.finbench.driver.validation.ResultsLogValidationResult;
+
+/**
+ * Steps towards the pass/fail boundary predicted from the measurements of the latest passing and failing rounds,
+ * instead of to the middle of the bracket.
+ * <ul>
+ * <li>secant step: interpolates, on a logarithmic tcr scale, where the on time ratio meets the required on time
+ * ratio (1 - timeout rate)</li>
+ * <li>throughput model: if the passing round had every operation on time, its offered load (its throughput times its
+ * tcr) divided by the throughput of the failing round (the capacity of the SUT) is the tcr at which the offered load
+ * equals the capacity</li>
+ * </ul>
+ * The step is kept at least half the error range away from both bounds. Logarithmic bisection is used until a passing
+ * and a failing round have been measured, and whenever two model steps did not halve the bracket, so every three rounds
+ * at least halve the bracket.
+ * As with the other strategies, {@link #nextTimeCompressionRatio()} is expected to be called once per round.
+ */
+public class ThroughputModelSearch extends LogBisectionSearch {
+    private final double requiredOnTimeRatio;
+    private Round latestPassingRound;
+    private Round latestFailingRound;
+    // logarithmic width of the bracket before the latest two model steps, NaN if there was a bisection in between
+    private double logWidthBeforeLatestModelStep = Double.NaN;
+    private double logWidthBeforePreviousModelStep = Double.NaN;
+
+    public ThroughputModelSearch(double errorRange, int stableRounds, double timeoutRate) {
+        super(errorRange, stableRounds);
+        // on time ratio is reported as a percentage
+        this.requiredOnTimeRatio = (1 - timeoutRate) * 100;
+    }
+
+    @Override
+    public void reset(double lowerTcr, double upperTcr) {
+        super.reset(lowerTcr, upperTcr);
+        latestPassingRound = null;
+        latestFailingRound = null;
+        logWidthBeforeLatestModelStep = Double.NaN;
+        logWidthBeforePreviousModelStep = Double.NaN;
+    }
+
+    @Override
+    public void report(double tcr, ResultsLogValidationResult result) {
+        super.report(tcr, result);
+        if (null == result.throughput() || null == result.onTimeRatio()) {
+            return;
+        }
+        Round round = new Round(tcr, result.throughput(), result.onTimeRatio());
+        if (result.isSuccessful()) {
+            latestPassingRound = round;
+        } else {
+            latestFailingRound = round;
+        }
+    }
+
+    @Override
+    public double nextTimeCompressionRatio() {
+        double estimate = modelEstimate();
+        double logWidth = Math.log(upperTcr()) - Math.log(lowerTcr());
+        // two model steps that did not at least halve the bracket are followed by a bisection step
+        if (Double.isNaN(estimate) || estimate <= 0 || lowerTcr() <= 0
+            || logWidth > logWidthBeforePreviousModelStep / 2) {
+            logWidthBeforeLatestModelStep = Double.NaN;
+            logWidthBeforePreviousModelStep = Double.NaN;
+            return super.nextTimeCompressionRatio();
+        }
+        logWidthBeforePreviousModelStep = logWidthBeforeLatestModelStep;
+        logWidthBeforeLatestModelStep = logWidth;
+        // probe at least half the error range inside the bracket, so an estimate next to a bound finishes the search
+        double halfErrorRange = errorRange() / 2;
+        return Math.max(lowerTcr() + halfErrorRange, Math.min(upperTcr() - halfErrorRange, estimate));
+    }
+
+    private double modelEstimate() {
+        if (null == latestPassingRound || null == latestFailingRound) {
+            return Double.NaN;
+        }
+        double passingOnTimeRatio = latestPassingRound.onTimeRatio;
+        double failingOnTimeRatio = latestFailingRound.onTimeRatio;
+        // a passing round with every operation on time carries no slope, only its offered load
+        if (passingOnTimeRatio < 100 && passingOnTimeRatio > failingOnTimeRatio) {
+            double logPassing = Math.log(latestPassingRound.tcr);
+            double logFailing = Math.log(latestFailingRound.tcr);
+            return Math.exp(logFailing + (requiredOnTimeRatio - failingOnTimeRatio)
+                * (logPassing - logFailing) / (passingOnTimeRatio - failingOnTimeRatio));
+        }
+        if (latestFailingRound.throughput > 0) {
+            double offeredLoadAtTcrOne = latestPassingRound.throughput * latestPassingRound.tcr;
+            return offeredLoadAtTcrOne / latestFailingRound.throughput;
+        }
+        return Double.NaN;
+    }
+
+    private static class Round {
+        private final double tcr;
+        private final double throughput;
+        private final double onTimeRatio;
+
+        private Round(double tcr, double throughput, double onTimeRatio) {
+            this.tcr = tcr;
+            this.throughput = throughput;
+            this.onTimeRatio = onTimeRatio;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.ldbcouncil.finbench.driver.driver.search;
+
+import org.ldbcouncil.finbench.driver.validation.ResultsLogValidationResult;
+
+/**
+ * Searches the smallest time compression ratio at which the SUT still passes the schedule audit.
+ * The ratio is bracketed by a lower bound, which is known to fail, and an upper bound, which is known (or assumed) to
+ * pass. Every round reports its result, which moves one of the bounds, until the bracket is small enough.
+ */
+public interface TimeCompressionRatioSearch {
+    /**
+     * Start a new search phase within [lowerTcr, upperTcr]
+     */
+    void reset(double lowerTcr, double upperTcr);
+
+    /**
+     * @return time compression ratio to run the next round with
+     */
+    double nextTimeCompressionRatio();
+
+    void report(double tcr, ResultsLogValidationResult result);
+
+    boolean isFinished();
+
+    /**
+     * @return highest time compression ratio known to fail
+     */
+    double lowerTcr();
+
+    /**
+     * @return lowest time compression ratio known to pass
+     */
+    double upperTcr();
+}
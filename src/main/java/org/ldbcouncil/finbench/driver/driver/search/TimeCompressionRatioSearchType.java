@@ -0,0 +1,38 @@
+package org.ldbcouncil.finbench.driver.driver.search;
+
+import org.ldbcouncil.finbench.driver.control.DriverConfiguration;
+
+public enum TimeCompressionRatioSearchType {
+    /**
+     * Bisection on a linear scale
+     */
+    BISECTION,
+    /**
+     * Bisection on a logarithmic scale
+     */
+    LOG_BISECTION,
+    /**
+     * Secant/throughput model step from the measured on time ratio and throughput, see
+     * {@link ThroughputModelSearch}
+     */
+    THROUGHPUT_MODEL;
+
+    public TimeCompressionRatioSearch newSearch(DriverConfiguration configuration) {
+        switch (this) {
+            case LOG_BISECTION:
+                return new LogBisectionSearch(
+                    configuration.dichotomyErrorRange(),
+                    configuration.tcrSearchStableRounds());
+            case THROUGHPUT_MODEL:
+                return new ThroughputModelSearch(
+                    configuration.dichotomyErrorRange(),
+                    configuration.tcrSearchStableRounds(),
+                    configuration.timeoutRate());
+            case BISECTION:
+            default:
+                return new BisectionSearch(
+                    configuration.dichotomyErrorRange(),
+                    configuration.tcrSearchStableRounds());
+        }
+    }
+}
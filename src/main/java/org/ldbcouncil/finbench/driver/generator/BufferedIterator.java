@@ -10,7 +10,6 @@ public class BufferedIterator implements Iterator<Operation> {
 
     private final OperationStreamBuffer operationStreamBuffer;
     private Iterator<Operation> currentOperationStream = Collections.emptyIterator();
-    private boolean isEmpty = false;
 
     public BufferedIterator(
         OperationStreamBuffer operationStreamBuffer
@@ -18,21 +17,18 @@ public class BufferedIterator implements Iterator<Operation> {
         this.operationStreamBuffer = operationStreamBuffer;
     }
 
+    /**
+     * Waits for the first batch, so the stream starts without stalling on the loader
+     */
     public void init() {
-        currentOperationStream = operationStreamBuffer.next();
+        hasNext();
     }
 
     @Override
     public boolean hasNext() {
-        if (!currentOperationStream.hasNext() && !isEmpty) {
+        // empty batches are skipped, only the end of the buffered stream ends this one
+        while (!currentOperationStream.hasNext() && operationStreamBuffer.hasNext()) {
             currentOperationStream = operationStreamBuffer.next();
-            if (currentOperationStream == null) {
-                currentOperationStream = Collections.emptyIterator();
-                isEmpty = true;
-            }
-            if (!currentOperationStream.hasNext()) {
-                isEmpty = true;
-            }
         }
         return currentOperationStream.hasNext();
     }
@@ -5,6 +5,7 @@ import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import org.apache.commons.math3.random.RandomDataGenerator;
 import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.OperationPartitioner;
 import org.ldbcouncil.finbench.driver.util.*;
 
 import java.util.*;
@@ -400,6 +401,20 @@ public class GeneratorFactory {
         return new MergingGenerator<>(startTimesAsMilli, operations, startTimeAssigningFun);
     }
 
+    /**
+     * Same as assigning start times from incrementing(firstStartTimeAsMilli, incrementAsMilli), without boxing a start
+     * time for every operation
+     *
+     * @param firstStartTimeAsMilli
+     * @param incrementAsMilli
+     * @param operations
+     * @return
+     */
+    public Iterator<Operation> assignStartTimes(long firstStartTimeAsMilli, long incrementAsMilli,
+                                                Iterator<Operation> operations) {
+        return new StartTimeAssigningGenerator(operations, firstStartTimeAsMilli, incrementAsMilli);
+    }
+
     /**
      * Returns the same operation generator, with dependency times assigned to each operation taken from the dependency
      * time
@@ -438,51 +453,24 @@ public class GeneratorFactory {
 
     /**
      * Returned generator will merge all input generators into one, sorting on the scheduled start time of operations,
-     * ascending
+     * ascending, operations with equal scheduled start times keep the order of the input generators
      *
      * @param generators
      * @return
      */
     public Iterator<Operation> mergeSortOperationsByScheduledStartTime(Iterator<Operation>... generators) {
-        return mergeSort(
-            new Comparator<Operation>() {
-                @Override
-                public int compare(Operation o1, Operation o2) {
-                    if (o1.scheduledStartTimeAsMilli() > o2.scheduledStartTimeAsMilli()) {
-                        return 1;
-                    } else if (o1.scheduledStartTimeAsMilli() < o2.scheduledStartTimeAsMilli()) {
-                        return -1;
-                    } else {
-                        return 0;
-                    }
-                }
-            },
-            generators
-        );
+        return new OperationMergeGenerator(OperationMergeGenerator.MergeKey.SCHEDULED_START_TIME, generators);
     }
 
     /**
-     * Returned generator will merge all input generators into one, sorting on the time stamp of operations, ascending
+     * Returned generator will merge all input generators into one, sorting on the time stamp of operations, ascending,
+     * operations with equal time stamps keep the order of the input generators
      *
      * @param generators
      * @return
      */
     public Iterator<Operation> mergeSortOperationsByTimeStamp(Iterator<Operation>... generators) {
-        return mergeSort(
-            new Comparator<Operation>() {
-                @Override
-                public int compare(Operation o1, Operation o2) {
-                    if (o1.timeStamp() > o2.timeStamp()) {
-                        return 1;
-                    } else if (o1.timeStamp() < o2.timeStamp()) {
-                        return -1;
-                    } else {
-                        return 0;
-                    }
-                }
-            },
-            generators
-        );
+        return new OperationMergeGenerator(OperationMergeGenerator.MergeKey.TIME_STAMP, generators);
     }
 
     /**
@@ -551,6 +539,18 @@ public class GeneratorFactory {
         return new RepeatingGenerator<>(generator);
     }
 
+    /**
+     * Returned generator will repeat the original generator infinitely, by rewinding it every time it is exhausted.
+     * Unlike {@link #repeating(Iterator)} the elements of the original generator are not held in memory.
+     *
+     * @param generator
+     * @param <T>
+     * @return
+     */
+    public <T> Iterator<T> repeating(RewindableIterator<T> generator) {
+        return new RewindingGenerator<>(generator);
+    }
+
     /**
      * Returned generator will iterate over all of the things, once
      *
@@ -627,6 +627,19 @@ public class GeneratorFactory {
         return new TimeMappingOperationGenerator(generator, newStartTimeAsMilli, compressionRatio);
     }
 
+    /**
+     * Keeps only the operations the partitioner assigns to partition
+     *
+     * @param generator
+     * @param partitioner
+     * @param partition
+     * @return
+     */
+    public Iterator<Operation> partition(Iterator<Operation> generator, OperationPartitioner partitioner,
+                                         int partition) {
+        return new PartitionGenerator(generator, partitioner, partition);
+    }
+
     /**
      * Prefix every generated item with prefix string
      *
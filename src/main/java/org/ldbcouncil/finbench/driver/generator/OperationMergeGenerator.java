@@ -0,0 +1,105 @@
+package org.ldbcouncil.finbench.driver.generator;
+
+import java.util.Iterator;
+import org.ldbcouncil.finbench.driver.Operation;
+
+/**
+ * K-way merge of operation streams that are each sorted by a time of their operations, ascending. The head of every
+ * stream is kept in a binary heap of stream indexes, ordered by the time of the head as a primitive, so no comparator
+ * is called and no time is boxed per operation. Operations with equal times keep the order of the streams.
+ */
+public class OperationMergeGenerator extends Generator<Operation> {
+    public enum MergeKey {
+        SCHEDULED_START_TIME,
+        TIME_STAMP
+    }
+
+    private final MergeKey mergeKey;
+    private final Iterator<Operation>[] streams;
+    private final Operation[] heads;
+    private final long[] keys;
+    // stream indexes, the stream with the smallest key at 0
+    private final int[] heap;
+    private int size = -1;
+
+    public OperationMergeGenerator(MergeKey mergeKey, Iterator<Operation>... streams) {
+        this.mergeKey = mergeKey;
+        this.streams = streams;
+        this.heads = new Operation[streams.length];
+        this.keys = new long[streams.length];
+        this.heap = new int[streams.length];
+    }
+
+    @Override
+    protected Operation doNext() throws GeneratorException {
+        if (-1 == size) {
+            // heads are read lazily, streams may only be ready to read once iterated
+            size = 0;
+            for (int stream = 0; stream < streams.length; stream++) {
+                if (streams[stream].hasNext()) {
+                    setHead(stream, streams[stream].next());
+                    heap[size] = stream;
+                    siftUp(size);
+                    size++;
+                }
+            }
+        }
+        if (0 == size) {
+            return null;
+        }
+        int stream = heap[0];
+        Operation operation = heads[stream];
+        if (streams[stream].hasNext()) {
+            setHead(stream, streams[stream].next());
+        } else {
+            heads[stream] = null;
+            size--;
+            heap[0] = heap[size];
+        }
+        if (size > 0) {
+            siftDown(0);
+        }
+        return operation;
+    }
+
+    private void setHead(int stream, Operation operation) {
+        heads[stream] = operation;
+        keys[stream] = (MergeKey.TIME_STAMP == mergeKey)
+            ? operation.timeStamp()
+            : operation.scheduledStartTimeAsMilli();
+    }
+
+    private boolean before(int stream1, int stream2) {
+        return keys[stream1] < keys[stream2] || (keys[stream1] == keys[stream2] && stream1 < stream2);
+    }
+
+    private void siftUp(int position) {
+        int stream = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!before(stream, heap[parent])) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = stream;
+    }
+
+    private void siftDown(int position) {
+        int stream = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && before(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!before(heap[child], stream)) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = stream;
+    }
+}
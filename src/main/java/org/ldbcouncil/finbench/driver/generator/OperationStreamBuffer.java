@@ -1,16 +1,32 @@
 package org.ldbcouncil.finbench.driver.generator;
 
-import java.util.Collections;
+import static java.lang.String.format;
+
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.TimeUnit;
 import org.ldbcouncil.finbench.driver.Operation;
 
+/**
+ * Hands the batches put into the blocking queue by a loader thread to the consumer of the operation stream. The
+ * loader ends the stream with {@link #END_OF_STREAM}, the consumer waits for batches as long as it takes to load them.
+ * Every time the queue is found empty is counted as a stall, together with the time spent waiting for the loader.
+ * A loader that fails ends the stream with {@link #failedStream} instead, the consumer then fails with its error.
+ */
 public class OperationStreamBuffer implements Iterator<Iterator<Operation>> {
+    // put by the loader after its last batch, compared by reference, so unlike Collections.emptyIterator() it is
+    // never mistaken for an empty batch
+    public static final Iterator<Operation> END_OF_STREAM = new ArrayList<Operation>(0).iterator();
 
     private final BlockingQueue<Iterator<Operation>> blockingQueue;
 
+    private Iterator<Operation> nextOperationStream = null;
     private boolean isEmpty = false;
+    private Throwable loaderError = null;
+    // written by the consuming thread only
+    private volatile long stallCount = 0;
+    private volatile long stallDurationAsNano = 0;
 
     public OperationStreamBuffer(
         BlockingQueue<Iterator<Operation>> blockingQueue
@@ -18,27 +34,91 @@ public class OperationStreamBuffer implements Iterator<Iterator<Operation>> {
         this.blockingQueue = blockingQueue;
     }
 
+    /**
+     * End of a stream the loader could not load completely
+     *
+     * @param loaderError Error that stopped the loader
+     */
+    public static Iterator<Operation> failedStream(Throwable loaderError) {
+        return new FailedStream(loaderError);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (null == nextOperationStream && !isEmpty) {
+            Iterator<Operation> operationStream = take();
+            if (END_OF_STREAM == operationStream) {
+                isEmpty = true;
+            } else if (operationStream instanceof FailedStream) {
+                isEmpty = true;
+                loaderError = ((FailedStream) operationStream).loaderError;
+            } else {
+                nextOperationStream = operationStream;
+            }
+        }
+        if (null != loaderError) {
+            // the operations after the error were never loaded, the stream must not look complete
+            throw new GeneratorException("Error loading operation stream", loaderError);
+        }
+        return null != nextOperationStream;
+    }
+
     @Override
     public Iterator<Operation> next() {
-        if (!isEmpty) {
-            Iterator<Operation> opStream = null;
+        if (!hasNext()) {
+            throw new NoSuchElementException(format("%s has no more batches", getClass().getSimpleName()));
+        }
+        Iterator<Operation> operationStream = nextOperationStream;
+        nextOperationStream = null;
+        return operationStream;
+    }
+
+    private Iterator<Operation> take() {
+        Iterator<Operation> operationStream = blockingQueue.poll();
+        if (null == operationStream) {
+            long startOfStallAsNano = System.nanoTime();
             try {
-                opStream = blockingQueue.poll(2, TimeUnit.SECONDS);
+                operationStream = blockingQueue.take();
             } catch (InterruptedException e) {
-                e.printStackTrace();
+                // the stream is being closed
+                Thread.currentThread().interrupt();
+                operationStream = END_OF_STREAM;
             }
-            if (opStream == null) {
-                isEmpty = true;
-                return Collections.emptyIterator();
-            }
-            return opStream;
-        } else {
-            return null;
+            stallCount++;
+            stallDurationAsNano += System.nanoTime() - startOfStallAsNano;
         }
+        return operationStream;
     }
 
-    @Override
-    public boolean hasNext() {
-        return !blockingQueue.isEmpty();
+    /**
+     * Number of times a batch was asked for while the loader had none ready
+     */
+    public long stallCount() {
+        return stallCount;
+    }
+
+    /**
+     * Total time spent waiting for the loader to put a batch
+     */
+    public long stallDurationAsNano() {
+        return stallDurationAsNano;
+    }
+
+    private static class FailedStream implements Iterator<Operation> {
+        private final Throwable loaderError;
+
+        private FailedStream(Throwable loaderError) {
+            this.loaderError = loaderError;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return false;
+        }
+
+        @Override
+        public Operation next() {
+            throw new NoSuchElementException();
+        }
     }
 }
@@ -0,0 +1,28 @@
+package org.ldbcouncil.finbench.driver.generator;
+
+import java.util.Iterator;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.OperationPartitioner;
+
+public class PartitionGenerator extends Generator<Operation> {
+    private final Iterator<Operation> operations;
+    private final OperationPartitioner partitioner;
+    private final int partition;
+
+    PartitionGenerator(Iterator<Operation> operations, OperationPartitioner partitioner, int partition) {
+        this.operations = operations;
+        this.partitioner = partitioner;
+        this.partition = partition;
+    }
+
+    @Override
+    protected Operation doNext() throws GeneratorException {
+        while (operations.hasNext()) {
+            Operation operation = operations.next();
+            if (partitioner.partitionOf(operation) == partition) {
+                return operation;
+            }
+        }
+        return null;
+    }
+}
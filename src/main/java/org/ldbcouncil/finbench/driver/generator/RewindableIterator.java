@@ -0,0 +1,15 @@
+package org.ldbcouncil.finbench.driver.generator;
+
+import java.util.Iterator;
+
+/**
+ * Iterator that can restart from its first element without holding all elements in memory.
+ */
+public interface RewindableIterator<T> extends Iterator<T> {
+    /**
+     * Restart the iteration from the first element
+     *
+     * @throws GeneratorException When the underlying source could not be reopened
+     */
+    void rewind() throws GeneratorException;
+}
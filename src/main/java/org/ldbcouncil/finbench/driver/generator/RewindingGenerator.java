@@ -0,0 +1,23 @@
+package org.ldbcouncil.finbench.driver.generator;
+
+/**
+ * Same as {@link RepeatingGenerator}, but rewinds the original generator when it is exhausted, instead of copying
+ * all of its elements into a list first.
+ */
+public class RewindingGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYPE> {
+    private final RewindableIterator<GENERATE_TYPE> generator;
+
+    RewindingGenerator(RewindableIterator<GENERATE_TYPE> generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    protected GENERATE_TYPE doNext() throws GeneratorException {
+        if (generator.hasNext()) {
+            return generator.next();
+        } else {
+            generator.rewind();
+            return (generator.hasNext()) ? generator.next() : null;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.ldbcouncil.finbench.driver.generator;
+
+import java.util.Iterator;
+import org.ldbcouncil.finbench.driver.Operation;
+
+/**
+ * Assigns start times that increase by a fixed increment, kept as a primitive so no time is boxed per operation
+ */
+public class StartTimeAssigningGenerator extends Generator<Operation> {
+    private final Iterator<Operation> operations;
+    private final long incrementAsMilli;
+    private long nextStartTimeAsMilli;
+
+    StartTimeAssigningGenerator(Iterator<Operation> operations, long firstStartTimeAsMilli, long incrementAsMilli) {
+        this.operations = operations;
+        this.incrementAsMilli = incrementAsMilli;
+        this.nextStartTimeAsMilli = firstStartTimeAsMilli;
+    }
+
+    @Override
+    protected Operation doNext() throws GeneratorException {
+        if (!operations.hasNext()) {
+            return null;
+        }
+        Operation operation = operations.next();
+        operation.setScheduledStartTimeAsMilli(nextStartTimeAsMilli);
+        operation.setTimeStamp(nextStartTimeAsMilli);
+        nextStartTimeAsMilli += incrementAsMilli;
+        return operation;
+    }
+}
@@ -0,0 +1,188 @@
+package org.ldbcouncil.finbench.driver.runtime;
+
+import static java.lang.String.format;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogReader;
+
+/**
+ * Reads a results log written by {@link BinaryResultsLogWriter}
+ */
+public class BinaryResultsLogReader implements ResultsLogReader {
+    private static final long RECORDS_PER_REGION = 1 << 20;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final TimeUnit unit;
+    private final String[] operationNames;
+    private final long recordsStartPosition;
+    private final long recordCount;
+    private final long endRecord;
+    private MappedByteBuffer region = null;
+    private long nextRecord;
+
+    private String operationName;
+    private long scheduledStartTimeAsMilli;
+    private long actualStartTimeAsMilli;
+    private long runDurationAsNano;
+    private int resultCode;
+    private long originalStartTime;
+
+    public BinaryResultsLogReader(File resultsLog) throws IOException {
+        this(resultsLog, 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * Reads only records [fromRecord, toRecord), so a results log can be read in chunks by several readers
+     */
+    public BinaryResultsLogReader(File resultsLog, long fromRecord, long toRecord) throws IOException {
+        this.file = new RandomAccessFile(resultsLog, "r");
+        this.channel = file.getChannel();
+        try {
+            ByteBuffer fixedHeader = ByteBuffer.allocate(BinaryResultsLogWriter.RECORD_COUNT_OFFSET + Long.BYTES);
+            readFully(fixedHeader, 0);
+            if (BinaryResultsLogWriter.MAGIC != fixedHeader.getInt()) {
+                throw new IOException(format("Not a binary results log: %s", resultsLog.getAbsolutePath()));
+            }
+            int version = fixedHeader.getInt();
+            if (BinaryResultsLogWriter.VERSION != version) {
+                throw new IOException(format("Unsupported binary results log version: %s", version));
+            }
+            this.unit = TimeUnit.values()[fixedHeader.getInt()];
+            long headerRecordCount = fixedHeader.getLong();
+
+            ByteBuffer operationCount = ByteBuffer.allocate(Integer.BYTES);
+            long position = fixedHeader.capacity();
+            readFully(operationCount, position);
+            position += Integer.BYTES;
+            this.operationNames = new String[operationCount.getInt()];
+            ByteBuffer nameLength = ByteBuffer.allocate(Short.BYTES);
+            for (int operationType = 0; operationType < operationNames.length; operationType++) {
+                nameLength.clear();
+                readFully(nameLength, position);
+                position += Short.BYTES;
+                short length = nameLength.getShort();
+                if (BinaryResultsLogWriter.NULL_OPERATION_NAME_LENGTH != length) {
+                    ByteBuffer name = ByteBuffer.allocate(length);
+                    readFully(name, position);
+                    position += length;
+                    operationNames[operationType] = new String(name.array(), StandardCharsets.UTF_8);
+                }
+            }
+            this.recordsStartPosition = position;
+            // file may end early if the writer was not closed, never read past it
+            long completeRecordsInFile = (channel.size() - recordsStartPosition) / BinaryResultsLogWriter.RECORD_SIZE;
+            this.recordCount = Math.min(headerRecordCount, completeRecordsInFile);
+            this.nextRecord = Math.min(fromRecord, recordCount);
+            this.endRecord = Math.min(toRecord, recordCount);
+        } catch (IOException e) {
+            channel.close();
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Cheap check of the file header, used to tell binary results logs from CSV results logs
+     */
+    public static boolean isBinaryResultsLog(File resultsLog) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(resultsLog, "r")) {
+            return file.length() >= Integer.BYTES && BinaryResultsLogWriter.MAGIC == file.readInt();
+        }
+    }
+
+    /**
+     * Number of records in the results log, regardless of the range read by this reader
+     */
+    public long recordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public boolean next() {
+        if (nextRecord >= endRecord) {
+            return false;
+        }
+        if (null == region || !region.hasRemaining()) {
+            mapRegion(nextRecord);
+        }
+        int operationType = region.getInt();
+        operationName = operationNames[operationType];
+        scheduledStartTimeAsMilli = region.getLong();
+        actualStartTimeAsMilli = region.getLong();
+        runDurationAsNano = region.getLong();
+        resultCode = region.getInt();
+        originalStartTime = region.getLong();
+        nextRecord++;
+        return true;
+    }
+
+    @Override
+    public TimeUnit unit() {
+        return unit;
+    }
+
+    @Override
+    public String getOperationName() {
+        return operationName;
+    }
+
+    @Override
+    public long getScheduledStartTimeAsMilli() {
+        return scheduledStartTimeAsMilli;
+    }
+
+    @Override
+    public long getActualStartTimeAsMilli() {
+        return actualStartTimeAsMilli;
+    }
+
+    @Override
+    public long getRunDurationAsNano() {
+        return runDurationAsNano;
+    }
+
+    @Override
+    public int getResultCode() {
+        return resultCode;
+    }
+
+    @Override
+    public long getOriginalStartTime() {
+        return originalStartTime;
+    }
+
+    @Override
+    public void close() throws Exception {
+        channel.close();
+        file.close();
+    }
+
+    private void mapRegion(long firstRecord) {
+        long records = Math.min(RECORDS_PER_REGION, endRecord - firstRecord);
+        try {
+            region = channel.map(
+                FileChannel.MapMode.READ_ONLY,
+                recordsStartPosition + firstRecord * BinaryResultsLogWriter.RECORD_SIZE,
+                records * BinaryResultsLogWriter.RECORD_SIZE);
+        } catch (IOException e) {
+            throw new RuntimeException(format("Error mapping results log from record %s", firstRecord), e);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of binary results log header");
+            }
+        }
+        buffer.flip();
+    }
+}
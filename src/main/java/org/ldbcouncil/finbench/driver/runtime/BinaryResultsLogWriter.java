@@ -0,0 +1,139 @@
+package org.ldbcouncil.finbench.driver.runtime;
+
+import static java.lang.String.format;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.runtime.metrics.MetricsCollectionException;
+import org.ldbcouncil.finbench.driver.runtime.metrics.MetricsManager;
+import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogWriter;
+
+/**
+ * Writes the results log as fixed width binary records through a memory mapped file, avoiding the per column
+ * number formatting of {@link SimpleResultsLogWriter}.
+ * The file starts with a header (magic, version, duration unit, record count, operation names by operation type)
+ * followed by one {@link #RECORD_SIZE} byte record per operation. Durations are stored in nanoseconds, the unit in
+ * the header is the unit used when converting to CSV, see {@link ResultsLogConverter}.
+ * Records are visible to other readers of the file as soon as they are written, the record count in the header is
+ * updated after every record so a log of an aborted run can still be read.
+ */
+public class BinaryResultsLogWriter implements ResultsLogWriter {
+    static final int MAGIC = 0x4642524C;
+    static final int VERSION = 1;
+    static final int RECORD_COUNT_OFFSET = Integer.BYTES * 3;
+    // operation type, scheduled start time, actual start time, duration, result code, original start time
+    static final int RECORD_SIZE = Integer.BYTES + Long.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES;
+    static final int NULL_OPERATION_NAME_LENGTH = -1;
+    private static final long RECORDS_PER_REGION = 1 << 20;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final Map<String, Integer> operationNameToType;
+    private final MappedByteBuffer header;
+    private final long recordsStartPosition;
+    private MappedByteBuffer region;
+    private long regionStartPosition;
+    private long recordCount = 0;
+
+    public BinaryResultsLogWriter(File resultsLog,
+                                  TimeUnit unit,
+                                  Map<Integer, Class<? extends Operation>> operationTypeToClassMapping)
+        throws IOException {
+        String[] operationNames;
+        try {
+            operationNames = MetricsManager.toOperationNameArray(operationTypeToClassMapping);
+        } catch (MetricsCollectionException e) {
+            throw new IOException("Error creating operation name table for results log", e);
+        }
+        this.operationNameToType = new HashMap<>();
+        this.file = new RandomAccessFile(resultsLog, "rw");
+        this.file.setLength(0);
+        this.channel = file.getChannel();
+
+        ByteBuffer names = ByteBuffer.allocate(headerNamesSize(operationNames));
+        names.putInt(operationNames.length);
+        for (int operationType = 0; operationType < operationNames.length; operationType++) {
+            String operationName = operationNames[operationType];
+            if (null == operationName) {
+                names.putShort((short) NULL_OPERATION_NAME_LENGTH);
+            } else {
+                byte[] nameBytes = operationName.getBytes(StandardCharsets.UTF_8);
+                names.putShort((short) nameBytes.length);
+                names.put(nameBytes);
+                operationNameToType.put(operationName, operationType);
+            }
+        }
+        this.recordsStartPosition = RECORD_COUNT_OFFSET + Long.BYTES + names.capacity();
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, recordsStartPosition);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(unit.ordinal());
+        header.putLong(0);
+        names.flip();
+        header.put(names);
+        mapRegion(recordsStartPosition);
+    }
+
+    @Override
+    public void write(
+        String operationName,
+        long scheduledStartTimeAsMilli,
+        long actualStartTimeAsMilli,
+        long runDurationAsNano,
+        int resultCode,
+        long originalStartTime) throws IOException {
+        Integer operationType = operationNameToType.get(operationName);
+        if (null == operationType) {
+            throw new IOException(format("Unknown operation: %s", operationName));
+        }
+        if (!region.hasRemaining()) {
+            mapRegion(regionStartPosition + region.capacity());
+        }
+        region.putInt(operationType);
+        region.putLong(scheduledStartTimeAsMilli);
+        region.putLong(actualStartTimeAsMilli);
+        region.putLong(runDurationAsNano);
+        region.putInt(resultCode);
+        region.putLong(originalStartTime);
+        recordCount++;
+        header.putLong(RECORD_COUNT_OFFSET, recordCount);
+    }
+
+    @Override
+    public void close() throws Exception {
+        region.force();
+        header.force();
+        // regions are mapped ahead of the last record, drop the unused tail
+        channel.truncate(recordsStartPosition + recordCount * RECORD_SIZE);
+        channel.close();
+        file.close();
+    }
+
+    private void mapRegion(long position) throws IOException {
+        if (null != region) {
+            region.force();
+        }
+        regionStartPosition = position;
+        region = channel.map(FileChannel.MapMode.READ_WRITE, position, RECORDS_PER_REGION * RECORD_SIZE);
+    }
+
+    private static int headerNamesSize(String[] operationNames) {
+        int size = Integer.BYTES;
+        for (String operationName : operationNames) {
+            size += Short.BYTES;
+            if (null != operationName) {
+                size += operationName.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,47 @@
+package org.ldbcouncil.finbench.driver.runtime;
+
+import static java.lang.String.format;
+
+import java.io.File;
+import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogFormat;
+import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogReader;
+
+/**
+ * Converts a results log of any {@link ResultsLogFormat} to the CSV results log written by
+ * {@link SimpleResultsLogWriter}, for tools that expect the CSV format.
+ * Usage: ResultsLogConverter &lt;results log&gt; &lt;csv results log&gt;
+ */
+public class ResultsLogConverter {
+
+    /**
+     * @return number of operations converted
+     */
+    public static long toCsv(File resultsLog, File csvResultsLog) throws Exception {
+        long operationCount = 0;
+        try (ResultsLogReader reader = ResultsLogFormat.of(resultsLog).newReader(resultsLog);
+             SimpleResultsLogWriter writer = new SimpleResultsLogWriter(csvResultsLog, reader.unit(), false)) {
+            while (reader.next()) {
+                writer.write(
+                    reader.getOperationName(),
+                    reader.getScheduledStartTimeAsMilli(),
+                    reader.getActualStartTimeAsMilli(),
+                    reader.getRunDurationAsNano(),
+                    reader.getResultCode(),
+                    reader.getOriginalStartTime()
+                );
+                operationCount++;
+            }
+        }
+        return operationCount;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (2 != args.length) {
+            System.err.println(format("Usage: %s <results log> <csv results log>",
+                ResultsLogConverter.class.getSimpleName()));
+            System.exit(1);
+        }
+        long operationCount = toCsv(new File(args[0]), new File(args[1]));
+        System.out.println(format("Converted %s operations to %s", operationCount, args[1]));
+    }
+}
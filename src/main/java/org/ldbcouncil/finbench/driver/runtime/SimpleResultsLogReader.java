@@ -0,0 +1,91 @@
+package org.ldbcouncil.finbench.driver.runtime;
+
+import static java.lang.String.format;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.ldbcouncil.finbench.driver.csv.simple.SimpleCsvFileReader;
+import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogReader;
+import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogWriter;
+
+/**
+ * Reads a results log written by {@link SimpleResultsLogWriter}
+ */
+public class SimpleResultsLogReader implements ResultsLogReader {
+    private final SimpleCsvFileReader reader;
+    private final TimeUnit unit;
+
+    private String operationName;
+    private long scheduledStartTimeAsMilli;
+    private long actualStartTimeAsMilli;
+    private long runDurationAsNano;
+    private int resultCode;
+    private long originalStartTime;
+
+    public SimpleResultsLogReader(File resultsLog) throws IOException {
+        this.reader = new SimpleCsvFileReader(resultsLog, SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING);
+        if (!reader.hasNext()) {
+            reader.close();
+            throw new IOException(format("Results log has no header: %s", resultsLog.getAbsolutePath()));
+        }
+        String durationHeader = reader.next()[ResultsLogWriter.INDEX_EXECUTION_DURATION];
+        this.unit = TimeUnit.valueOf(
+            durationHeader.substring(ResultsLogWriter.HEADER_EXECUTION_DURATION_PREFIX.length()));
+    }
+
+    @Override
+    public boolean next() {
+        if (!reader.hasNext()) {
+            return false;
+        }
+        String[] row = reader.next();
+        operationName = row[ResultsLogWriter.INDEX_OPERATION_TYPE];
+        scheduledStartTimeAsMilli = Long.parseLong(row[ResultsLogWriter.INDEX_SCHEDULED_START_TIME]);
+        actualStartTimeAsMilli = Long.parseLong(row[ResultsLogWriter.INDEX_ACTUAL_START_TIME]);
+        runDurationAsNano = unit.toNanos(Long.parseLong(row[ResultsLogWriter.INDEX_EXECUTION_DURATION]));
+        resultCode = Integer.parseInt(row[ResultsLogWriter.INDEX_RESULT_CODE]);
+        originalStartTime = Long.parseLong(row[ResultsLogWriter.INDEX_ORIGINAL_START_TIME]);
+        return true;
+    }
+
+    @Override
+    public TimeUnit unit() {
+        return unit;
+    }
+
+    @Override
+    public String getOperationName() {
+        return operationName;
+    }
+
+    @Override
+    public long getScheduledStartTimeAsMilli() {
+        return scheduledStartTimeAsMilli;
+    }
+
+    @Override
+    public long getActualStartTimeAsMilli() {
+        return actualStartTimeAsMilli;
+    }
+
+    @Override
+    public long getRunDurationAsNano() {
+        return runDurationAsNano;
+    }
+
+    @Override
+    public int getResultCode() {
+        return resultCode;
+    }
+
+    @Override
+    public long getOriginalStartTime() {
+        return originalStartTime;
+    }
+
+    @Override
+    public void close() throws Exception {
+        reader.close();
+    }
+}
@@ -12,6 +12,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 import org.ldbcouncil.finbench.driver.Db;
 import org.ldbcouncil.finbench.driver.WorkloadException;
 import org.ldbcouncil.finbench.driver.WorkloadStreams;
@@ -20,12 +21,17 @@ import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeExcepti
 import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeService;
 import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeWriter;
 import org.ldbcouncil.finbench.driver.runtime.coordination.DummyCompletionTimeWriter;
+import org.ldbcouncil.finbench.driver.runtime.executor.AsyncOperationExecutor;
+import org.ldbcouncil.finbench.driver.runtime.executor.DependencyGatingOperationExecutor;
+import org.ldbcouncil.finbench.driver.runtime.executor.DispatchingOperationExecutor;
 import org.ldbcouncil.finbench.driver.runtime.executor.OperationExecutor;
 import org.ldbcouncil.finbench.driver.runtime.executor.OperationExecutorException;
+import org.ldbcouncil.finbench.driver.runtime.executor.OperationExecutorType;
 import org.ldbcouncil.finbench.driver.runtime.executor.OperationStreamExecutorService;
 import org.ldbcouncil.finbench.driver.runtime.executor.ThreadPoolOperationExecutor;
 import org.ldbcouncil.finbench.driver.runtime.metrics.MetricsCollectionException;
 import org.ldbcouncil.finbench.driver.runtime.metrics.MetricsService;
+import org.ldbcouncil.finbench.driver.runtime.scheduling.SchedulerType;
 import org.ldbcouncil.finbench.driver.runtime.scheduling.Spinner;
 import org.ldbcouncil.finbench.driver.temporal.TimeSource;
 
@@ -45,6 +51,9 @@ public class WorkloadRunner {
         CompletionTimeService completionTimeService,
         LoggingServiceFactory loggingServiceFactory,
         int threadCount,
+        OperationExecutorType executorType,
+        SchedulerType schedulerType,
+        boolean dependencyGating,
         long statusDisplayIntervalAsSeconds,
         long spinnerSleepDurationAsMilli,
         boolean ignoreScheduleStartTimes,
@@ -58,6 +67,9 @@ public class WorkloadRunner {
             completionTimeService,
             loggingServiceFactory,
             threadCount,
+            executorType,
+            schedulerType,
+            dependencyGating,
             statusDisplayIntervalAsSeconds,
             spinnerSleepDurationAsMilli,
             ignoreScheduleStartTimes,
@@ -71,7 +83,17 @@ public class WorkloadRunner {
     }
 
     public ConcurrentErrorReporter getFuture(long milli) {
-        workloadRunnerFuture.startThread(milli);
+        return getFuture(milli, () -> false);
+    }
+
+    /**
+     * Runs the workload until it completes, milli elapsed or abortCondition holds, whichever happens first
+     *
+     * @param milli          maximum run time, -1 for no limit
+     * @param abortCondition polled while the workload is running
+     */
+    public ConcurrentErrorReporter getFuture(long milli, BooleanSupplier abortCondition) {
+        workloadRunnerFuture.startThread(milli, abortCondition);
         return workloadRunnerFuture.errorReporter;
     }
 
@@ -98,6 +120,9 @@ public class WorkloadRunner {
             CompletionTimeService completionTimeService,
             LoggingServiceFactory loggingServiceFactory,
             int threadCount,
+            OperationExecutorType executorType,
+            SchedulerType schedulerType,
+            boolean dependencyGating,
             long statusDisplayIntervalAsSeconds,
             long spinnerSleepDurationAsMilli,
             boolean ignoreScheduleStartTimes,
@@ -111,6 +136,9 @@ public class WorkloadRunner {
                 completionTimeService,
                 loggingServiceFactory,
                 threadCount,
+                executorType,
+                schedulerType,
+                dependencyGating,
                 statusDisplayIntervalAsSeconds,
                 spinnerSleepDurationAsMilli,
                 ignoreScheduleStartTimes,
@@ -129,7 +157,7 @@ public class WorkloadRunner {
             }
         }
 
-        private void startThread(long milli) {
+        private void startThread(long milli, BooleanSupplier abortCondition) {
             if (!workloadRunnerThread.state().equals(WorkloadRunnerThreadState.NOT_STARTED)) {
                 workloadRunnerThread.shutdownEverything(WorkloadRunnerThread.ShutdownType.FORCED,
                     new ConcurrentErrorReporter());
@@ -143,13 +171,16 @@ public class WorkloadRunner {
             while (workloadRunnerThread.state().equals(WorkloadRunnerThreadState.NOT_STARTED)) {
                 Spinner.powerNap(RUNNER_POLLING_INTERVAL_AS_MILLI);
             }
-            timer.schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    expire.set(true);
-                }
-            }, milli);
-            while (!expire.get() && workloadRunnerThread.state().equals(WorkloadRunnerThreadState.RUNNING)) {
+            if (milli != -1) {
+                timer.schedule(new TimerTask() {
+                    @Override
+                    public void run() {
+                        expire.set(true);
+                    }
+                }, milli);
+            }
+            while (!expire.get() && !abortCondition.getAsBoolean()
+                && workloadRunnerThread.state().equals(WorkloadRunnerThreadState.RUNNING)) {
                 Spinner.powerNap(RUNNER_POLLING_INTERVAL_AS_MILLI_AUTOMATIC);
             }
             timer.cancel();
@@ -293,6 +324,9 @@ public class WorkloadRunner {
                                     CompletionTimeService completionTimeService,
                                     LoggingServiceFactory loggingServiceFactory,
                                     int threadCount,
+                                    OperationExecutorType executorType,
+                                    SchedulerType schedulerType,
+                                    boolean dependencyGating,
                                     long statusDisplayIntervalAsSeconds,
                                     long spinnerSleepDurationAsMilli,
                                     boolean ignoreScheduleStartTimes,
@@ -323,19 +357,65 @@ public class WorkloadRunner {
             } catch (CompletionTimeException e) {
                 throw new WorkloadException("Error while attempting to create completion time writer", e);
             }
-            this.executorForAsynchronous = new ThreadPoolOperationExecutor(
-                threadCount,
-                operationHandlerExecutorsBoundedQueueSize,
-                db,
-                asynchronousStream,
-                completionTimeWriterForAsynchronous,
-                completionTimeService,
-                spinner,
-                timeSource,
-                errorReporter,
-                metricsService,
-                asynchronousStream.childOperationGenerator()
-            );
+            OperationExecutor executor;
+            switch (executorType) {
+                case ASYNC:
+                    executor = new AsyncOperationExecutor(
+                        threadCount,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator()
+                    );
+                    break;
+                case THREAD_POOL:
+                    executor = new ThreadPoolOperationExecutor(
+                        threadCount,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator()
+                    );
+                    break;
+                default:
+                    throw new WorkloadException(format("Unrecognized %s: %s",
+                        OperationExecutorType.class.getSimpleName(), executorType));
+            }
+            if (dependencyGating) {
+                // dependent operations only reach executor threads once completion time allows them to run
+                try {
+                    executor = new DependencyGatingOperationExecutor(
+                        executor,
+                        asynchronousStream.dependentOperationTypes(),
+                        completionTimeService,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        errorReporter
+                    );
+                } catch (CompletionTimeException e) {
+                    throw new WorkloadException("Error while attempting to register completion time listener", e);
+                }
+            }
+            // with a central dispatcher executor threads are only handed operations once they are due
+            this.executorForAsynchronous = (SchedulerType.SPINNER == schedulerType || ignoreScheduleStartTimes)
+                ? executor
+                : new DispatchingOperationExecutor(
+                    executor,
+                    schedulerType,
+                    operationHandlerExecutorsBoundedQueueSize,
+                    timeSource,
+                    errorReporter
+                );
             this.asynchronousStreamExecutorService = new OperationStreamExecutorService(
                 errorReporter,
                 asynchronousStream,
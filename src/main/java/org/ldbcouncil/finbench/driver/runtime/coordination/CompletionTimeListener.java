@@ -0,0 +1,8 @@
+package org.ldbcouncil.finbench.driver.runtime.coordination;
+
+public interface CompletionTimeListener {
+    /**
+     * Called every time Completion Time advances, on the thread that advanced it, so must not block
+     */
+    void onCompletionTimeAdvance(long completionTimeAsMilli);
+}
@@ -10,5 +10,7 @@ public interface CompletionTimeService extends CompletionTimeReader {
 
     List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException;
 
+    void addCompletionTimeListener(CompletionTimeListener listener) throws CompletionTimeException;
+
     void shutdown() throws CompletionTimeException;
 }
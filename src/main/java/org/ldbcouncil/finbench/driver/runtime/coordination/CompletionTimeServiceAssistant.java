@@ -48,6 +48,25 @@ public class CompletionTimeServiceAssistant {
         return new SynchronizedCompletionTimeService();
     }
 
+    public LockFreeCompletionTimeService newLockFreeCompletionTimeService() {
+        return new LockFreeCompletionTimeService(LockFreeCompletionTimeService.DEFAULT_WRITER_CAPACITY);
+    }
+
+    public CompletionTimeService newCompletionTimeService(
+        CompletionTimeServiceType completionTimeServiceType,
+        TimeSource timeSource,
+        ConcurrentErrorReporter errorReporter) throws CompletionTimeException {
+        switch (completionTimeServiceType) {
+            case THREADED_QUEUED:
+                return newThreadedQueuedCompletionTimeService(timeSource, errorReporter);
+            case LOCK_FREE:
+                return newLockFreeCompletionTimeService();
+            default:
+                throw new CompletionTimeException(
+                    "Unrecognized completion time service type: " + completionTimeServiceType);
+        }
+    }
+
     public ThreadedQueuedCompletionTimeService newThreadedQueuedCompletionTimeService(
         TimeSource timeSource,
         ConcurrentErrorReporter errorReporter) throws CompletionTimeException {
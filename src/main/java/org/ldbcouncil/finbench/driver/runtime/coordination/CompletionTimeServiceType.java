@@ -0,0 +1,12 @@
+package org.ldbcouncil.finbench.driver.runtime.coordination;
+
+public enum CompletionTimeServiceType {
+    /**
+     * All writes are queued to, and Completion Time is computed by, one dedicated thread
+     */
+    THREADED_QUEUED,
+    /**
+     * Writers track their own watermarks without locks, Completion Time is computed on demand by readers
+     */
+    LOCK_FREE
+}
@@ -5,6 +5,7 @@ import static java.lang.String.format;
 import com.google.common.collect.Lists;
 import com.google.common.collect.TreeMultiset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -23,8 +24,8 @@ import org.ldbcouncil.finbench.driver.util.Function2;
  * This class performs the logic of tracking completion time. It is NOT thread-safe.
  */
 public class CompletionTimeStateManager implements CompletionTimeReaderWriter {
-    private final InitiatedTimeTracker initiatedTimeTracker = InitiatedTimeTrackerImpl.createUsingTreeMultiSet();
-    private final CompletedTimeTracker completedTimeTracker = CompletedTimeTrackerImpl.createUsingTreeMultiSet();
+    private final InitiatedTimeTracker initiatedTimeTracker = new RingBufferInitiatedTimeTracker();
+    private final CompletedTimeTracker completedTimeTracker = new HeapCompletedTimeTracker();
     private long completionTimeAsMilli = -1;
     private long lastKnownLowestInitiatedTimeAsMilli = -1;
 
@@ -273,4 +274,185 @@ public class CompletionTimeStateManager implements CompletionTimeReaderWriter {
                 + ", uncompletedInitiatedTimes=" + uncompletedInitiatedTimes + '}';
         }
     }
+
+    /**
+     * Initiated times arrive in ascending order, so they are kept in a sorted ring buffer of primitive longs.
+     * Equal times share one slot and a counter, completed slots are dropped once they reach the head.
+     */
+    static class RingBufferInitiatedTimeTracker implements InitiatedTimeTracker {
+        private static final int INITIAL_CAPACITY = 1024;
+        private final TemporalUtil temporalUtil = new TemporalUtil();
+        private long[] times = new long[INITIAL_CAPACITY];
+        private int[] counts = new int[INITIAL_CAPACITY];
+        private int mask = INITIAL_CAPACITY - 1;
+        private int head = 0;
+        private int size = 0;
+        private long lastKnownLowestInitiatedTimeAsMilli = -1;
+        private long highestInitiatedTimeAsMilli = -1;
+        private int uncompletedInitiatedTimes = 0;
+
+        @Override
+        public long addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli(long initiatedTimeAsMilli)
+            throws CompletionTimeException {
+            if (-1 != highestInitiatedTimeAsMilli && initiatedTimeAsMilli < highestInitiatedTimeAsMilli) {
+                String errMsg = format("Submitted initiated time is lower than previously submitted initiated time\n"
+                        + "  Submitted: %s (%s ms)\n"
+                        + "  Previous: %s (%s ms)",
+                    temporalUtil.milliTimeToDateTimeString(initiatedTimeAsMilli), initiatedTimeAsMilli,
+                    temporalUtil.milliTimeToDateTimeString(highestInitiatedTimeAsMilli),
+                    highestInitiatedTimeAsMilli
+                );
+                throw new CompletionTimeException(errMsg);
+            }
+            highestInitiatedTimeAsMilli = initiatedTimeAsMilli;
+
+            if (0 == uncompletedInitiatedTimes) {
+                lastKnownLowestInitiatedTimeAsMilli = initiatedTimeAsMilli;
+            }
+            int tail = (head + size - 1) & mask;
+            if (size > 0 && times[tail] == initiatedTimeAsMilli) {
+                counts[tail]++;
+            } else {
+                if (size == times.length) {
+                    grow();
+                }
+                tail = (head + size) & mask;
+                times[tail] = initiatedTimeAsMilli;
+                counts[tail] = 1;
+                size++;
+            }
+            uncompletedInitiatedTimes++;
+            return lastKnownLowestInitiatedTimeAsMilli;
+        }
+
+        @Override
+        public long removeTimeAndReturnLastKnownLowestTimeAsMilli(long timeAsMilli) throws CompletionTimeException {
+            int index = indexOf(timeAsMilli);
+            if (-1 == index || 0 == counts[index]) {
+                throw new CompletionTimeException(format(
+                    "Initiated time [%s] of completed event does not map to any uncompleted operation",
+                    timeAsMilli));
+            }
+            counts[index]--;
+            uncompletedInitiatedTimes--;
+            while (size > 0 && 0 == counts[head]) {
+                head = (head + 1) & mask;
+                size--;
+            }
+            lastKnownLowestInitiatedTimeAsMilli = (0 == uncompletedInitiatedTimes)
+                ? highestInitiatedTimeAsMilli
+                : times[head];
+            return lastKnownLowestInitiatedTimeAsMilli;
+        }
+
+        // binary search, slots are sorted ascending from head
+        private int indexOf(long timeAsMilli) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long midTimeAsMilli = times[(head + mid) & mask];
+                if (midTimeAsMilli < timeAsMilli) {
+                    low = mid + 1;
+                } else if (midTimeAsMilli > timeAsMilli) {
+                    high = mid - 1;
+                } else {
+                    return (head + mid) & mask;
+                }
+            }
+            return -1;
+        }
+
+        private void grow() {
+            long[] newTimes = new long[times.length * 2];
+            int[] newCounts = new int[counts.length * 2];
+            for (int i = 0; i < size; i++) {
+                newTimes[i] = times[(head + i) & mask];
+                newCounts[i] = counts[(head + i) & mask];
+            }
+            times = newTimes;
+            counts = newCounts;
+            mask = newTimes.length - 1;
+            head = 0;
+        }
+
+        @Override
+        public long highestInitiatedTimeAsMilli() {
+            return highestInitiatedTimeAsMilli;
+        }
+
+        @Override
+        public int uncompletedInitiatedTimes() {
+            return uncompletedInitiatedTimes;
+        }
+
+        @Override
+        public String toString() {
+            return "RingBufferInitiatedTimeTracker{" + "slots=" + size
+                + ", lastKnownLowestInitiatedTimeAsMilli=" + lastKnownLowestInitiatedTimeAsMilli
+                + ", highestInitiatedTimeAsMilli=" + highestInitiatedTimeAsMilli
+                + ", uncompletedInitiatedTimes=" + uncompletedInitiatedTimes + '}';
+        }
+    }
+
+    /**
+     * Completed times arrive in any order, so they are kept in a binary min-heap of primitive longs
+     */
+    static class HeapCompletedTimeTracker implements CompletedTimeTracker {
+        private static final int INITIAL_CAPACITY = 1024;
+        private long[] heap = new long[INITIAL_CAPACITY];
+        private int size = 0;
+
+        @Override
+        public void addCompletedTimeAsMilli(long completedTimeAsMilli) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, heap.length * 2);
+            }
+            int index = size++;
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent] <= completedTimeAsMilli) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = completedTimeAsMilli;
+        }
+
+        @Override
+        public long removeTimesLowerThanAndReturnHighestRemoved(long timeAsMilli) {
+            long highestRemovedAsMilli = -1;
+            // heap is drained in ascending order, so last removed time is the highest
+            while (size > 0 && heap[0] < timeAsMilli) {
+                highestRemovedAsMilli = heap[0];
+                removeMin();
+            }
+            return highestRemovedAsMilli;
+        }
+
+        private void removeMin() {
+            long last = heap[--size];
+            int index = 0;
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (last <= heap[child]) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = last;
+        }
+
+        @Override
+        public String toString() {
+            return "HeapCompletedTimeTracker{" + "completedTimesAsMilli=" + Arrays.toString(Arrays.copyOf(heap, size))
+                + '}';
+        }
+    }
 }
@@ -0,0 +1,343 @@
+package org.ldbcouncil.finbench.driver.runtime.coordination;
+
+import static java.lang.String.format;
+
+import com.lmax.disruptor.Sequence;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Completion time service without a central thread or lock.
+ * <p/>
+ * Every writer tracks its own uncompleted initiated times in a ring of slots, one slot per distinct initiated time,
+ * each slot holding the number of uncompleted operations with that time. Completed times are counted down directly
+ * in the slot by the completing thread, and the slot at the head of the ring is released once it reaches zero.
+ * Per writer only two padded watermarks are read by others: lowest uncompleted initiated time (head of the ring) and
+ * highest released time.
+ * <p/>
+ * Completion Time is computed on demand as a fold over writers, in the same way as
+ * MultiWriterCompletionTimeStateManager does: CT = max(highest released time) below min(lowest initiated time).
+ * <p/>
+ * Like other writers, initiated times of one writer MUST be submitted in ascending order by a single thread,
+ * completed times may be submitted by any thread.
+ */
+public class LockFreeCompletionTimeService implements CompletionTimeService {
+    static final int DEFAULT_WRITER_CAPACITY = 1 << 16;
+
+    private final int writerCapacity;
+    private final List<LockFreeCompletionTimeWriter> writers = new CopyOnWriteArrayList<>();
+    private final List<CompletionTimeListener> listeners = new CopyOnWriteArrayList<>();
+    private final Sequence completionTimeAsMilli = new Sequence(-1);
+
+    LockFreeCompletionTimeService(int writerCapacity) {
+        if (Integer.bitCount(writerCapacity) != 1) {
+            throw new IllegalArgumentException(format("Writer capacity must be a power of 2: %s", writerCapacity));
+        }
+        this.writerCapacity = writerCapacity;
+    }
+
+    @Override
+    public long completionTimeAsMilli() {
+        return updateCompletionTime();
+    }
+
+    @Override
+    public long lastKnownLowestInitiatedTimeAsMilli() {
+        long initiationTimeAsMilli = -1;
+        for (LockFreeCompletionTimeWriter writer : writers) {
+            long writerInitiationTimeAsMilli = writer.lowestInitiatedTimeAsMilli();
+            if (-1 == writerInitiationTimeAsMilli) {
+                return -1;
+            } else if (-1 == initiationTimeAsMilli || writerInitiationTimeAsMilli < initiationTimeAsMilli) {
+                initiationTimeAsMilli = writerInitiationTimeAsMilli;
+            }
+        }
+        return initiationTimeAsMilli;
+    }
+
+    /**
+     * IMPORTANT: not safe to call after IT/CT times have been submitted, as it will likely put CT in invalid state
+     */
+    @Override
+    public CompletionTimeWriter newCompletionTimeWriter() {
+        LockFreeCompletionTimeWriter writer = new LockFreeCompletionTimeWriter(writers.size(), writerCapacity, this);
+        writers.add(writer);
+        return writer;
+    }
+
+    @Override
+    public Future<Long> completionTimeAsMilliFuture() {
+        return CompletableFuture.completedFuture(completionTimeAsMilli());
+    }
+
+    @Override
+    public List<CompletionTimeWriter> getAllWriters() {
+        return new ArrayList<>(writers);
+    }
+
+    @Override
+    public void addCompletionTimeListener(CompletionTimeListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void shutdown() {
+        // nothing to stop
+    }
+
+    private long updateCompletionTime() {
+        long initiationTimeAsMilli = -1;
+        long highestReleasedTimeAsMilli = -1;
+        for (LockFreeCompletionTimeWriter writer : writers) {
+            // released time MUST be read before initiated time, so it is always lower than initiated time read
+            long writerReleasedTimeAsMilli = writer.highestReleasedTimeAsMilli();
+            long writerInitiationTimeAsMilli = writer.lowestInitiatedTimeAsMilli();
+            if (-1 == writerInitiationTimeAsMilli) {
+                // if any initiation times are null, initiation time and completion time are undefined
+                return completionTimeAsMilli.get();
+            } else if (-1 == initiationTimeAsMilli || writerInitiationTimeAsMilli < initiationTimeAsMilli) {
+                initiationTimeAsMilli = writerInitiationTimeAsMilli;
+            }
+            if (writerReleasedTimeAsMilli > highestReleasedTimeAsMilli) {
+                highestReleasedTimeAsMilli = writerReleasedTimeAsMilli;
+            }
+        }
+        if (highestReleasedTimeAsMilli >= initiationTimeAsMilli) {
+            // completion time must be lower than initiation time, fall back to highest released time below it
+            highestReleasedTimeAsMilli = -1;
+            for (LockFreeCompletionTimeWriter writer : writers) {
+                long writerReleasedTimeAsMilli = writer.highestReleasedTimeAsMilli();
+                if (writerReleasedTimeAsMilli < initiationTimeAsMilli
+                    && writerReleasedTimeAsMilli > highestReleasedTimeAsMilli) {
+                    highestReleasedTimeAsMilli = writerReleasedTimeAsMilli;
+                }
+            }
+        }
+        while (true) {
+            long previousCompletionTimeAsMilli = completionTimeAsMilli.get();
+            if (highestReleasedTimeAsMilli <= previousCompletionTimeAsMilli) {
+                return previousCompletionTimeAsMilli;
+            }
+            if (completionTimeAsMilli.compareAndSet(previousCompletionTimeAsMilli, highestReleasedTimeAsMilli)) {
+                for (CompletionTimeListener listener : listeners) {
+                    listener.onCompletionTimeAdvance(highestReleasedTimeAsMilli);
+                }
+                return highestReleasedTimeAsMilli;
+            }
+        }
+    }
+
+    /**
+     * Slot state packs the logical (ever increasing) slot index with the uncompleted operation count of the slot,
+     * so a slot that has been released and reused for a later time can never be mistaken for the earlier one. A flag
+     * bit between the two marks a released slot, the count uses the bits below it.
+     */
+    static class LockFreeCompletionTimeWriter implements CompletionTimeWriter {
+        private static final int COUNT_BITS = 20;
+        private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+        private static final long MAX_COUNT = COUNT_MASK;
+        private static final long RELEASED_FLAG = 1L << COUNT_BITS;
+        private static final int INDEX_SHIFT = COUNT_BITS + 1;
+        private static final long FULL_RING_PARK_DURATION_AS_NANO = 1000;
+
+        private final int id;
+        private final int mask;
+        private final AtomicLongArray slotStates;
+        private final AtomicLongArray slotTimesAsMilli;
+        private final Sequence head = new Sequence(0);
+        private final Sequence tail = new Sequence(0);
+        private final Sequence highestReleasedTimeAsMilli = new Sequence(-1);
+        private final LockFreeCompletionTimeService completionTimeService;
+        // only accessed by the thread submitting initiated times
+        private long highestInitiatedTimeAsMilli = -1;
+
+        private LockFreeCompletionTimeWriter(int id,
+                                             int capacity,
+                                             LockFreeCompletionTimeService completionTimeService) {
+            this.id = id;
+            this.mask = capacity - 1;
+            this.slotStates = new AtomicLongArray(capacity);
+            this.slotTimesAsMilli = new AtomicLongArray(capacity);
+            this.completionTimeService = completionTimeService;
+            for (int i = 0; i < capacity; i++) {
+                // never matches a logical index that has been published
+                slotStates.set(i, released(-1));
+            }
+        }
+
+        private static long state(long index, long count) {
+            return (index << INDEX_SHIFT) | count;
+        }
+
+        private static long released(long index) {
+            return (index << INDEX_SHIFT) | RELEASED_FLAG;
+        }
+
+        private static long indexOf(long state) {
+            return state >> INDEX_SHIFT;
+        }
+
+        @Override
+        public void submitInitiatedTime(long timeAsMilli) throws CompletionTimeException {
+            if (-1 != highestInitiatedTimeAsMilli && timeAsMilli < highestInitiatedTimeAsMilli) {
+                throw new CompletionTimeException(format(
+                    "Submitted initiated time is lower than previously submitted initiated time\n"
+                        + "  Submitted: %s ms\n"
+                        + "  Previous: %s ms",
+                    timeAsMilli, highestInitiatedTimeAsMilli));
+            }
+            long tailIndex = tail.get();
+            if (timeAsMilli == highestInitiatedTimeAsMilli) {
+                // last slot is never released, so it is always safe to add to it
+                int slot = slot(tailIndex - 1);
+                while (true) {
+                    long state = slotStates.get(slot);
+                    if ((state & COUNT_MASK) == MAX_COUNT) {
+                        throw new CompletionTimeException(format(
+                            "More than %s uncompleted operations with initiated time %s ms", MAX_COUNT, timeAsMilli));
+                    }
+                    if (slotStates.compareAndSet(slot, state, state + 1)) {
+                        break;
+                    }
+                }
+            } else {
+                while (tailIndex - head.get() >= slotStates.length()) {
+                    // --- BLOCKING CALL (until the oldest uncompleted time completes) ---
+                    advanceHead();
+                    LockSupport.parkNanos(FULL_RING_PARK_DURATION_AS_NANO);
+                }
+                int slot = slot(tailIndex);
+                // state first, so concurrent readers of the previous occupant notice the slot was reused
+                slotStates.set(slot, state(tailIndex, 1));
+                slotTimesAsMilli.set(slot, timeAsMilli);
+                tail.set(tailIndex + 1);
+                highestInitiatedTimeAsMilli = timeAsMilli;
+                // previous last slot may already be completed, now that it is no longer last it can be released
+                advanceHead();
+            }
+            completionTimeService.updateCompletionTime();
+        }
+
+        @Override
+        public void submitCompletedTime(long timeAsMilli) throws CompletionTimeException {
+            while (true) {
+                long index = find(timeAsMilli);
+                if (-1 == index) {
+                    throw new CompletionTimeException(format(
+                        "Initiated time [%s] of completed event does not map to any uncompleted operation",
+                        timeAsMilli));
+                }
+                int slot = slot(index);
+                long state = slotStates.get(slot);
+                long count = state & COUNT_MASK;
+                if (indexOf(state) != index || 0 == count || 0 != (state & RELEASED_FLAG)) {
+                    throw new CompletionTimeException(format(
+                        "Initiated time [%s] of completed event does not map to any uncompleted operation",
+                        timeAsMilli));
+                }
+                if (slotStates.compareAndSet(slot, state, state(index, count - 1))) {
+                    break;
+                }
+            }
+            advanceHead();
+            completionTimeService.updateCompletionTime();
+        }
+
+        long lowestInitiatedTimeAsMilli() {
+            while (true) {
+                long headIndex = head.get();
+                if (0 == tail.get()) {
+                    return -1;
+                }
+                int slot = slot(headIndex);
+                long timeAsMilli = slotTimesAsMilli.get(slot);
+                if (indexOf(slotStates.get(slot)) == headIndex) {
+                    return timeAsMilli;
+                }
+                // head slot was released and reused while reading, try again
+            }
+        }
+
+        long highestReleasedTimeAsMilli() {
+            return highestReleasedTimeAsMilli.get();
+        }
+
+        private int slot(long index) {
+            return (int) (index & mask);
+        }
+
+        /**
+         * Binary search for the logical index of the slot holding timeAsMilli, slots are sorted ascending by time
+         */
+        private long find(long timeAsMilli) {
+            long low = head.get();
+            long high = tail.get() - 1;
+            while (low <= high) {
+                long mid = (low + high) >>> 1;
+                int slot = slot(mid);
+                long state = slotStates.get(slot);
+                long midTimeAsMilli = slotTimesAsMilli.get(slot);
+                if (indexOf(state) != mid || indexOf(slotStates.get(slot)) != mid) {
+                    // slot has been released and reused, so its time was lower than any uncompleted time
+                    low = mid + 1;
+                } else if (midTimeAsMilli < timeAsMilli) {
+                    low = mid + 1;
+                } else if (midTimeAsMilli > timeAsMilli) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Release completed slots at the head of the ring, except the last slot which more initiated times of the
+         * same value may still be added to. May be called by any thread.
+         */
+        private void advanceHead() {
+            while (true) {
+                long headIndex = head.get();
+                if (headIndex >= tail.get() - 1) {
+                    return;
+                }
+                int slot = slot(headIndex);
+                long state = slotStates.get(slot);
+                if (state == state(headIndex, 0)) {
+                    if (!slotStates.compareAndSet(slot, state, released(headIndex))) {
+                        continue;
+                    }
+                } else if (state != released(headIndex)) {
+                    // head slot still has uncompleted operations, or head has already moved on
+                    return;
+                }
+                long releasedTimeAsMilli = slotTimesAsMilli.get(slot);
+                if (slotStates.get(slot) != released(headIndex)) {
+                    continue;
+                }
+                raiseHighestReleasedTime(releasedTimeAsMilli);
+                head.compareAndSet(headIndex, headIndex + 1);
+            }
+        }
+
+        private void raiseHighestReleasedTime(long timeAsMilli) {
+            while (true) {
+                long previousTimeAsMilli = highestReleasedTimeAsMilli.get();
+                if (timeAsMilli <= previousTimeAsMilli
+                    || highestReleasedTimeAsMilli.compareAndSet(previousTimeAsMilli, timeAsMilli)) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "LockFreeCompletionTimeWriter{" + "id=" + id + '}';
+        }
+    }
+}
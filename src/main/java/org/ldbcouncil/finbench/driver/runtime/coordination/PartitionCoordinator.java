@@ -0,0 +1,199 @@
+package org.ldbcouncil.finbench.driver.runtime.coordination;
+
+import static java.lang.String.format;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Coordinates the driver processes that each execute one partition of a workload, over loopback sockets.
+ * <p/>
+ * Every phase (warmup, run) starts when all partitions have connected. Each partition proposes a workload start time
+ * and all of them start at the latest one, so operation times are mapped in the same way by all partitions. During a
+ * phase every partition reports its local Completion Time, and receives the lowest Completion Time of the other
+ * partitions, which is Completion Time of the operations it does not execute itself. A partition that has executed
+ * all of its operations reports {@link #FINISHED}.
+ * <p/>
+ * Protocol, all numbers big endian:
+ * <ul>
+ * <li>partition to coordinator: partition index, partition count, proposed start time, whether the phase is the last
+ * one, then local Completion Times</li>
+ * <li>coordinator to partition: start time, then Completion Times of the other partitions, -1 while any of them has
+ * no Completion Time yet</li>
+ * </ul>
+ */
+public class PartitionCoordinator implements Closeable {
+    public static final long FINISHED = Long.MAX_VALUE;
+
+    private final int partitionCount;
+    private final ServerSocket serverSocket;
+
+    public PartitionCoordinator(int partitionCount, int port) throws IOException {
+        this.partitionCount = partitionCount;
+        this.serverSocket = new ServerSocket(port, partitionCount, InetAddress.getLoopbackAddress());
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Coordinate phases until the last phase has finished
+     *
+     * @return Number of phases coordinated
+     */
+    public int run() throws CompletionTimeException {
+        int phaseCount = 0;
+        boolean lastPhase = false;
+        while (!lastPhase) {
+            lastPhase = new Phase().run();
+            phaseCount++;
+        }
+        return phaseCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private class Phase {
+        private final Socket[] sockets = new Socket[partitionCount];
+        private final DataInputStream[] ins = new DataInputStream[partitionCount];
+        private final DataOutputStream[] outs = new DataOutputStream[partitionCount];
+        private final long[] completionTimesAsMilli = new long[partitionCount];
+        private final long[] sentPeerCompletionTimesAsMilli = new long[partitionCount];
+        private final TreeSet<Integer> disconnectedPartitions = new TreeSet<>();
+
+        private boolean run() throws CompletionTimeException {
+            try {
+                boolean lastPhase = false;
+                long startTimeAsMilli = -1;
+                for (int i = 0; i < partitionCount; i++) {
+                    Socket socket = serverSocket.accept();
+                    socket.setTcpNoDelay(true);
+                    DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                    int partition = in.readInt();
+                    int count = in.readInt();
+                    long proposedStartTimeAsMilli = in.readLong();
+                    lastPhase |= in.readBoolean();
+                    if (count != partitionCount || partition < 0 || partition >= partitionCount
+                        || null != sockets[partition]) {
+                        socket.close();
+                        throw new CompletionTimeException(format(
+                            "Partition %s of %s does not fit %s partitions, or has already connected",
+                            partition, count, partitionCount));
+                    }
+                    sockets[partition] = socket;
+                    outs[partition] =
+                        new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                    ins[partition] = in;
+                    completionTimesAsMilli[partition] = -1;
+                    sentPeerCompletionTimesAsMilli[partition] = -1;
+                    startTimeAsMilli = Math.max(startTimeAsMilli, proposedStartTimeAsMilli);
+                }
+                for (DataOutputStream out : outs) {
+                    out.writeLong(startTimeAsMilli);
+                    out.flush();
+                }
+
+                List<Thread> readers = new ArrayList<>();
+                for (int i = 0; i < partitionCount; i++) {
+                    int partition = i;
+                    Thread reader = new Thread(() -> readCompletionTimes(partition, ins[partition]),
+                        "PartitionCoordinator-" + partition);
+                    reader.setDaemon(true);
+                    readers.add(reader);
+                    reader.start();
+                }
+                for (Thread reader : readers) {
+                    reader.join();
+                }
+                if (!disconnectedPartitions.isEmpty()) {
+                    throw new CompletionTimeException(
+                        format("Partitions %s disconnected before finishing", disconnectedPartitions));
+                }
+                return lastPhase;
+            } catch (IOException e) {
+                throw new CompletionTimeException("Error coordinating partitions", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionTimeException("Interrupted while coordinating partitions", e);
+            } finally {
+                for (Socket socket : sockets) {
+                    closeQuietly(socket);
+                }
+            }
+        }
+
+        private void readCompletionTimes(int partition, DataInputStream in) {
+            long completionTimeAsMilli = -1;
+            try {
+                while (FINISHED != completionTimeAsMilli) {
+                    completionTimeAsMilli = in.readLong();
+                    onCompletionTime(partition, completionTimeAsMilli);
+                }
+            } catch (IOException e) {
+                // partition is gone, it can no longer hold back the others
+                synchronized (this) {
+                    disconnectedPartitions.add(partition);
+                }
+                onCompletionTime(partition, FINISHED);
+            }
+        }
+
+        private synchronized void onCompletionTime(int partition, long completionTimeAsMilli) {
+            completionTimesAsMilli[partition] = completionTimeAsMilli;
+            for (int recipient = 0; recipient < partitionCount; recipient++) {
+                if (FINISHED == completionTimesAsMilli[recipient]) {
+                    // has nothing left to execute, and may already have closed its connection
+                    continue;
+                }
+                long peerCompletionTimeAsMilli = peerCompletionTimeAsMilli(recipient);
+                if (peerCompletionTimeAsMilli != sentPeerCompletionTimesAsMilli[recipient]) {
+                    try {
+                        outs[recipient].writeLong(peerCompletionTimeAsMilli);
+                        outs[recipient].flush();
+                        sentPeerCompletionTimesAsMilli[recipient] = peerCompletionTimeAsMilli;
+                    } catch (IOException e) {
+                        // its reader notices the broken connection
+                    }
+                }
+            }
+        }
+
+        private long peerCompletionTimeAsMilli(int recipient) {
+            long peerCompletionTimeAsMilli = FINISHED;
+            for (int partition = 0; partition < partitionCount; partition++) {
+                if (partition == recipient) {
+                    continue;
+                }
+                if (-1 == completionTimesAsMilli[partition]) {
+                    return -1;
+                }
+                peerCompletionTimeAsMilli = Math.min(peerCompletionTimeAsMilli, completionTimesAsMilli[partition]);
+            }
+            return peerCompletionTimeAsMilli;
+        }
+
+        private void closeQuietly(Socket socket) {
+            if (null != socket) {
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    // closing anyway
+                }
+            }
+        }
+    }
+}
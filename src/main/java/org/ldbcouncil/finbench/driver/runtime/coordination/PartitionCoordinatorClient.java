@@ -0,0 +1,228 @@
+package org.ldbcouncil.finbench.driver.runtime.coordination;
+
+import static java.lang.String.format;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Connection of one partition to the {@link PartitionCoordinator}, for one phase.
+ * <p/>
+ * Local Completion Time is sent by a sender thread, which is woken by {@link #completionTimeAdvanced()} and otherwise
+ * polls local Completion Time, as some Completion Time services only compute it when it is read. Completion Time of
+ * the other partitions is received by a reader thread and passed to the peer listener.
+ */
+public class PartitionCoordinatorClient {
+    private static final long CONNECT_RETRY_INTERVAL_AS_MILLI = 100;
+    private static final long SEND_POLL_INTERVAL_AS_NANO = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long CLOSE_WAIT_AS_MILLI = TimeUnit.SECONDS.toMillis(5);
+
+    private final int partition;
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final long workloadStartTimeAsMilli;
+    private final AtomicBoolean finished = new AtomicBoolean(false);
+    private volatile long peerCompletionTimeAsMilli = -1;
+    private volatile CompletionTimeException error = null;
+    private Thread sender = null;
+    private Thread reader = null;
+
+    /**
+     * Connects to the coordinator and waits until all partitions have connected.
+     *
+     * @param port                     Port of the coordinator, on the loopback address
+     * @param partitionCount           Number of partitions
+     * @param partition                Index of this partition
+     * @param proposedStartTimeAsMilli Earliest time this partition can start the workload
+     * @param lastPhase                Whether no further phase follows this one
+     * @param connectTimeoutAsMilli    How long to retry while the coordinator is not listening yet
+     */
+    public static PartitionCoordinatorClient connect(int port,
+                                                     int partitionCount,
+                                                     int partition,
+                                                     long proposedStartTimeAsMilli,
+                                                     boolean lastPhase,
+                                                     long connectTimeoutAsMilli) throws CompletionTimeException {
+        long connectDeadlineAsMilli = System.currentTimeMillis() + connectTimeoutAsMilli;
+        Socket socket;
+        while (true) {
+            try {
+                socket = new Socket(InetAddress.getLoopbackAddress(), port);
+                break;
+            } catch (ConnectException e) {
+                if (System.currentTimeMillis() >= connectDeadlineAsMilli) {
+                    throw new CompletionTimeException(
+                        format("No partition coordinator listening on port %s", port), e);
+                }
+                try {
+                    Thread.sleep(CONNECT_RETRY_INTERVAL_AS_MILLI);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new CompletionTimeException("Interrupted while connecting to partition coordinator", ie);
+                }
+            } catch (IOException e) {
+                throw new CompletionTimeException("Error connecting to partition coordinator", e);
+            }
+        }
+        try {
+            socket.setTcpNoDelay(true);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeInt(partition);
+            out.writeInt(partitionCount);
+            out.writeLong(proposedStartTimeAsMilli);
+            out.writeBoolean(lastPhase);
+            out.flush();
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            // --- BLOCKING CALL (until all partitions have connected) ---
+            long workloadStartTimeAsMilli = in.readLong();
+            return new PartitionCoordinatorClient(partition, socket, in, out, workloadStartTimeAsMilli);
+        } catch (IOException e) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // already failing
+            }
+            throw new CompletionTimeException(
+                format("Partition coordinator rejected partition %s of %s", partition, partitionCount), e);
+        }
+    }
+
+    private PartitionCoordinatorClient(int partition,
+                                       Socket socket,
+                                       DataInputStream in,
+                                       DataOutputStream out,
+                                       long workloadStartTimeAsMilli) {
+        this.partition = partition;
+        this.socket = socket;
+        this.in = in;
+        this.out = out;
+        this.workloadStartTimeAsMilli = workloadStartTimeAsMilli;
+    }
+
+    /**
+     * Start time agreed by all partitions, the latest start time proposed by any of them
+     */
+    public long workloadStartTimeAsMilli() {
+        return workloadStartTimeAsMilli;
+    }
+
+    /**
+     * Lowest Completion Time of the other partitions, -1 while any of them has none yet
+     */
+    public long peerCompletionTimeAsMilli() throws CompletionTimeException {
+        if (null != error) {
+            throw error;
+        }
+        return peerCompletionTimeAsMilli;
+    }
+
+    long peerCompletionTimeAsMilliOrUnknown() {
+        return peerCompletionTimeAsMilli;
+    }
+
+    /**
+     * @param localCompletionTimeReader Completion Time of this partition, read by the sender thread
+     * @param peerListener              Called on the reader thread when Completion Time of the other partitions
+     *                                  advances
+     */
+    public synchronized void start(CompletionTimeReader localCompletionTimeReader,
+                                   CompletionTimeListener peerListener) {
+        String name = PartitionCoordinatorClient.class.getSimpleName() + "-" + partition;
+        sender = new Thread(() -> sendCompletionTimes(localCompletionTimeReader), name + "-sender");
+        sender.setDaemon(true);
+        reader = new Thread(() -> readPeerCompletionTimes(peerListener), name + "-reader");
+        reader.setDaemon(true);
+        sender.start();
+        reader.start();
+    }
+
+    /**
+     * Wakes the sender thread, must not block as it is called on the thread that advanced Completion Time
+     */
+    public void completionTimeAdvanced() {
+        Thread sender = this.sender;
+        if (null != sender) {
+            LockSupport.unpark(sender);
+        }
+    }
+
+    /**
+     * Tells the other partitions this partition has executed all of its operations, then closes the connection
+     */
+    public void close() throws CompletionTimeException {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
+        Thread sender;
+        synchronized (this) {
+            sender = this.sender;
+        }
+        try {
+            if (null == sender) {
+                sendCompletionTime(PartitionCoordinator.FINISHED);
+            } else {
+                LockSupport.unpark(sender);
+                sender.join(CLOSE_WAIT_AS_MILLI);
+            }
+        } catch (IOException e) {
+            throw new CompletionTimeException("Error notifying partition coordinator", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // reader thread ends on the closed socket
+            }
+        }
+    }
+
+    private void sendCompletionTimes(CompletionTimeReader localCompletionTimeReader) {
+        long sentCompletionTimeAsMilli = -1;
+        try {
+            while (!finished.get()) {
+                long completionTimeAsMilli = localCompletionTimeReader.completionTimeAsMilli();
+                if (completionTimeAsMilli != sentCompletionTimeAsMilli) {
+                    sendCompletionTime(completionTimeAsMilli);
+                    sentCompletionTimeAsMilli = completionTimeAsMilli;
+                }
+                LockSupport.parkNanos(this, SEND_POLL_INTERVAL_AS_NANO);
+            }
+            sendCompletionTime(PartitionCoordinator.FINISHED);
+        } catch (CompletionTimeException e) {
+            error = e;
+        } catch (IOException e) {
+            error = new CompletionTimeException("Error sending Completion Time to partition coordinator", e);
+        }
+    }
+
+    private void sendCompletionTime(long completionTimeAsMilli) throws IOException {
+        out.writeLong(completionTimeAsMilli);
+        out.flush();
+    }
+
+    private void readPeerCompletionTimes(CompletionTimeListener peerListener) {
+        try {
+            while (true) {
+                long completionTimeAsMilli = in.readLong();
+                peerCompletionTimeAsMilli = completionTimeAsMilli;
+                peerListener.onCompletionTimeAdvance(completionTimeAsMilli);
+            }
+        } catch (IOException e) {
+            if (!finished.get() && PartitionCoordinator.FINISHED != peerCompletionTimeAsMilli) {
+                error = new CompletionTimeException("Lost connection to partition coordinator", e);
+                peerListener.onCompletionTimeAdvance(peerCompletionTimeAsMilli);
+            }
+        }
+    }
+}
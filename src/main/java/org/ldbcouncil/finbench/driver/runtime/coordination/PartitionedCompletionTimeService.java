@@ -0,0 +1,107 @@
+package org.ldbcouncil.finbench.driver.runtime.coordination;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Completion Time of a workload partitioned across driver processes, the lower of Completion Time of the operations
+ * executed by this partition and Completion Time of the other partitions, as reported by the
+ * {@link PartitionCoordinator}.
+ * <p/>
+ * Writers belong to the local Completion Time service, which only tracks the operations of this partition.
+ */
+public class PartitionedCompletionTimeService implements CompletionTimeService {
+    private final CompletionTimeService localCompletionTimeService;
+    private final PartitionCoordinatorClient coordinatorClient;
+    private final List<CompletionTimeListener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong completionTimeAsMilli = new AtomicLong(-1);
+
+    public PartitionedCompletionTimeService(CompletionTimeService localCompletionTimeService,
+                                            PartitionCoordinatorClient coordinatorClient)
+        throws CompletionTimeException {
+        this.localCompletionTimeService = localCompletionTimeService;
+        this.coordinatorClient = coordinatorClient;
+        localCompletionTimeService.addCompletionTimeListener(localCompletionTimeAsMilli -> {
+            coordinatorClient.completionTimeAdvanced();
+            advance(localCompletionTimeAsMilli, coordinatorClient.peerCompletionTimeAsMilliOrUnknown());
+        });
+        coordinatorClient.start(
+            localCompletionTimeService,
+            peerCompletionTimeAsMilli -> advance(lastLocalCompletionTimeAsMilli(), peerCompletionTimeAsMilli));
+    }
+
+    @Override
+    public long completionTimeAsMilli() throws CompletionTimeException {
+        return advance(
+            localCompletionTimeService.completionTimeAsMilli(),
+            coordinatorClient.peerCompletionTimeAsMilli());
+    }
+
+    @Override
+    public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException {
+        return localCompletionTimeService.lastKnownLowestInitiatedTimeAsMilli();
+    }
+
+    @Override
+    public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException {
+        return localCompletionTimeService.newCompletionTimeWriter();
+    }
+
+    @Override
+    public Future<Long> completionTimeAsMilliFuture() throws CompletionTimeException {
+        return CompletableFuture.completedFuture(completionTimeAsMilli());
+    }
+
+    @Override
+    public List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException {
+        return localCompletionTimeService.getAllWriters();
+    }
+
+    @Override
+    public void addCompletionTimeListener(CompletionTimeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Tells the other partitions this partition is finished, only call once all of its operations have completed
+     */
+    @Override
+    public void shutdown() throws CompletionTimeException {
+        try {
+            coordinatorClient.close();
+        } finally {
+            localCompletionTimeService.shutdown();
+        }
+    }
+
+    private long lastLocalCompletionTimeAsMilli() {
+        try {
+            return localCompletionTimeService.completionTimeAsMilli();
+        } catch (CompletionTimeException e) {
+            // reported to the next reader of Completion Time
+            return -1;
+        }
+    }
+
+    private long advance(long localCompletionTimeAsMilli, long peerCompletionTimeAsMilli) {
+        if (-1 == localCompletionTimeAsMilli || -1 == peerCompletionTimeAsMilli) {
+            return completionTimeAsMilli.get();
+        }
+        long newCompletionTimeAsMilli = Math.min(localCompletionTimeAsMilli, peerCompletionTimeAsMilli);
+        while (true) {
+            long previousCompletionTimeAsMilli = completionTimeAsMilli.get();
+            if (newCompletionTimeAsMilli <= previousCompletionTimeAsMilli) {
+                return previousCompletionTimeAsMilli;
+            }
+            if (completionTimeAsMilli.compareAndSet(previousCompletionTimeAsMilli, newCompletionTimeAsMilli)) {
+                for (CompletionTimeListener listener : listeners) {
+                    listener.onCompletionTimeAdvance(newCompletionTimeAsMilli);
+                }
+                return newCompletionTimeAsMilli;
+            }
+        }
+    }
+}
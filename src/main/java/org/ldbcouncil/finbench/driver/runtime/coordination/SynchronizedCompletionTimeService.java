@@ -60,6 +60,12 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         return (CompletionTimeWriter) processEvent(Event.CREATE_NEW_COMPLETION_TIME_WRITER);
     }
 
+    @Override
+    public void addCompletionTimeListener(CompletionTimeListener listener) throws CompletionTimeException {
+        // writers write directly to the state manager, there is no single point at which CT advance is known
+        throw new UnsupportedOperationException("Method not supported");
+    }
+
     @Override
     public void shutdown() throws CompletionTimeException {
     }
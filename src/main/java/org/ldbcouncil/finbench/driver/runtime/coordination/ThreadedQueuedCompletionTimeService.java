@@ -5,6 +5,7 @@ import static java.lang.String.format;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -28,6 +29,7 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
     private final AtomicBoolean sharedIsShuttingDownReference = new AtomicBoolean(false);
     private final ConcurrentErrorReporter errorReporter;
     private final List<CompletionTimeWriter> writers = new ArrayList<>();
+    private final List<CompletionTimeListener> listeners = new CopyOnWriteArrayList<>();
 
     ThreadedQueuedCompletionTimeService(TimeSource timeSource,
                                         ConcurrentErrorReporter errorReporter) throws CompletionTimeException {
@@ -40,7 +42,8 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         threadedQueuedCompletionTimeServiceThread = new ThreadedQueuedCompletionTimeServiceThread(
             completionTimeEventQueue,
             errorReporter,
-            sharedCtReference);
+            sharedCtReference,
+            listeners);
         threadedQueuedCompletionTimeServiceThread.start();
     }
 
@@ -90,6 +93,11 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         return writers;
     }
 
+    @Override
+    public void addCompletionTimeListener(CompletionTimeListener listener) {
+        listeners.add(listener);
+    }
+
     @Override
     // TODO remove from interface
     public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException {
@@ -3,6 +3,7 @@ package org.ldbcouncil.finbench.driver.runtime.coordination;
 import static java.lang.String.format;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -31,6 +32,7 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread {
     private final TemporalUtil temporalUtil = new TemporalUtil();
     private final MultiWriterCompletionTimeStateManager completionTimeStateManager;
     private final AtomicLong completionTimeSharedReference;
+    private final List<CompletionTimeListener> completionTimeListeners;
     private final QueueEventFetcher<CompletionTimeEvent> completionTimeEventQueueEventFetcher;
     private final ConcurrentErrorReporter errorReporter;
     private final Map<Integer, CompletionTimeWriter> completionTimeWriters;
@@ -41,7 +43,8 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread {
     ThreadedQueuedCompletionTimeServiceThread(
         Queue<CompletionTimeEvent> completionTimeQueue,
         ConcurrentErrorReporter errorReporter,
-        AtomicLong completionTimeSharedReference) throws CompletionTimeException {
+        AtomicLong completionTimeSharedReference,
+        List<CompletionTimeListener> completionTimeListeners) throws CompletionTimeException {
         super(ThreadedQueuedCompletionTimeServiceThread.class.getSimpleName() + "-" + System.currentTimeMillis());
         // *** CT Reader ***
         // Completion Time will only get read from MultiWriterCompletionTimeStateManager,
@@ -61,6 +64,7 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread {
         this.completionTimeEventQueueEventFetcher = QueueEventFetcher.queueEventFetcherFor(completionTimeQueue);
         this.errorReporter = errorReporter;
         this.completionTimeSharedReference = completionTimeSharedReference;
+        this.completionTimeListeners = completionTimeListeners;
         this.completionTimeSharedReference.set(completionTimeStateManager.completionTimeAsMilli());
     }
 
@@ -162,8 +166,11 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread {
                     newCompletionTimeAsMilli,
                     temporalUtil.milliTimeToDateTimeString(prevCompletionTimeAsMilli),
                     prevCompletionTimeAsMilli));
-        } else {
+        } else if (newCompletionTimeAsMilli != prevCompletionTimeAsMilli) {
             completionTimeSharedReference.set(newCompletionTimeAsMilli);
+            for (CompletionTimeListener completionTimeListener : completionTimeListeners) {
+                completionTimeListener.onCompletionTimeAdvance(newCompletionTimeAsMilli);
+            }
         }
     }
 }
@@ -0,0 +1,190 @@
+package org.ldbcouncil.finbench.driver.runtime.executor;
+
+import static java.lang.String.format;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.ldbcouncil.finbench.driver.ChildOperationGenerator;
+import org.ldbcouncil.finbench.driver.Db;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.OperationHandlerRunnableContext;
+import org.ldbcouncil.finbench.driver.WorkloadStreams;
+import org.ldbcouncil.finbench.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeReader;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeWriter;
+import org.ldbcouncil.finbench.driver.runtime.metrics.MetricsService;
+import org.ldbcouncil.finbench.driver.runtime.scheduling.Spinner;
+import org.ldbcouncil.finbench.driver.temporal.TimeSource;
+
+/**
+ * Executes every operation as an independent asynchronous task instead of pinning one pooled platform thread per
+ * in-flight operation. When the JVM provides virtual threads (Java 21+) each task runs on its own virtual thread,
+ * otherwise tasks run on an elastic pool of platform threads.
+ * The number of in-flight operations is bounded by maxInFlightOperations, submitting beyond that bound blocks.
+ */
+public class AsyncOperationExecutor implements OperationExecutor {
+    private static final String VIRTUAL_THREAD_EXECUTOR_FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+
+    private final ExecutorService executorService;
+    private final Semaphore inFlightPermits;
+    private final AtomicLong uncompletedHandlers = new AtomicLong(0);
+    private final AtomicBoolean shutdown = new AtomicBoolean(false);
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor;
+    private final ConcurrentErrorReporter errorReporter;
+
+    public AsyncOperationExecutor(int maxInFlightOperations,
+                                  Db db,
+                                  WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+                                  CompletionTimeWriter completionTimeWriter,
+                                  CompletionTimeReader completionTimeReader,
+                                  Spinner spinner,
+                                  TimeSource timeSource,
+                                  ConcurrentErrorReporter errorReporter,
+                                  MetricsService metricsService,
+                                  ChildOperationGenerator childOperationGenerator) {
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+            streamDefinition,
+            db,
+            completionTimeWriter,
+            completionTimeReader,
+            spinner,
+            timeSource,
+            errorReporter,
+            metricsService
+        );
+        this.inFlightPermits = new Semaphore(maxInFlightOperations);
+        this.childOperationGenerator = childOperationGenerator;
+        this.childOperationExecutor = new ChildOperationExecutor();
+        this.errorReporter = errorReporter;
+        this.executorService = newExecutorService();
+    }
+
+    private static ExecutorService newExecutorService() {
+        try {
+            Method virtualThreadExecutorFactory = Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR_FACTORY_METHOD);
+            return (ExecutorService) virtualThreadExecutorFactory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            // virtual threads are not available (or not enabled) on this JVM, fall back to platform threads
+            ThreadFactory threadFactory = new ThreadFactory() {
+                private final long factoryTimeStampId = System.currentTimeMillis();
+                int count = 0;
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    return new Thread(
+                        runnable,
+                        AsyncOperationExecutor.class.getSimpleName() + "-id(" + factoryTimeStampId + ")"
+                            + "-thread(" + count++ + ")"
+                    );
+                }
+            };
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+    }
+
+    @Override
+    public final void execute(Operation operation) throws OperationExecutorException {
+        uncompletedHandlers.incrementAndGet();
+        boolean permitAcquired = false;
+        OperationHandlerRunnableContext operationHandlerRunnableContext = null;
+        try {
+            // --- BLOCKING CALL (when maximum number of in-flight operations is reached) ---
+            inFlightPermits.acquire();
+            permitAcquired = true;
+            operationHandlerRunnableContext =
+                operationHandlerRunnableContextRetriever.getInitializedHandlerFor(operation);
+            final OperationHandlerRunnableContext context = operationHandlerRunnableContext;
+            executorService.execute(() -> {
+                Throwable throwable = null;
+                try {
+                    context.run();
+                } catch (Throwable e) {
+                    throwable = e;
+                } finally {
+                    afterExecute(context, throwable);
+                }
+            });
+        } catch (Throwable e) {
+            // the task never ran, so afterExecute will not give back what was taken for it
+            if (null != operationHandlerRunnableContext) {
+                operationHandlerRunnableContext.cleanup();
+            }
+            if (permitAcquired) {
+                inFlightPermits.release();
+            }
+            uncompletedHandlers.decrementAndGet();
+            throw new OperationExecutorException(
+                format("Error retrieving handler\nOperation: %s\n%s",
+                    operation,
+                    ConcurrentErrorReporter.stackTraceToString(e)),
+                e);
+        }
+    }
+
+    // Note, this occurs in the same (virtual) thread that ran the operation handler, as the last step of its task
+    private void afterExecute(OperationHandlerRunnableContext operationHandlerRunnableContext, Throwable throwable) {
+        try {
+            if (null != throwable) {
+                errorReporter.reportError(this,
+                    format("Error executing handler\n%s", ConcurrentErrorReporter.stackTraceToString(throwable)));
+                return;
+            }
+            childOperationExecutor.execute(
+                childOperationGenerator,
+                operationHandlerRunnableContext.operation(),
+                operationHandlerRunnableContext.resultReporter().result(),
+                operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                operationHandlerRunnableContextRetriever
+            );
+        } catch (Throwable e) {
+            errorReporter.reportError(this,
+                format("Error retrieving handler\n%s", ConcurrentErrorReporter.stackTraceToString(e)));
+        } finally {
+            uncompletedHandlers.decrementAndGet();
+            operationHandlerRunnableContext.cleanup();
+            inFlightPermits.release();
+        }
+    }
+
+    @Override
+    public final synchronized void shutdown(long waitAsMilli) throws OperationExecutorException {
+        if (shutdown.get()) {
+            throw new OperationExecutorException("Executor has already been shutdown");
+        }
+        try {
+            executorService.shutdown();
+            boolean allHandlersCompleted = executorService.awaitTermination(waitAsMilli, TimeUnit.MILLISECONDS);
+            if (!allHandlersCompleted) {
+                List<Runnable> stillRunningTasks = executorService.shutdownNow();
+                if (!stillRunningTasks.isEmpty()) {
+                    String errMsg = format(
+                        "%s shutdown before all handlers could complete\n%s handlers were queued for execution "
+                            + "but not yet started\n%s handlers were mid-execution",
+                        getClass().getSimpleName(),
+                        stillRunningTasks.size(),
+                        uncompletedHandlers.get() - stillRunningTasks.size());
+                    throw new OperationExecutorException(errMsg);
+                }
+            }
+        } catch (Throwable e) {
+            throw new OperationExecutorException("Error encountered while trying to shutdown", e);
+        } finally {
+            shutdown.set(true);
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount() {
+        return uncompletedHandlers.get();
+    }
+}
@@ -0,0 +1,80 @@
+package org.ldbcouncil.finbench.driver.runtime.executor;
+
+import static java.lang.String.format;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeException;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeService;
+import org.ldbcouncil.finbench.driver.runtime.scheduling.CompletionTimeDependencyGate;
+
+/**
+ * Hands dependent operations to the inner executor only once Completion Time has reached their dependency time
+ * stamp, see {@link CompletionTimeDependencyGate}. All other operations are passed straight through.
+ */
+public class DependencyGatingOperationExecutor implements OperationExecutor {
+    private final OperationExecutor innerExecutor;
+    private final CompletionTimeDependencyGate gate;
+    private final Set<Class<? extends Operation>> dependentOperationTypes;
+    private final AtomicBoolean shutdown = new AtomicBoolean(false);
+
+    public DependencyGatingOperationExecutor(OperationExecutor innerExecutor,
+                                             Set<Class<? extends Operation>> dependentOperationTypes,
+                                             CompletionTimeService completionTimeService,
+                                             int capacity,
+                                             ConcurrentErrorReporter errorReporter) throws CompletionTimeException {
+        this.innerExecutor = innerExecutor;
+        this.dependentOperationTypes = dependentOperationTypes;
+        this.gate = new CompletionTimeDependencyGate(
+            completionTimeService,
+            capacity,
+            innerExecutor::execute,
+            errorReporter
+        );
+        completionTimeService.addCompletionTimeListener(gate);
+    }
+
+    @Override
+    public final void execute(Operation operation) throws OperationExecutorException {
+        try {
+            if (!dependentOperationTypes.contains(operation.getClass()) || gate.dependencySatisfied(operation)) {
+                innerExecutor.execute(operation);
+            } else {
+                // --- BLOCKING CALL (when gate is at capacity) ---
+                gate.gate(operation);
+            }
+        } catch (CompletionTimeException | InterruptedException e) {
+            throw new OperationExecutorException(
+                format("Error gating operation on completion time\nOperation: %s", operation), e);
+        }
+    }
+
+    @Override
+    public final synchronized void shutdown(long waitAsMilli) throws OperationExecutorException {
+        if (shutdown.get()) {
+            throw new OperationExecutorException("Executor has already been shutdown");
+        }
+        long discardedOperations;
+        try {
+            discardedOperations = gate.shutdown(waitAsMilli);
+        } catch (InterruptedException e) {
+            throw new OperationExecutorException("Error encountered while trying to shutdown gate", e);
+        } finally {
+            shutdown.set(true);
+        }
+        innerExecutor.shutdown(waitAsMilli);
+        if (discardedOperations > 0) {
+            throw new OperationExecutorException(format(
+                "%s shutdown before all operations were released\n%s operations were waiting for completion time",
+                getClass().getSimpleName(),
+                discardedOperations));
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount() {
+        return gate.heldOperationCount() + innerExecutor.uncompletedOperationHandlerCount();
+    }
+}
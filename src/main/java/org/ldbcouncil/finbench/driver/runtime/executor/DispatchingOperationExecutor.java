@@ -0,0 +1,74 @@
+package org.ldbcouncil.finbench.driver.runtime.executor;
+
+import static java.lang.String.format;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.finbench.driver.runtime.scheduling.ScheduledStartTimeDispatcher;
+import org.ldbcouncil.finbench.driver.runtime.scheduling.SchedulerType;
+import org.ldbcouncil.finbench.driver.temporal.TimeSource;
+
+/**
+ * Hands operations to the inner executor only once their scheduled start time has been reached, see
+ * {@link ScheduledStartTimeDispatcher}.
+ */
+public class DispatchingOperationExecutor implements OperationExecutor {
+    private final OperationExecutor innerExecutor;
+    private final ScheduledStartTimeDispatcher dispatcher;
+    private final AtomicBoolean shutdown = new AtomicBoolean(false);
+
+    public DispatchingOperationExecutor(OperationExecutor innerExecutor,
+                                        SchedulerType schedulerType,
+                                        int capacity,
+                                        TimeSource timeSource,
+                                        ConcurrentErrorReporter errorReporter) {
+        this.innerExecutor = innerExecutor;
+        this.dispatcher = new ScheduledStartTimeDispatcher(
+            timeSource,
+            schedulerType,
+            capacity,
+            innerExecutor::execute,
+            errorReporter
+        );
+    }
+
+    @Override
+    public final void execute(Operation operation) throws OperationExecutorException {
+        try {
+            // --- BLOCKING CALL (when dispatcher is at capacity) ---
+            dispatcher.schedule(operation);
+        } catch (InterruptedException e) {
+            throw new OperationExecutorException(
+                format("Interrupted while scheduling operation\nOperation: %s", operation), e);
+        }
+    }
+
+    @Override
+    public final synchronized void shutdown(long waitAsMilli) throws OperationExecutorException {
+        if (shutdown.get()) {
+            throw new OperationExecutorException("Executor has already been shutdown");
+        }
+        long discardedOperations;
+        try {
+            discardedOperations = dispatcher.shutdown(waitAsMilli);
+        } catch (InterruptedException e) {
+            throw new OperationExecutorException("Error encountered while trying to shutdown dispatcher", e);
+        } finally {
+            shutdown.set(true);
+        }
+        innerExecutor.shutdown(waitAsMilli);
+        if (discardedOperations > 0) {
+            throw new OperationExecutorException(format(
+                "%s shutdown before all operations were dispatched\n%s operations were waiting for their "
+                    + "scheduled start time",
+                getClass().getSimpleName(),
+                discardedOperations));
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount() {
+        return dispatcher.heldOperationCount() + innerExecutor.uncompletedOperationHandlerCount();
+    }
+}
@@ -0,0 +1,13 @@
+package org.ldbcouncil.finbench.driver.runtime.executor;
+
+public enum OperationExecutorType {
+    /**
+     * Fixed pool of platform threads, one thread per in-flight operation
+     */
+    THREAD_POOL,
+    /**
+     * One lightweight task per operation (virtual threads when the JVM provides them),
+     * thread count bounds the number of in-flight operations
+     */
+    ASYNC
+}
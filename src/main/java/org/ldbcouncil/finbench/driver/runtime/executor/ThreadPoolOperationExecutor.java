@@ -5,6 +5,10 @@ import static java.lang.String.format;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -12,11 +16,13 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import org.ldbcouncil.finbench.driver.ChildOperationGenerator;
 import org.ldbcouncil.finbench.driver.Db;
+import org.ldbcouncil.finbench.driver.DbException;
 import org.ldbcouncil.finbench.driver.Operation;
 import org.ldbcouncil.finbench.driver.OperationHandlerRunnableContext;
 import org.ldbcouncil.finbench.driver.WorkloadStreams;
 import org.ldbcouncil.finbench.driver.runtime.ConcurrentErrorReporter;
 import org.ldbcouncil.finbench.driver.runtime.DefaultQueues;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeException;
 import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeReader;
 import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeWriter;
 import org.ldbcouncil.finbench.driver.runtime.metrics.MetricsService;
@@ -25,6 +31,7 @@ import org.ldbcouncil.finbench.driver.temporal.TimeSource;
 
 public class ThreadPoolOperationExecutor implements OperationExecutor {
     private final ExecutorService threadPoolExecutorService;
+    private final ScheduledExecutorService childOperationScheduler;
     private final AtomicLong uncompletedHandlers = new AtomicLong(0);
     private final AtomicBoolean shutdown = new AtomicBoolean(false);
     private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
@@ -63,6 +70,13 @@ public class ThreadPoolOperationExecutor implements OperationExecutor {
                 );
             }
         };
+        // holds child operations until their scheduled start time, then hands them to the pool, so pool threads never
+        // block on their own bounded queue
+        this.childOperationScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(
+            runnable,
+            ThreadPoolOperationExecutor.class.getSimpleName() + "-id(" + System.currentTimeMillis() + ")"
+                + "-child-scheduler"
+        ));
         this.threadPoolExecutorService = ThreadPoolExecutorWithAfterExecute.newFixedThreadPool(
             threadCount,
             threadFactory,
@@ -70,6 +84,8 @@ public class ThreadPoolOperationExecutor implements OperationExecutor {
             boundedQueueSize,
             childOperationGenerator,
             operationHandlerRunnableContextRetriever,
+            childOperationScheduler,
+            timeSource,
             errorReporter
         );
     }
@@ -96,6 +112,11 @@ public class ThreadPoolOperationExecutor implements OperationExecutor {
             throw new OperationExecutorException("Executor has already been shutdown");
         }
         try {
+            // children are counted as uncompleted handlers, so none are pending after a normal shutdown
+            childOperationScheduler.shutdown();
+            if (!childOperationScheduler.awaitTermination(waitAsMilli, TimeUnit.MILLISECONDS)) {
+                childOperationScheduler.shutdownNow();
+            }
             threadPoolExecutorService.shutdown();
             boolean allHandlersCompleted =
                 threadPoolExecutorService.awaitTermination(waitAsMilli, TimeUnit.MILLISECONDS);
@@ -123,10 +144,62 @@ public class ThreadPoolOperationExecutor implements OperationExecutor {
         return uncompletedHandlers.get();
     }
 
+    /**
+     * A child operation with the state of the child operation generator it was generated with
+     */
+    private static class ChildOperationTask implements Runnable {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+        private final double state;
+
+        private ChildOperationTask(OperationHandlerRunnableContext operationHandlerRunnableContext, double state) {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+            this.state = state;
+        }
+
+        @Override
+        public void run() {
+            operationHandlerRunnableContext.run();
+        }
+    }
+
+    /**
+     * Stream operations block on a full queue, as {@link DefaultQueues#newAlwaysBlockingBounded} does. Child operations
+     * are handed over when they are due, so they are queued ahead of the stream operations waiting for their scheduled
+     * start times. They are never blocked on, a full queue rejects them and the single child operation scheduler
+     * retries later, so it is free to hand over other due child operations in the meantime
+     */
+    private static class ChildOperationFirstQueue extends LinkedBlockingDeque<Runnable> {
+        private ChildOperationFirstQueue(int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        public boolean offer(Runnable runnable) {
+            if (runnable instanceof ChildOperationTask) {
+                return offerFirst(runnable);
+            }
+            try {
+                putLast(runnable);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+
+        @Override
+        public boolean add(Runnable runnable) {
+            return offer(runnable);
+        }
+    }
+
     private static class ThreadPoolExecutorWithAfterExecute extends ThreadPoolExecutor {
+        // delay before a child operation rejected by a full queue is handed over again
+        private static final long CHILD_OPERATION_RETRY_DELAY_AS_MILLI = 1;
         private final ChildOperationGenerator childOperationGenerator;
-        private final ChildOperationExecutor childOperationExecutor;
         private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+        private final ScheduledExecutorService childOperationScheduler;
+        private final TimeSource timeSource;
         private final ConcurrentErrorReporter errorReporter;
 
         static ThreadPoolExecutorWithAfterExecute newFixedThreadPool(
@@ -136,12 +209,14 @@ public class ThreadPoolOperationExecutor implements OperationExecutor {
             int boundedQueueSize,
             ChildOperationGenerator childOperationGenerator,
             OperationHandlerRunnableContextRetriever operationHandlerRunnableContextInitializer,
+            ScheduledExecutorService childOperationScheduler,
+            TimeSource timeSource,
             ConcurrentErrorReporter errorReporter) {
             int corePoolSize = threadCount;
             int maximumPoolSize = threadCount;
             long keepAliveTime = 0;
             TimeUnit unit = TimeUnit.MILLISECONDS;
-            BlockingQueue<Runnable> workQueue = DefaultQueues.newAlwaysBlockingBounded(boundedQueueSize);
+            BlockingQueue<Runnable> workQueue = new ChildOperationFirstQueue(boundedQueueSize);
             return new ThreadPoolExecutorWithAfterExecute(
                 corePoolSize,
                 maximumPoolSize,
@@ -152,6 +227,8 @@ public class ThreadPoolOperationExecutor implements OperationExecutor {
                 uncompletedHandlers,
                 childOperationGenerator,
                 operationHandlerRunnableContextInitializer,
+                childOperationScheduler,
+                timeSource,
                 errorReporter
             );
         }
@@ -168,30 +245,48 @@ public class ThreadPoolOperationExecutor implements OperationExecutor {
             AtomicLong uncompletedHandlers,
             ChildOperationGenerator childOperationGenerator,
             OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
+            ScheduledExecutorService childOperationScheduler,
+            TimeSource timeSource,
             ConcurrentErrorReporter errorReporter) {
             super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory);
-            this.childOperationExecutor = new ChildOperationExecutor();
             this.uncompletedHandlers = uncompletedHandlers;
             this.childOperationGenerator = childOperationGenerator;
             this.operationHandlerRunnableContextRetriever = operationHandlerRunnableContextRetriever;
+            this.childOperationScheduler = childOperationScheduler;
+            this.timeSource = timeSource;
             this.errorReporter = errorReporter;
         }
 
         // Note, this occurs in same worker thread as beforeExecute() and run()
+        // Only the next operation of a chain of child operations is generated here, it runs as a task of its own
         @Override
         protected void afterExecute(Runnable runnable, Throwable throwable) {
             super.afterExecute(runnable, throwable);
-            OperationHandlerRunnableContext operationHandlerRunnableContext =
-                (OperationHandlerRunnableContext) runnable;
+            OperationHandlerRunnableContext operationHandlerRunnableContext;
+            ChildOperationTask parentTask = null;
+            if (runnable instanceof ChildOperationTask) {
+                parentTask = (ChildOperationTask) runnable;
+                operationHandlerRunnableContext = parentTask.operationHandlerRunnableContext;
+            } else {
+                operationHandlerRunnableContext = (OperationHandlerRunnableContext) runnable;
+            }
             try {
-                childOperationExecutor.execute(
-                    childOperationGenerator,
-                    operationHandlerRunnableContext.operation(),
-                    operationHandlerRunnableContext.resultReporter().result(),
-                    operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
-                    operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
-                    operationHandlerRunnableContextRetriever
-                );
+                if (null != childOperationGenerator) {
+                    double state = (null == parentTask)
+                        ? childOperationGenerator.initialState()
+                        : childOperationGenerator.updateState(parentTask.state,
+                            operationHandlerRunnableContext.operation().type());
+                    Operation childOperation = childOperationGenerator.nextOperation(
+                        state,
+                        operationHandlerRunnableContext.operation(),
+                        operationHandlerRunnableContext.resultReporter().result(),
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano()
+                    );
+                    if (null != childOperation) {
+                        schedule(childOperation, state);
+                    }
+                }
             } catch (Throwable e) {
                 errorReporter.reportError(this,
                     format("Error retrieving handler\n%s", ConcurrentErrorReporter.stackTraceToString(e)));
@@ -200,5 +295,43 @@ public class ThreadPoolOperationExecutor implements OperationExecutor {
                 operationHandlerRunnableContext.cleanup();
             }
         }
+
+        private void schedule(Operation childOperation, double state)
+            throws DbException, OperationExecutorException, CompletionTimeException {
+            ChildOperationTask childTask = new ChildOperationTask(
+                operationHandlerRunnableContextRetriever.getInitializedHandlerFor(childOperation), state);
+            // counted before its parent completes, so the executor is never seen idle in between
+            uncompletedHandlers.incrementAndGet();
+            long delayAsMilli = Math.max(0, childOperation.scheduledStartTimeAsMilli() - timeSource.nowAsMilli());
+            try {
+                childOperationScheduler.schedule(() -> submit(childTask), delayAsMilli, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // shutting down
+                discard(childTask);
+            }
+        }
+
+        private void submit(ChildOperationTask childTask) {
+            try {
+                execute(childTask);
+            } catch (RejectedExecutionException e) {
+                if (isShutdown()) {
+                    discard(childTask);
+                    return;
+                }
+                // queue is full
+                try {
+                    childOperationScheduler.schedule(
+                        () -> submit(childTask), CHILD_OPERATION_RETRY_DELAY_AS_MILLI, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException shuttingDown) {
+                    discard(childTask);
+                }
+            }
+        }
+
+        private void discard(ChildOperationTask childTask) {
+            uncompletedHandlers.decrementAndGet();
+            childTask.operationHandlerRunnableContext.cleanup();
+        }
     }
 }
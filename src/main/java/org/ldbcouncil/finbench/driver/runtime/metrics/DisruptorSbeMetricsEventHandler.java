@@ -5,6 +5,7 @@ import static java.lang.String.format;
 import com.lmax.disruptor.EventHandler;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicStampedReference;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.ldbcouncil.finbench.driver.Operation;
@@ -21,28 +22,26 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<UnsafeBuffer> {
 
     private final MetricsManager metricsManager;
     private final ConcurrentErrorReporter errorReporter;
-    private final ResultsLogWriter resultsLogWriter;
     private long processedEventCount = 0L;
-    private final String[] operationNames;
     private final MetricsEvent metricsEvent;
+    private final AtomicLong backPressureEvents;
 
     DisruptorSbeMetricsEventHandler(
         ConcurrentErrorReporter errorReporter,
-        ResultsLogWriter resultsLogWriter,
         TimeUnit unit,
         TimeSource timeSource,
         long maxRuntimeDurationAsNano,
         Map<Integer, Class<? extends Operation>> operationTypeToClassMapping,
-        LoggingServiceFactory loggingServiceFactory) throws MetricsCollectionException {
+        LoggingServiceFactory loggingServiceFactory,
+        AtomicLong backPressureEvents) throws MetricsCollectionException {
         this.errorReporter = errorReporter;
-        this.resultsLogWriter = resultsLogWriter;
+        this.backPressureEvents = backPressureEvents;
         this.metricsManager = new MetricsManager(
             timeSource,
             unit,
             maxRuntimeDurationAsNano,
             operationTypeToClassMapping,
             loggingServiceFactory);
-        operationNames = MetricsManager.toOperationNameArray(operationTypeToClassMapping);
         this.metricsEvent = new MetricsEvent();
     }
 
@@ -69,20 +68,10 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<UnsafeBuffer> {
 
         switch (metricsEvent.eventType()) {
             case DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT: {
+                // results log is written by DisruptorSbeResultsLogEventHandler, in parallel
                 int operationType = metricsEvent.operationType();
-                long scheduledStartTimeAsMilli = metricsEvent.scheduledStartTimeAsMilli();
                 long actualStartTimeAsMilli = metricsEvent.actualStartTimeAsMilli();
                 long runDurationAsNano = metricsEvent.runDurationAsNano();
-                int resultCode = metricsEvent.resultCode();
-                long originalStartTime = metricsEvent.originalStartTime();
-
-                resultsLogWriter.write(
-                    operationNames[operationType],
-                    scheduledStartTimeAsMilli,
-                    actualStartTimeAsMilli,
-                    runDurationAsNano,
-                    resultCode,
-                    originalStartTime);
 
                 metricsManager.measure(actualStartTimeAsMilli, runDurationAsNano, operationType);
                 processedEventCount++;
@@ -99,7 +88,7 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<UnsafeBuffer> {
                 break;
             }
             case DisruptorSbeMetricsEvent.GET_WORKLOAD_RESULTS: {
-                WorkloadResultsSnapshot newResults = metricsManager.snapshot();
+                WorkloadResultsSnapshot newResults = metricsManager.snapshot(backPressureEvents.get());
                 WorkloadResultsSnapshot oldResults;
                 int oldStamp;
                 do {
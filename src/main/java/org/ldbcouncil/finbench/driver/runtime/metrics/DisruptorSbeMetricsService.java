@@ -6,7 +6,6 @@ import static org.ldbcouncil.finbench.driver.runtime.metrics.DisruptorSbeMetrics
 import static org.ldbcouncil.finbench.driver.runtime.metrics.DisruptorSbeMetricsEvent.MESSAGE_HEADER_SIZE;
 import static org.ldbcouncil.finbench.driver.runtime.metrics.DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT;
 
-import com.lmax.disruptor.BlockingWaitStrategy;
 import com.lmax.disruptor.EventTranslator;
 import com.lmax.disruptor.EventTranslatorVararg;
 import com.lmax.disruptor.RingBuffer;
@@ -35,13 +34,18 @@ public class DisruptorSbeMetricsService implements MetricsService {
 
     // TODO this could come from config, if we had a max_runtime parameter. for now, it can default to something
     public static final long DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO = TimeUnit.MINUTES.toNanos(90);
+    public static final int DEFAULT_RING_BUFFER_SIZE = 1024;
+    public static final MetricsWaitStrategy DEFAULT_WAIT_STRATEGY = MetricsWaitStrategy.BLOCKING;
 
     private final AtomicLong initiatedEvents = new AtomicLong(0);
+    // number of times a writer found the ring buffer full and had to wait for the consumer
+    private final AtomicLong backPressureEvents = new AtomicLong(0);
     private final AtomicBoolean shutdown = new AtomicBoolean(false);
     private final TimeSource timeSource;
     private final RingBuffer<UnsafeBuffer> ringBuffer;
     private final Disruptor<UnsafeBuffer> disruptor;
     private final DisruptorSbeMetricsEventHandler eventHandler;
+    private final DisruptorSbeResultsLogEventHandler resultsLogEventHandler;
     private final ConcurrentLinkedQueue<DisruptorSbeMetricsServiceWriter> metricsServiceWriters;
     private final ExecutorService executor;
 
@@ -53,40 +57,85 @@ public class DisruptorSbeMetricsService implements MetricsService {
         ResultsLogWriter resultsLogWriter,
         Map<Integer, Class<? extends Operation>> operationTypeToClassMapping,
         LoggingServiceFactory loggingServiceFactory) throws MetricsCollectionException {
+        this(timeSource, errorReporter, timeUnit, maxRuntimeDurationAsNano, resultsLogWriter,
+            operationTypeToClassMapping, loggingServiceFactory, DEFAULT_RING_BUFFER_SIZE, DEFAULT_WAIT_STRATEGY);
+    }
+
+    public DisruptorSbeMetricsService(
+        TimeSource timeSource,
+        ConcurrentErrorReporter errorReporter,
+        TimeUnit timeUnit,
+        long maxRuntimeDurationAsNano,
+        ResultsLogWriter resultsLogWriter,
+        Map<Integer, Class<? extends Operation>> operationTypeToClassMapping,
+        LoggingServiceFactory loggingServiceFactory,
+        int ringBufferSize,
+        MetricsWaitStrategy waitStrategy) throws MetricsCollectionException {
+        this(timeSource, errorReporter, timeUnit, maxRuntimeDurationAsNano, resultsLogWriter,
+            operationTypeToClassMapping, loggingServiceFactory, ringBufferSize, waitStrategy, null);
+    }
+
+    /**
+     * @param onTimeTracker if not null, is fed every operation result by an additional consumer
+     */
+    public DisruptorSbeMetricsService(
+        TimeSource timeSource,
+        ConcurrentErrorReporter errorReporter,
+        TimeUnit timeUnit,
+        long maxRuntimeDurationAsNano,
+        ResultsLogWriter resultsLogWriter,
+        Map<Integer, Class<? extends Operation>> operationTypeToClassMapping,
+        LoggingServiceFactory loggingServiceFactory,
+        int ringBufferSize,
+        MetricsWaitStrategy waitStrategy,
+        OnTimeTracker onTimeTracker) throws MetricsCollectionException {
         // Specify the size of the ring buffer, must be power of 2
-        int bufferSize = 1024;
+        if (ringBufferSize < 1 || Integer.bitCount(ringBufferSize) != 1) {
+            throw new MetricsCollectionException(
+                format("Ring buffer size must be a power of 2, but was: %s", ringBufferSize));
+        }
 
-        this.executor = Executors.newSingleThreadExecutor();
+        // one thread per consumer: metrics aggregation, results log persistence and optionally on time tracking
+        this.executor = Executors.newFixedThreadPool((null == onTimeTracker) ? 2 : 3);
         // Construct the Disruptor
         disruptor = new Disruptor(
             new DisruptorSbeMetricsEvent.MetricsCollectionEventFactory(),
-            bufferSize,
+            ringBufferSize,
             // Executor that will be used to construct new threads for consumers
             this.executor,
+            // results are published by the worker threads, and status and results snapshots by the status and
+            // main threads, so there is always more than one producer
             ProducerType.MULTI,
-            new BlockingWaitStrategy()
-        //  new LiteBlockingWaitStrategy()
-        //  new SleepingWaitStrategy()
-        //  new YieldingWaitStrategy()
-        //  new BusySpinWaitStrategy()
-        //  new TimeoutBlockingWaitStrategy()
-        //  new PhasedBackoffWaitStrategy()
+            waitStrategy.newWaitStrategy()
         );
 
         // Connect the handler
         eventHandler = new DisruptorSbeMetricsEventHandler(
             errorReporter,
-            resultsLogWriter,
             timeUnit,
             timeSource,
             maxRuntimeDurationAsNano,
             operationTypeToClassMapping,
-            loggingServiceFactory
+            loggingServiceFactory,
+            backPressureEvents
+        );
+
+        resultsLogEventHandler = new DisruptorSbeResultsLogEventHandler(
+            resultsLogWriter,
+            operationTypeToClassMapping
         );
 
-        disruptor.handleEventsWith(eventHandler);
+        // all handlers consume every event in parallel, snapshots are not delayed by results log I/O
         DisruptorExceptionHandler exceptionHandler = new DisruptorExceptionHandler(errorReporter);
+        if (null == onTimeTracker) {
+            disruptor.handleEventsWith(eventHandler, resultsLogEventHandler);
+        } else {
+            DisruptorSbeOnTimeEventHandler onTimeEventHandler = new DisruptorSbeOnTimeEventHandler(onTimeTracker);
+            disruptor.handleEventsWith(eventHandler, resultsLogEventHandler, onTimeEventHandler);
+            disruptor.handleExceptionsFor(onTimeEventHandler).with(exceptionHandler);
+        }
         disruptor.handleExceptionsFor(eventHandler).with(exceptionHandler);
+        disruptor.handleExceptionsFor(resultsLogEventHandler).with(exceptionHandler);
         disruptor.handleExceptionsWith(exceptionHandler);
 
         // Start the Disruptor, starts all threads running  & get the ring buffer from the Disruptor to be used for
@@ -105,7 +154,8 @@ public class DisruptorSbeMetricsService implements MetricsService {
         long startTimeMs = timeSource.nowAsMilli();
         boolean shutdownSuccessful = false;
         while (timeSource.nowAsMilli() - startTimeMs < SHUTDOWN_WAIT_TIMEOUT_AS_MILLI) {
-            if (eventHandler.processedEventCount() >= initiatedEvents.get()) {
+            if (eventHandler.processedEventCount() >= initiatedEvents.get()
+                && resultsLogEventHandler.processedEventCount() >= initiatedEvents.get()) {
                 shutdownSuccessful = true;
                 break;
             }
@@ -113,9 +163,12 @@ public class DisruptorSbeMetricsService implements MetricsService {
         }
         if (false == shutdownSuccessful) {
             String errMsg =
-                format("%s timed out waiting for last operations to complete\n%s/%s operations completed",
+                format("%s timed out waiting for last operations to complete\n%s/%s operations completed\n"
+                        + "%s/%s operations logged",
                     getClass().getSimpleName(),
                     eventHandler.processedEventCount(),
+                    initiatedEvents.get(),
+                    resultsLogEventHandler.processedEventCount(),
                     initiatedEvents.get()
                 );
             throw new MetricsCollectionException(errMsg);
@@ -163,13 +216,14 @@ public class DisruptorSbeMetricsService implements MetricsService {
             throw new MetricsCollectionException("Metrics service has already been shutdown");
         }
         DisruptorSbeMetricsServiceWriter metricsServiceWriter =
-            new DisruptorSbeMetricsServiceWriter(initiatedEvents, ringBuffer, eventHandler);
+            new DisruptorSbeMetricsServiceWriter(initiatedEvents, backPressureEvents, ringBuffer, eventHandler);
         metricsServiceWriters.add(metricsServiceWriter);
         return metricsServiceWriter;
     }
 
     private static class DisruptorSbeMetricsServiceWriter implements MetricsServiceWriter {
         private final AtomicLong initiatedEvents;
+        private final AtomicLong backPressureEvents;
         private final RingBuffer<UnsafeBuffer> ringBuffer;
         private final DisruptorSbeMetricsEventHandler eventHandler;
         private final SubmitOperationResultTranslator submitOperationResultTranslator;
@@ -179,9 +233,11 @@ public class DisruptorSbeMetricsService implements MetricsService {
         private AlreadyShutdownPolicy alreadyShutdownPolicy = null;
 
         public DisruptorSbeMetricsServiceWriter(AtomicLong initiatedEvents,
+                                                AtomicLong backPressureEvents,
                                                 RingBuffer<UnsafeBuffer> ringBuffer,
                                                 DisruptorSbeMetricsEventHandler eventHandler) {
             this.initiatedEvents = initiatedEvents;
+            this.backPressureEvents = backPressureEvents;
             this.ringBuffer = ringBuffer;
             this.eventHandler = eventHandler;
             MetricsEvent metricsEvent = new MetricsEvent();
@@ -205,8 +261,13 @@ public class DisruptorSbeMetricsService implements MetricsService {
                 alreadyShutdownPolicy.apply();
             }
             initiatedEvents.incrementAndGet();
-            ringBuffer.publishEvent(submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
-                actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime);
+            if (!ringBuffer.tryPublishEvent(submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
+                actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime)) {
+                // ring buffer is full, consumer is not keeping up
+                backPressureEvents.incrementAndGet();
+                ringBuffer.publishEvent(submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
+                    actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime);
+            }
         }
 
         @Override
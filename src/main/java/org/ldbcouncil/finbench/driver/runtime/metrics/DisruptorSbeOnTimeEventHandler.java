@@ -0,0 +1,35 @@
+package org.ldbcouncil.finbench.driver.runtime.metrics;
+
+import com.lmax.disruptor.EventHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.ldbcouncil.finbench.driver.runtime.metrics.sbe.MetricsEvent;
+
+/**
+ * Feeds operation results to an {@link OnTimeTracker}. Runs as its own consumer of the metrics ring buffer, in
+ * parallel to {@link DisruptorSbeMetricsEventHandler}, so the tracker is current while the workload is running.
+ */
+class DisruptorSbeOnTimeEventHandler implements EventHandler<UnsafeBuffer> {
+    private final OnTimeTracker onTimeTracker;
+    private final MetricsEvent metricsEvent;
+
+    DisruptorSbeOnTimeEventHandler(OnTimeTracker onTimeTracker) {
+        this.onTimeTracker = onTimeTracker;
+        this.metricsEvent = new MetricsEvent();
+    }
+
+    @Override
+    public void onEvent(UnsafeBuffer event, long l, boolean b) throws Exception {
+        metricsEvent.wrapForDecode(
+            event,
+            DisruptorSbeMetricsEvent.MESSAGE_HEADER_SIZE,
+            DisruptorSbeMetricsEvent.ACTING_BLOCK_LENGTH,
+            DisruptorSbeMetricsEvent.ACTING_VERSION
+        );
+        if (DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT == metricsEvent.eventType()) {
+            onTimeTracker.record(
+                metricsEvent.operationType(),
+                metricsEvent.scheduledStartTimeAsMilli(),
+                metricsEvent.actualStartTimeAsMilli());
+        }
+    }
+}
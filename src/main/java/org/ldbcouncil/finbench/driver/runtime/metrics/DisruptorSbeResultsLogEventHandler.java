@@ -0,0 +1,51 @@
+package org.ldbcouncil.finbench.driver.runtime.metrics;
+
+import com.lmax.disruptor.EventHandler;
+import java.util.Map;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.runtime.metrics.sbe.MetricsEvent;
+
+/**
+ * Persists operation results to the results log. Runs as its own consumer of the metrics ring buffer, in parallel to
+ * {@link DisruptorSbeMetricsEventHandler}, so metrics aggregation and status/results snapshots do not wait for disk
+ * I/O.
+ */
+class DisruptorSbeResultsLogEventHandler implements EventHandler<UnsafeBuffer> {
+    private final ResultsLogWriter resultsLogWriter;
+    private final String[] operationNames;
+    private final MetricsEvent metricsEvent;
+    private long processedEventCount = 0L;
+
+    DisruptorSbeResultsLogEventHandler(
+        ResultsLogWriter resultsLogWriter,
+        Map<Integer, Class<? extends Operation>> operationTypeToClassMapping) throws MetricsCollectionException {
+        this.resultsLogWriter = resultsLogWriter;
+        this.operationNames = MetricsManager.toOperationNameArray(operationTypeToClassMapping);
+        this.metricsEvent = new MetricsEvent();
+    }
+
+    long processedEventCount() {
+        return processedEventCount;
+    }
+
+    @Override
+    public void onEvent(UnsafeBuffer event, long l, boolean b) throws Exception {
+        metricsEvent.wrapForDecode(
+            event,
+            DisruptorSbeMetricsEvent.MESSAGE_HEADER_SIZE,
+            DisruptorSbeMetricsEvent.ACTING_BLOCK_LENGTH,
+            DisruptorSbeMetricsEvent.ACTING_VERSION
+        );
+        if (DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT == metricsEvent.eventType()) {
+            resultsLogWriter.write(
+                operationNames[metricsEvent.operationType()],
+                metricsEvent.scheduledStartTimeAsMilli(),
+                metricsEvent.actualStartTimeAsMilli(),
+                metricsEvent.runDurationAsNano(),
+                metricsEvent.resultCode(),
+                metricsEvent.originalStartTime());
+            processedEventCount++;
+        }
+    }
+}
@@ -153,6 +153,10 @@ public class MetricsManager {
     }
 
     public WorkloadResultsSnapshot snapshot() {
+        return snapshot(0);
+    }
+
+    public WorkloadResultsSnapshot snapshot(long metricsBackPressureCount) {
         Map<String, OperationMetricsSnapshot> operationMetricsMap = new HashMap<>();
         for (OperationTypeMetricsManager operationTypeMetricsManager : operationTypeMetricsManagers) {
             if (null != operationTypeMetricsManager && operationTypeMetricsManager.count() > 0) {
@@ -165,6 +169,7 @@ public class MetricsManager {
             (startTimeAsMilli == Long.MAX_VALUE) ? -1 : startTimeAsMilli,
             (latestFinishTimeAsMilli == Long.MIN_VALUE) ? -1 : latestFinishTimeAsMilli,
             totalOperationCount(),
+            metricsBackPressureCount,
             unit);
     }
 
@@ -0,0 +1,44 @@
+package org.ldbcouncil.finbench.driver.runtime.metrics;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.PhasedBackoffWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How the metrics consumer waits for new events, trading consumer latency against CPU usage
+ */
+public enum MetricsWaitStrategy {
+    /**
+     * Lock and condition variable, lowest CPU usage
+     */
+    BLOCKING,
+    /**
+     * Spin, then yield, uses one core while idle
+     */
+    YIELDING,
+    /**
+     * Busy spin, lowest latency, uses one core while idle
+     */
+    BUSY_SPIN,
+    /**
+     * Spin, then yield, then block
+     */
+    PHASED_BACKOFF;
+
+    WaitStrategy newWaitStrategy() {
+        switch (this) {
+            case YIELDING:
+                return new YieldingWaitStrategy();
+            case BUSY_SPIN:
+                return new BusySpinWaitStrategy();
+            case PHASED_BACKOFF:
+                return PhasedBackoffWaitStrategy.withLock(1, 1, TimeUnit.MILLISECONDS);
+            case BLOCKING:
+            default:
+                return new BlockingWaitStrategy();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.ldbcouncil.finbench.driver.runtime.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.ldbcouncil.finbench.driver.Operation;
+
+/**
+ * Running count of late operations, overall and per operation type, recorded while the workload is executing.
+ * An operation is late when it started more than the excessive delay threshold after its scheduled start time, the
+ * same rule the results log validation applies afterwards.
+ * <p>
+ * Written by a single thread, the metrics collection consumer, and read by any other thread.
+ */
+public class OnTimeTracker {
+    // no verdict before this many operations completed
+    public static final long DEFAULT_MINIMUM_OPERATION_COUNT = 10_000;
+    // one sided z score of the confidence bound, ~99.9%
+    public static final double DEFAULT_CONFIDENCE_Z_SCORE = 3.09;
+
+    private final String[] operationNames;
+    private final long excessiveDelayThresholdAsMilli;
+    private final double timeoutRate;
+    private final long minimumOperationCount;
+    private final double zScore;
+    // per operation type, last element is the total over all types
+    private final AtomicLongArray operationCounts;
+    private final AtomicLongArray lateOperationCounts;
+    private final int totalIndex;
+
+    public OnTimeTracker(Map<Integer, Class<? extends Operation>> operationTypeToClassMapping,
+                         long excessiveDelayThresholdAsMilli,
+                         double timeoutRate) throws MetricsCollectionException {
+        this(operationTypeToClassMapping, excessiveDelayThresholdAsMilli, timeoutRate,
+            DEFAULT_MINIMUM_OPERATION_COUNT, DEFAULT_CONFIDENCE_Z_SCORE);
+    }
+
+    public OnTimeTracker(Map<Integer, Class<? extends Operation>> operationTypeToClassMapping,
+                         long excessiveDelayThresholdAsMilli,
+                         double timeoutRate,
+                         long minimumOperationCount,
+                         double zScore) throws MetricsCollectionException {
+        this.operationNames = MetricsManager.toOperationNameArray(operationTypeToClassMapping);
+        this.excessiveDelayThresholdAsMilli = excessiveDelayThresholdAsMilli;
+        this.timeoutRate = timeoutRate;
+        this.minimumOperationCount = minimumOperationCount;
+        this.zScore = zScore;
+        this.totalIndex = operationNames.length;
+        this.operationCounts = new AtomicLongArray(operationNames.length + 1);
+        this.lateOperationCounts = new AtomicLongArray(operationNames.length + 1);
+    }
+
+    /**
+     * Must only be called by one thread
+     */
+    void record(int operationType, long scheduledStartTimeAsMilli, long actualStartTimeAsMilli) {
+        increment(operationCounts, operationType);
+        increment(operationCounts, totalIndex);
+        if (actualStartTimeAsMilli - scheduledStartTimeAsMilli > excessiveDelayThresholdAsMilli) {
+            increment(lateOperationCounts, operationType);
+            increment(lateOperationCounts, totalIndex);
+        }
+    }
+
+    private static void increment(AtomicLongArray counts, int index) {
+        // single writer, readers only need to eventually see the new value
+        counts.lazySet(index, counts.get(index) + 1);
+    }
+
+    public long operationCount() {
+        return operationCounts.get(totalIndex);
+    }
+
+    public long lateOperationCount() {
+        return lateOperationCounts.get(totalIndex);
+    }
+
+    /**
+     * @return operation name to late operation ratio, for the operation types seen so far
+     */
+    public Map<String, Double> lateOperationRatioPerType() {
+        Map<String, Double> lateOperationRatioPerType = new LinkedHashMap<>();
+        for (int operationType = 0; operationType < operationNames.length; operationType++) {
+            long operationCount = operationCounts.get(operationType);
+            if (operationCount > 0) {
+                lateOperationRatioPerType.put(operationNames[operationType],
+                    (double) lateOperationCounts.get(operationType) / operationCount);
+            }
+        }
+        return lateOperationRatioPerType;
+    }
+
+    /**
+     * True once the lower bound of the Wilson score interval of the late operation ratio exceeds the timeout rate,
+     * i.e. the late operations seen so far fail the schedule audit with the configured confidence.
+     */
+    public boolean failureIsCertain() {
+        long operationCount = operationCount();
+        if (operationCount < minimumOperationCount) {
+            return false;
+        }
+        return lateOperationRatioLowerBound(lateOperationCount(), operationCount, zScore) > timeoutRate;
+    }
+
+    static double lateOperationRatioLowerBound(long lateOperationCount, long operationCount, double zScore) {
+        double n = operationCount;
+        double p = lateOperationCount / n;
+        double z2 = zScore * zScore;
+        double centre = p + z2 / (2 * n);
+        double spread = zScore * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n));
+        return (centre - spread) / (1 + z2 / n);
+    }
+}
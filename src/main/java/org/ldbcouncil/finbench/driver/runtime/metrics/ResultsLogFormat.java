@@ -0,0 +1,49 @@
+package org.ldbcouncil.finbench.driver.runtime.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import org.ldbcouncil.finbench.driver.runtime.BinaryResultsLogReader;
+import org.ldbcouncil.finbench.driver.runtime.SimpleResultsLogReader;
+
+/**
+ * On-disk format of the results log
+ */
+public enum ResultsLogFormat {
+    /**
+     * Pipe separated text, one row per operation
+     */
+    CSV("-results_log.csv"),
+    /**
+     * Fixed width binary records written through a memory mapped file, see
+     * {@link org.ldbcouncil.finbench.driver.runtime.BinaryResultsLogWriter}
+     */
+    BINARY("-results_log.bin");
+
+    private final String filenameSuffix;
+
+    ResultsLogFormat(String filenameSuffix) {
+        this.filenameSuffix = filenameSuffix;
+    }
+
+    public String filenameSuffix() {
+        return filenameSuffix;
+    }
+
+    public ResultsLogReader newReader(File resultsLog) throws IOException {
+        switch (this) {
+            case BINARY:
+                return new BinaryResultsLogReader(resultsLog);
+            case CSV:
+                return new SimpleResultsLogReader(resultsLog);
+            default:
+                throw new IOException("Unsupported results log format: " + this);
+        }
+    }
+
+    /**
+     * Format of an existing results log, detected from its content rather than its name
+     */
+    public static ResultsLogFormat of(File resultsLog) throws IOException {
+        return BinaryResultsLogReader.isBinaryResultsLog(resultsLog) ? BINARY : CSV;
+    }
+}
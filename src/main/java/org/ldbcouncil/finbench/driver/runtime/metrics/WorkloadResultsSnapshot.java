@@ -38,6 +38,15 @@ public class WorkloadResultsSnapshot {
     @JsonProperty(value = "throughput")
     private double throughput;
 
+    @JsonProperty(value = "metrics_back_pressure_count")
+    private long metricsBackPressureCount;
+
+    @JsonProperty(value = "operation_stream_stall_count")
+    private long operationStreamStallCount;
+
+    @JsonProperty(value = "operation_stream_stall_duration")
+    private long operationStreamStallDurationAsUnit;
+
     private WorkloadResultsSnapshot() {
     }
 
@@ -47,6 +56,16 @@ public class WorkloadResultsSnapshot {
             long latestFinishTimeAsMilli,
             long operationCount,
             TimeUnit unit) {
+        this(metrics, startTimeAsMilli, latestFinishTimeAsMilli, operationCount, 0, unit);
+    }
+
+    public WorkloadResultsSnapshot(
+            Iterable<OperationMetricsSnapshot> metrics,
+            long startTimeAsMilli,
+            long latestFinishTimeAsMilli,
+            long operationCount,
+            long metricsBackPressureCount,
+            TimeUnit unit) {
         this.metrics = Lists.newArrayList(metrics);
         this.metrics.sort(new OperationTypeMetricsManager.OperationMetricsNameComparator());
         this.startTimeAsUnit = unit.convert(startTimeAsMilli, TimeUnit.MILLISECONDS);
@@ -54,9 +73,28 @@ public class WorkloadResultsSnapshot {
         this.totalRunDurationAsUnit = unit.convert(latestFinishTimeAsMilli - startTimeAsMilli, TimeUnit.MILLISECONDS);
         this.throughput = 1000 * (operationCount / (double) unit.toMillis(totalRunDurationAsUnit));
         this.operationCount = operationCount;
+        this.metricsBackPressureCount = metricsBackPressureCount;
         this.unit = unit;
     }
 
+    /**
+     * Copy of these results with the stalls of the operation streams the workload loads in the background
+     */
+    public WorkloadResultsSnapshot withOperationStreamStalls(long stallCount, long stallDurationAsNano) {
+        WorkloadResultsSnapshot results = new WorkloadResultsSnapshot();
+        results.metrics = metrics;
+        results.unit = unit;
+        results.startTimeAsUnit = startTimeAsUnit;
+        results.latestFinishTimeAsUnit = latestFinishTimeAsUnit;
+        results.totalRunDurationAsUnit = totalRunDurationAsUnit;
+        results.operationCount = operationCount;
+        results.throughput = throughput;
+        results.metricsBackPressureCount = metricsBackPressureCount;
+        results.operationStreamStallCount = stallCount;
+        results.operationStreamStallDurationAsUnit = unit.convert(stallDurationAsNano, TimeUnit.NANOSECONDS);
+        return results;
+    }
+
     public static WorkloadResultsSnapshot fromJson(File jsonFile) throws IOException {
         return new ObjectMapper().readValue(jsonFile, WorkloadResultsSnapshot.class);
     }
@@ -100,6 +138,24 @@ public class WorkloadResultsSnapshot {
         return throughput;
     }
 
+    /**
+     * Number of operation results that found the metrics ring buffer full, and had to wait to be submitted
+     */
+    public long metricsBackPressureCount() {
+        return metricsBackPressureCount;
+    }
+
+    /**
+     * Number of times the driver waited for the workload to load operations in the background
+     */
+    public long operationStreamStallCount() {
+        return operationStreamStallCount;
+    }
+
+    public long operationStreamStallDurationAsNano() {
+        return unit.toNanos(operationStreamStallDurationAsUnit);
+    }
+
     public String toJson() {
         try {
             return new ObjectMapper().writer(new DefaultPrettyPrinter()).writeValueAsString(this);
@@ -113,7 +169,10 @@ public class WorkloadResultsSnapshot {
     public String toString() {
         return "WorkloadResultsSnapshot{" + "metrics=" + metrics + ", unit=" + unit + ", startTimeAsUnit="
                 + startTimeAsUnit + ", latestFinishTimeAsUnit=" + latestFinishTimeAsUnit + ", totalRunDurationAsUnit="
-                + totalRunDurationAsUnit + ", operationCount=" + operationCount + ", throughput=" + throughput + '}';
+                + totalRunDurationAsUnit + ", operationCount=" + operationCount + ", throughput=" + throughput
+                + ", metricsBackPressureCount=" + metricsBackPressureCount + ", operationStreamStallCount="
+                + operationStreamStallCount + ", operationStreamStallDurationAsUnit="
+                + operationStreamStallDurationAsUnit + '}';
     }
 
     @Override
@@ -133,6 +192,15 @@ public class WorkloadResultsSnapshot {
         if (operationCount != that.operationCount) {
             return false;
         }
+        if (metricsBackPressureCount != that.metricsBackPressureCount) {
+            return false;
+        }
+        if (operationStreamStallCount != that.operationStreamStallCount) {
+            return false;
+        }
+        if (operationStreamStallDurationAsUnit != that.operationStreamStallDurationAsUnit) {
+            return false;
+        }
         if (startTimeAsUnit != that.startTimeAsUnit) {
             return false;
         }
@@ -153,6 +221,10 @@ public class WorkloadResultsSnapshot {
         result = 31 * result + (int) (latestFinishTimeAsUnit ^ (latestFinishTimeAsUnit >>> 32));
         result = 31 * result + (int) (totalRunDurationAsUnit ^ (totalRunDurationAsUnit >>> 32));
         result = 31 * result + (int) (operationCount ^ (operationCount >>> 32));
+        result = 31 * result + (int) (metricsBackPressureCount ^ (metricsBackPressureCount >>> 32));
+        result = 31 * result + (int) (operationStreamStallCount ^ (operationStreamStallCount >>> 32));
+        result = 31 * result
+                + (int) (operationStreamStallDurationAsUnit ^ (operationStreamStallDurationAsUnit >>> 32));
         return result;
     }
 }
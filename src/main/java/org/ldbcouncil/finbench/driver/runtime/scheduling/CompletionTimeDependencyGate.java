@@ -0,0 +1,137 @@
+package org.ldbcouncil.finbench.driver.runtime.scheduling;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeException;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeListener;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeReader;
+
+/**
+ * Holds dependent operations until Completion Time has reached their dependency time stamp, so they do not occupy
+ * executor threads while waiting for Completion Time to advance.
+ * Operations are held in a priority queue ordered by dependency time stamp. Every time Completion Time advances the
+ * release thread is woken and hands all operations whose dependency is satisfied to the dispatch target in one batch.
+ */
+public class CompletionTimeDependencyGate implements CompletionTimeListener {
+    // safety net only, release thread is woken on every Completion Time advance
+    private static final long PARK_TIMEOUT_AS_NANO = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final CompletionTimeReader completionTimeReader;
+    private final PriorityQueue<Operation> gatedOperations =
+        new PriorityQueue<>(Comparator.comparingLong(Operation::dependencyTimeStamp));
+    private final List<Operation> releasedOperations = new ArrayList<>();
+    private final Semaphore capacity;
+    private final AtomicLong heldOperations = new AtomicLong(0);
+    private final AtomicBoolean shutdown = new AtomicBoolean(false);
+    private final OperationDispatchTarget dispatchTarget;
+    private final ConcurrentErrorReporter errorReporter;
+    private final Thread releaseThread;
+
+    public CompletionTimeDependencyGate(CompletionTimeReader completionTimeReader,
+                                        int capacity,
+                                        OperationDispatchTarget dispatchTarget,
+                                        ConcurrentErrorReporter errorReporter) {
+        this.completionTimeReader = completionTimeReader;
+        this.capacity = new Semaphore(capacity);
+        this.dispatchTarget = dispatchTarget;
+        this.errorReporter = errorReporter;
+        this.releaseThread = new Thread(
+            this::releaseLoop,
+            CompletionTimeDependencyGate.class.getSimpleName() + "-" + System.currentTimeMillis());
+        this.releaseThread.setDaemon(true);
+        this.releaseThread.start();
+    }
+
+    public boolean dependencySatisfied(Operation operation) throws CompletionTimeException {
+        return completionTimeReader.completionTimeAsMilli() >= operation.dependencyTimeStamp();
+    }
+
+    /**
+     * Hold operation until its dependency is satisfied, blocks while the gate already holds capacity operations
+     */
+    public void gate(Operation operation) throws InterruptedException {
+        capacity.acquire();
+        heldOperations.incrementAndGet();
+        synchronized (gatedOperations) {
+            gatedOperations.add(operation);
+        }
+        // Completion Time may have advanced before operation was added, wake release thread to re-check
+        LockSupport.unpark(releaseThread);
+    }
+
+    @Override
+    public void onCompletionTimeAdvance(long completionTimeAsMilli) {
+        LockSupport.unpark(releaseThread);
+    }
+
+    /**
+     * Operations that are gated but are not yet accepted by the dispatch target
+     */
+    public long heldOperationCount() {
+        return heldOperations.get();
+    }
+
+    /**
+     * Stops the release thread, operations still held are discarded
+     *
+     * @return number of operations that were discarded
+     */
+    public long shutdown(long waitAsMilli) throws InterruptedException {
+        shutdown.set(true);
+        LockSupport.unpark(releaseThread);
+        releaseThread.join(waitAsMilli);
+        if (releaseThread.isAlive()) {
+            releaseThread.interrupt();
+        }
+        return heldOperations.get();
+    }
+
+    private void releaseLoop() {
+        while (!shutdown.get()) {
+            long completionTimeAsMilli;
+            try {
+                completionTimeAsMilli = completionTimeReader.completionTimeAsMilli();
+            } catch (CompletionTimeException e) {
+                errorReporter.reportError(this,
+                    format("Error encountered while reading CT\n%s", ConcurrentErrorReporter.stackTraceToString(e)));
+                return;
+            }
+            synchronized (gatedOperations) {
+                while (!gatedOperations.isEmpty()
+                    && gatedOperations.peek().dependencyTimeStamp() <= completionTimeAsMilli) {
+                    releasedOperations.add(gatedOperations.poll());
+                }
+            }
+            if (releasedOperations.isEmpty()) {
+                LockSupport.parkNanos(this, PARK_TIMEOUT_AS_NANO);
+                continue;
+            }
+            for (Operation operation : releasedOperations) {
+                capacity.release();
+                try {
+                    // --- BLOCKING CALL (when dispatch target is saturated) ---
+                    dispatchTarget.dispatch(operation);
+                } catch (Throwable e) {
+                    errorReporter.reportError(this,
+                        format("Error dispatching operation\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString(e)));
+                } finally {
+                    heldOperations.decrementAndGet();
+                }
+            }
+            releasedOperations.clear();
+        }
+    }
+}
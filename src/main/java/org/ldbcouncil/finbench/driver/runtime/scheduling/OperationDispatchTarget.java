@@ -0,0 +1,10 @@
+package org.ldbcouncil.finbench.driver.runtime.scheduling;
+
+import org.ldbcouncil.finbench.driver.Operation;
+
+/**
+ * Receives operations once they are released by a scheduling component, typically an operation executor
+ */
+public interface OperationDispatchTarget {
+    void dispatch(Operation operation) throws Exception;
+}
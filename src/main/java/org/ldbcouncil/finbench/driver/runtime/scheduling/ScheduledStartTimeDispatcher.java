@@ -0,0 +1,164 @@
+package org.ldbcouncil.finbench.driver.runtime.scheduling;
+
+import static java.lang.String.format;
+
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.finbench.driver.temporal.TimeSource;
+
+/**
+ * Holds operations until their scheduled start time and only then hands them to the dispatch target (executor),
+ * so executor threads are not occupied waiting for start times.
+ * Operations are held in a DelayQueue that releases them a short tail window before they are due, in scheduling order
+ * when they are due at the same time. The remainder of the tail is converted to a System.nanoTime deadline when the
+ * operation leaves the queue and waited out on the dispatcher thread with park-nanos or a busy spin, depending on
+ * scheduler type.
+ */
+public class ScheduledStartTimeDispatcher {
+    public static final long DEFAULT_TAIL_DURATION_AS_MILLI = 2;
+    private static final long PARK_DURATION_AS_NANO = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long POLL_TIMEOUT_AS_MILLI = 100;
+
+    private final TimeSource timeSource;
+    private final SchedulerType schedulerType;
+    private final long tailDurationAsMilli;
+    private final DelayQueue<ScheduledOperation> scheduledOperations = new DelayQueue<>();
+    private final Semaphore capacity;
+    private final AtomicLong heldOperations = new AtomicLong(0);
+    private final AtomicLong scheduleSequence = new AtomicLong(0);
+    private final AtomicBoolean shutdown = new AtomicBoolean(false);
+    private final OperationDispatchTarget dispatchTarget;
+    private final ConcurrentErrorReporter errorReporter;
+    private final Thread dispatcherThread;
+
+    public ScheduledStartTimeDispatcher(TimeSource timeSource,
+                                        SchedulerType schedulerType,
+                                        int capacity,
+                                        OperationDispatchTarget dispatchTarget,
+                                        ConcurrentErrorReporter errorReporter) {
+        if (SchedulerType.SPINNER == schedulerType) {
+            throw new IllegalArgumentException(
+                format("%s does not dispatch operations centrally", SchedulerType.SPINNER.name()));
+        }
+        this.timeSource = timeSource;
+        this.schedulerType = schedulerType;
+        this.tailDurationAsMilli = (SchedulerType.DISPATCHER == schedulerType) ? 0 : DEFAULT_TAIL_DURATION_AS_MILLI;
+        this.capacity = new Semaphore(capacity);
+        this.dispatchTarget = dispatchTarget;
+        this.errorReporter = errorReporter;
+        this.dispatcherThread = new Thread(
+            this::dispatchLoop,
+            ScheduledStartTimeDispatcher.class.getSimpleName() + "-" + System.currentTimeMillis());
+        this.dispatcherThread.setDaemon(true);
+        this.dispatcherThread.start();
+    }
+
+    /**
+     * Hand operation over to the dispatcher, blocks while the dispatcher already holds capacity operations
+     */
+    public void schedule(Operation operation) throws InterruptedException {
+        capacity.acquire();
+        heldOperations.incrementAndGet();
+        scheduledOperations.put(new ScheduledOperation(operation, scheduleSequence.getAndIncrement()));
+    }
+
+    /**
+     * Operations that were scheduled but are not yet accepted by the dispatch target
+     */
+    public long heldOperationCount() {
+        return heldOperations.get();
+    }
+
+    /**
+     * Stops the dispatcher thread, operations still held are discarded
+     *
+     * @return number of operations that were discarded
+     */
+    public long shutdown(long waitAsMilli) throws InterruptedException {
+        shutdown.set(true);
+        dispatcherThread.join(waitAsMilli);
+        if (dispatcherThread.isAlive()) {
+            dispatcherThread.interrupt();
+        }
+        return heldOperations.get();
+    }
+
+    private void dispatchLoop() {
+        while (!shutdown.get()) {
+            ScheduledOperation next;
+            try {
+                next = scheduledOperations.poll(POLL_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (null == next) {
+                continue;
+            }
+            long remainingAsMilli = next.operation.scheduledStartTimeAsMilli() - timeSource.nowAsMilli();
+            waitForTail(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remainingAsMilli));
+            capacity.release();
+            try {
+                // --- BLOCKING CALL (when dispatch target is saturated) ---
+                dispatchTarget.dispatch(next.operation);
+            } catch (Throwable e) {
+                errorReporter.reportError(this,
+                    format("Error dispatching operation\nOperation: %s\n%s",
+                        next.operation,
+                        ConcurrentErrorReporter.stackTraceToString(e)));
+            } finally {
+                // decrement only after dispatch target has accepted operation, so it is never counted as neither
+                heldOperations.decrementAndGet();
+            }
+        }
+    }
+
+    private void waitForTail(long tailDeadlineAsNano) {
+        switch (schedulerType) {
+            case DISPATCHER_PARK:
+                while (System.nanoTime() - tailDeadlineAsNano < 0) {
+                    LockSupport.parkNanos(PARK_DURATION_AS_NANO);
+                }
+                break;
+            case DISPATCHER_SPIN:
+                while (System.nanoTime() - tailDeadlineAsNano < 0) {
+                    // busy spin, lowest latency at the cost of one core
+                }
+                break;
+            default:
+                // DelayQueue only releases operations once they are due
+                break;
+        }
+    }
+
+    private class ScheduledOperation implements Delayed {
+        private final Operation operation;
+        private final long sequence;
+
+        private ScheduledOperation(Operation operation, long sequence) {
+            this.operation = operation;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            long delayAsMilli = operation.scheduledStartTimeAsMilli() - tailDurationAsMilli - timeSource.nowAsMilli();
+            return unit.convert(delayAsMilli, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            ScheduledOperation otherOperation = (ScheduledOperation) other;
+            int byStartTime = Long.compare(
+                operation.scheduledStartTimeAsMilli(),
+                otherOperation.operation.scheduledStartTimeAsMilli());
+            return (0 != byStartTime) ? byStartTime : Long.compare(sequence, otherOperation.sequence);
+        }
+    }
+}
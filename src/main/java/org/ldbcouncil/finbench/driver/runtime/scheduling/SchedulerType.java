@@ -0,0 +1,20 @@
+package org.ldbcouncil.finbench.driver.runtime.scheduling;
+
+public enum SchedulerType {
+    /**
+     * Every worker thread sleep-polls until the scheduled start time of its own operation
+     */
+    SPINNER,
+    /**
+     * Central dispatcher holds operations until they are due, using a timed wait
+     */
+    DISPATCHER,
+    /**
+     * Central dispatcher, the final tail window before an operation is due is waited out with park-nanos
+     */
+    DISPATCHER_PARK,
+    /**
+     * Central dispatcher, the final tail window before an operation is due is waited out with a busy spin
+     */
+    DISPATCHER_SPIN
+}
@@ -11,17 +11,18 @@ import java.util.Map;
  * and creates a summary of the delayed operations using (method snapshot)
  */
 class ResultsLogValidationSummaryCalculator {
-    private final Histogram delays;
+    private static final int SIGNIFICANT_VALUE_DIGITS = 5;
+    private static final long INITIAL_HIGHEST_TRACKABLE_DELAY_AS_MILLI = 1024;
+
+    private Histogram delays;
     private final Map<String, Histogram> delaysPerType;
     private final Map<String, Long> delaysAboveThresholdPerType;
-    private final long maxDelayAsMilli;
     private final long excessiveDelayThresholdAsMilli;
     private long delaysAboveThreshold;
 
-    ResultsLogValidationSummaryCalculator(long maxDelayAsMilli, long excessiveDelayThresholdAsMilli) {
-        this.maxDelayAsMilli = maxDelayAsMilli;
+    ResultsLogValidationSummaryCalculator(long excessiveDelayThresholdAsMilli) {
         this.excessiveDelayThresholdAsMilli = excessiveDelayThresholdAsMilli;
-        this.delays = new Histogram(1, Math.max(2, maxDelayAsMilli), 5);
+        this.delays = newHistogram(INITIAL_HIGHEST_TRACKABLE_DELAY_AS_MILLI);
         this.delaysPerType = new HashMap<>();
         this.delaysAboveThresholdPerType = new HashMap<>();
         this.delaysAboveThreshold = 0;
@@ -35,15 +36,14 @@ class ResultsLogValidationSummaryCalculator {
      */
     void recordDelay(String operationType, long delayAsMilli) {
         // 所有操作的延迟记录
-        delays.recordValue(delayAsMilli);
+        delays = record(delays, delayAsMilli);
 
         // 不同操作类型的直方图 map
         Histogram delayForType = delaysPerType.get(operationType);
         if (null == delayForType) {
-            delayForType = new Histogram(1, Math.max(2, maxDelayAsMilli), 5);
-            delaysPerType.put(operationType, delayForType);
+            delayForType = newHistogram(INITIAL_HIGHEST_TRACKABLE_DELAY_AS_MILLI);
         }
-        delayForType.recordValue(delayAsMilli);
+        delaysPerType.put(operationType, record(delayForType, delayAsMilli));
 
         // 不同操作类型超过阈值的数量
         Long delaysAboveThresholdForType = delaysAboveThresholdPerType.get(operationType);
@@ -58,6 +58,54 @@ class ResultsLogValidationSummaryCalculator {
         }
     }
 
+    /**
+     * Adds the delays recorded by another calculator, used to combine calculators of results log chunks
+     */
+    void merge(ResultsLogValidationSummaryCalculator other) {
+        delays = add(delays, other.delays);
+        for (Map.Entry<String, Histogram> entry : other.delaysPerType.entrySet()) {
+            Histogram delayForType = delaysPerType.get(entry.getKey());
+            delaysPerType.put(entry.getKey(),
+                (null == delayForType) ? entry.getValue() : add(delayForType, entry.getValue()));
+        }
+        for (Map.Entry<String, Long> entry : other.delaysAboveThresholdPerType.entrySet()) {
+            delaysAboveThresholdPerType.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+        delaysAboveThreshold += other.delaysAboveThreshold;
+    }
+
+    /**
+     * Histograms grow on demand, so the results log does not need to be read upfront to find the highest delay
+     */
+    private static Histogram record(Histogram histogram, long delayAsMilli) {
+        Histogram target = grownToFit(histogram, delayAsMilli);
+        target.recordValue(delayAsMilli);
+        return target;
+    }
+
+    private static Histogram add(Histogram histogram, Histogram other) {
+        Histogram target = grownToFit(histogram, other.getHighestTrackableValue());
+        target.add(other);
+        return target;
+    }
+
+    private static Histogram grownToFit(Histogram histogram, long value) {
+        long highestTrackableValue = histogram.getHighestTrackableValue();
+        if (value <= highestTrackableValue) {
+            return histogram;
+        }
+        while (highestTrackableValue < value) {
+            highestTrackableValue *= 2;
+        }
+        Histogram grown = newHistogram(highestTrackableValue);
+        grown.add(histogram);
+        return grown;
+    }
+
+    private static Histogram newHistogram(long highestTrackableValue) {
+        return new Histogram(1, highestTrackableValue, SIGNIFICANT_VALUE_DIGITS);
+    }
+
     /**
      * Creates a summary with statistics of the delays
      *
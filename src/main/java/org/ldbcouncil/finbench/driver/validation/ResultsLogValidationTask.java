@@ -0,0 +1,241 @@
+package org.ldbcouncil.finbench.driver.validation;
+
+import static java.lang.String.format;
+
+import com.google.common.io.ByteStreams;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.RecursiveTask;
+import org.ldbcouncil.finbench.driver.csv.charseeker.BufferedCharSeeker;
+import org.ldbcouncil.finbench.driver.csv.charseeker.CharSeeker;
+import org.ldbcouncil.finbench.driver.csv.charseeker.Extractors;
+import org.ldbcouncil.finbench.driver.csv.charseeker.Mark;
+import org.ldbcouncil.finbench.driver.csv.charseeker.Readables;
+import org.ldbcouncil.finbench.driver.runtime.BinaryResultsLogReader;
+import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogFormat;
+import org.ldbcouncil.finbench.driver.temporal.TemporalUtil;
+
+/**
+ * Records the delays of one range of a results log in a single pass. Ranges larger than one chunk are split in two,
+ * the halves are computed in parallel on the fork join pool and their calculators merged.
+ */
+abstract class ResultsLogValidationTask extends RecursiveTask<ResultsLogValidationSummaryCalculator> {
+    private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
+    static final long DEFAULT_CSV_CHUNK_SIZE_AS_BYTES = 64 * 1024 * 1024;
+    static final long DEFAULT_BINARY_CHUNK_SIZE_AS_RECORDS = 1 << 20;
+
+    final File resultsLog;
+    final long excessiveDelayThresholdAsMilli;
+    final long start;
+    final long end;
+    // in bytes for CSV results logs, in records for binary results logs
+    final long chunkSize;
+
+    ResultsLogValidationTask(File resultsLog, long excessiveDelayThresholdAsMilli, long start, long end,
+                             long chunkSize) {
+        this.resultsLog = resultsLog;
+        this.excessiveDelayThresholdAsMilli = excessiveDelayThresholdAsMilli;
+        this.start = start;
+        this.end = end;
+        this.chunkSize = chunkSize;
+    }
+
+    static ResultsLogValidationTask forResultsLog(File resultsLog, long excessiveDelayThresholdAsMilli)
+        throws Exception {
+        return forResultsLog(resultsLog, excessiveDelayThresholdAsMilli, DEFAULT_CSV_CHUNK_SIZE_AS_BYTES,
+            DEFAULT_BINARY_CHUNK_SIZE_AS_RECORDS);
+    }
+
+    static ResultsLogValidationTask forResultsLog(File resultsLog,
+                                                  long excessiveDelayThresholdAsMilli,
+                                                  long csvChunkSizeAsBytes,
+                                                  long binaryChunkSizeAsRecords) throws Exception {
+        if (ResultsLogFormat.BINARY == ResultsLogFormat.of(resultsLog)) {
+            try (BinaryResultsLogReader reader = new BinaryResultsLogReader(resultsLog)) {
+                return new BinaryTask(resultsLog, excessiveDelayThresholdAsMilli, 0, reader.recordCount(),
+                    binaryChunkSizeAsRecords);
+            }
+        } else {
+            // skip headers
+            long firstRowStart = CsvTask.nextLineStart(resultsLog, 0);
+            return new CsvTask(resultsLog, excessiveDelayThresholdAsMilli, firstRowStart, resultsLog.length(),
+                csvChunkSizeAsBytes);
+        }
+    }
+
+    /**
+     * @return position at which the range is split, or -1 if the range should be computed directly
+     */
+    abstract long split() throws IOException;
+
+    abstract ResultsLogValidationTask subTask(long start, long end);
+
+    abstract void computeDirectly(ResultsLogValidationSummaryCalculator calculator) throws Exception;
+
+    @Override
+    protected ResultsLogValidationSummaryCalculator compute() {
+        try {
+            long middle = split();
+            if (middle <= start || middle >= end) {
+                ResultsLogValidationSummaryCalculator calculator =
+                    new ResultsLogValidationSummaryCalculator(excessiveDelayThresholdAsMilli);
+                computeDirectly(calculator);
+                return calculator;
+            }
+            ResultsLogValidationTask left = subTask(start, middle);
+            left.fork();
+            ResultsLogValidationSummaryCalculator calculator = subTask(middle, end).compute();
+            calculator.merge(left.join());
+            return calculator;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ResultsLogValidationTaskException(e);
+        }
+    }
+
+    static void recordDelay(ResultsLogValidationSummaryCalculator calculator,
+                            String operationType,
+                            long scheduledStartTimeAsMilli,
+                            long actualStartTimeAsMilli) throws ValidationException {
+        long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
+        if (delayAsMilli < 0) {
+            throw new ValidationException(
+                format("Delay can not be negative\n" + "Delay: %s (ms) / %s\n"
+                        + "Scheduled Start Time: %s (ms) / %s\n" + "Actual Start Time: %s (ms) / %s",
+                    delayAsMilli,
+                    TEMPORAL_UTIL.milliDurationToString(delayAsMilli),
+                    scheduledStartTimeAsMilli,
+                    TEMPORAL_UTIL.milliTimeToTimeString(scheduledStartTimeAsMilli),
+                    actualStartTimeAsMilli,
+                    TEMPORAL_UTIL.milliTimeToTimeString(actualStartTimeAsMilli)
+                )
+            );
+        }
+        calculator.recordDelay(operationType, delayAsMilli);
+    }
+
+    /**
+     * Carries checked exceptions out of the fork join pool
+     */
+    static class ResultsLogValidationTaskException extends RuntimeException {
+        ResultsLogValidationTaskException(Exception cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * Range of bytes of a CSV results log, start and end are always at the start of a row
+     */
+    private static class CsvTask extends ResultsLogValidationTask {
+        private static final int[] COLUMN_DELIMITERS = new int[] {'|'};
+
+        CsvTask(File resultsLog, long excessiveDelayThresholdAsMilli, long start, long end, long chunkSize) {
+            super(resultsLog, excessiveDelayThresholdAsMilli, start, end, chunkSize);
+        }
+
+        @Override
+        long split() throws IOException {
+            if (end - start <= chunkSize) {
+                return -1;
+            }
+            return nextLineStart(resultsLog, start + (end - start) / 2);
+        }
+
+        @Override
+        ResultsLogValidationTask subTask(long start, long end) {
+            return new CsvTask(resultsLog, excessiveDelayThresholdAsMilli, start, end, chunkSize);
+        }
+
+        @Override
+        void computeDirectly(ResultsLogValidationSummaryCalculator calculator) throws Exception {
+            try (FileInputStream inputStream = new FileInputStream(resultsLog)) {
+                inputStream.getChannel().position(start);
+                CharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new InputStreamReader(
+                    ByteStreams.limit(inputStream, end - start), StandardCharsets.UTF_8)));
+                Extractors extractors = new Extractors(';', ',');
+                Mark mark = new Mark();
+                while (charSeeker.seek(mark, COLUMN_DELIMITERS)) {
+                    String operationType = charSeeker.extract(mark, extractors.string()).value();
+                    if (!charSeeker.seek(mark, COLUMN_DELIMITERS)) {
+                        throw new ValidationException(format("No scheduled start time found on line %s of chunk "
+                            + "starting at byte %s", mark.lineNumber(), start));
+                    }
+                    long scheduledStartTimeAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
+                    if (!charSeeker.seek(mark, COLUMN_DELIMITERS)) {
+                        throw new ValidationException(format("No actual start time found on line %s of chunk "
+                            + "starting at byte %s", mark.lineNumber(), start));
+                    }
+                    long actualStartTimeAsMilli = charSeeker.extract(mark, extractors.long_()).longValue();
+                    // duration, result code, original start time
+                    while (!mark.isEndOfLine()) {
+                        charSeeker.seek(mark, COLUMN_DELIMITERS);
+                    }
+                    recordDelay(calculator, operationType, scheduledStartTimeAsMilli, actualStartTimeAsMilli);
+                }
+            }
+        }
+
+        /**
+         * @return position of the first row starting at or after position, or the file length if there is none
+         */
+        static long nextLineStart(File resultsLog, long position) throws IOException {
+            if (0 != position) {
+                // position may already be the start of a row
+                position--;
+            }
+            try (RandomAccessFile file = new RandomAccessFile(resultsLog, "r")) {
+                file.seek(position);
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = file.read(buffer)) > 0) {
+                    for (int i = 0; i < read; i++) {
+                        if ('\n' == buffer[i]) {
+                            return position + i + 1;
+                        }
+                    }
+                    position += read;
+                }
+                return file.length();
+            }
+        }
+    }
+
+    /**
+     * Range of records of a binary results log
+     */
+    private static class BinaryTask extends ResultsLogValidationTask {
+        BinaryTask(File resultsLog, long excessiveDelayThresholdAsMilli, long start, long end, long chunkSize) {
+            super(resultsLog, excessiveDelayThresholdAsMilli, start, end, chunkSize);
+        }
+
+        @Override
+        long split() {
+            if (end - start <= chunkSize) {
+                return -1;
+            }
+            return start + (end - start) / 2;
+        }
+
+        @Override
+        ResultsLogValidationTask subTask(long start, long end) {
+            return new BinaryTask(resultsLog, excessiveDelayThresholdAsMilli, start, end, chunkSize);
+        }
+
+        @Override
+        void computeDirectly(ResultsLogValidationSummaryCalculator calculator) throws Exception {
+            try (BinaryResultsLogReader reader = new BinaryResultsLogReader(resultsLog, start, end)) {
+                while (reader.next()) {
+                    recordDelay(calculator,
+                        reader.getOperationName(),
+                        reader.getScheduledStartTimeAsMilli(),
+                        reader.getActualStartTimeAsMilli());
+                }
+            }
+        }
+    }
+}
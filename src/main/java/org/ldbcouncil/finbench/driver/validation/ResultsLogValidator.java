@@ -1,14 +1,12 @@
 package org.ldbcouncil.finbench.driver.validation;
 
-import org.ldbcouncil.finbench.driver.csv.simple.SimpleCsvFileReader;
 import org.ldbcouncil.finbench.driver.runtime.metrics.OperationMetricsSnapshot;
 import org.ldbcouncil.finbench.driver.runtime.metrics.WorkloadResultsSnapshot;
-import org.ldbcouncil.finbench.driver.temporal.TemporalUtil;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import static java.lang.String.format;
 import static org.ldbcouncil.finbench.driver.validation.ResultsLogValidationResult.ValidationErrorType;
@@ -20,8 +18,6 @@ import static org.ldbcouncil.finbench.driver.validation.ResultsLogValidationResu
  * threshold.
  */
 public class ResultsLogValidator {
-    private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
-
     /**
      * Validates the result from the benchmark. Checks the amount of
      *
@@ -107,86 +103,40 @@ public class ResultsLogValidator {
     }
 
     /**
-     * Loads the benchmark result file and uses the ResultsLogValidationSummaryCalculator to record delayed
-     * operations.
+     * Reads the benchmark results log in a single pass and uses the ResultsLogValidationSummaryCalculator to record
+     * delayed operations. Large results logs are split into chunks that are read in parallel on the common fork join
+     * pool.
      *
-     * @param resultsLog                     The File object to the operation result log CSV-file.
+     * @param resultsLog                     The File object to the operation results log, CSV or binary.
      * @param excessiveDelayThresholdAsMilli The delay threshold when an operation is considered delayed.
      * @return Summary of the delayed operations in a ResultsLogValidationSummary object
-     * @throws ValidationException When the result CSV file could not be opened or invalid delay is computed.
+     * @throws ValidationException When the results log could not be read or invalid delay is computed.
      */
     public ResultsLogValidationSummary compute(File resultsLog, long excessiveDelayThresholdAsMilli)
             throws ValidationException {
-        long maxDelayAsMilli = maxDelayAsMilli(resultsLog);
-        ResultsLogValidationSummaryCalculator calculator = new ResultsLogValidationSummaryCalculator(
-                maxDelayAsMilli,
-                excessiveDelayThresholdAsMilli
-        );
-
-        try (SimpleCsvFileReader reader = new SimpleCsvFileReader(
-                resultsLog,
-                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING)) {
-            // skip headers
-            reader.next();
-            while (reader.hasNext()) {
-                String[] row = reader.next();
-                String operationType = row[0];
-                long scheduledStartTimeAsMilli = Long.parseLong(row[1]);
-                long actualStartTimeAsMilli = Long.parseLong(row[2]);
-                // duration
-                // result code
-                long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
-                calculator.recordDelay(operationType, delayAsMilli);
-            }
-        } catch (FileNotFoundException e) {
-            throw new ValidationException(format("Error opening results log: %s", resultsLog.getAbsolutePath()), e);
-        }
-        // Create summary
-        return calculator.snapshot();
+        return compute(resultsLog, excessiveDelayThresholdAsMilli,
+                ResultsLogValidationTask.DEFAULT_CSV_CHUNK_SIZE_AS_BYTES,
+                ResultsLogValidationTask.DEFAULT_BINARY_CHUNK_SIZE_AS_RECORDS);
     }
 
-    /**
-     * Calculates the maximum delay in the results used to place results in the Histogram object.
-     *
-     * @param resultsLog The File object to the operation result log CSV-file.
-     * @return maximum delay found in the result file.
-     * @throws ValidationException When the delay is invalid (negative)
-     */
-    private long maxDelayAsMilli(File resultsLog) throws ValidationException {
-        long maxDelayAsMilli = 0;
-        try (SimpleCsvFileReader reader = new SimpleCsvFileReader(
-                resultsLog,
-                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING)) {
-            // skip headers
-            reader.next();
-            while (reader.hasNext()) {
-                String[] row = reader.next();
-                // operation type
-                long scheduledStartTimeAsMilli = Long.parseLong(row[1]);
-                long actualStartTimeAsMilli = Long.parseLong(row[2]);
-                // duration
-                // result code
-                long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
-                if (delayAsMilli < 0) {
-                    throw new ValidationException(
-                            format("Delay can not be negative\n" + "Delay: %s (ms) / %s\n"
-                                            + "Scheduled Start Time: %s (ms) / %s\n" + "Actual Start Time: %s (ms) / %s",
-                                    delayAsMilli,
-                                    TEMPORAL_UTIL.milliDurationToString(delayAsMilli),
-                                    scheduledStartTimeAsMilli,
-                                    TEMPORAL_UTIL.milliTimeToTimeString(scheduledStartTimeAsMilli),
-                                    actualStartTimeAsMilli,
-                                    TEMPORAL_UTIL.milliTimeToTimeString(actualStartTimeAsMilli)
-                            )
-                    );
-                }
-                if (delayAsMilli > maxDelayAsMilli) {
-                    maxDelayAsMilli = delayAsMilli;
+    ResultsLogValidationSummary compute(File resultsLog,
+                                        long excessiveDelayThresholdAsMilli,
+                                        long csvChunkSizeAsBytes,
+                                        long binaryChunkSizeAsRecords) throws ValidationException {
+        ResultsLogValidationSummaryCalculator calculator;
+        try {
+            calculator = ForkJoinPool.commonPool().invoke(ResultsLogValidationTask.forResultsLog(
+                    resultsLog, excessiveDelayThresholdAsMilli, csvChunkSizeAsBytes, binaryChunkSizeAsRecords));
+        } catch (Exception e) {
+            // fork join pool may wrap the original exception again when rethrowing it
+            for (Throwable cause = e; null != cause; cause = cause.getCause()) {
+                if (cause instanceof ValidationException) {
+                    throw (ValidationException) cause;
                 }
             }
-        } catch (FileNotFoundException e) {
-            throw new ValidationException(format("Error opening results log: %s", resultsLog.getAbsolutePath()), e);
+            throw new ValidationException(format("Error reading results log: %s", resultsLog.getAbsolutePath()), e);
         }
-        return maxDelayAsMilli;
+        // Create summary
+        return calculator.snapshot();
     }
 }
@@ -0,0 +1,48 @@
+package org.ldbcouncil.finbench.driver.workloads.transaction;
+
+import java.util.Map;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.OperationPartitioner;
+
+/**
+ * Partitions write operations by a hash of the account they write, so all writes of an account are executed by the
+ * same driver process and in their original order. Writes without an account are partitioned by their first
+ * parameter, the id of the person, company, medium or loan they write.
+ */
+public class AccountOperationPartitioner implements OperationPartitioner {
+    private static final String ACCOUNT_ID_PREFIX = "accountId";
+    // 64 bit golden ratio, spreads sequential ids over the partitions
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final int partitionCount;
+
+    public AccountOperationPartitioner(int partitionCount) {
+        this.partitionCount = partitionCount;
+    }
+
+    @Override
+    public int partitionOf(Operation operation) {
+        Object key = null;
+        Map<String, Object> parameters = operation.parameterMap();
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            if (parameter.getKey().startsWith(ACCOUNT_ID_PREFIX)) {
+                key = parameter.getValue();
+                break;
+            }
+            if (null == key) {
+                key = parameter.getValue();
+            }
+        }
+        return partitionOf(key);
+    }
+
+    int partitionOf(Object key) {
+        long hash;
+        if (key instanceof Number) {
+            hash = ((Number) key).longValue() * HASH_MULTIPLIER;
+        } else {
+            hash = (null == key) ? 0 : key.hashCode();
+        }
+        return (int) Math.floorMod(hash ^ (hash >>> 32), (long) partitionCount);
+    }
+}
@@ -24,10 +24,27 @@ public class BatchedOperationStreamReader {
         String viewName,
         String batchColumn
     ) throws WorkloadException, SQLException {
-        loader.createViewOnParquetFile(
-            operationFile.getAbsolutePath(),
-            viewName
-        );
+        return init(operationFile, viewName, batchColumn, false);
+    }
+
+    /**
+     * @param materialize Load the file into a table, see {@link FileLoader#createTableOnParquetFile}, instead of
+     *                    creating a view on it
+     */
+    public Tuple2<Long, Long> init(
+        File operationFile,
+        String viewName,
+        String batchColumn,
+        boolean materialize
+    ) throws WorkloadException, SQLException {
+        if (materialize) {
+            loader.createTableOnParquetFile(operationFile.getAbsolutePath(), viewName, batchColumn);
+        } else {
+            loader.createViewOnParquetFile(
+                operationFile.getAbsolutePath(),
+                viewName
+            );
+        }
 
         return loader.getBoundaryValues(batchColumn, viewName);
     }
@@ -1,8 +1,6 @@
 package org.ldbcouncil.finbench.driver.workloads.transaction;
 
-import com.google.common.collect.EvictingQueue;
 import com.google.common.collect.Ordering;
-import com.google.common.collect.Queues;
 import org.apache.commons.math3.random.RandomDataGenerator;
 import org.ldbcouncil.finbench.driver.ChildOperationGenerator;
 import org.ldbcouncil.finbench.driver.Operation;
@@ -10,7 +8,6 @@ import org.ldbcouncil.finbench.driver.WorkloadException;
 import org.ldbcouncil.finbench.driver.generator.RandomDataGeneratorFactory;
 import org.ldbcouncil.finbench.driver.util.Tuple;
 import org.ldbcouncil.finbench.driver.util.Tuple2;
-import org.ldbcouncil.finbench.driver.util.Tuple4;
 import org.ldbcouncil.finbench.driver.workloads.transaction.queries.*;
 
 import java.util.*;
@@ -23,9 +20,9 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
     private final double initialProbability;
     private final LdbcSimpleQueryFactory[] simpleQueryFactories;
     private final double[] probabilityDegradationFactors;
-    private final Queue<Tuple4<Long, Double, Date, Date>> accountIdBuffer;
-    private final Queue<Long> personIdBuffer;
-    private final Queue<Long> companyIdBuffer;
+    private final SimpleReadParameterBuffer accountIdBuffer;
+    private final SimpleReadParameterBuffer personIdBuffer;
+    private final SimpleReadParameterBuffer companyIdBuffer;
     private final long[] interleavesAsMilli;
     private final BufferReplenishFun bufferReplenishFun;
 
@@ -34,9 +31,9 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
                                            long updateInterleaveAsMilli,
                                            Set<Class<? extends Operation>> enabledSimpleReadOperationTypes,
                                            double compressionRatio,
-                                           Queue<Tuple4<Long, Double, Date, Date>> accountIdBuffer,
-                                           Queue<Long> personIdBuffer,
-                                           Queue<Long> companyIdBuffer,
+                                           SimpleReadParameterBuffer accountIdBuffer,
+                                           SimpleReadParameterBuffer personIdBuffer,
+                                           SimpleReadParameterBuffer companyIdBuffer,
                                            RandomDataGeneratorFactory randomFactory,
                                            Map<Integer, Long> longReadInterleaves,
                                            ScheduledStartTimePolicy scheduledStartTimePolicy,
@@ -286,199 +283,28 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
         }
     }
 
-    static Queue<Long> synchronizedCircularQueueBuffer(int bufferSize) {
-        return Queues.synchronizedQueue(EvictingQueue.<Long>create(bufferSize));
+    static SimpleReadParameterBuffer circularBuffer(int bufferSize) {
+        return new SimpleReadParameterRing(bufferSize);
     }
 
-    static Queue<Tuple4<Long, Double, Date, Date>> synchronizedCircularTuple4QueueBuffer(int bufferSize) {
-        return Queues.synchronizedQueue(EvictingQueue.<Tuple4<Long, Double, Date, Date>>create(bufferSize));
-    }
-
-    static Queue<Long> constantBuffer(final long value) {
-        return new Queue<Long>() {
+    static SimpleReadParameterBuffer constantBuffer(final long id,
+                                                    final double threshold,
+                                                    final long startTimeAsMilli,
+                                                    final long endTimeAsMilli) {
+        return new SimpleReadParameterBuffer() {
             @Override
-            public boolean add(Long longValue) {
-                return true;
+            public void add(long otherId, double otherThreshold, long otherStartTimeAsMilli,
+                            long otherEndTimeAsMilli) {
             }
 
             @Override
-            public boolean offer(Long longValue) {
+            public boolean poll(Parameters parameters) {
+                parameters.id = id;
+                parameters.threshold = threshold;
+                parameters.startTimeAsMilli = startTimeAsMilli;
+                parameters.endTimeAsMilli = endTimeAsMilli;
                 return true;
             }
-
-            @Override
-            public boolean remove(Object o) {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public Long remove() {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public Long poll() {
-                return value;
-            }
-
-            @Override
-            public Long element() {
-                return value;
-            }
-
-            @Override
-            public Long peek() {
-                return value;
-            }
-
-            @Override
-            public int size() {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public boolean isEmpty() {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public boolean contains(Object o) {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public Iterator<Long> iterator() {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public Object[] toArray() {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public <T> T[] toArray(T[] a) {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public boolean containsAll(Collection<?> c) {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public boolean addAll(Collection<? extends Long> c) {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public boolean removeAll(Collection<?> c) {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public boolean retainAll(Collection<?> c) {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public void clear() {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-        };
-    }
-
-    static Queue<Tuple4<Long, Double, Date, Date>> constantTuple4Buffer(final Tuple4<Long, Double, Date, Date> value) {
-        return new Queue<Tuple4<Long, Double, Date, Date>>() {
-            @Override
-            public boolean add(Tuple4<Long, Double, Date, Date> longValue) {
-                return true;
-            }
-
-            @Override
-            public boolean offer(Tuple4<Long, Double, Date, Date> longValue) {
-                return true;
-            }
-
-            @Override
-            public boolean remove(Object o) {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public Tuple4<Long, Double, Date, Date> remove() {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public Tuple4<Long, Double, Date, Date> poll() {
-                return value;
-            }
-
-            @Override
-            public Tuple4<Long, Double, Date, Date> element() {
-                return value;
-            }
-
-            @Override
-            public Tuple4<Long, Double, Date, Date> peek() {
-                return value;
-            }
-
-            @Override
-            public int size() {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public boolean isEmpty() {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public boolean contains(Object o) {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public Iterator<Tuple4<Long, Double, Date, Date>> iterator() {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public Object[] toArray() {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public <T> T[] toArray(T[] a) {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public boolean containsAll(Collection<?> c) {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public boolean addAll(Collection<? extends Tuple4<Long, Double, Date, Date>> c) {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public boolean removeAll(Collection<?> c) {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public boolean retainAll(Collection<?> c) {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
-
-            @Override
-            public void clear() {
-                throw new UnsupportedOperationException("Method not implemented");
-            }
         };
     }
 
@@ -692,9 +518,9 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
 
     private interface LdbcSimpleQueryFactory {
         Operation create(
-            Queue<Tuple4<Long, Double, Date, Date>> accountIdBuffer,
-            Queue<Long> personIdBuffer,
-            Queue<Long> companyIdBuffer,
+            SimpleReadParameterBuffer accountIdBuffer,
+            SimpleReadParameterBuffer personIdBuffer,
+            SimpleReadParameterBuffer companyIdBuffer,
             Operation previousOperation,
             long previousOperationActualStartTimeAsMilli,
             long previousOperationRunDurationAsNano,
@@ -715,13 +541,13 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
     }
 
     public static class ResultBufferReplenishFun implements BufferReplenishFun {
-        private final Queue<Tuple4<Long, Double, Date, Date>> accountIdBuffer;
-        private final Queue<Long> personIdBuffer;
-        private final Queue<Long> companyIdBuffer;
+        private final SimpleReadParameterBuffer accountIdBuffer;
+        private final SimpleReadParameterBuffer personIdBuffer;
+        private final SimpleReadParameterBuffer companyIdBuffer;
 
-        public ResultBufferReplenishFun(Queue<Tuple4<Long, Double, Date, Date>> accountIdBuffer,
-                                        Queue<Long> personIdBuffer,
-                                        Queue<Long> companyIdBuffer) {
+        public ResultBufferReplenishFun(SimpleReadParameterBuffer accountIdBuffer,
+                                        SimpleReadParameterBuffer personIdBuffer,
+                                        SimpleReadParameterBuffer companyIdBuffer) {
             this.accountIdBuffer = accountIdBuffer;
             this.personIdBuffer = personIdBuffer;
             this.companyIdBuffer = companyIdBuffer;
@@ -734,10 +560,10 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
                     List<ComplexRead1Result> typedResults = (List<ComplexRead1Result>) result;
                     ComplexRead1 complexRead1 = (ComplexRead1) operation;
                     for (ComplexRead1Result complexRead1Result : typedResults) {
-                        accountIdBuffer.add(new Tuple4<>(complexRead1Result.getOtherId(),
+                        accountIdBuffer.add(complexRead1Result.getOtherId(),
                             THRESHOLD,
-                            complexRead1.getStartTime(),
-                            complexRead1.getEndTime()));
+                            complexRead1.startTimeAsMilli(),
+                            complexRead1.endTimeAsMilli());
                     }
                     break;
                 }
@@ -745,10 +571,10 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
                     List<ComplexRead2Result> typedResults = (List<ComplexRead2Result>) result;
                     ComplexRead2 complexRead2 = (ComplexRead2) operation;
                     for (ComplexRead2Result complexRead2Result : typedResults) {
-                        accountIdBuffer.add(new Tuple4<>(complexRead2Result.getOtherId(),
+                        accountIdBuffer.add(complexRead2Result.getOtherId(),
                             THRESHOLD,
-                            complexRead2.getStartTime(),
-                            complexRead2.getEndTime()));
+                            complexRead2.startTimeAsMilli(),
+                            complexRead2.endTimeAsMilli());
                     }
                     break;
                 }
@@ -756,10 +582,10 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
                     List<ComplexRead4Result> typedResults = (List<ComplexRead4Result>) result;
                     ComplexRead4 complexRead4 = (ComplexRead4) operation;
                     for (ComplexRead4Result complexRead4Result : typedResults) {
-                        accountIdBuffer.add(new Tuple4<>(complexRead4Result.getOtherId(),
+                        accountIdBuffer.add(complexRead4Result.getOtherId(),
                             THRESHOLD,
-                            complexRead4.getStartTime(),
-                            complexRead4.getEndTime()));
+                            complexRead4.startTimeAsMilli(),
+                            complexRead4.endTimeAsMilli());
                     }
                     break;
                 }
@@ -767,14 +593,14 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
                     List<ComplexRead6Result> typedResults = (List<ComplexRead6Result>) result;
                     ComplexRead6 complexRead6 = (ComplexRead6) operation;
                     for (ComplexRead6Result complexRead6Result : typedResults) {
-                        accountIdBuffer.add(new Tuple4<>(complexRead6Result.getMidId(),
+                        accountIdBuffer.add(complexRead6Result.getMidId(),
                             complexRead6.getThreshold1(),
-                            complexRead6.getStartTime(),
-                            complexRead6.getEndTime()));
-                        accountIdBuffer.add(new Tuple4<>(complexRead6Result.getMidId(),
+                            complexRead6.startTimeAsMilli(),
+                            complexRead6.endTimeAsMilli());
+                        accountIdBuffer.add(complexRead6Result.getMidId(),
                             complexRead6.getThreshold2(),
-                            complexRead6.getStartTime(),
-                            complexRead6.getEndTime()));
+                            complexRead6.startTimeAsMilli(),
+                            complexRead6.endTimeAsMilli());
                     }
                     break;
                 }
@@ -782,10 +608,10 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
                     List<ComplexRead8Result> typedResults = (List<ComplexRead8Result>) result;
                     ComplexRead8 complexRead8 = (ComplexRead8) operation;
                     for (ComplexRead8Result complexRead8Result : typedResults) {
-                        accountIdBuffer.add(new Tuple4<>(complexRead8Result.getDstId(),
+                        accountIdBuffer.add(complexRead8Result.getDstId(),
                             THRESHOLD,
-                            complexRead8.getStartTime(),
-                            complexRead8.getEndTime()));
+                            complexRead8.startTimeAsMilli(),
+                            complexRead8.endTimeAsMilli());
                     }
                     break;
                 }
@@ -793,10 +619,10 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
                     List<ComplexRead12Result> typedResults = (List<ComplexRead12Result>) result;
                     ComplexRead12 complexRead12 = (ComplexRead12) operation;
                     for (ComplexRead12Result complexRead12Result : typedResults) {
-                        accountIdBuffer.add(new Tuple4<>(complexRead12Result.getCompAccountId(),
+                        accountIdBuffer.add(complexRead12Result.getCompAccountId(),
                             THRESHOLD,
-                            complexRead12.getStartTime(),
-                            complexRead12.getEndTime()));
+                            complexRead12.startTimeAsMilli(),
+                            complexRead12.endTimeAsMilli());
                     }
                     break;
                 }
@@ -804,10 +630,10 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
                     List<SimpleRead4Result> typedResults = (List<SimpleRead4Result>) result;
                     SimpleRead4 simpleRead4 = (SimpleRead4) operation;
                     for (SimpleRead4Result simpleRead4Result : typedResults) {
-                        accountIdBuffer.add(new Tuple4<>(simpleRead4Result.getDstId(),
+                        accountIdBuffer.add(simpleRead4Result.getDstId(),
                             simpleRead4.getThreshold(),
-                            simpleRead4.getStartTime(),
-                            simpleRead4.getEndTime()));
+                            simpleRead4.startTimeAsMilli(),
+                            simpleRead4.endTimeAsMilli());
                     }
                     break;
                 }
@@ -815,10 +641,10 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
                     List<SimpleRead5Result> typedResults = (List<SimpleRead5Result>) result;
                     SimpleRead5 simpleRead5 = (SimpleRead5) operation;
                     for (SimpleRead5Result simpleRead5Result : typedResults) {
-                        accountIdBuffer.add(new Tuple4<>(simpleRead5Result.getSrcId(),
+                        accountIdBuffer.add(simpleRead5Result.getSrcId(),
                             simpleRead5.getThreshold(),
-                            simpleRead5.getStartTime(),
-                            simpleRead5.getEndTime()));
+                            simpleRead5.startTimeAsMilli(),
+                            simpleRead5.endTimeAsMilli());
                     }
                     break;
                 }
@@ -826,10 +652,10 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
                     List<SimpleRead6Result> typedResults = (List<SimpleRead6Result>) result;
                     SimpleRead6 simpleRead6 = (SimpleRead6) operation;
                     for (SimpleRead6Result simpleRead6Result : typedResults) {
-                        accountIdBuffer.add(new Tuple4<>(simpleRead6Result.getDstId(),
+                        accountIdBuffer.add(simpleRead6Result.getDstId(),
                             THRESHOLD,
-                            simpleRead6.getStartTime(),
-                            simpleRead6.getEndTime()));
+                            simpleRead6.startTimeAsMilli(),
+                            simpleRead6.endTimeAsMilli());
                     }
                     break;
                 }
@@ -842,9 +668,9 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
     private class NoOpFactory implements LdbcSimpleQueryFactory {
         @Override
         public Operation create(
-            Queue<Tuple4<Long, Double, Date, Date>> accountIdBuffer,
-            Queue<Long> personIdBuffer,
-            Queue<Long> companyIdBuffer,
+            SimpleReadParameterBuffer accountIdBuffer,
+            SimpleReadParameterBuffer personIdBuffer,
+            SimpleReadParameterBuffer companyIdBuffer,
             Operation previousOperation,
             long previousOperationActualStartTimeAsMilli,
             long previousOperationRunDurationAsNano,
@@ -867,9 +693,9 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-            Queue<Tuple4<Long, Double, Date, Date>> accountIdBuffer,
-            Queue<Long> personIdBuffer,
-            Queue<Long> companyIdBuffer,
+            SimpleReadParameterBuffer accountIdBuffer,
+            SimpleReadParameterBuffer personIdBuffer,
+            SimpleReadParameterBuffer companyIdBuffer,
             Operation previousOperation,
             long previousOperationActualStartTimeAsMilli,
             long previousOperationRunDurationAsNano,
@@ -903,9 +729,9 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-            Queue<Tuple4<Long, Double, Date, Date>> accountIdBuffer,
-            Queue<Long> personIdBuffer,
-            Queue<Long> companyIdBuffer,
+            SimpleReadParameterBuffer accountIdBuffer,
+            SimpleReadParameterBuffer personIdBuffer,
+            SimpleReadParameterBuffer companyIdBuffer,
             Operation previousOperation,
             long previousOperationActualStartTimeAsMilli,
             long previousOperationRunDurationAsNano,
@@ -945,9 +771,9 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-            Queue<Tuple4<Long, Double, Date, Date>> accountIdBuffer,
-            Queue<Long> personIdBuffer,
-            Queue<Long> companyIdBuffer,
+            SimpleReadParameterBuffer accountIdBuffer,
+            SimpleReadParameterBuffer personIdBuffer,
+            SimpleReadParameterBuffer companyIdBuffer,
             Operation previousOperation,
             long previousOperationActualStartTimeAsMilli,
             long previousOperationRunDurationAsNano,
@@ -1004,18 +830,18 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-            Queue<Tuple4<Long, Double, Date, Date>> accountIdBuffer,
-            Queue<Long> personIdBuffer,
-            Queue<Long> companyIdBuffer,
+            SimpleReadParameterBuffer accountIdBuffer,
+            SimpleReadParameterBuffer personIdBuffer,
+            SimpleReadParameterBuffer companyIdBuffer,
             Operation previousOperation,
             long previousOperationActualStartTimeAsMilli,
             long previousOperationRunDurationAsNano,
             double state) {
-            Tuple4<Long, Double, Date, Date> tuple4 = accountIdBuffer.poll();
-            if (null == tuple4) {
+            SimpleReadParameterBuffer.Parameters parameters = new SimpleReadParameterBuffer.Parameters();
+            if (!accountIdBuffer.poll(parameters)) {
                 return null;
             } else {
-                long id = tuple4._1();
+                long id = parameters.id;
                 Operation operation = new SimpleRead1(id);
                 operation.setScheduledStartTimeAsMilli(
                     scheduledStartTimeFactory.nextScheduledStartTime(
@@ -1061,21 +887,21 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-            Queue<Tuple4<Long, Double, Date, Date>> accountIdBuffer,
-            Queue<Long> personIdBuffer,
-            Queue<Long> companyIdBuffer,
+            SimpleReadParameterBuffer accountIdBuffer,
+            SimpleReadParameterBuffer personIdBuffer,
+            SimpleReadParameterBuffer companyIdBuffer,
             Operation previousOperation,
             long previousOperationActualStartTimeAsMilli,
             long previousOperationRunDurationAsNano,
             double state) {
-            Tuple4<Long, Double, Date, Date> tuple4 = accountIdBuffer.poll();
-            if (null == tuple4) {
+            SimpleReadParameterBuffer.Parameters parameters = new SimpleReadParameterBuffer.Parameters();
+            if (!accountIdBuffer.poll(parameters)) {
                 return null;
             } else {
-                long id = tuple4._1();
-                Date startTime = tuple4._3();
-                Date endTime = tuple4._4();
-                Operation operation = new SimpleRead2(id, startTime, endTime);
+                long id = parameters.id;
+                long startTimeAsMilli = parameters.startTimeAsMilli;
+                long endTimeAsMilli = parameters.endTimeAsMilli;
+                Operation operation = new SimpleRead2(id, startTimeAsMilli, endTimeAsMilli);
                 operation.setScheduledStartTimeAsMilli(
                     scheduledStartTimeFactory.nextScheduledStartTime(
                         previousOperation,
@@ -1120,21 +946,21 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-            Queue<Tuple4<Long, Double, Date, Date>> accountIdBuffer,
-            Queue<Long> personIdBuffer,
-            Queue<Long> companyIdBuffer,
+            SimpleReadParameterBuffer accountIdBuffer,
+            SimpleReadParameterBuffer personIdBuffer,
+            SimpleReadParameterBuffer companyIdBuffer,
             Operation previousOperation,
             long previousOperationActualStartTimeAsMilli,
             long previousOperationRunDurationAsNano,
             double state) {
-            Tuple4<Long, Double, Date, Date> tuple4 = accountIdBuffer.poll();
-            if (null == tuple4) {
+            SimpleReadParameterBuffer.Parameters parameters = new SimpleReadParameterBuffer.Parameters();
+            if (!accountIdBuffer.poll(parameters)) {
                 return null;
             } else {
-                long id = tuple4._1();
-                Date startTime = tuple4._3();
-                Date endTime = tuple4._4();
-                Operation operation = new SimpleRead3(id, 0, startTime, endTime);
+                long id = parameters.id;
+                long startTimeAsMilli = parameters.startTimeAsMilli;
+                long endTimeAsMilli = parameters.endTimeAsMilli;
+                Operation operation = new SimpleRead3(id, 0, startTimeAsMilli, endTimeAsMilli);
                 operation.setScheduledStartTimeAsMilli(
                     scheduledStartTimeFactory.nextScheduledStartTime(
                         previousOperation,
@@ -1179,22 +1005,22 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-            Queue<Tuple4<Long, Double, Date, Date>> accountIdBuffer,
-            Queue<Long> personIdBuffer,
-            Queue<Long> companyIdBuffer,
+            SimpleReadParameterBuffer accountIdBuffer,
+            SimpleReadParameterBuffer personIdBuffer,
+            SimpleReadParameterBuffer companyIdBuffer,
             Operation previousOperation,
             long previousOperationActualStartTimeAsMilli,
             long previousOperationRunDurationAsNano,
             double state) {
-            Tuple4<Long, Double, Date, Date> tuple4 = accountIdBuffer.poll();
-            if (null == tuple4) {
+            SimpleReadParameterBuffer.Parameters parameters = new SimpleReadParameterBuffer.Parameters();
+            if (!accountIdBuffer.poll(parameters)) {
                 return null;
             } else {
-                long id = tuple4._1();
-                double threshold = tuple4._2();
-                Date startTime = tuple4._3();
-                Date endTime = tuple4._4();
-                Operation operation = new SimpleRead4(id, threshold, startTime, endTime);
+                long id = parameters.id;
+                double threshold = parameters.threshold;
+                long startTimeAsMilli = parameters.startTimeAsMilli;
+                long endTimeAsMilli = parameters.endTimeAsMilli;
+                Operation operation = new SimpleRead4(id, threshold, startTimeAsMilli, endTimeAsMilli);
                 operation.setScheduledStartTimeAsMilli(
                     scheduledStartTimeFactory.nextScheduledStartTime(
                         previousOperation,
@@ -1239,22 +1065,22 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-            Queue<Tuple4<Long, Double, Date, Date>> accountIdBuffer,
-            Queue<Long> personIdBuffer,
-            Queue<Long> companyIdBuffer,
+            SimpleReadParameterBuffer accountIdBuffer,
+            SimpleReadParameterBuffer personIdBuffer,
+            SimpleReadParameterBuffer companyIdBuffer,
             Operation previousOperation,
             long previousOperationActualStartTimeAsMilli,
             long previousOperationRunDurationAsNano,
             double state) {
-            Tuple4<Long, Double, Date, Date> tuple4 = accountIdBuffer.poll();
-            if (null == tuple4) {
+            SimpleReadParameterBuffer.Parameters parameters = new SimpleReadParameterBuffer.Parameters();
+            if (!accountIdBuffer.poll(parameters)) {
                 return null;
             } else {
-                long id = tuple4._1();
-                double threshold = tuple4._2();
-                Date startTime = tuple4._3();
-                Date endTime = tuple4._4();
-                Operation operation = new SimpleRead5(id, threshold, startTime, endTime);
+                long id = parameters.id;
+                double threshold = parameters.threshold;
+                long startTimeAsMilli = parameters.startTimeAsMilli;
+                long endTimeAsMilli = parameters.endTimeAsMilli;
+                Operation operation = new SimpleRead5(id, threshold, startTimeAsMilli, endTimeAsMilli);
                 operation.setScheduledStartTimeAsMilli(
                     scheduledStartTimeFactory.nextScheduledStartTime(
                         previousOperation,
@@ -1303,21 +1129,21 @@ public class LdbcFinBenchSimpleReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-            Queue<Tuple4<Long, Double, Date, Date>> accountIdBuffer,
-            Queue<Long> personIdBuffer,
-            Queue<Long> companyIdBuffer,
+            SimpleReadParameterBuffer accountIdBuffer,
+            SimpleReadParameterBuffer personIdBuffer,
+            SimpleReadParameterBuffer companyIdBuffer,
             Operation previousOperation,
             long previousOperationActualStartTimeAsMilli,
             long previousOperationRunDurationAsNano,
             double state) {
-            Tuple4<Long, Double, Date, Date> tuple4 = accountIdBuffer.poll();
-            if (null == tuple4) {
+            SimpleReadParameterBuffer.Parameters parameters = new SimpleReadParameterBuffer.Parameters();
+            if (!accountIdBuffer.poll(parameters)) {
                 return null;
             } else {
-                long id = tuple4._1();
-                Date startTime = tuple4._3();
-                Date endTime = tuple4._4();
-                Operation operation = new SimpleRead6(id, startTime, endTime);
+                long id = parameters.id;
+                long startTimeAsMilli = parameters.startTimeAsMilli;
+                long endTimeAsMilli = parameters.endTimeAsMilli;
+                Operation operation = new SimpleRead6(id, startTimeAsMilli, endTimeAsMilli);
                 operation.setScheduledStartTimeAsMilli(
                     scheduledStartTimeFactory.nextScheduledStartTime(
                         previousOperation,
@@ -5,15 +5,18 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.PeekingIterator;
 import com.google.common.collect.Sets;
 import org.ldbcouncil.finbench.driver.*;
+import org.ldbcouncil.finbench.driver.compiled.CompiledOperationStreamReader;
+import org.ldbcouncil.finbench.driver.compiled.CompiledOperationStreamWriter;
+import org.ldbcouncil.finbench.driver.compiled.OperationCodec;
 import org.ldbcouncil.finbench.driver.control.ConsoleAndFileDriverConfiguration;
 import org.ldbcouncil.finbench.driver.control.OperationMode;
 import org.ldbcouncil.finbench.driver.csv.DuckDbExtractor;
 import org.ldbcouncil.finbench.driver.csv.FileLoader;
+import org.ldbcouncil.finbench.driver.csv.OperationStreamCursor;
 import org.ldbcouncil.finbench.driver.generator.*;
 import org.ldbcouncil.finbench.driver.util.ClassLoaderHelper;
 import org.ldbcouncil.finbench.driver.util.ClassLoadingException;
 import org.ldbcouncil.finbench.driver.util.MapUtils;
-import org.ldbcouncil.finbench.driver.util.Tuple4;
 import org.ldbcouncil.finbench.driver.workloads.transaction.queries.*;
 
 import java.io.File;
@@ -32,12 +35,15 @@ public class LdbcFinBenchTransactionWorkload extends Workload {
     private Map<Integer, Long> longReadInterleavesAsMilli;
     private File parametersDir;
     private File updatesDir;
+    private File compiledDir;
     private String fileSuffix;
     private long updateInterleaveAsMilli;
     private double compressionRatio;
     private double simpleReadDissipationFactor;
     private OperationMode operationMode;
     private double batchSize;
+    private int updatePrefetchDepth;
+    private boolean materializeUpdateStreams;
     private Set<Class<? extends Operation>> enabledLongReadOperationTypes;
     private Set<Class<? extends Operation>> enabledSimpleReadOperationTypes;
     private Set<Class<? extends Operation>> enabledWriteOperationTypes;
@@ -45,6 +51,9 @@ public class LdbcFinBenchTransactionWorkload extends Workload {
     private Set<Class<? extends Operation>> enabledUpdateOperationTypes;
 
     private RunnableOperationStreamBatchLoader runnableBatchLoader;
+    private OperationStreamBuffer updateStreamBuffer;
+    private DuckDbExtractor readLoaderDb;
+    private final List<CompiledOperationStreamReader> compiledStreams = new ArrayList<>();
 
     @Override
     public Map<Integer, Class<? extends Operation>> operationTypeToClassMapping() {
@@ -72,6 +81,24 @@ public class LdbcFinBenchTransactionWorkload extends Workload {
             batchSize = LdbcFinBenchTransactionWorkloadConfiguration.DEFAULT_BATCH_SIZE;
         }
 
+        if (params.containsKey(LdbcFinBenchTransactionWorkloadConfiguration.UPDATE_PREFETCH_DEPTH)) {
+            updatePrefetchDepth = Integer.parseInt(
+                params.get(LdbcFinBenchTransactionWorkloadConfiguration.UPDATE_PREFETCH_DEPTH).trim());
+            if (updatePrefetchDepth < 1) {
+                throw new WorkloadException(format("%s must be at least 1, was %s",
+                    LdbcFinBenchTransactionWorkloadConfiguration.UPDATE_PREFETCH_DEPTH, updatePrefetchDepth));
+            }
+        } else {
+            updatePrefetchDepth = LdbcFinBenchTransactionWorkloadConfiguration.BUFFERED_QUEUE_SIZE;
+        }
+
+        if (params.containsKey(LdbcFinBenchTransactionWorkloadConfiguration.MATERIALIZE_UPDATE_STREAMS)) {
+            materializeUpdateStreams = Boolean.parseBoolean(
+                params.get(LdbcFinBenchTransactionWorkloadConfiguration.MATERIALIZE_UPDATE_STREAMS).trim());
+        } else {
+            materializeUpdateStreams = LdbcFinBenchTransactionWorkloadConfiguration.DEFAULT_MATERIALIZE_UPDATE_STREAMS;
+        }
+
         compulsoryKeys.addAll(LdbcFinBenchTransactionWorkloadConfiguration.COMPLEX_READ_OPERATION_ENABLE_KEYS);
         compulsoryKeys.addAll(LdbcFinBenchTransactionWorkloadConfiguration.WRITE_OPERATION_ENABLE_KEYS);
         compulsoryKeys.addAll(LdbcFinBenchTransactionWorkloadConfiguration.SIMPLE_READ_OPERATION_ENABLE_KEYS);
@@ -97,6 +124,17 @@ public class LdbcFinBenchTransactionWorkload extends Workload {
             }
         }
 
+        if (params.containsKey(LdbcFinBenchTransactionWorkloadConfiguration.COMPILED_OPERATION_STREAMS_DIRECTORY)) {
+            compiledDir = new File(
+                params.get(LdbcFinBenchTransactionWorkloadConfiguration.COMPILED_OPERATION_STREAMS_DIRECTORY).trim());
+            // the compile mode creates it
+            if (operationMode != OperationMode.COMPILE_OPERATION_STREAMS && !compiledDir.isDirectory()) {
+                throw new WorkloadException(
+                    format("Compiled operation streams directory does not exist%nDirectory: %s",
+                        compiledDir.getAbsolutePath()));
+            }
+        }
+
         // 检查是否缺失read_params目录下的.csv查询参数文件
         if (operationMode != OperationMode.VALIDATE_DATABASE) {
             if (params.containsKey(LdbcFinBenchTransactionWorkloadConfiguration.FILES_SUFFIX)) {
@@ -336,6 +374,17 @@ public class LdbcFinBenchTransactionWorkload extends Workload {
         return enabledOperationTypes;
     }
 
+    /**
+     * Writes are partitioned by account, complex reads round robin
+     */
+    @Override
+    public OperationPartitioner newOperationPartitioner(int partitionCount, boolean dependencyOperations) {
+        if (dependencyOperations) {
+            return new AccountOperationPartitioner(partitionCount);
+        }
+        return super.newOperationPartitioner(partitionCount, dependencyOperations);
+    }
+
     @Override
     public Class<? extends Operation> getOperationClass() {
         return LdbcOperation.class;
@@ -346,6 +395,13 @@ public class LdbcFinBenchTransactionWorkload extends Workload {
         if (runnableBatchLoader != null && !runnableBatchLoader.isInterrupted()) {
             runnableBatchLoader.interrupt();
         }
+        if (readLoaderDb != null) {
+            readLoaderDb.close();
+        }
+        for (CompiledOperationStreamReader compiledStream : compiledStreams) {
+            compiledStream.close();
+        }
+        compiledStreams.clear();
     }
 
     /**
@@ -397,21 +453,24 @@ public class LdbcFinBenchTransactionWorkload extends Workload {
         Map<Class<? extends Operation>, Integer> classToTypeMap = MapUtils.invertMap(operationTypeToClassMapping());
         for (Class enabledClass : enabledLongReadOperationTypes) {
             Integer type = classToTypeMap.get(enabledClass);
-            // 读取parameters_dir配置指定的read_params下的复杂读.csv参数文件
-            Iterator<Operation> eventOperationStream = readOperationStream.readOperationStream(
-                decoders.get(type),
-                new File(parametersDir,
-                    LdbcFinBenchTransactionWorkloadConfiguration.COMPLEX_READ_OPERATION_PARAMS_FILENAMES.get(type)
-                        + LdbcFinBenchTransactionWorkloadConfiguration.FILE_SEPARATOR + fileSuffix)
-            );
+            String paramsFilename =
+                LdbcFinBenchTransactionWorkloadConfiguration.COMPLEX_READ_OPERATION_PARAMS_FILENAMES.get(type);
+            RewindableIterator<Operation> eventOperationStream;
+            if (null != compiledDir) {
+                eventOperationStream = openCompiledOperationStream(paramsFilename, enabledClass);
+            } else {
+                // 读取parameters_dir配置指定的read_params下的复杂读.csv参数文件
+                eventOperationStream = readOperationStream.readOperationStream(
+                    decoders.get(type),
+                    new File(parametersDir,
+                        paramsFilename + LdbcFinBenchTransactionWorkloadConfiguration.FILE_SEPARATOR + fileSuffix)
+                );
+            }
             long readOperationInterleaveAsMilli = longReadInterleavesAsMilli.get(type);
-            // 计算操作开始时间，返回一个迭代器
-            Iterator<Long> operationStartTimes =
-                gf.incrementing(workloadStartTimeAsMilli + readOperationInterleaveAsMilli,
-                    readOperationInterleaveAsMilli);
-            // 分配开始时间
+            // 分配开始时间，从 workloadStartTimeAsMilli + interleave 开始，每次递增 interleave
             Iterator<Operation> operationStream = gf.assignStartTimes(
-                operationStartTimes,
+                workloadStartTimeAsMilli + readOperationInterleaveAsMilli,
+                readOperationInterleaveAsMilli,
                 new QueryEventStreamReader(gf.repeating(eventOperationStream))
             );
             asynchronousNonDependencyStreamsList.add(operationStream);
@@ -430,15 +489,15 @@ public class LdbcFinBenchTransactionWorkload extends Workload {
         RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(42L);
         double initialProbability = 1.0;
 
-        Queue<Tuple4<Long, Double, Date, Date>> accountIdBuffer;
-        Queue<Long> personIdBuffer;
-        Queue<Long> companyIdBuffer;
+        SimpleReadParameterBuffer accountIdBuffer;
+        SimpleReadParameterBuffer personIdBuffer;
+        SimpleReadParameterBuffer companyIdBuffer;
         LdbcFinBenchSimpleReadGenerator.ScheduledStartTimePolicy scheduledStartTimePolicy;
         LdbcFinBenchSimpleReadGenerator.BufferReplenishFun bufferReplenishFun;
         if (hasDbConnected) {
-            accountIdBuffer = LdbcFinBenchSimpleReadGenerator.synchronizedCircularTuple4QueueBuffer(1024);
-            personIdBuffer = LdbcFinBenchSimpleReadGenerator.synchronizedCircularQueueBuffer(1024);
-            companyIdBuffer = LdbcFinBenchSimpleReadGenerator.synchronizedCircularQueueBuffer(1024);
+            accountIdBuffer = LdbcFinBenchSimpleReadGenerator.circularBuffer(1024);
+            personIdBuffer = LdbcFinBenchSimpleReadGenerator.circularBuffer(1024);
+            companyIdBuffer = LdbcFinBenchSimpleReadGenerator.circularBuffer(1024);
             scheduledStartTimePolicy =
                 LdbcFinBenchSimpleReadGenerator.ScheduledStartTimePolicy.PREVIOUS_OPERATION_ACTUAL_FINISH_TIME;
             bufferReplenishFun =
@@ -446,10 +505,10 @@ public class LdbcFinBenchTransactionWorkload extends Workload {
                     companyIdBuffer);
         } else {
             // 若没有建立数据库连接，则所有的缓冲区都设为不变 且 不怎么占用空间
-            accountIdBuffer = LdbcFinBenchSimpleReadGenerator.constantTuple4Buffer(
-                new Tuple4<>(1L, 1D, new Date(), new Date()));
-            personIdBuffer = LdbcFinBenchSimpleReadGenerator.constantBuffer(1);
-            companyIdBuffer = LdbcFinBenchSimpleReadGenerator.constantBuffer(1);
+            long now = System.currentTimeMillis();
+            accountIdBuffer = LdbcFinBenchSimpleReadGenerator.constantBuffer(1L, 1D, now, now);
+            personIdBuffer = LdbcFinBenchSimpleReadGenerator.constantBuffer(1L, 0, 0, 0);
+            companyIdBuffer = LdbcFinBenchSimpleReadGenerator.constantBuffer(1L, 0, 0, 0);
             scheduledStartTimePolicy =
                 LdbcFinBenchSimpleReadGenerator.ScheduledStartTimePolicy.PREVIOUS_OPERATION_SCHEDULED_START_TIME;
             // 无操作缓冲器
@@ -486,20 +545,15 @@ public class LdbcFinBenchTransactionWorkload extends Workload {
         dependencyAsynchronousOperationTypes.addAll(enabledUpdateOperationTypes);
         // dependentAsynchronousOperationTypes.addAll(enabledLongReadOperationTypes);
 
-        FileLoader loader;
-        try {
-            DuckDbExtractor db = new DuckDbExtractor();
-            loader = new FileLoader(db);
-        } catch (SQLException e) {
-            throw new WorkloadException(format("Error creating loader for operation streams %s", e));
-        }
-
-        FileLoader updateLoader;
-        try {
-            DuckDbExtractor db = new DuckDbExtractor();
-            updateLoader = new FileLoader(db);
-        } catch (SQLException e) {
-            throw new WorkloadException(format("Error creating updateLoader for operation streams %s", e));
+        FileLoader loader = null;
+        if (null == compiledDir) {
+            try {
+                // read operation streams keep their result sets open on this connection until the workload is closed
+                readLoaderDb = new DuckDbExtractor();
+                loader = new FileLoader(readLoaderDb);
+            } catch (SQLException e) {
+                throw new WorkloadException(format("Error creating loader for operation streams %s", e));
+            }
         }
 
 
@@ -508,7 +562,11 @@ public class LdbcFinBenchTransactionWorkload extends Workload {
          */
         if (!enabledUpdateOperationTypes.isEmpty()) {
             // 启动异步批量更新操作流线程
-            asynchronousDependencyStreams = setBatchedUpdateStreams(gf, workloadStartTimeAsMilli, updateLoader);
+            if (null != compiledDir) {
+                asynchronousDependencyStreams = getCompiledUpdateStreams(gf);
+            } else {
+                asynchronousDependencyStreams = setBatchedUpdateStreams(workloadStartTimeAsMilli);
+            }
             // 获取第一次操作的开始时间
             workloadStartTimeAsMilli =
                 getOperationStreamStartTime(asynchronousDependencyStreams, workloadStartTimeAsMilli);
@@ -556,6 +614,16 @@ public class LdbcFinBenchTransactionWorkload extends Workload {
         return ldbcFinbenchWorkloadStreams;
     }
 
+    @Override
+    public long operationStreamStallCount() {
+        return (null == updateStreamBuffer) ? 0 : updateStreamBuffer.stallCount();
+    }
+
+    @Override
+    public long operationStreamStallDurationAsNano() {
+        return (null == updateStreamBuffer) ? 0 : updateStreamBuffer.stallDurationAsNano();
+    }
+
     @Override
     public Set<Class> enabledValidationOperations() {
         Set<Class> enabledOperations = new HashSet<>();
@@ -565,11 +633,7 @@ public class LdbcFinBenchTransactionWorkload extends Workload {
         return enabledOperations;
     }
 
-    private Iterator<Operation> setBatchedUpdateStreams(
-        GeneratorFactory gf,
-        long workloadStartTimeAsMilli,
-        FileLoader loader
-    ) throws WorkloadException {
+    private Iterator<Operation> setBatchedUpdateStreams(long workloadStartTimeAsMilli) throws WorkloadException {
         // batchSize 默认 24L
         long batchSizeInMillis = Math.round(TimeUnit.HOURS.toMillis(1) * batchSize);
 
@@ -579,18 +643,16 @@ public class LdbcFinBenchTransactionWorkload extends Workload {
             dependencyUpdateOperationTypes.add(class1);
         }
 
-        int batchQueueSize = LdbcFinBenchTransactionWorkloadConfiguration.BUFFERED_QUEUE_SIZE;
-
-        BlockingQueue<Iterator<Operation>> blockingQueue = new LinkedBlockingQueue<>(batchQueueSize);
+        BlockingQueue<Iterator<Operation>> blockingQueue = new LinkedBlockingQueue<>(updatePrefetchDepth);
         CountDownLatch finishInit = new CountDownLatch(1);
         runnableBatchLoader = new RunnableOperationStreamBatchLoader(
-            loader,
-            gf,
             updatesDir,
             fileSuffix,
             blockingQueue,
             dependencyUpdateOperationTypes,
             batchSizeInMillis,
+            updatePrefetchDepth,
+            materializeUpdateStreams,
             finishInit
         );
         runnableBatchLoader.start();
@@ -599,12 +661,135 @@ public class LdbcFinBenchTransactionWorkload extends Workload {
         } catch (InterruptedException e) {
             e.printStackTrace();
         }
-        OperationStreamBuffer buffer = new OperationStreamBuffer(blockingQueue);
-        BufferedIterator bufferedIterator = new BufferedIterator(buffer);
-        bufferedIterator.init();
+        updateStreamBuffer = new OperationStreamBuffer(blockingQueue);
+        BufferedIterator bufferedIterator = new BufferedIterator(updateStreamBuffer);
+        try {
+            bufferedIterator.init();
+        } catch (GeneratorException e) {
+            throw new WorkloadException("Error loading update streams", e.getCause());
+        }
         return bufferedIterator;
     }
 
+    /**
+     * Merge the compiled update streams of the enabled update operation types by timestamp. Every compiled update
+     * stream is sorted by its date column.
+     */
+    private Iterator<Operation> getCompiledUpdateStreams(GeneratorFactory gf) throws WorkloadException {
+        Map<Class<? extends Operation>, String> classToPathMap =
+            LdbcFinBenchTransactionWorkloadConfiguration.getUpdateStreamClassToPathMapping();
+        List<Iterator<Operation>> updateStreams = new ArrayList<>();
+        for (Class<? extends Operation> enabledClass : enabledUpdateOperationTypes) {
+            updateStreams.add(openCompiledOperationStream(classToPathMap.get(enabledClass), enabledClass));
+        }
+        return gf.mergeSortOperationsByTimeStamp(updateStreams.toArray(new Iterator[updateStreams.size()]));
+    }
+
+    private File compiledOperationStreamFile(String filename) {
+        return new File(compiledDir,
+            filename + LdbcFinBenchTransactionWorkloadConfiguration.FILE_SEPARATOR
+                + LdbcFinBenchTransactionWorkloadConfiguration.COMPILED_FILE_SUFFIX);
+    }
+
+    private CompiledOperationStreamReader openCompiledOperationStream(
+        String filename,
+        Class<? extends Operation> operationClass
+    ) throws WorkloadException {
+        File compiledFile = compiledOperationStreamFile(filename);
+        if (!compiledFile.exists()) {
+            throw new WorkloadException(format("Compiled operation stream does not exist, run the %s mode first: %s",
+                OperationMode.COMPILE_OPERATION_STREAMS, compiledFile.getAbsolutePath()));
+        }
+        CompiledOperationStreamReader compiledStream = new CompiledOperationStreamReader(compiledFile);
+        compiledStreams.add(compiledStream);
+        if (!operationClass.equals(compiledStream.operationClass())) {
+            throw new WorkloadException(format("Compiled operation stream contains %s instead of %s: %s",
+                compiledStream.operationClass().getName(), operationClass.getName(), compiledFile.getAbsolutePath()));
+        }
+        return compiledStream;
+    }
+
+    /**
+     * Compiles the parameter files of all complex reads and the update stream files found in the updates directory.
+     * Update streams are compiled sorted by their date column, which is what lets them be merged without batching.
+     */
+    @Override
+    public void compileOperationStreams() throws WorkloadException {
+        if (null == compiledDir) {
+            throw new WorkloadException(format("Workload could not compile operation streams. Missing parameter: %s",
+                LdbcFinBenchTransactionWorkloadConfiguration.COMPILED_OPERATION_STREAMS_DIRECTORY));
+        }
+        if (!compiledDir.isDirectory() && !compiledDir.mkdirs()) {
+            throw new WorkloadException(format("Could not create compiled operation streams directory: %s",
+                compiledDir.getAbsolutePath()));
+        }
+        try (DuckDbExtractor db = new DuckDbExtractor(); FileLoader loader = new FileLoader(db)) {
+            Map<Integer, EventStreamReader.EventDecoder<Operation>> readDecoders =
+                QueryEventStreamReader.getDecoders();
+            for (Map.Entry<Integer, String> entry :
+                LdbcFinBenchTransactionWorkloadConfiguration.COMPLEX_READ_OPERATION_PARAMS_FILENAMES.entrySet()) {
+                File paramsFile = new File(parametersDir,
+                    entry.getValue() + LdbcFinBenchTransactionWorkloadConfiguration.FILE_SEPARATOR + fileSuffix);
+                compileOperationStream(
+                    loader.loadOperationStream(paramsFile.getAbsolutePath(), readDecoders.get(entry.getKey())),
+                    operationTypeToClassMapping().get(entry.getKey()),
+                    compiledOperationStreamFile(entry.getValue())
+                );
+            }
+            if (null == updatesDir) {
+                return;
+            }
+            Map<Class<? extends Operation>, String> classToPathMap =
+                LdbcFinBenchTransactionWorkloadConfiguration.getUpdateStreamClassToPathMapping();
+            Map<Class<? extends Operation>, String> classToDateColumn =
+                LdbcFinBenchTransactionWorkloadConfiguration.getUpdateStreamClassToDateColumn();
+            Map<Class<? extends Operation>, EventStreamReader.EventDecoder<Operation>> updateDecoders =
+                UpdateEventStreamReader.getDecoders();
+            for (Map.Entry<Class<? extends Operation>, String> entry : classToPathMap.entrySet()) {
+                File updateFile = new File(updatesDir,
+                    entry.getValue() + LdbcFinBenchTransactionWorkloadConfiguration.FILE_SEPARATOR + fileSuffix);
+                if (!updateFile.exists()) {
+                    continue;
+                }
+                compileOperationStream(
+                    loader.loadOperationStreamOrderedBy(updateFile.getAbsolutePath(),
+                        updateDecoders.get(entry.getKey()), classToDateColumn.get(entry.getKey())),
+                    entry.getKey(),
+                    compiledOperationStreamFile(entry.getValue())
+                );
+            }
+        } catch (SQLException e) {
+            throw new WorkloadException("Error creating loader for compiling operation streams", e);
+        }
+    }
+
+    private static void compileOperationStream(
+        OperationStreamCursor operationStream,
+        Class<? extends Operation> operationClass,
+        File compiledFile
+    ) throws WorkloadException {
+        CompiledOperationStreamWriter writer = null;
+        try {
+            writer = new CompiledOperationStreamWriter(compiledFile, new OperationCodec(operationClass));
+            while (operationStream.hasNext()) {
+                writer.write(operationStream.next());
+            }
+            writer.close();
+        } catch (IOException | WorkloadException | GeneratorException e) {
+            if (null != writer) {
+                try {
+                    writer.discard();
+                } catch (IOException ignored) {
+                    // the compilation failed already
+                }
+            }
+            throw new WorkloadException(
+                format("Error compiling operation stream: %s", compiledFile.getAbsolutePath()), e);
+        } finally {
+            operationStream.close();
+        }
+    }
+
     /**
      * Creates the validation parameter filter, which determines the amount of validation parameters
      *
@@ -26,6 +26,11 @@ public abstract class  LdbcFinBenchTransactionWorkloadConfiguration {
     public static final String UPDATES_DIRECTORY = LDBC_FINBENCH_TRANSACTION_PARAM_NAME_PREFIX + "updates_dir";
     // the parameter and updates files suffix
     public static final String FILES_SUFFIX = LDBC_FINBENCH_TRANSACTION_PARAM_NAME_PREFIX + "files_suffix";
+    // directory of the compiled operation streams, written by the COMPILE_OPERATION_STREAMS mode and replayed
+    // instead of the parameter and updates files when set
+    public static final String COMPILED_OPERATION_STREAMS_DIRECTORY =
+        LDBC_FINBENCH_TRANSACTION_PARAM_NAME_PREFIX + "compiled_dir";
+    public static final String COMPILED_FILE_SUFFIX = "fbops";
 
 
     // Simple reads random walk dissipation rate, in the interval [1.0-0.0]
@@ -48,6 +53,13 @@ public abstract class  LdbcFinBenchTransactionWorkloadConfiguration {
     public static final long DEFAULT_BATCH_SIZE = 24L;
 
     public static final int BUFFERED_QUEUE_SIZE = 4;
+    // Number of update stream batches loaded ahead, per update operation type and after merging
+    public static final String UPDATE_PREFETCH_DEPTH =
+        LDBC_FINBENCH_TRANSACTION_PARAM_NAME_PREFIX + "update_prefetch_depth";
+    // Load update stream files into in memory tables, instead of reading them through views for every batch
+    public static final String MATERIALIZE_UPDATE_STREAMS =
+        LDBC_FINBENCH_TRANSACTION_PARAM_NAME_PREFIX + "materialize_update_streams";
+    public static final boolean DEFAULT_MATERIALIZE_UPDATE_STREAMS = true;
     public static final String INSERTS_DIRECTORY = "inserts";
     public static final String INSERTS_DATE_COLUMN = "createTime";
     public static final String DELETE_DATE_COLUMN = "deleteTime";
@@ -5,6 +5,7 @@ import static com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
 
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import java.util.Date;
 import org.ldbcouncil.finbench.driver.Operation;
 import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead1;
 import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead10;
@@ -98,5 +99,17 @@ import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write9;
 
 })
 public abstract class LdbcOperation<LDBC_RESULT_TYPE> extends Operation<LDBC_RESULT_TYPE> {
+    // time parameters are held as epoch milliseconds, this one stands for a null Date
+    public static final long NULL_TIME_AS_MILLI = Long.MIN_VALUE;
 
+    protected static long asMilli(Date time) {
+        return (null == time) ? NULL_TIME_AS_MILLI : time.getTime();
+    }
+
+    /**
+     * Date view of a time parameter, created on every call so operations do not hold or share mutable Dates
+     */
+    protected static Date asDate(long timeAsMilli) {
+        return (NULL_TIME_AS_MILLI == timeAsMilli) ? null : new Date(timeAsMilli);
+    }
 }
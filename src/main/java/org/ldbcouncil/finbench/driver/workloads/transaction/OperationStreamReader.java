@@ -1,11 +1,10 @@
 package org.ldbcouncil.finbench.driver.workloads.transaction;
 
 import java.io.File;
-import java.sql.SQLException;
-import java.util.Iterator;
 import org.ldbcouncil.finbench.driver.Operation;
 import org.ldbcouncil.finbench.driver.WorkloadException;
 import org.ldbcouncil.finbench.driver.csv.FileLoader;
+import org.ldbcouncil.finbench.driver.csv.OperationStreamCursor;
 import org.ldbcouncil.finbench.driver.generator.EventStreamReader;
 
 /**
@@ -24,20 +23,15 @@ public class OperationStreamReader {
         this.loader = loader;
     }
 
-    public Iterator<Operation> readOperationStream(
+    public OperationStreamCursor readOperationStream(
         EventStreamReader.EventDecoder<Operation> decoder,
         File readOperationFile
     ) throws WorkloadException {
-        Iterator<Operation> opStream;
-
         try {
-            opStream = loader.loadOperationStream(readOperationFile.getAbsolutePath(), decoder);
-        } catch (SQLException e) {
+            return loader.loadOperationStream(readOperationFile.getAbsolutePath(), decoder);
+        } catch (WorkloadException e) {
             throw new WorkloadException(
-                "Error loading operation stream with path: " + readOperationFile.getAbsolutePath());
+                "Error loading operation stream with path: " + readOperationFile.getAbsolutePath(), e);
         }
-
-        return opStream;
-
     }
 }
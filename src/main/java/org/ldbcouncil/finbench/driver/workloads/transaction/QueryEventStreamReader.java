@@ -5,7 +5,6 @@ import static java.lang.String.format;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Instant;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -84,8 +83,8 @@ public class QueryEventStreamReader implements Iterator<Operation> {
         public Operation decodeEvent(ResultSet rs) throws WorkloadException {
             try {
                 long id = rs.getLong(1);
-                Date startTime = new Date(rs.getLong(2));
-                Date endTime = new Date(rs.getLong(3));
+                long startTime = rs.getLong(2);
+                long endTime = rs.getLong(3);
                 int truncationLimit = rs.getInt(4);
                 TruncationOrder truncationOrder = TruncationOrder.valueOf(rs.getString(5));
                 // TODO dependencyTimeStamp & expiryTimeStamp, if Complex Queries need dependencyTimeStamp,
@@ -118,8 +117,8 @@ public class QueryEventStreamReader implements Iterator<Operation> {
         public Operation decodeEvent(ResultSet rs) throws WorkloadException {
             try {
                 long id = rs.getLong(1);
-                Date startTime = new Date(rs.getLong(2));
-                Date endTime = new Date(rs.getLong(3));
+                long startTime = rs.getLong(2);
+                long endTime = rs.getLong(3);
                 int truncationLimit = rs.getInt(4);
                 TruncationOrder truncationOrder = TruncationOrder.valueOf(rs.getString(5));
                 long dependencyTimeStamp = 0;
@@ -151,8 +150,8 @@ public class QueryEventStreamReader implements Iterator<Operation> {
             try {
                 long id1 = rs.getLong(1);
                 long id2 = rs.getLong(2);
-                Date startTime = new Date(rs.getLong(3));
-                Date endTime = new Date(rs.getLong(4));
+                long startTime = rs.getLong(3);
+                long endTime = rs.getLong(4);
                 long dependencyTimeStamp = 0;
                 long expiryTimeStamp = Long.MAX_VALUE;
                 Operation query = new ComplexRead3(
@@ -181,8 +180,8 @@ public class QueryEventStreamReader implements Iterator<Operation> {
             try {
                 long id1 = rs.getLong(1);
                 long id2 = rs.getLong(2);
-                Date startTime = new Date(rs.getLong(3));
-                Date endTime = new Date(rs.getLong(4));
+                long startTime = rs.getLong(3);
+                long endTime = rs.getLong(4);
                 long dependencyTimeStamp = 0;
                 long expiryTimeStamp = Long.MAX_VALUE;
                 Operation query = new ComplexRead4(
@@ -210,8 +209,8 @@ public class QueryEventStreamReader implements Iterator<Operation> {
         public Operation decodeEvent(ResultSet rs) throws WorkloadException {
             try {
                 long id = rs.getLong(1);
-                Date startTime = new Date(rs.getLong(2));
-                Date endTime = new Date(rs.getLong(3));
+                long startTime = rs.getLong(2);
+                long endTime = rs.getLong(3);
                 int truncationLimit = rs.getInt(4);
                 TruncationOrder truncationOrder = TruncationOrder.valueOf(rs.getString(5));
                 long dependencyTimeStamp = 0;
@@ -244,8 +243,8 @@ public class QueryEventStreamReader implements Iterator<Operation> {
                 long id = rs.getLong(1);
                 double threshold1 = rs.getDouble(2);
                 double threshold2 = rs.getDouble(3);
-                Date startTime = new Date(rs.getLong(4));
-                Date endTime = new Date(rs.getLong(5));
+                long startTime = rs.getLong(4);
+                long endTime = rs.getLong(5);
                 int truncationLimit = rs.getInt(6);
                 TruncationOrder truncationOrder = TruncationOrder.valueOf(rs.getString(7));
                 long dependencyTimeStamp = 0;
@@ -279,8 +278,8 @@ public class QueryEventStreamReader implements Iterator<Operation> {
             try {
                 long id = rs.getLong(1);
                 double threshold = rs.getLong(2);
-                Date startTime = new Date(rs.getLong(3));
-                Date endTime = new Date(rs.getLong(4));
+                long startTime = rs.getLong(3);
+                long endTime = rs.getLong(4);
                 int truncationLimit = rs.getInt(5);
                 TruncationOrder truncationOrder = TruncationOrder.valueOf(rs.getString(6));
                 long dependencyTimeStamp = 0;
@@ -313,8 +312,8 @@ public class QueryEventStreamReader implements Iterator<Operation> {
             try {
                 long id = rs.getLong(1);
                 float threshold = rs.getFloat(2);
-                Date startTime = new Date(rs.getLong(3));
-                Date endTime = new Date(rs.getLong(4));
+                long startTime = rs.getLong(3);
+                long endTime = rs.getLong(4);
                 int truncationLimit = rs.getInt(5);
                 TruncationOrder truncationOrder = TruncationOrder.valueOf(rs.getString(6));
                 long dependencyTimeStamp = 0;
@@ -347,8 +346,8 @@ public class QueryEventStreamReader implements Iterator<Operation> {
             try {
                 long id = rs.getLong(1);
                 double threshold = rs.getDouble(2);
-                Date startTime = new Date(rs.getLong(3));
-                Date endTime = new Date(rs.getLong(4));
+                long startTime = rs.getLong(3);
+                long endTime = rs.getLong(4);
                 int truncationLimit = rs.getInt(5);
                 TruncationOrder truncationOrder = TruncationOrder.valueOf(rs.getString(6));
                 long dependencyTimeStamp = 0;
@@ -381,8 +380,8 @@ public class QueryEventStreamReader implements Iterator<Operation> {
             try {
                 long id1 = rs.getLong(1);
                 long id2 = rs.getLong(2);
-                Date startTime = new Date(rs.getLong(3));
-                Date endTime = new Date(rs.getLong(4));
+                long startTime = rs.getLong(3);
+                long endTime = rs.getLong(4);
                 long dependencyTimeStamp = 0;
                 long expiryTimeStamp = Long.MAX_VALUE;
                 Operation query = new ComplexRead10(
@@ -410,8 +409,8 @@ public class QueryEventStreamReader implements Iterator<Operation> {
         public Operation decodeEvent(ResultSet rs) throws WorkloadException {
             try {
                 long id = rs.getLong(1);
-                Date startTime = new Date(rs.getLong(2));
-                Date endTime = new Date(rs.getLong(3));
+                long startTime = rs.getLong(2);
+                long endTime = rs.getLong(3);
                 int truncationLimit = rs.getInt(4);
                 TruncationOrder truncationOrder = TruncationOrder.valueOf(rs.getString(5));
                 long dependencyTimeStamp = 0;
@@ -442,8 +441,8 @@ public class QueryEventStreamReader implements Iterator<Operation> {
         public Operation decodeEvent(ResultSet rs) throws WorkloadException {
             try {
                 long id = rs.getLong(1);
-                Date startTime = new Date(rs.getLong(2));
-                Date endTime = new Date(rs.getLong(3));
+                long startTime = rs.getLong(2);
+                long endTime = rs.getLong(3);
                 int truncationLimit = rs.getInt(4);
                 TruncationOrder truncationOrder = TruncationOrder.valueOf(rs.getString(5));
                 long dependencyTimeStamp = 0;
@@ -4,24 +4,39 @@ import java.io.File;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import org.ldbcouncil.finbench.driver.Operation;
 import org.ldbcouncil.finbench.driver.WorkloadException;
+import org.ldbcouncil.finbench.driver.csv.DuckDbExtractor;
 import org.ldbcouncil.finbench.driver.csv.FileLoader;
 import org.ldbcouncil.finbench.driver.generator.EventStreamReader;
-import org.ldbcouncil.finbench.driver.generator.GeneratorFactory;
+import org.ldbcouncil.finbench.driver.generator.OperationMergeGenerator;
+import org.ldbcouncil.finbench.driver.generator.OperationStreamBuffer;
 import org.ldbcouncil.finbench.driver.util.Tuple2;
 
+/**
+ * Loads the update streams batch by batch, one batch per time window of batch size. Every enabled update operation
+ * type is read by its own {@link TypeReader} thread, with its own DuckDB connection, up to prefetch depth windows
+ * ahead. This thread merges the batches of a window by timestamp and puts them into the blocking queue, followed by
+ * {@link OperationStreamBuffer#END_OF_STREAM} after the last window, or by {@link OperationStreamBuffer#failedStream}
+ * when loading failed.
+ */
 public class RunnableOperationStreamBatchLoader extends Thread {
+    // put by a type reader after its last batch, compared by reference
+    private static final List<Operation> END_OF_STREAM = Collections.unmodifiableList(new ArrayList<>());
 
-    private final FileLoader loader;
     private final long batchSize;
-    private final GeneratorFactory gf;
+    private final int prefetchDepth;
+    private final boolean materialize;
     private final File updatesDir;
     private final String fileSuffix;
     private final Set<Class<? extends Operation>> enabledUpdateOperationTypes;
@@ -29,22 +44,22 @@ public class RunnableOperationStreamBatchLoader extends Thread {
     private final CountDownLatch finishInit;
 
     public RunnableOperationStreamBatchLoader(
-        FileLoader loader,
-        GeneratorFactory gf,
         File updatesDir,
         String fileSuffix,
         BlockingQueue<Iterator<Operation>> blockingQueue,
         Set<Class<? extends Operation>> enabledUpdateOperationTypes,
         long batchSize,
+        int prefetchDepth,
+        boolean materialize,
         CountDownLatch finishInit
     ) {
-        this.loader = loader;
-        this.gf = gf;
         this.updatesDir = updatesDir;
         this.fileSuffix = fileSuffix;
         this.blockingQueue = blockingQueue;
         this.enabledUpdateOperationTypes = enabledUpdateOperationTypes;
         this.batchSize = batchSize;
+        this.prefetchDepth = prefetchDepth;
+        this.materialize = materialize;
         this.finishInit = finishInit;
     }
 
@@ -53,58 +68,78 @@ public class RunnableOperationStreamBatchLoader extends Thread {
      */
     @Override
     public void run() {
-        BatchedOperationStreamReader updateOperationStream = new BatchedOperationStreamReader(loader);
         Map<Class<? extends Operation>, String> classToPathMap =
             LdbcFinBenchTransactionWorkloadConfiguration.getUpdateStreamClassToPathMapping();
         Map<Class<? extends Operation>, String> classToBatchColumn =
             LdbcFinBenchTransactionWorkloadConfiguration.getUpdateStreamClassToDateColumn();
-        long offset = Long.MAX_VALUE;
-        Map<Class<? extends Operation>, Long> classToLastValue = new HashMap<>();
+        Map<Class<? extends Operation>, EventStreamReader.EventDecoder<Operation>> decoders =
+            UpdateEventStreamReader.getDecoders();
+        CompletableFuture<Long> startOffset = new CompletableFuture<>();
+        List<TypeReader> readers = new ArrayList<>();
+        Throwable error = null;
         try {
             for (Class<? extends Operation> enabledClass : enabledUpdateOperationTypes) {
-                String filename = classToPathMap.get(enabledClass);
-                String batchColumn = classToBatchColumn.get(enabledClass);
-                String viewName = enabledClass.getSimpleName();
-                // Initialize the batch reader to set the view in DuckDB on the parquet file
-                Tuple2<Long, Long> boundaries = updateOperationStream.init(
-                    new File(updatesDir, filename
+                TypeReader reader = new TypeReader(
+                    new File(updatesDir, classToPathMap.get(enabledClass)
                         + LdbcFinBenchTransactionWorkloadConfiguration.FILE_SEPARATOR + fileSuffix),
-                    viewName,
-                    batchColumn
+                    enabledClass.getSimpleName(),
+                    classToBatchColumn.get(enabledClass),
+                    decoders.get(enabledClass),
+                    startOffset
                 );
+                readers.add(reader);
+                reader.start();
+            }
 
-                classToLastValue.put(enabledClass, boundaries._2());
-
+            // the windows of all types start at the smallest first value, as every type is read window by window
+            long offset = Long.MAX_VALUE;
+            for (TypeReader reader : readers) {
+                Tuple2<Long, Long> boundaries = reader.boundaries.get();
                 // avoid empty incremental lead to file offset = -1
                 if (boundaries._1() != -1 && boundaries._1() < offset) {
                     offset = boundaries._1();
                 }
             }
+            startOffset.complete(offset);
 
             // Loop until interrupt or no operations left to load
-            while (!Thread.interrupted()) {
-                Iterator<Operation> newBatch = loadNextBatch(
-                    updateOperationStream,
-                    offset,
-                    classToLastValue
-                );
-                if (!newBatch.hasNext()) {
-                    // No new operations, stream empty.
-                    return;
+            List<TypeReader> activeReaders = new ArrayList<>(readers);
+            while (!Thread.currentThread().isInterrupted() && !activeReaders.isEmpty()) {
+                List<List<Operation>> windowBatches = new ArrayList<>(activeReaders.size());
+                Iterator<TypeReader> activeReaderIterator = activeReaders.iterator();
+                while (activeReaderIterator.hasNext()) {
+                    TypeReader reader = activeReaderIterator.next();
+                    List<Operation> batch = reader.batches.take();
+                    if (batch == END_OF_STREAM) {
+                        activeReaderIterator.remove();
+                        if (null != reader.error) {
+                            throw reader.error;
+                        }
+                    } else if (!batch.isEmpty()) {
+                        windowBatches.add(batch);
+                    }
                 }
-                // Waits for a free slot.
-                blockingQueue.put(newBatch);
-                offset = offset + batchSize;
-                if (finishInit.getCount() == 1) {
-                    finishInit.countDown();
+                // windows without any operation are skipped
+                if (!windowBatches.isEmpty()) {
+                    // Waits for a free slot.
+                    blockingQueue.put(mergeByTimeStamp(windowBatches).iterator());
+                    if (finishInit.getCount() == 1) {
+                        finishInit.countDown();
+                    }
                 }
             }
-        } catch (WorkloadException | SQLException ew) {
-            ew.printStackTrace();
-            Thread.currentThread().interrupt();
+        } catch (WorkloadException | RuntimeException e) {
+            error = e;
+        } catch (ExecutionException e) {
+            error = e.getCause();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         } finally {
+            startOffset.cancel(false);
+            for (TypeReader reader : readers) {
+                reader.interrupt();
+            }
+            endStream(error);
             if (finishInit.getCount() == 1) {
                 finishInit.countDown();
             }
@@ -112,51 +147,124 @@ public class RunnableOperationStreamBatchLoader extends Thread {
     }
 
     /**
-     * Fetches the next batch of operation streams
-     *
-     * @param updateOperationStream
-     * @param offset
-     * @param classtoEndValue
-     * @return
+     * The buffered stream waits for batches without a timeout, it ends only once the end of the stream is put, also
+     * after an error, which is handed to the consumer that way. When interrupted, the workload is closing and nobody
+     * waits for the end of the stream anymore.
      */
-    private Iterator<Operation> loadNextBatch(
-        BatchedOperationStreamReader updateOperationStream,
-        long offset,
-        Map<Class<? extends Operation>, Long> classtoEndValue
-    ) throws SQLException, WorkloadException {
-        Map<Class<? extends Operation>, String> classToBatchColumn =
-            LdbcFinBenchTransactionWorkloadConfiguration.getUpdateStreamClassToDateColumn();
-        ArrayList<Iterator<Operation>> listOfBatchedOperationStreams = new ArrayList<>();
+    private void endStream(Throwable error) {
+        Iterator<Operation> endOfStream = (null == error)
+            ? OperationStreamBuffer.END_OF_STREAM
+            : OperationStreamBuffer.failedStream(error);
+        if (Thread.currentThread().isInterrupted()) {
+            blockingQueue.offer(endOfStream);
+            return;
+        }
+        try {
+            // Waits for a free slot.
+            blockingQueue.put(endOfStream);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-        Map<Class<? extends Operation>, EventStreamReader.EventDecoder<Operation>> decoders =
-            UpdateEventStreamReader.getDecoders();
-        for (Class<? extends Operation> enabledClass : enabledUpdateOperationTypes) {
-            String batchColumn = classToBatchColumn.get(enabledClass);
-            String viewName = enabledClass.getSimpleName();
-            if (offset <= classtoEndValue.get(enabledClass)) {
-                Iterator<Operation> operationStream = updateOperationStream.readBatchedOperationStream(
-                    decoders.get(enabledClass),
-                    offset,
-                    batchSize,
-                    viewName,
-                    batchColumn
-                );
-                // Update offset
-                // Only put non-empty iterators in the list to merge
-                if (operationStream.hasNext()) {
-                    listOfBatchedOperationStreams.add(operationStream);
-                }
-            }
+    /**
+     * K-way merge of batches sorted by timestamp, operations with equal timestamps keep the order of the batches
+     */
+    @SuppressWarnings("unchecked")
+    static List<Operation> mergeByTimeStamp(List<List<Operation>> batches) {
+        if (batches.size() == 1) {
+            return batches.get(0);
+        }
+        int operationCount = 0;
+        Iterator<Operation>[] batchIterators = new Iterator[batches.size()];
+        for (int i = 0; i < batches.size(); i++) {
+            operationCount += batches.get(i).size();
+            batchIterators[i] = batches.get(i).iterator();
         }
-        // If empty, it means there is nothing more to load.
-        if (listOfBatchedOperationStreams.isEmpty()) {
-            return Collections.emptyIterator();
+        List<Operation> merged = new ArrayList<>(operationCount);
+        new OperationMergeGenerator(OperationMergeGenerator.MergeKey.TIME_STAMP, batchIterators)
+            .forEachRemaining(merged::add);
+        return merged;
+    }
+
+    /**
+     * Reads the batches of one update operation type, one per window, until its last value has been read
+     */
+    private class TypeReader extends Thread {
+        private final File operationFile;
+        private final String viewName;
+        private final String batchColumn;
+        private final EventStreamReader.EventDecoder<Operation> decoder;
+        private final CompletableFuture<Long> startOffset;
+        private final CompletableFuture<Tuple2<Long, Long>> boundaries = new CompletableFuture<>();
+        private final BlockingQueue<List<Operation>> batches = new ArrayBlockingQueue<>(prefetchDepth);
+        private volatile WorkloadException error = null;
+
+        private TypeReader(
+            File operationFile,
+            String viewName,
+            String batchColumn,
+            EventStreamReader.EventDecoder<Operation> decoder,
+            CompletableFuture<Long> startOffset
+        ) {
+            super(RunnableOperationStreamBatchLoader.this.getName() + "-" + viewName);
+            setDaemon(true);
+            this.operationFile = operationFile;
+            this.viewName = viewName;
+            this.batchColumn = batchColumn;
+            this.decoder = decoder;
+            this.startOffset = startOffset;
         }
-        // Merge the operation streams and sort them by timestamp
-        Iterator<Operation> mergedUpdateStreams = Collections.<Operation>emptyIterator();
-        for (Iterator<Operation> updateStream : listOfBatchedOperationStreams) {
-            mergedUpdateStreams = gf.mergeSortOperationsByTimeStamp(mergedUpdateStreams, updateStream);
+
+        @Override
+        public void run() {
+            DuckDbExtractor db = null;
+            FileLoader loader = null;
+            try {
+                db = new DuckDbExtractor();
+                loader = new FileLoader(db);
+                BatchedOperationStreamReader updateOperationStream = new BatchedOperationStreamReader(loader);
+                // Initialize the batch reader to set the view or table in DuckDB on the parquet file
+                Tuple2<Long, Long> typeBoundaries = updateOperationStream.init(
+                    operationFile, viewName, batchColumn, materialize);
+                boundaries.complete(typeBoundaries);
+                long endValue = typeBoundaries._2();
+                for (long offset = startOffset.get(); offset <= endValue; offset += batchSize) {
+                    List<Operation> batch = new ArrayList<>();
+                    Iterator<Operation> operationStream = updateOperationStream.readBatchedOperationStream(
+                        decoder,
+                        offset,
+                        batchSize,
+                        viewName,
+                        batchColumn
+                    );
+                    operationStream.forEachRemaining(batch::add);
+                    // Waits for a free slot.
+                    batches.put(batch);
+                }
+            } catch (WorkloadException e) {
+                error = e;
+            } catch (SQLException e) {
+                error = new WorkloadException("Error loading update stream with view: " + viewName, e);
+            } catch (InterruptedException | CancellationException e) {
+                return;
+            } catch (ExecutionException | RuntimeException e) {
+                error = new WorkloadException("Error loading update stream with view: " + viewName, e);
+            } finally {
+                // unblocks the merging thread if initialization failed
+                boundaries.complete(new Tuple2<>(-1L, -1L));
+                if (null != loader) {
+                    loader.close();
+                }
+                if (null != db) {
+                    db.close();
+                }
+            }
+            try {
+                batches.put(END_OF_STREAM);
+            } catch (InterruptedException e) {
+                // merging thread is gone, nobody waits for the end of the stream
+            }
         }
-        return mergedUpdateStreams;
     }
 }
@@ -0,0 +1,31 @@
+package org.ldbcouncil.finbench.driver.workloads.transaction;
+
+/**
+ * Parameters of simple reads taken from the results of earlier reads: the id of an account, person or company, with
+ * the threshold and time window of the read that returned it. Shared by all threads executing operations.
+ */
+public interface SimpleReadParameterBuffer {
+    /**
+     * Adds parameters, evicting the oldest ones if the buffer is full
+     */
+    void add(long id, double threshold, long startTimeAsMilli, long endTimeAsMilli);
+
+    default void add(long id) {
+        add(id, 0, 0, 0);
+    }
+
+    /**
+     * Removes the oldest parameters
+     *
+     * @param parameters Receives the parameters
+     * @return false if the buffer was empty
+     */
+    boolean poll(Parameters parameters);
+
+    final class Parameters {
+        public long id;
+        public double threshold;
+        public long startTimeAsMilli;
+        public long endTimeAsMilli;
+    }
+}
@@ -0,0 +1,114 @@
+package org.ldbcouncil.finbench.driver.workloads.transaction;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free multi-producer multi-consumer ring of simple read parameters, one primitive array per parameter.
+ * <p>
+ * Every slot has a sequence number: a producer may write slot i of position p once its sequence is p, and publishes
+ * the parameters by setting it to p + 1; a consumer may read the slot once its sequence is p + 1, and frees it by
+ * setting it to p + capacity, the position the slot is written at next. Producers and consumers claim positions by
+ * compare and set on the tail and head counters, so threads only contend on those two counters and never block.
+ */
+public final class SimpleReadParameterRing implements SimpleReadParameterBuffer {
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final long[] ids;
+    private final double[] thresholds;
+    private final long[] startTimesAsMilli;
+    private final long[] endTimesAsMilli;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * @param capacity Rounded up to a power of two
+     */
+    public SimpleReadParameterRing(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30, was " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.ids = new long[size];
+        this.thresholds = new double[size];
+        this.startTimesAsMilli = new long[size];
+        this.endTimesAsMilli = new long[size];
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * If the oldest parameters cannot be evicted because their slot is still being written or read, the parameters
+     * are dropped rather than waiting for that thread, simple reads only sample the parameters
+     */
+    @Override
+    public void add(long id, double threshold, long startTimeAsMilli, long endTimeAsMilli) {
+        // full, evict the oldest parameters as EvictingQueue does
+        while (!offer(id, threshold, startTimeAsMilli, endTimeAsMilli)) {
+            if (!poll(null)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return false if the buffer was full
+     */
+    public boolean offer(long id, double threshold, long startTimeAsMilli, long endTimeAsMilli) {
+        while (true) {
+            long position = tail.get();
+            int slot = (int) position & mask;
+            long sequence = sequences.get(slot);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    ids[slot] = id;
+                    thresholds[slot] = threshold;
+                    startTimesAsMilli[slot] = startTimeAsMilli;
+                    endTimesAsMilli[slot] = endTimeAsMilli;
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+            } else if (sequence < position) {
+                // the slot was not read since it was written one lap ago
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @param parameters Receives the parameters, they are dropped if null
+     */
+    @Override
+    public boolean poll(Parameters parameters) {
+        while (true) {
+            long position = head.get();
+            int slot = (int) position & mask;
+            long sequence = sequences.get(slot);
+            if (sequence == position + 1) {
+                if (head.compareAndSet(position, position + 1)) {
+                    if (null != parameters) {
+                        parameters.id = ids[slot];
+                        parameters.threshold = thresholds[slot];
+                        parameters.startTimeAsMilli = startTimesAsMilli[slot];
+                        parameters.endTimeAsMilli = endTimesAsMilli[slot];
+                    }
+                    sequences.set(slot, position + mask + 1);
+                    return true;
+                }
+            } else if (sequence < position + 1) {
+                // the slot was not written yet
+                return false;
+            }
+        }
+    }
+}
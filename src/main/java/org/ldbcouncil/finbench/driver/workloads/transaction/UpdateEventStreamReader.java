@@ -4,7 +4,6 @@ import static java.lang.String.format;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -200,7 +199,7 @@ public class UpdateEventStreamReader implements Iterator<Operation> {
                 long dependencyTimeStamp = getDependencyTimeStamp(rs);
                 long personId = rs.getLong(3);
                 long accountId = rs.getLong(4);
-                Date time = new Date(scheduledStartTimeAsMilli);
+                long time = scheduledStartTimeAsMilli;
                 String accountType = rs.getString(5);
                 boolean accountBlocked = rs.getBoolean(6);
 
@@ -233,7 +232,7 @@ public class UpdateEventStreamReader implements Iterator<Operation> {
                 long dependencyTimeStamp = getDependencyTimeStamp(rs);
                 long companyId = rs.getLong(3);
                 long accountId = rs.getLong(4);
-                Date time = new Date(scheduledStartTimeAsMilli);
+                long time = scheduledStartTimeAsMilli;
                 String accountType = rs.getString(5);
                 boolean accountBlocked = rs.getBoolean(6);
 
@@ -268,7 +267,7 @@ public class UpdateEventStreamReader implements Iterator<Operation> {
                 long loanId = rs.getLong(4);
                 double loanAmount = rs.getDouble(5);
                 double balance = rs.getDouble(6);
-                Date time = new Date(scheduledStartTimeAsMilli);
+                long time = scheduledStartTimeAsMilli;
 
                 Operation operation = new Write6(
                     personId,
@@ -301,7 +300,7 @@ public class UpdateEventStreamReader implements Iterator<Operation> {
                 long loanId = rs.getLong(4);
                 double loanAmount = rs.getDouble(5);
                 double balance = rs.getDouble(6);
-                Date time = new Date(scheduledStartTimeAsMilli);
+                long time = scheduledStartTimeAsMilli;
 
                 Operation operation = new Write7(
                     companyId,
@@ -332,7 +331,7 @@ public class UpdateEventStreamReader implements Iterator<Operation> {
                 long dependencyTimeStamp = getDependencyTimeStamp(rs);
                 long personId = rs.getLong(3);
                 long companyId = rs.getLong(4);
-                Date time = new Date(scheduledStartTimeAsMilli);
+                long time = scheduledStartTimeAsMilli;
                 double ratio = rs.getDouble(5);
 
                 Operation operation = new Write8(
@@ -363,7 +362,7 @@ public class UpdateEventStreamReader implements Iterator<Operation> {
                 long dependencyTimeStamp = getDependencyTimeStamp(rs);
                 long companyId1 = rs.getLong(3);
                 long companyId2 = rs.getLong(4);
-                Date time = new Date(scheduledStartTimeAsMilli);
+                long time = scheduledStartTimeAsMilli;
                 double ratio = rs.getDouble(5);
 
                 Operation operation = new Write9(
@@ -394,7 +393,7 @@ public class UpdateEventStreamReader implements Iterator<Operation> {
                 long dependencyTimeStamp = getDependencyTimeStamp(rs);
                 long personId1 = rs.getLong(3);
                 long personId2 = rs.getLong(4);
-                Date time = new Date(scheduledStartTimeAsMilli);
+                long time = scheduledStartTimeAsMilli;
 
                 Operation operation = new Write10(
                     personId1,
@@ -423,7 +422,7 @@ public class UpdateEventStreamReader implements Iterator<Operation> {
                 long dependencyTimeStamp = getDependencyTimeStamp(rs);
                 long companyId1 = rs.getLong(3);
                 long companyId2 = rs.getLong(4);
-                Date time = new Date(scheduledStartTimeAsMilli);
+                long time = scheduledStartTimeAsMilli;
 
                 Operation operation = new Write11(
                     companyId1,
@@ -452,7 +451,7 @@ public class UpdateEventStreamReader implements Iterator<Operation> {
                 long dependencyTimeStamp = getDependencyTimeStamp(rs);
                 long accountId1 = rs.getLong(3);
                 long accountId2 = rs.getLong(4);
-                Date time = new Date(scheduledStartTimeAsMilli);
+                long time = scheduledStartTimeAsMilli;
                 double amount = rs.getDouble(5);
 
                 Operation operation = new Write12(
@@ -483,7 +482,7 @@ public class UpdateEventStreamReader implements Iterator<Operation> {
                 long dependencyTimeStamp = getDependencyTimeStamp(rs);
                 long accountId1 = rs.getLong(3);
                 long accountId2 = rs.getLong(4);
-                Date time = new Date(scheduledStartTimeAsMilli);
+                long time = scheduledStartTimeAsMilli;
                 double amount = rs.getDouble(5);
 
                 Operation operation = new Write13(
@@ -514,7 +513,7 @@ public class UpdateEventStreamReader implements Iterator<Operation> {
                 long dependencyTimeStamp = getDependencyTimeStamp(rs);
                 long accountId = rs.getLong(3);
                 long loanId = rs.getLong(4);
-                Date time = new Date(scheduledStartTimeAsMilli);
+                long time = scheduledStartTimeAsMilli;
                 double amount = rs.getDouble(5);
 
                 Operation operation = new Write14(
@@ -545,7 +544,7 @@ public class UpdateEventStreamReader implements Iterator<Operation> {
                 long dependencyTimeStamp = getDependencyTimeStamp(rs);
                 long loanId = rs.getLong(4);
                 long accountId = rs.getLong(3);
-                Date time = new Date(scheduledStartTimeAsMilli);
+                long time = scheduledStartTimeAsMilli;
                 double amount = rs.getDouble(5);
 
                 Operation operation = new Write15(
@@ -576,7 +575,7 @@ public class UpdateEventStreamReader implements Iterator<Operation> {
                 long dependencyTimeStamp = getDependencyTimeStamp(rs);
                 long mediumId = rs.getLong(3);
                 long accountId = rs.getLong(4);
-                Date time = new Date(scheduledStartTimeAsMilli);
+                long time = scheduledStartTimeAsMilli;
 
                 Operation operation = new Write16(
                     mediumId,
@@ -680,10 +679,10 @@ public class UpdateEventStreamReader implements Iterator<Operation> {
                 long dependencyTimeStamp = getDependencyTimeStamp(rs);
                 long srcId = rs.getLong(3);
                 long dstId = rs.getLong(4);
-                Date currentTime = new Date(scheduledStartTimeAsMilli);
+                long currentTime = scheduledStartTimeAsMilli;
                 long amt = rs.getLong(5);
-                Date startTime = new Date(rs.getLong(10));
-                Date endTime = new Date(rs.getLong(11));
+                long startTime = rs.getLong(10);
+                long endTime = rs.getLong(11);
 
                 Operation operation = new ReadWrite1(
                     srcId,
@@ -715,11 +714,11 @@ public class UpdateEventStreamReader implements Iterator<Operation> {
                 long dependencyTimeStamp = getDependencyTimeStamp(rs);
                 long srcId = rs.getLong(3);
                 long dstId = rs.getLong(4);
-                Date currentTime = new Date(scheduledStartTimeAsMilli);
+                long currentTime = scheduledStartTimeAsMilli;
                 long amt = rs.getLong(5);
                 double amountThreshold = rs.getDouble(14);
-                Date startTime = new Date(rs.getLong(10));
-                Date endTime = new Date(rs.getLong(11));
+                long startTime = rs.getLong(10);
+                long endTime = rs.getLong(11);
                 float ratioThreshold = rs.getFloat(15);
                 int truncationLimit = rs.getInt(12);
                 TruncationOrder truncationOrder = TruncationOrder.valueOf(rs.getString(13));
@@ -758,10 +757,10 @@ public class UpdateEventStreamReader implements Iterator<Operation> {
                 long dependencyTimeStamp = getDependencyTimeStamp(rs);
                 long srcId = rs.getLong(3);
                 long dstId = rs.getLong(4);
-                Date currentTime = new Date(scheduledStartTimeAsMilli);
+                long currentTime = scheduledStartTimeAsMilli;
                 double threshold = rs.getDouble(10);
-                Date startTime = new Date(rs.getLong(6));
-                Date endTime = new Date(rs.getLong(7));
+                long startTime = rs.getLong(6);
+                long endTime = rs.getLong(7);
                 int truncationLimit = rs.getInt(8);
                 TruncationOrder truncationOrder = TruncationOrder.valueOf(rs.getString(9));
 
@@ -27,24 +27,31 @@ public class ComplexRead10 extends LdbcOperation<List<ComplexRead10Result>> {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final long pid1;
     private final long pid2;
-    private final Date startTime;
-    private final Date endTime;
+    private final long startTimeAsMilli;
+    private final long endTimeAsMilli;
 
     public ComplexRead10(@JsonProperty(PID1) long pid1,
                          @JsonProperty(PID2) long pid2,
                          @JsonProperty(START_TIME) Date startTime,
                          @JsonProperty(END_TIME) Date endTime) {
+        this(pid1, pid2, asMilli(startTime), asMilli(endTime));
+    }
+
+    public ComplexRead10(long pid1,
+                         long pid2,
+                         long startTimeAsMilli,
+                         long endTimeAsMilli) {
         this.pid1 = pid1;
         this.pid2 = pid2;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.startTimeAsMilli = startTimeAsMilli;
+        this.endTimeAsMilli = endTimeAsMilli;
     }
 
     public ComplexRead10(ComplexRead10 operation) {
         this.pid1 = operation.pid1;
         this.pid2 = operation.pid2;
-        this.startTime = operation.startTime;
-        this.endTime = operation.endTime;
+        this.startTimeAsMilli = operation.startTimeAsMilli;
+        this.endTimeAsMilli = operation.endTimeAsMilli;
     }
 
     @Override
@@ -61,11 +68,19 @@ public class ComplexRead10 extends LdbcOperation<List<ComplexRead10Result>> {
     }
 
     public Date getStartTime() {
-        return startTime;
+        return asDate(startTimeAsMilli);
+    }
+
+    public long startTimeAsMilli() {
+        return startTimeAsMilli;
     }
 
     public Date getEndTime() {
-        return endTime;
+        return asDate(endTimeAsMilli);
+    }
+
+    public long endTimeAsMilli() {
+        return endTimeAsMilli;
     }
 
     @Override
@@ -78,8 +93,8 @@ public class ComplexRead10 extends LdbcOperation<List<ComplexRead10Result>> {
         return ImmutableMap.<String, Object>builder()
             .put(PID1, pid1)
             .put(PID2, pid2)
-            .put(START_TIME, startTime)
-            .put(END_TIME, endTime)
+            .put(START_TIME, getStartTime())
+            .put(END_TIME, getEndTime())
             .build();
     }
 
@@ -99,13 +114,13 @@ public class ComplexRead10 extends LdbcOperation<List<ComplexRead10Result>> {
         ComplexRead10 that = (ComplexRead10) o;
         return pid1 == that.pid1
             && pid2 == that.pid2
-            && Objects.equals(startTime, that.startTime)
-            && Objects.equals(endTime, that.endTime);
+            && startTimeAsMilli == that.startTimeAsMilli
+            && endTimeAsMilli == that.endTimeAsMilli;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(pid1, pid2, startTime, endTime);
+        return Objects.hash(pid1, pid2, startTimeAsMilli, endTimeAsMilli);
     }
 
     @Override
@@ -116,9 +131,9 @@ public class ComplexRead10 extends LdbcOperation<List<ComplexRead10Result>> {
             + ", pid2="
             + pid2
             + ", startTime="
-            + startTime
+            + getStartTime()
             + ", endTime="
-            + endTime
+            + getEndTime()
             + '}';
     }
 }
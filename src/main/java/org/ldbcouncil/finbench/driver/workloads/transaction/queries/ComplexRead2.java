@@ -30,8 +30,8 @@ public class ComplexRead2 extends LdbcOperation<List<ComplexRead2Result>> {
     public static final String TRUNCATION_ORDER = "truncationOrder";
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final long id;
-    private final Date startTime;
-    private final Date endTime;
+    private final long startTimeAsMilli;
+    private final long endTimeAsMilli;
     private final int truncationLimit;
     private final TruncationOrder truncationOrder;
 
@@ -40,17 +40,25 @@ public class ComplexRead2 extends LdbcOperation<List<ComplexRead2Result>> {
                         @JsonProperty(END_TIME) Date endTime,
                         @JsonProperty(TRUNCATION_LIMIT) int truncationLimit,
                         @JsonProperty(TRUNCATION_ORDER) TruncationOrder truncationOrder) {
+        this(id, asMilli(startTime), asMilli(endTime), truncationLimit, truncationOrder);
+    }
+
+    public ComplexRead2(long id,
+                        long startTimeAsMilli,
+                        long endTimeAsMilli,
+                        int truncationLimit,
+                        TruncationOrder truncationOrder) {
         this.id = id;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.startTimeAsMilli = startTimeAsMilli;
+        this.endTimeAsMilli = endTimeAsMilli;
         this.truncationLimit = truncationLimit;
         this.truncationOrder = truncationOrder;
     }
 
     public ComplexRead2(ComplexRead2 operation) {
         this.id = operation.id;
-        this.startTime = operation.startTime;
-        this.endTime = operation.endTime;
+        this.startTimeAsMilli = operation.startTimeAsMilli;
+        this.endTimeAsMilli = operation.endTimeAsMilli;
         this.truncationLimit = operation.truncationLimit;
         this.truncationOrder = operation.truncationOrder;
     }
@@ -65,11 +73,19 @@ public class ComplexRead2 extends LdbcOperation<List<ComplexRead2Result>> {
     }
 
     public Date getStartTime() {
-        return startTime;
+        return asDate(startTimeAsMilli);
+    }
+
+    public long startTimeAsMilli() {
+        return startTimeAsMilli;
     }
 
     public Date getEndTime() {
-        return endTime;
+        return asDate(endTimeAsMilli);
+    }
+
+    public long endTimeAsMilli() {
+        return endTimeAsMilli;
     }
 
     public int getTruncationLimit() {
@@ -89,8 +105,8 @@ public class ComplexRead2 extends LdbcOperation<List<ComplexRead2Result>> {
     public Map<String, Object> parameterMap() {
         return ImmutableMap.<String, Object>builder()
             .put(ID, id)
-            .put(START_TIME, startTime)
-            .put(END_TIME, endTime)
+            .put(START_TIME, getStartTime())
+            .put(END_TIME, getEndTime())
             .put(TRUNCATION_LIMIT, truncationLimit)
             .put(TRUNCATION_ORDER, truncationOrder)
             .build();
@@ -111,15 +127,15 @@ public class ComplexRead2 extends LdbcOperation<List<ComplexRead2Result>> {
         }
         ComplexRead2 that = (ComplexRead2) o;
         return id == that.id
-            && Objects.equals(startTime, that.startTime)
-            && Objects.equals(endTime, that.endTime)
+            && startTimeAsMilli == that.startTimeAsMilli
+            && endTimeAsMilli == that.endTimeAsMilli
             && truncationLimit == that.truncationLimit
             && truncationOrder == that.truncationOrder;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, startTime, endTime, truncationLimit, truncationOrder);
+        return Objects.hash(id, startTimeAsMilli, endTimeAsMilli, truncationLimit, truncationOrder);
     }
 
     @Override
@@ -128,9 +144,9 @@ public class ComplexRead2 extends LdbcOperation<List<ComplexRead2Result>> {
             + "id="
             + id
             + ", startTime="
-            + startTime
+            + getStartTime()
             + ", endTime="
-            + endTime
+            + getEndTime()
             + ", truncationLimit="
             + truncationLimit
             + ", truncationOrder="
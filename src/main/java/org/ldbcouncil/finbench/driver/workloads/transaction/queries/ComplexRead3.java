@@ -28,24 +28,31 @@ public class ComplexRead3 extends LdbcOperation<List<ComplexRead3Result>> {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final long id1;
     private final long id2;
-    private final Date startTime;
-    private final Date endTime;
+    private final long startTimeAsMilli;
+    private final long endTimeAsMilli;
 
     public ComplexRead3(@JsonProperty(ID1) long id1,
                         @JsonProperty(ID2) long id2,
                         @JsonProperty(START_TIME) Date startTime,
                         @JsonProperty(END_TIME) Date endTime) {
+        this(id1, id2, asMilli(startTime), asMilli(endTime));
+    }
+
+    public ComplexRead3(long id1,
+                        long id2,
+                        long startTimeAsMilli,
+                        long endTimeAsMilli) {
         this.id1 = id1;
         this.id2 = id2;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.startTimeAsMilli = startTimeAsMilli;
+        this.endTimeAsMilli = endTimeAsMilli;
     }
 
     public ComplexRead3(ComplexRead3 operation) {
         this.id1 = operation.id1;
         this.id2 = operation.id2;
-        this.startTime = operation.startTime;
-        this.endTime = operation.endTime;
+        this.startTimeAsMilli = operation.startTimeAsMilli;
+        this.endTimeAsMilli = operation.endTimeAsMilli;
     }
 
     @Override
@@ -62,11 +69,19 @@ public class ComplexRead3 extends LdbcOperation<List<ComplexRead3Result>> {
     }
 
     public Date getStartTime() {
-        return startTime;
+        return asDate(startTimeAsMilli);
+    }
+
+    public long startTimeAsMilli() {
+        return startTimeAsMilli;
     }
 
     public Date getEndTime() {
-        return endTime;
+        return asDate(endTimeAsMilli);
+    }
+
+    public long endTimeAsMilli() {
+        return endTimeAsMilli;
     }
 
     @Override
@@ -79,8 +94,8 @@ public class ComplexRead3 extends LdbcOperation<List<ComplexRead3Result>> {
         return ImmutableMap.<String, Object>builder()
             .put(ID1, id1)
             .put(ID2, id2)
-            .put(START_TIME, startTime)
-            .put(END_TIME, endTime)
+            .put(START_TIME, getStartTime())
+            .put(END_TIME, getEndTime())
             .build();
     }
 
@@ -100,13 +115,13 @@ public class ComplexRead3 extends LdbcOperation<List<ComplexRead3Result>> {
         ComplexRead3 that = (ComplexRead3) o;
         return id1 == that.id1
             && id2 == that.id2
-            && Objects.equals(startTime, that.startTime)
-            && Objects.equals(endTime, that.endTime);
+            && startTimeAsMilli == that.startTimeAsMilli
+            && endTimeAsMilli == that.endTimeAsMilli;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id1, id2, startTime, endTime);
+        return Objects.hash(id1, id2, startTimeAsMilli, endTimeAsMilli);
     }
 
     @Override
@@ -117,9 +132,9 @@ public class ComplexRead3 extends LdbcOperation<List<ComplexRead3Result>> {
             + ", id2="
             + id2
             + ", startTime="
-            + startTime
+            + getStartTime()
             + ", endTime="
-            + endTime
+            + getEndTime()
             + '}';
     }
 }
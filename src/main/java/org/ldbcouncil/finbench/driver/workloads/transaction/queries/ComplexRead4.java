@@ -30,24 +30,31 @@ public class ComplexRead4 extends LdbcOperation<List<ComplexRead4Result>> {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final long id1;
     private final long id2;
-    private final Date startTime;
-    private final Date endTime;
+    private final long startTimeAsMilli;
+    private final long endTimeAsMilli;
 
     public ComplexRead4(@JsonProperty(ID1) long id1,
                         @JsonProperty(ID2) long id2,
                         @JsonProperty(START_TIME) Date startTime,
                         @JsonProperty(END_TIME) Date endTime) {
+        this(id1, id2, asMilli(startTime), asMilli(endTime));
+    }
+
+    public ComplexRead4(long id1,
+                        long id2,
+                        long startTimeAsMilli,
+                        long endTimeAsMilli) {
         this.id1 = id1;
         this.id2 = id2;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.startTimeAsMilli = startTimeAsMilli;
+        this.endTimeAsMilli = endTimeAsMilli;
     }
 
     public ComplexRead4(ComplexRead4 operation) {
         this.id1 = operation.id1;
         this.id2 = operation.id2;
-        this.startTime = operation.startTime;
-        this.endTime = operation.endTime;
+        this.startTimeAsMilli = operation.startTimeAsMilli;
+        this.endTimeAsMilli = operation.endTimeAsMilli;
     }
 
     @Override
@@ -64,11 +71,19 @@ public class ComplexRead4 extends LdbcOperation<List<ComplexRead4Result>> {
     }
 
     public Date getStartTime() {
-        return startTime;
+        return asDate(startTimeAsMilli);
+    }
+
+    public long startTimeAsMilli() {
+        return startTimeAsMilli;
     }
 
     public Date getEndTime() {
-        return endTime;
+        return asDate(endTimeAsMilli);
+    }
+
+    public long endTimeAsMilli() {
+        return endTimeAsMilli;
     }
 
     @Override
@@ -81,8 +96,8 @@ public class ComplexRead4 extends LdbcOperation<List<ComplexRead4Result>> {
         return ImmutableMap.<String, Object>builder()
             .put(ID1, id1)
             .put(ID2, id2)
-            .put(START_TIME, startTime)
-            .put(END_TIME, endTime)
+            .put(START_TIME, getStartTime())
+            .put(END_TIME, getEndTime())
             .build();
     }
 
@@ -102,13 +117,13 @@ public class ComplexRead4 extends LdbcOperation<List<ComplexRead4Result>> {
         ComplexRead4 that = (ComplexRead4) o;
         return id1 == that.id1
             && id2 == that.id2
-            && Objects.equals(startTime, that.startTime)
-            && Objects.equals(endTime, that.endTime);
+            && startTimeAsMilli == that.startTimeAsMilli
+            && endTimeAsMilli == that.endTimeAsMilli;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id1, id2, startTime, endTime);
+        return Objects.hash(id1, id2, startTimeAsMilli, endTimeAsMilli);
     }
 
     @Override
@@ -119,9 +134,9 @@ public class ComplexRead4 extends LdbcOperation<List<ComplexRead4Result>> {
             + ", id2="
             + id2
             + ", startTime="
-            + startTime
+            + getStartTime()
             + ", endTime="
-            + endTime
+            + getEndTime()
             + '}';
     }
 }
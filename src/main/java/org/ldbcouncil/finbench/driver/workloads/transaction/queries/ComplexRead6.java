@@ -34,8 +34,8 @@ public class ComplexRead6 extends LdbcOperation<List<ComplexRead6Result>> {
     private final long id;
     private final double threshold1;
     private final double threshold2;
-    private final Date startTime;
-    private final Date endTime;
+    private final long startTimeAsMilli;
+    private final long endTimeAsMilli;
     private final int truncationLimit;
     private final TruncationOrder truncationOrder;
 
@@ -46,11 +46,21 @@ public class ComplexRead6 extends LdbcOperation<List<ComplexRead6Result>> {
                         @JsonProperty(END_TIME) Date endTime,
                         @JsonProperty(TRUNCATION_LIMIT) int truncationLimit,
                         @JsonProperty(TRUNCATION_ORDER) TruncationOrder truncationOrder) {
+        this(id, threshold1, threshold2, asMilli(startTime), asMilli(endTime), truncationLimit, truncationOrder);
+    }
+
+    public ComplexRead6(long id,
+                        double threshold1,
+                        double threshold2,
+                        long startTimeAsMilli,
+                        long endTimeAsMilli,
+                        int truncationLimit,
+                        TruncationOrder truncationOrder) {
         this.id = id;
         this.threshold1 = threshold1;
         this.threshold2 = threshold2;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.startTimeAsMilli = startTimeAsMilli;
+        this.endTimeAsMilli = endTimeAsMilli;
         this.truncationLimit = truncationLimit;
         this.truncationOrder = truncationOrder;
     }
@@ -59,8 +69,8 @@ public class ComplexRead6 extends LdbcOperation<List<ComplexRead6Result>> {
         this.id = operation.id;
         this.threshold1 = operation.threshold1;
         this.threshold2 = operation.threshold2;
-        this.startTime = operation.startTime;
-        this.endTime = operation.endTime;
+        this.startTimeAsMilli = operation.startTimeAsMilli;
+        this.endTimeAsMilli = operation.endTimeAsMilli;
         this.truncationLimit = operation.truncationLimit;
         this.truncationOrder = operation.truncationOrder;
     }
@@ -83,11 +93,19 @@ public class ComplexRead6 extends LdbcOperation<List<ComplexRead6Result>> {
     }
 
     public Date getStartTime() {
-        return startTime;
+        return asDate(startTimeAsMilli);
+    }
+
+    public long startTimeAsMilli() {
+        return startTimeAsMilli;
     }
 
     public Date getEndTime() {
-        return endTime;
+        return asDate(endTimeAsMilli);
+    }
+
+    public long endTimeAsMilli() {
+        return endTimeAsMilli;
     }
 
     public int getTruncationLimit() {
@@ -109,8 +127,8 @@ public class ComplexRead6 extends LdbcOperation<List<ComplexRead6Result>> {
             .put(ID, id)
             .put(THRESHOLD1, threshold1)
             .put(THRESHOLD2, threshold2)
-            .put(START_TIME, startTime)
-            .put(END_TIME, endTime)
+            .put(START_TIME, getStartTime())
+            .put(END_TIME, getEndTime())
             .put(TRUNCATION_LIMIT, truncationLimit)
             .put(TRUNCATION_ORDER, truncationOrder)
             .build();
@@ -133,15 +151,16 @@ public class ComplexRead6 extends LdbcOperation<List<ComplexRead6Result>> {
         return id == that.id
             && threshold1 == that.threshold1
             && threshold2 == that.threshold2
-            && Objects.equals(startTime, that.startTime)
-            && Objects.equals(endTime, that.endTime)
+            && startTimeAsMilli == that.startTimeAsMilli
+            && endTimeAsMilli == that.endTimeAsMilli
             && truncationLimit == that.truncationLimit
             && truncationOrder == that.truncationOrder;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, threshold1, threshold2, startTime, endTime, truncationLimit, truncationOrder);
+        return Objects.hash(id, threshold1, threshold2, startTimeAsMilli, endTimeAsMilli, truncationLimit,
+            truncationOrder);
     }
 
     @Override
@@ -154,9 +173,9 @@ public class ComplexRead6 extends LdbcOperation<List<ComplexRead6Result>> {
             + ", threshold2="
             + threshold2
             + ", startTime="
-            + startTime
+            + getStartTime()
             + ", endTime="
-            + endTime
+            + getEndTime()
             + ", truncationLimit="
             + truncationLimit
             + ", truncationOrder="
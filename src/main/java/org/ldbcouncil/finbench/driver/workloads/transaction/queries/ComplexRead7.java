@@ -31,8 +31,8 @@ public class ComplexRead7 extends LdbcOperation<List<ComplexRead7Result>> {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final long id;
     private final double threshold;
-    private final Date startTime;
-    private final Date endTime;
+    private final long startTimeAsMilli;
+    private final long endTimeAsMilli;
     private final int truncationLimit;
     private final TruncationOrder truncationOrder;
 
@@ -42,10 +42,19 @@ public class ComplexRead7 extends LdbcOperation<List<ComplexRead7Result>> {
                         @JsonProperty(END_TIME) Date endTime,
                         @JsonProperty(TRUNCATION_LIMIT) int truncationLimit,
                         @JsonProperty(TRUNCATION_ORDER) TruncationOrder truncationOrder) {
+        this(id, threshold, asMilli(startTime), asMilli(endTime), truncationLimit, truncationOrder);
+    }
+
+    public ComplexRead7(long id,
+                        double threshold,
+                        long startTimeAsMilli,
+                        long endTimeAsMilli,
+                        int truncationLimit,
+                        TruncationOrder truncationOrder) {
         this.id = id;
         this.threshold = threshold;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.startTimeAsMilli = startTimeAsMilli;
+        this.endTimeAsMilli = endTimeAsMilli;
         this.truncationLimit = truncationLimit;
         this.truncationOrder = truncationOrder;
     }
@@ -53,8 +62,8 @@ public class ComplexRead7 extends LdbcOperation<List<ComplexRead7Result>> {
     public ComplexRead7(ComplexRead7 operation) {
         this.id = operation.id;
         this.threshold = operation.threshold;
-        this.startTime = operation.startTime;
-        this.endTime = operation.endTime;
+        this.startTimeAsMilli = operation.startTimeAsMilli;
+        this.endTimeAsMilli = operation.endTimeAsMilli;
         this.truncationLimit = operation.truncationLimit;
         this.truncationOrder = operation.truncationOrder;
     }
@@ -73,11 +82,19 @@ public class ComplexRead7 extends LdbcOperation<List<ComplexRead7Result>> {
     }
 
     public Date getStartTime() {
-        return startTime;
+        return asDate(startTimeAsMilli);
+    }
+
+    public long startTimeAsMilli() {
+        return startTimeAsMilli;
     }
 
     public Date getEndTime() {
-        return endTime;
+        return asDate(endTimeAsMilli);
+    }
+
+    public long endTimeAsMilli() {
+        return endTimeAsMilli;
     }
 
     public int getTruncationLimit() {
@@ -98,8 +115,8 @@ public class ComplexRead7 extends LdbcOperation<List<ComplexRead7Result>> {
         return ImmutableMap.<String, Object>builder()
             .put(ID, id)
             .put(THRESHOLD, threshold)
-            .put(START_TIME, startTime)
-            .put(END_TIME, endTime)
+            .put(START_TIME, getStartTime())
+            .put(END_TIME, getEndTime())
             .put(TRUNCATION_LIMIT, truncationLimit)
             .put(TRUNCATION_ORDER, truncationOrder)
             .build();
@@ -121,15 +138,15 @@ public class ComplexRead7 extends LdbcOperation<List<ComplexRead7Result>> {
         ComplexRead7 that = (ComplexRead7) o;
         return id == that.id
             && threshold == that.threshold
-            && Objects.equals(startTime, that.startTime)
-            && Objects.equals(endTime, that.endTime)
+            && startTimeAsMilli == that.startTimeAsMilli
+            && endTimeAsMilli == that.endTimeAsMilli
             && truncationLimit == that.truncationLimit
             && truncationOrder == that.truncationOrder;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, threshold, startTime, endTime, truncationLimit, truncationOrder);
+        return Objects.hash(id, threshold, startTimeAsMilli, endTimeAsMilli, truncationLimit, truncationOrder);
     }
 
     @Override
@@ -140,9 +157,9 @@ public class ComplexRead7 extends LdbcOperation<List<ComplexRead7Result>> {
             + ", threshold="
             + threshold
             + ", startTime="
-            + startTime
+            + getStartTime()
             + ", endTime="
-            + endTime
+            + getEndTime()
             + ", truncationLimit="
             + truncationLimit
             + ", truncationOrder="
@@ -35,8 +35,8 @@ public class ComplexRead8 extends LdbcOperation<List<ComplexRead8Result>> {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final long id;
     private final float threshold;
-    private final Date startTime;
-    private final Date endTime;
+    private final long startTimeAsMilli;
+    private final long endTimeAsMilli;
     private final int truncationLimit;
     private final TruncationOrder truncationOrder;
 
@@ -46,10 +46,19 @@ public class ComplexRead8 extends LdbcOperation<List<ComplexRead8Result>> {
                         @JsonProperty(END_TIME) Date endTime,
                         @JsonProperty(TRUNCATION_LIMIT) int truncationLimit,
                         @JsonProperty(TRUNCATION_ORDER) TruncationOrder truncationOrder) {
+        this(id, threshold, asMilli(startTime), asMilli(endTime), truncationLimit, truncationOrder);
+    }
+
+    public ComplexRead8(long id,
+                        float threshold,
+                        long startTimeAsMilli,
+                        long endTimeAsMilli,
+                        int truncationLimit,
+                        TruncationOrder truncationOrder) {
         this.id = id;
         this.threshold = threshold;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.startTimeAsMilli = startTimeAsMilli;
+        this.endTimeAsMilli = endTimeAsMilli;
         this.truncationLimit = truncationLimit;
         this.truncationOrder = truncationOrder;
     }
@@ -57,8 +66,8 @@ public class ComplexRead8 extends LdbcOperation<List<ComplexRead8Result>> {
     public ComplexRead8(ComplexRead8 operation) {
         this.id = operation.id;
         this.threshold = operation.threshold;
-        this.startTime = operation.startTime;
-        this.endTime = operation.endTime;
+        this.startTimeAsMilli = operation.startTimeAsMilli;
+        this.endTimeAsMilli = operation.endTimeAsMilli;
         this.truncationLimit = operation.truncationLimit;
         this.truncationOrder = operation.truncationOrder;
     }
@@ -77,11 +86,19 @@ public class ComplexRead8 extends LdbcOperation<List<ComplexRead8Result>> {
     }
 
     public Date getStartTime() {
-        return startTime;
+        return asDate(startTimeAsMilli);
+    }
+
+    public long startTimeAsMilli() {
+        return startTimeAsMilli;
     }
 
     public Date getEndTime() {
-        return endTime;
+        return asDate(endTimeAsMilli);
+    }
+
+    public long endTimeAsMilli() {
+        return endTimeAsMilli;
     }
 
     public int getTruncationLimit() {
@@ -102,8 +119,8 @@ public class ComplexRead8 extends LdbcOperation<List<ComplexRead8Result>> {
         return ImmutableMap.<String, Object>builder()
             .put(ID, id)
             .put(THRESHOLD, threshold)
-            .put(START_TIME, startTime)
-            .put(END_TIME, endTime)
+            .put(START_TIME, getStartTime())
+            .put(END_TIME, getEndTime())
             .put(TRUNCATION_LIMIT, truncationLimit)
             .put(TRUNCATION_ORDER, truncationOrder)
             .build();
@@ -125,15 +142,15 @@ public class ComplexRead8 extends LdbcOperation<List<ComplexRead8Result>> {
         ComplexRead8 that = (ComplexRead8) o;
         return id == that.id
             && threshold == that.threshold
-            && Objects.equals(startTime, that.startTime)
-            && Objects.equals(endTime, that.endTime)
+            && startTimeAsMilli == that.startTimeAsMilli
+            && endTimeAsMilli == that.endTimeAsMilli
             && truncationLimit == that.truncationLimit
             && truncationOrder == that.truncationOrder;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, threshold, startTime, endTime, truncationLimit, truncationOrder);
+        return Objects.hash(id, threshold, startTimeAsMilli, endTimeAsMilli, truncationLimit, truncationOrder);
     }
 
     @Override
@@ -144,9 +161,9 @@ public class ComplexRead8 extends LdbcOperation<List<ComplexRead8Result>> {
             + ", threshold="
             + threshold
             + ", startTime="
-            + startTime
+            + getStartTime()
             + ", endTime="
-            + endTime
+            + getEndTime()
             + ", truncationLimit="
             + truncationLimit
             + ", truncationOrder="
@@ -31,10 +31,10 @@ public class ReadWrite1 extends LdbcOperation<LdbcNoResult> {
     public static final String END_TIME = "endTime";
     private final long srcId;
     private final long dstId;
-    private final Date time;
+    private final long timeAsMilli;
     private final double amount;
-    private final Date startTime;
-    private final Date endTime;
+    private final long startTimeAsMilli;
+    private final long endTimeAsMilli;
 
     public ReadWrite1(@JsonProperty(SRC_ID) long srcId,
                       @JsonProperty(DST_ID) long dstId,
@@ -42,21 +42,30 @@ public class ReadWrite1 extends LdbcOperation<LdbcNoResult> {
                       @JsonProperty(AMOUNT) double amount,
                       @JsonProperty(START_TIME) Date startTime,
                       @JsonProperty(END_TIME) Date endTime) {
+        this(srcId, dstId, asMilli(time), amount, asMilli(startTime), asMilli(endTime));
+    }
+
+    public ReadWrite1(long srcId,
+                      long dstId,
+                      long timeAsMilli,
+                      double amount,
+                      long startTimeAsMilli,
+                      long endTimeAsMilli) {
         this.srcId = srcId;
         this.dstId = dstId;
-        this.time = time;
+        this.timeAsMilli = timeAsMilli;
         this.amount = amount;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.startTimeAsMilli = startTimeAsMilli;
+        this.endTimeAsMilli = endTimeAsMilli;
     }
 
     public ReadWrite1(ReadWrite1 operation) {
         this.srcId = operation.srcId;
         this.dstId = operation.dstId;
-        this.time = operation.time;
+        this.timeAsMilli = operation.timeAsMilli;
         this.amount = operation.amount;
-        this.startTime = operation.startTime;
-        this.endTime = operation.endTime;
+        this.startTimeAsMilli = operation.startTimeAsMilli;
+        this.endTimeAsMilli = operation.endTimeAsMilli;
     }
 
     @Override
@@ -73,7 +82,11 @@ public class ReadWrite1 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getTime() {
-        return time;
+        return asDate(timeAsMilli);
+    }
+
+    public long timeAsMilli() {
+        return timeAsMilli;
     }
 
     public double getAmount() {
@@ -81,11 +94,19 @@ public class ReadWrite1 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getStartTime() {
-        return startTime;
+        return asDate(startTimeAsMilli);
+    }
+
+    public long startTimeAsMilli() {
+        return startTimeAsMilli;
     }
 
     public Date getEndTime() {
-        return endTime;
+        return asDate(endTimeAsMilli);
+    }
+
+    public long endTimeAsMilli() {
+        return endTimeAsMilli;
     }
 
     @Override
@@ -98,10 +119,10 @@ public class ReadWrite1 extends LdbcOperation<LdbcNoResult> {
         return ImmutableMap.<String, Object>builder()
             .put(SRC_ID, srcId)
             .put(DST_ID, dstId)
-            .put(TIME, time)
+            .put(TIME, getTime())
             .put(AMOUNT, amount)
-            .put(START_TIME, startTime)
-            .put(END_TIME, endTime)
+            .put(START_TIME, getStartTime())
+            .put(END_TIME, getEndTime())
             .build();
     }
 
@@ -121,15 +142,15 @@ public class ReadWrite1 extends LdbcOperation<LdbcNoResult> {
         ReadWrite1 that = (ReadWrite1) o;
         return srcId == that.srcId
             && dstId == that.dstId
-            && Objects.equals(time, that.time)
+            && timeAsMilli == that.timeAsMilli
             && amount == that.amount
-            && Objects.equals(startTime, that.startTime)
-            && Objects.equals(endTime, that.endTime);
+            && startTimeAsMilli == that.startTimeAsMilli
+            && endTimeAsMilli == that.endTimeAsMilli;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(srcId, dstId, time, amount, startTime, endTime);
+        return Objects.hash(srcId, dstId, timeAsMilli, amount, startTimeAsMilli, endTimeAsMilli);
     }
 
     @Override
@@ -140,13 +161,13 @@ public class ReadWrite1 extends LdbcOperation<LdbcNoResult> {
             + ", dstId="
             + dstId
             + ", time="
-            + time
+            + getTime()
             + ", amount="
             + amount
             + ", startTime="
-            + startTime
+            + getStartTime()
             + ", endTime="
-            + endTime
+            + getEndTime()
             + '}';
     }
 }
@@ -37,11 +37,11 @@ public class ReadWrite2 extends LdbcOperation<LdbcNoResult> {
     public static final String TRUNCATION_ORDER = "truncationOrder";
     private final long srcId;
     private final long dstId;
-    private final Date time;
+    private final long timeAsMilli;
     private final double amount;
     private final double amountThreshold;
-    private final Date startTime;
-    private final Date endTime;
+    private final long startTimeAsMilli;
+    private final long endTimeAsMilli;
     private final float ratioThreshold;
     private final int truncationLimit;
     private final TruncationOrder truncationOrder;
@@ -56,13 +56,37 @@ public class ReadWrite2 extends LdbcOperation<LdbcNoResult> {
                       @JsonProperty(RATIO_THRESHOLD) float ratioThreshold,
                       @JsonProperty(TRUNCATION_LIMIT) int truncationLimit,
                       @JsonProperty(TRUNCATION_ORDER) TruncationOrder truncationOrder) {
+        this(
+            srcId,
+            dstId,
+            asMilli(time),
+            amount,
+            amountThreshold,
+            asMilli(startTime),
+            asMilli(endTime),
+            ratioThreshold,
+            truncationLimit,
+            truncationOrder
+        );
+    }
+
+    public ReadWrite2(long srcId,
+                      long dstId,
+                      long timeAsMilli,
+                      double amount,
+                      double amountThreshold,
+                      long startTimeAsMilli,
+                      long endTimeAsMilli,
+                      float ratioThreshold,
+                      int truncationLimit,
+                      TruncationOrder truncationOrder) {
         this.srcId = srcId;
         this.dstId = dstId;
-        this.time = time;
+        this.timeAsMilli = timeAsMilli;
         this.amount = amount;
         this.amountThreshold = amountThreshold;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.startTimeAsMilli = startTimeAsMilli;
+        this.endTimeAsMilli = endTimeAsMilli;
         this.ratioThreshold = ratioThreshold;
         this.truncationLimit = truncationLimit;
         this.truncationOrder = truncationOrder;
@@ -71,11 +95,11 @@ public class ReadWrite2 extends LdbcOperation<LdbcNoResult> {
     public ReadWrite2(ReadWrite2 operation) {
         this.srcId = operation.srcId;
         this.dstId = operation.dstId;
-        this.time = operation.time;
+        this.timeAsMilli = operation.timeAsMilli;
         this.amount = operation.amount;
         this.amountThreshold = operation.amountThreshold;
-        this.startTime = operation.startTime;
-        this.endTime = operation.endTime;
+        this.startTimeAsMilli = operation.startTimeAsMilli;
+        this.endTimeAsMilli = operation.endTimeAsMilli;
         this.ratioThreshold = operation.ratioThreshold;
         this.truncationLimit = operation.truncationLimit;
         this.truncationOrder = operation.truncationOrder;
@@ -95,7 +119,11 @@ public class ReadWrite2 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getTime() {
-        return time;
+        return asDate(timeAsMilli);
+    }
+
+    public long timeAsMilli() {
+        return timeAsMilli;
     }
 
     public double getAmount() {
@@ -107,11 +135,19 @@ public class ReadWrite2 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getStartTime() {
-        return startTime;
+        return asDate(startTimeAsMilli);
+    }
+
+    public long startTimeAsMilli() {
+        return startTimeAsMilli;
     }
 
     public Date getEndTime() {
-        return endTime;
+        return asDate(endTimeAsMilli);
+    }
+
+    public long endTimeAsMilli() {
+        return endTimeAsMilli;
     }
 
     public float getRatioThreshold() {
@@ -136,11 +172,11 @@ public class ReadWrite2 extends LdbcOperation<LdbcNoResult> {
         return ImmutableMap.<String, Object>builder()
             .put(SRC_ID, srcId)
             .put(DST_ID, dstId)
-            .put(TIME, time)
+            .put(TIME, getTime())
             .put(AMOUNT, amount)
             .put(AMOUNT_THRESHOLD, amountThreshold)
-            .put(START_TIME, startTime)
-            .put(END_TIME, endTime)
+            .put(START_TIME, getStartTime())
+            .put(END_TIME, getEndTime())
             .put(RATIO_THRESHOLD, ratioThreshold)
             .put(TRUNCATION_LIMIT, truncationLimit)
             .put(TRUNCATION_ORDER, truncationOrder)
@@ -163,11 +199,11 @@ public class ReadWrite2 extends LdbcOperation<LdbcNoResult> {
         ReadWrite2 that = (ReadWrite2) o;
         return srcId == that.srcId
             && dstId == that.dstId
-            && Objects.equals(time, that.time)
+            && timeAsMilli == that.timeAsMilli
             && amount == that.amount
             && amountThreshold == that.amountThreshold
-            && Objects.equals(startTime, that.startTime)
-            && Objects.equals(endTime, that.endTime)
+            && startTimeAsMilli == that.startTimeAsMilli
+            && endTimeAsMilli == that.endTimeAsMilli
             && ratioThreshold == that.ratioThreshold
             && truncationLimit == that.truncationLimit
             && truncationOrder == that.truncationOrder;
@@ -175,7 +211,7 @@ public class ReadWrite2 extends LdbcOperation<LdbcNoResult> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(srcId, dstId, time, amount, amountThreshold, startTime, endTime,
+        return Objects.hash(srcId, dstId, timeAsMilli, amount, amountThreshold, startTimeAsMilli, endTimeAsMilli,
             ratioThreshold, truncationLimit, truncationOrder);
     }
 
@@ -187,15 +223,15 @@ public class ReadWrite2 extends LdbcOperation<LdbcNoResult> {
             + ", dstId="
             + dstId
             + ", time="
-            + time
+            + getTime()
             + ", amount="
             + amount
             + ", amountThreshold="
             + amountThreshold
             + ", startTime="
-            + startTime
+            + getStartTime()
             + ", endTime="
-            + endTime
+            + getEndTime()
             + ", ratioThreshold="
             + ratioThreshold
             + ", truncationLimit="
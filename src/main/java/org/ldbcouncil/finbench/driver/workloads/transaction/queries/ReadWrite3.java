@@ -36,10 +36,10 @@ public class ReadWrite3 extends LdbcOperation<LdbcNoResult> {
     public static final String TRUNCATION_ORDER = "truncationOrder";
     private final long srcId;
     private final long dstId;
-    private final Date time;
+    private final long timeAsMilli;
     private final double threshold;
-    private final Date startTime;
-    private final Date endTime;
+    private final long startTimeAsMilli;
+    private final long endTimeAsMilli;
     private final int truncationLimit;
     private final TruncationOrder truncationOrder;
 
@@ -51,12 +51,32 @@ public class ReadWrite3 extends LdbcOperation<LdbcNoResult> {
                       @JsonProperty(END_TIME) Date endTime,
                       @JsonProperty(TRUNCATION_LIMIT) int truncationLimit,
                       @JsonProperty(TRUNCATION_ORDER) TruncationOrder truncationOrder) {
+        this(
+            srcId,
+            dstId,
+            asMilli(time),
+            threshold,
+            asMilli(startTime),
+            asMilli(endTime),
+            truncationLimit,
+            truncationOrder
+        );
+    }
+
+    public ReadWrite3(long srcId,
+                      long dstId,
+                      long timeAsMilli,
+                      double threshold,
+                      long startTimeAsMilli,
+                      long endTimeAsMilli,
+                      int truncationLimit,
+                      TruncationOrder truncationOrder) {
         this.srcId = srcId;
         this.dstId = dstId;
-        this.time = time;
+        this.timeAsMilli = timeAsMilli;
         this.threshold = threshold;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.startTimeAsMilli = startTimeAsMilli;
+        this.endTimeAsMilli = endTimeAsMilli;
         this.truncationLimit = truncationLimit;
         this.truncationOrder = truncationOrder;
     }
@@ -64,10 +84,10 @@ public class ReadWrite3 extends LdbcOperation<LdbcNoResult> {
     public ReadWrite3(ReadWrite3 operation) {
         this.srcId = operation.srcId;
         this.dstId = operation.dstId;
-        this.time = operation.time;
+        this.timeAsMilli = operation.timeAsMilli;
         this.threshold = operation.threshold;
-        this.startTime = operation.startTime;
-        this.endTime = operation.endTime;
+        this.startTimeAsMilli = operation.startTimeAsMilli;
+        this.endTimeAsMilli = operation.endTimeAsMilli;
         this.truncationLimit = operation.truncationLimit;
         this.truncationOrder = operation.truncationOrder;
     }
@@ -86,7 +106,11 @@ public class ReadWrite3 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getTime() {
-        return time;
+        return asDate(timeAsMilli);
+    }
+
+    public long timeAsMilli() {
+        return timeAsMilli;
     }
 
     public double getThreshold() {
@@ -94,11 +118,19 @@ public class ReadWrite3 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getStartTime() {
-        return startTime;
+        return asDate(startTimeAsMilli);
+    }
+
+    public long startTimeAsMilli() {
+        return startTimeAsMilli;
     }
 
     public Date getEndTime() {
-        return endTime;
+        return asDate(endTimeAsMilli);
+    }
+
+    public long endTimeAsMilli() {
+        return endTimeAsMilli;
     }
 
     public int getTruncationLimit() {
@@ -119,10 +151,10 @@ public class ReadWrite3 extends LdbcOperation<LdbcNoResult> {
         return ImmutableMap.<String, Object>builder()
             .put(SRC_ID, srcId)
             .put(DST_ID, dstId)
-            .put(TIME, time)
+            .put(TIME, getTime())
             .put(THRESHOLD, threshold)
-            .put(START_TIME, startTime)
-            .put(END_TIME, endTime)
+            .put(START_TIME, getStartTime())
+            .put(END_TIME, getEndTime())
             .put(TRUNCATION_LIMIT, truncationLimit)
             .put(TRUNCATION_ORDER, truncationOrder)
             .build();
@@ -144,17 +176,18 @@ public class ReadWrite3 extends LdbcOperation<LdbcNoResult> {
         ReadWrite3 that = (ReadWrite3) o;
         return srcId == that.srcId
             && dstId == that.dstId
-            && Objects.equals(time, that.time)
+            && timeAsMilli == that.timeAsMilli
             && threshold == that.threshold
-            && Objects.equals(startTime, that.startTime)
-            && Objects.equals(endTime, that.endTime)
+            && startTimeAsMilli == that.startTimeAsMilli
+            && endTimeAsMilli == that.endTimeAsMilli
             && truncationLimit == that.truncationLimit
             && truncationOrder == that.truncationOrder;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(srcId, dstId, time, threshold, startTime, endTime, truncationLimit, truncationOrder);
+        return Objects.hash(srcId, dstId, timeAsMilli, threshold, startTimeAsMilli, endTimeAsMilli, truncationLimit,
+            truncationOrder);
     }
 
     @Override
@@ -165,13 +198,13 @@ public class ReadWrite3 extends LdbcOperation<LdbcNoResult> {
             + ", dstId="
             + dstId
             + ", time="
-            + time
+            + getTime()
             + ", threshold="
             + threshold
             + ", startTime="
-            + startTime
+            + getStartTime()
             + ", endTime="
-            + endTime
+            + getEndTime()
             + ", truncationLimit="
             + truncationLimit
             + ", truncationOrder="
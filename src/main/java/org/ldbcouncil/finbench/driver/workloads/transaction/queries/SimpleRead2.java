@@ -26,21 +26,27 @@ public class SimpleRead2 extends LdbcOperation<List<SimpleRead2Result>> {
     public static final String END_TIME = "endTime";
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final long id;
-    private final Date startTime;
-    private final Date endTime;
+    private final long startTimeAsMilli;
+    private final long endTimeAsMilli;
 
     public SimpleRead2(@JsonProperty(ID) long id,
                        @JsonProperty(START_TIME) Date startTime,
                        @JsonProperty(END_TIME) Date endTime) {
+        this(id, asMilli(startTime), asMilli(endTime));
+    }
+
+    public SimpleRead2(long id,
+                       long startTimeAsMilli,
+                       long endTimeAsMilli) {
         this.id = id;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.startTimeAsMilli = startTimeAsMilli;
+        this.endTimeAsMilli = endTimeAsMilli;
     }
 
     public SimpleRead2(SimpleRead2 operation) {
         this.id = operation.id;
-        this.startTime = operation.startTime;
-        this.endTime = operation.endTime;
+        this.startTimeAsMilli = operation.startTimeAsMilli;
+        this.endTimeAsMilli = operation.endTimeAsMilli;
     }
 
     @Override
@@ -53,11 +59,19 @@ public class SimpleRead2 extends LdbcOperation<List<SimpleRead2Result>> {
     }
 
     public Date getStartTime() {
-        return startTime;
+        return asDate(startTimeAsMilli);
+    }
+
+    public long startTimeAsMilli() {
+        return startTimeAsMilli;
     }
 
     public Date getEndTime() {
-        return endTime;
+        return asDate(endTimeAsMilli);
+    }
+
+    public long endTimeAsMilli() {
+        return endTimeAsMilli;
     }
 
     @Override
@@ -69,8 +83,8 @@ public class SimpleRead2 extends LdbcOperation<List<SimpleRead2Result>> {
     public Map<String, Object> parameterMap() {
         return ImmutableMap.<String, Object>builder()
             .put(ID, id)
-            .put(START_TIME, startTime)
-            .put(END_TIME, endTime)
+            .put(START_TIME, getStartTime())
+            .put(END_TIME, getEndTime())
             .build();
     }
 
@@ -89,13 +103,13 @@ public class SimpleRead2 extends LdbcOperation<List<SimpleRead2Result>> {
         }
         SimpleRead2 that = (SimpleRead2) o;
         return id == that.id
-            && Objects.equals(startTime, that.startTime)
-            && Objects.equals(endTime, that.endTime);
+            && startTimeAsMilli == that.startTimeAsMilli
+            && endTimeAsMilli == that.endTimeAsMilli;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, startTime, endTime);
+        return Objects.hash(id, startTimeAsMilli, endTimeAsMilli);
     }
 
     @Override
@@ -104,9 +118,9 @@ public class SimpleRead2 extends LdbcOperation<List<SimpleRead2Result>> {
             + "id="
             + id
             + ", startTime="
-            + startTime
+            + getStartTime()
             + ", endTime="
-            + endTime
+            + getEndTime()
             + '}';
     }
 }
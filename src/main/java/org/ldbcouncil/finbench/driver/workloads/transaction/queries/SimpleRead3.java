@@ -27,24 +27,31 @@ public class SimpleRead3 extends LdbcOperation<List<SimpleRead3Result>> {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final long id;
     private final double threshold;
-    private final Date startTime;
-    private final Date endTime;
+    private final long startTimeAsMilli;
+    private final long endTimeAsMilli;
 
     public SimpleRead3(@JsonProperty(ID) long id,
                        @JsonProperty(THRESHOLD) double threshold,
                        @JsonProperty(START_TIME) Date startTime,
                        @JsonProperty(END_TIME) Date endTime) {
+        this(id, threshold, asMilli(startTime), asMilli(endTime));
+    }
+
+    public SimpleRead3(long id,
+                       double threshold,
+                       long startTimeAsMilli,
+                       long endTimeAsMilli) {
         this.id = id;
         this.threshold = threshold;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.startTimeAsMilli = startTimeAsMilli;
+        this.endTimeAsMilli = endTimeAsMilli;
     }
 
     public SimpleRead3(SimpleRead3 operation) {
         this.id = operation.id;
         this.threshold = operation.threshold;
-        this.startTime = operation.startTime;
-        this.endTime = operation.endTime;
+        this.startTimeAsMilli = operation.startTimeAsMilli;
+        this.endTimeAsMilli = operation.endTimeAsMilli;
     }
 
     @Override
@@ -61,11 +68,19 @@ public class SimpleRead3 extends LdbcOperation<List<SimpleRead3Result>> {
     }
 
     public Date getStartTime() {
-        return startTime;
+        return asDate(startTimeAsMilli);
+    }
+
+    public long startTimeAsMilli() {
+        return startTimeAsMilli;
     }
 
     public Date getEndTime() {
-        return endTime;
+        return asDate(endTimeAsMilli);
+    }
+
+    public long endTimeAsMilli() {
+        return endTimeAsMilli;
     }
 
     @Override
@@ -78,8 +93,8 @@ public class SimpleRead3 extends LdbcOperation<List<SimpleRead3Result>> {
         return ImmutableMap.<String, Object>builder()
             .put(ID, id)
             .put(THRESHOLD, threshold)
-            .put(START_TIME, startTime)
-            .put(END_TIME, endTime)
+            .put(START_TIME, getStartTime())
+            .put(END_TIME, getEndTime())
             .build();
     }
 
@@ -99,13 +114,13 @@ public class SimpleRead3 extends LdbcOperation<List<SimpleRead3Result>> {
         SimpleRead3 that = (SimpleRead3) o;
         return id == that.id
             && threshold == that.threshold
-            && Objects.equals(startTime, that.startTime)
-            && Objects.equals(endTime, that.endTime);
+            && startTimeAsMilli == that.startTimeAsMilli
+            && endTimeAsMilli == that.endTimeAsMilli;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, threshold, startTime, endTime);
+        return Objects.hash(id, threshold, startTimeAsMilli, endTimeAsMilli);
     }
 
     @Override
@@ -116,9 +131,9 @@ public class SimpleRead3 extends LdbcOperation<List<SimpleRead3Result>> {
             + ", threshold="
             + threshold
             + ", startTime="
-            + startTime
+            + getStartTime()
             + ", endTime="
-            + endTime
+            + getEndTime()
             + '}';
     }
 }
@@ -20,20 +20,26 @@ public class Write10 extends LdbcOperation<LdbcNoResult> {
     public static final String TIME = "time";
     private final long personId1;
     private final long personId2;
-    private final Date time;
+    private final long timeAsMilli;
 
     public Write10(@JsonProperty(PERSON_ID1) long personId1,
                    @JsonProperty(PERSON_ID2) long personId2,
                    @JsonProperty(TIME) Date time) {
+        this(personId1, personId2, asMilli(time));
+    }
+
+    public Write10(long personId1,
+                   long personId2,
+                   long timeAsMilli) {
         this.personId1 = personId1;
         this.personId2 = personId2;
-        this.time = time;
+        this.timeAsMilli = timeAsMilli;
     }
 
     public Write10(Write10 operation) {
         this.personId1 = operation.personId1;
         this.personId2 = operation.personId2;
-        this.time = operation.time;
+        this.timeAsMilli = operation.timeAsMilli;
     }
 
     @Override
@@ -50,7 +56,11 @@ public class Write10 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getTime() {
-        return time;
+        return asDate(timeAsMilli);
+    }
+
+    public long timeAsMilli() {
+        return timeAsMilli;
     }
 
     @Override
@@ -63,7 +73,7 @@ public class Write10 extends LdbcOperation<LdbcNoResult> {
         return ImmutableMap.<String, Object>builder()
             .put(PERSON_ID1, personId1)
             .put(PERSON_ID2, personId2)
-            .put(TIME, time)
+            .put(TIME, getTime())
             .build();
     }
 
@@ -83,12 +93,12 @@ public class Write10 extends LdbcOperation<LdbcNoResult> {
         Write10 that = (Write10) o;
         return personId1 == that.personId1
             && personId2 == that.personId2
-            && Objects.equals(time, that.time);
+            && timeAsMilli == that.timeAsMilli;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(personId1, personId2, time);
+        return Objects.hash(personId1, personId2, timeAsMilli);
     }
 
     @Override
@@ -99,7 +109,7 @@ public class Write10 extends LdbcOperation<LdbcNoResult> {
             + ", personId2="
             + personId2
             + ", time="
-            + time
+            + getTime()
             + '}';
     }
 }
@@ -20,20 +20,26 @@ public class Write11 extends LdbcOperation<LdbcNoResult> {
     public static final String TIME = "time";
     private final long companyId1;
     private final long companyId2;
-    private final Date time;
+    private final long timeAsMilli;
 
     public Write11(@JsonProperty(COMPANY_ID1) long companyId1,
                    @JsonProperty(COMPANY_ID2) long companyId2,
                    @JsonProperty(TIME) Date time) {
+        this(companyId1, companyId2, asMilli(time));
+    }
+
+    public Write11(long companyId1,
+                   long companyId2,
+                   long timeAsMilli) {
         this.companyId1 = companyId1;
         this.companyId2 = companyId2;
-        this.time = time;
+        this.timeAsMilli = timeAsMilli;
     }
 
     public Write11(Write11 operation) {
         this.companyId1 = operation.companyId1;
         this.companyId2 = operation.companyId2;
-        this.time = operation.time;
+        this.timeAsMilli = operation.timeAsMilli;
     }
 
     @Override
@@ -50,7 +56,11 @@ public class Write11 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getTime() {
-        return time;
+        return asDate(timeAsMilli);
+    }
+
+    public long timeAsMilli() {
+        return timeAsMilli;
     }
 
     @Override
@@ -63,7 +73,7 @@ public class Write11 extends LdbcOperation<LdbcNoResult> {
         return ImmutableMap.<String, Object>builder()
             .put(COMPANY_ID1, companyId1)
             .put(COMPANY_ID2, companyId2)
-            .put(TIME, time)
+            .put(TIME, getTime())
             .build();
     }
 
@@ -83,12 +93,12 @@ public class Write11 extends LdbcOperation<LdbcNoResult> {
         Write11 that = (Write11) o;
         return companyId1 == that.companyId1
             && companyId2 == that.companyId2
-            && Objects.equals(time, that.time);
+            && timeAsMilli == that.timeAsMilli;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(companyId1, companyId2, time);
+        return Objects.hash(companyId1, companyId2, timeAsMilli);
     }
 
     @Override
@@ -99,7 +109,7 @@ public class Write11 extends LdbcOperation<LdbcNoResult> {
             + ", companyId2="
             + companyId2
             + ", time="
-            + time
+            + getTime()
             + '}';
     }
 }
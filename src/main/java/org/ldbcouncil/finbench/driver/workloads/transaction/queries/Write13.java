@@ -21,23 +21,30 @@ public class Write13 extends LdbcOperation<LdbcNoResult> {
     public static final String AMOUNT = "amount";
     private final long accountId1;
     private final long accountId2;
-    private final Date time;
+    private final long timeAsMilli;
     private final double amount;
 
     public Write13(@JsonProperty(ACCOUNT_ID1) long accountId1,
                    @JsonProperty(ACCOUNT_ID2) long accountId2,
                    @JsonProperty(TIME) Date time,
                    @JsonProperty(AMOUNT) double amount) {
+        this(accountId1, accountId2, asMilli(time), amount);
+    }
+
+    public Write13(long accountId1,
+                   long accountId2,
+                   long timeAsMilli,
+                   double amount) {
         this.accountId1 = accountId1;
         this.accountId2 = accountId2;
-        this.time = time;
+        this.timeAsMilli = timeAsMilli;
         this.amount = amount;
     }
 
     public Write13(Write13 operation) {
         this.accountId1 = operation.accountId1;
         this.accountId2 = operation.accountId2;
-        this.time = operation.time;
+        this.timeAsMilli = operation.timeAsMilli;
         this.amount = operation.amount;
     }
 
@@ -55,7 +62,11 @@ public class Write13 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getTime() {
-        return time;
+        return asDate(timeAsMilli);
+    }
+
+    public long timeAsMilli() {
+        return timeAsMilli;
     }
 
     public double getAmount() {
@@ -72,7 +83,7 @@ public class Write13 extends LdbcOperation<LdbcNoResult> {
         return ImmutableMap.<String, Object>builder()
             .put(ACCOUNT_ID1, accountId1)
             .put(ACCOUNT_ID2, accountId2)
-            .put(TIME, time)
+            .put(TIME, getTime())
             .put(AMOUNT, amount)
             .build();
     }
@@ -93,13 +104,13 @@ public class Write13 extends LdbcOperation<LdbcNoResult> {
         Write13 that = (Write13) o;
         return accountId1 == that.accountId1
             && accountId2 == that.accountId2
-            && Objects.equals(time, that.time)
+            && timeAsMilli == that.timeAsMilli
             && amount == that.amount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(accountId1, accountId2, time, amount);
+        return Objects.hash(accountId1, accountId2, timeAsMilli, amount);
     }
 
     @Override
@@ -110,7 +121,7 @@ public class Write13 extends LdbcOperation<LdbcNoResult> {
             + ", accountId2="
             + accountId2
             + ", time="
-            + time
+            + getTime()
             + ", amount="
             + amount
             + '}';
@@ -21,23 +21,30 @@ public class Write14 extends LdbcOperation<LdbcNoResult> {
     public static final String AMOUNT = "amount";
     private final long accountId;
     private final long loanId;
-    private final Date time;
+    private final long timeAsMilli;
     private final double amount;
 
     public Write14(@JsonProperty(ACCOUNT_ID) long accountId,
                    @JsonProperty(LOAN_ID) long loanId,
                    @JsonProperty(TIME) Date time,
                    @JsonProperty(AMOUNT) double amount) {
+        this(accountId, loanId, asMilli(time), amount);
+    }
+
+    public Write14(long accountId,
+                   long loanId,
+                   long timeAsMilli,
+                   double amount) {
         this.accountId = accountId;
         this.loanId = loanId;
-        this.time = time;
+        this.timeAsMilli = timeAsMilli;
         this.amount = amount;
     }
 
     public Write14(Write14 operation) {
         this.accountId = operation.accountId;
         this.loanId = operation.loanId;
-        this.time = operation.time;
+        this.timeAsMilli = operation.timeAsMilli;
         this.amount = operation.amount;
     }
 
@@ -55,7 +62,11 @@ public class Write14 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getTime() {
-        return time;
+        return asDate(timeAsMilli);
+    }
+
+    public long timeAsMilli() {
+        return timeAsMilli;
     }
 
     public double getAmount() {
@@ -72,7 +83,7 @@ public class Write14 extends LdbcOperation<LdbcNoResult> {
         return ImmutableMap.<String, Object>builder()
             .put(ACCOUNT_ID, accountId)
             .put(LOAN_ID, loanId)
-            .put(TIME, time)
+            .put(TIME, getTime())
             .put(AMOUNT, amount)
             .build();
     }
@@ -93,13 +104,13 @@ public class Write14 extends LdbcOperation<LdbcNoResult> {
         Write14 that = (Write14) o;
         return accountId == that.accountId
             && loanId == that.loanId
-            && Objects.equals(time, that.time)
+            && timeAsMilli == that.timeAsMilli
             && amount == that.amount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(accountId, loanId, time, amount);
+        return Objects.hash(accountId, loanId, timeAsMilli, amount);
     }
 
     @Override
@@ -110,7 +121,7 @@ public class Write14 extends LdbcOperation<LdbcNoResult> {
             + ", loanId="
             + loanId
             + ", time="
-            + time
+            + getTime()
             + ", amount="
             + amount
             + '}';
@@ -21,23 +21,30 @@ public class Write15 extends LdbcOperation<LdbcNoResult> {
     public static final String AMOUNT = "amount";
     private final long loanId;
     private final long accountId;
-    private final Date time;
+    private final long timeAsMilli;
     private final double amount;
 
     public Write15(@JsonProperty(LOAN_ID) long loanId,
                    @JsonProperty(ACCOUNT_ID) long accountId,
                    @JsonProperty(TIME) Date time,
                    @JsonProperty(AMOUNT) double amount) {
+        this(loanId, accountId, asMilli(time), amount);
+    }
+
+    public Write15(long loanId,
+                   long accountId,
+                   long timeAsMilli,
+                   double amount) {
         this.loanId = loanId;
         this.accountId = accountId;
-        this.time = time;
+        this.timeAsMilli = timeAsMilli;
         this.amount = amount;
     }
 
     public Write15(Write15 operation) {
         this.loanId = operation.loanId;
         this.accountId = operation.accountId;
-        this.time = operation.time;
+        this.timeAsMilli = operation.timeAsMilli;
         this.amount = operation.amount;
     }
 
@@ -55,7 +62,11 @@ public class Write15 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getTime() {
-        return time;
+        return asDate(timeAsMilli);
+    }
+
+    public long timeAsMilli() {
+        return timeAsMilli;
     }
 
     public double getAmount() {
@@ -72,7 +83,7 @@ public class Write15 extends LdbcOperation<LdbcNoResult> {
         return ImmutableMap.<String, Object>builder()
             .put(LOAN_ID, loanId)
             .put(ACCOUNT_ID, accountId)
-            .put(TIME, time)
+            .put(TIME, getTime())
             .put(AMOUNT, amount)
             .build();
     }
@@ -93,13 +104,13 @@ public class Write15 extends LdbcOperation<LdbcNoResult> {
         Write15 that = (Write15) o;
         return loanId == that.loanId
             && accountId == that.accountId
-            && Objects.equals(time, that.time)
+            && timeAsMilli == that.timeAsMilli
             && amount == that.amount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(loanId, accountId, time, amount);
+        return Objects.hash(loanId, accountId, timeAsMilli, amount);
     }
 
     @Override
@@ -110,7 +121,7 @@ public class Write15 extends LdbcOperation<LdbcNoResult> {
             + ", accountId="
             + accountId
             + ", time="
-            + time
+            + getTime()
             + ", amount="
             + amount
             + '}';
@@ -20,20 +20,26 @@ public class Write16 extends LdbcOperation<LdbcNoResult> {
     public static final String TIME = "time";
     private final long mediumId;
     private final long accountId;
-    private final Date time;
+    private final long timeAsMilli;
 
     public Write16(@JsonProperty(MEDIUM_ID) long mediumId,
                    @JsonProperty(ACCOUNT_ID) long accountId,
                    @JsonProperty(TIME) Date time) {
+        this(mediumId, accountId, asMilli(time));
+    }
+
+    public Write16(long mediumId,
+                   long accountId,
+                   long timeAsMilli) {
         this.mediumId = mediumId;
         this.accountId = accountId;
-        this.time = time;
+        this.timeAsMilli = timeAsMilli;
     }
 
     public Write16(Write16 operation) {
         this.mediumId = operation.mediumId;
         this.accountId = operation.accountId;
-        this.time = operation.time;
+        this.timeAsMilli = operation.timeAsMilli;
     }
 
     @Override
@@ -50,7 +56,11 @@ public class Write16 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getTime() {
-        return time;
+        return asDate(timeAsMilli);
+    }
+
+    public long timeAsMilli() {
+        return timeAsMilli;
     }
 
     @Override
@@ -63,7 +73,7 @@ public class Write16 extends LdbcOperation<LdbcNoResult> {
         return ImmutableMap.<String, Object>builder()
             .put(MEDIUM_ID, mediumId)
             .put(ACCOUNT_ID, accountId)
-            .put(TIME, time)
+            .put(TIME, getTime())
             .build();
     }
 
@@ -83,12 +93,12 @@ public class Write16 extends LdbcOperation<LdbcNoResult> {
         Write16 that = (Write16) o;
         return mediumId == that.mediumId
             && accountId == that.accountId
-            && Objects.equals(time, that.time);
+            && timeAsMilli == that.timeAsMilli;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(mediumId, accountId, time);
+        return Objects.hash(mediumId, accountId, timeAsMilli);
     }
 
     @Override
@@ -99,7 +109,7 @@ public class Write16 extends LdbcOperation<LdbcNoResult> {
             + ", accountId="
             + accountId
             + ", time="
-            + time
+            + getTime()
             + '}';
     }
 }
@@ -22,7 +22,7 @@ public class Write4 extends LdbcOperation<LdbcNoResult> {
     public static final String ACCOUNT_TYPE = "accountType";
     private final long personId;
     private final long accountId;
-    private final Date time;
+    private final long timeAsMilli;
     private final boolean accountBlocked;
     private final String accountType;
 
@@ -31,9 +31,17 @@ public class Write4 extends LdbcOperation<LdbcNoResult> {
                   @JsonProperty(TIME) Date time,
                   @JsonProperty(ACCOUNT_BLOCKED) boolean accountBlocked,
                   @JsonProperty(ACCOUNT_TYPE) String accountType) {
+        this(personId, accountId, asMilli(time), accountBlocked, accountType);
+    }
+
+    public Write4(long personId,
+                  long accountId,
+                  long timeAsMilli,
+                  boolean accountBlocked,
+                  String accountType) {
         this.personId = personId;
         this.accountId = accountId;
-        this.time = time;
+        this.timeAsMilli = timeAsMilli;
         this.accountBlocked = accountBlocked;
         this.accountType = accountType;
     }
@@ -41,7 +49,7 @@ public class Write4 extends LdbcOperation<LdbcNoResult> {
     public Write4(Write4 operation) {
         this.personId = operation.personId;
         this.accountId = operation.accountId;
-        this.time = operation.time;
+        this.timeAsMilli = operation.timeAsMilli;
         this.accountBlocked = operation.accountBlocked;
         this.accountType = operation.accountType;
     }
@@ -60,7 +68,11 @@ public class Write4 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getTime() {
-        return time;
+        return asDate(timeAsMilli);
+    }
+
+    public long timeAsMilli() {
+        return timeAsMilli;
     }
 
     public boolean getAccountBlocked() {
@@ -81,7 +93,7 @@ public class Write4 extends LdbcOperation<LdbcNoResult> {
         return ImmutableMap.<String, Object>builder()
             .put(PERSON_ID, personId)
             .put(ACCOUNT_ID, accountId)
-            .put(TIME, time)
+            .put(TIME, getTime())
             .put(ACCOUNT_BLOCKED, accountBlocked)
             .put(ACCOUNT_TYPE, accountType)
             .build();
@@ -103,14 +115,14 @@ public class Write4 extends LdbcOperation<LdbcNoResult> {
         Write4 that = (Write4) o;
         return personId == that.personId
             && accountId == that.accountId
-            && Objects.equals(time, that.time)
+            && timeAsMilli == that.timeAsMilli
             && accountBlocked == that.accountBlocked
             && Objects.equals(accountType, that.accountType);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(personId, accountId, time, accountBlocked, accountType);
+        return Objects.hash(personId, accountId, timeAsMilli, accountBlocked, accountType);
     }
 
     @Override
@@ -121,7 +133,7 @@ public class Write4 extends LdbcOperation<LdbcNoResult> {
             + ", accountId="
             + accountId
             + ", time="
-            + time
+            + getTime()
             + ", accountBlocked="
             + accountBlocked
             + ", accountType="
@@ -22,7 +22,7 @@ public class Write5 extends LdbcOperation<LdbcNoResult> {
     public static final String ACCOUNT_TYPE = "accountType";
     private final long companyId;
     private final long accountId;
-    private final Date time;
+    private final long timeAsMilli;
     private final boolean accountBlocked;
     private final String accountType;
 
@@ -31,9 +31,17 @@ public class Write5 extends LdbcOperation<LdbcNoResult> {
                   @JsonProperty(TIME) Date time,
                   @JsonProperty(ACCOUNT_BLOCKED) boolean accountBlocked,
                   @JsonProperty(ACCOUNT_TYPE) String accountType) {
+        this(companyId, accountId, asMilli(time), accountBlocked, accountType);
+    }
+
+    public Write5(long companyId,
+                  long accountId,
+                  long timeAsMilli,
+                  boolean accountBlocked,
+                  String accountType) {
         this.companyId = companyId;
         this.accountId = accountId;
-        this.time = time;
+        this.timeAsMilli = timeAsMilli;
         this.accountBlocked = accountBlocked;
         this.accountType = accountType;
     }
@@ -41,7 +49,7 @@ public class Write5 extends LdbcOperation<LdbcNoResult> {
     public Write5(Write5 operation) {
         this.companyId = operation.companyId;
         this.accountId = operation.accountId;
-        this.time = operation.time;
+        this.timeAsMilli = operation.timeAsMilli;
         this.accountBlocked = operation.accountBlocked;
         this.accountType = operation.accountType;
     }
@@ -60,7 +68,11 @@ public class Write5 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getTime() {
-        return time;
+        return asDate(timeAsMilli);
+    }
+
+    public long timeAsMilli() {
+        return timeAsMilli;
     }
 
     public boolean getAccountBlocked() {
@@ -81,7 +93,7 @@ public class Write5 extends LdbcOperation<LdbcNoResult> {
         return ImmutableMap.<String, Object>builder()
             .put(COMPANY_ID, companyId)
             .put(ACCOUNT_ID, accountId)
-            .put(TIME, time)
+            .put(TIME, getTime())
             .put(ACCOUNT_BLOCKED, accountBlocked)
             .put(ACCOUNT_TYPE, accountType)
             .build();
@@ -103,14 +115,14 @@ public class Write5 extends LdbcOperation<LdbcNoResult> {
         Write5 that = (Write5) o;
         return companyId == that.companyId
             && accountId == that.accountId
-            && Objects.equals(time, that.time)
+            && timeAsMilli == that.timeAsMilli
             && accountBlocked == that.accountBlocked
             && Objects.equals(accountType, that.accountType);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(companyId, accountId, time, accountBlocked, accountType);
+        return Objects.hash(companyId, accountId, timeAsMilli, accountBlocked, accountType);
     }
 
     @Override
@@ -121,7 +133,7 @@ public class Write5 extends LdbcOperation<LdbcNoResult> {
             + ", accountId="
             + accountId
             + ", time="
-            + time
+            + getTime()
             + ", accountBlocked="
             + accountBlocked
             + ", accountType="
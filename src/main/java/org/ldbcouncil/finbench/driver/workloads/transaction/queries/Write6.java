@@ -24,18 +24,26 @@ public class Write6 extends LdbcOperation<LdbcNoResult> {
     private final long loanId;
     private final double loanAmount;
     private final double balance;
-    private final Date time;
+    private final long timeAsMilli;
 
     public Write6(@JsonProperty(PERSON_ID) long personId,
                   @JsonProperty(LOAN_ID) long loanId,
                   @JsonProperty(LOAN_AMOUNT) double loanAmount,
                   @JsonProperty(BALANCE) double balance,
                   @JsonProperty(TIME) Date time) {
+        this(personId, loanId, loanAmount, balance, asMilli(time));
+    }
+
+    public Write6(long personId,
+                  long loanId,
+                  double loanAmount,
+                  double balance,
+                  long timeAsMilli) {
         this.personId = personId;
         this.loanId = loanId;
         this.loanAmount = loanAmount;
         this.balance = balance;
-        this.time = time;
+        this.timeAsMilli = timeAsMilli;
     }
 
     public Write6(Write6 operation) {
@@ -43,7 +51,7 @@ public class Write6 extends LdbcOperation<LdbcNoResult> {
         this.loanId = operation.loanId;
         this.loanAmount = operation.loanAmount;
         this.balance = operation.balance;
-        this.time = operation.time;
+        this.timeAsMilli = operation.timeAsMilli;
     }
 
     @Override
@@ -68,7 +76,11 @@ public class Write6 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getTime() {
-        return time;
+        return asDate(timeAsMilli);
+    }
+
+    public long timeAsMilli() {
+        return timeAsMilli;
     }
 
     @Override
@@ -83,7 +95,7 @@ public class Write6 extends LdbcOperation<LdbcNoResult> {
             .put(LOAN_ID, loanId)
             .put(LOAN_AMOUNT, loanAmount)
             .put(BALANCE, balance)
-            .put(TIME, time)
+            .put(TIME, getTime())
             .build();
     }
 
@@ -105,12 +117,12 @@ public class Write6 extends LdbcOperation<LdbcNoResult> {
             && loanId == that.loanId
             && loanAmount == that.loanAmount
             && balance == that.balance
-            && Objects.equals(time, that.time);
+            && timeAsMilli == that.timeAsMilli;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(personId, loanId, loanAmount, balance, time);
+        return Objects.hash(personId, loanId, loanAmount, balance, timeAsMilli);
     }
 
     @Override
@@ -125,7 +137,7 @@ public class Write6 extends LdbcOperation<LdbcNoResult> {
             + ", balance="
             + balance
             + ", time="
-            + time
+            + getTime()
             + '}';
     }
 }
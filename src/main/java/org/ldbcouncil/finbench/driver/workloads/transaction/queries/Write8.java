@@ -21,23 +21,30 @@ public class Write8 extends LdbcOperation<LdbcNoResult> {
     public static final String RATIO = "ratio";
     private final long personId;
     private final long companyId;
-    private final Date time;
+    private final long timeAsMilli;
     private final double ratio;
 
     public Write8(@JsonProperty(PERSON_ID) long personId,
                   @JsonProperty(COMPANY_ID) long companyId,
                   @JsonProperty(TIME) Date time,
                   @JsonProperty(RATIO) double ratio) {
+        this(personId, companyId, asMilli(time), ratio);
+    }
+
+    public Write8(long personId,
+                  long companyId,
+                  long timeAsMilli,
+                  double ratio) {
         this.personId = personId;
         this.companyId = companyId;
-        this.time = time;
+        this.timeAsMilli = timeAsMilli;
         this.ratio = ratio;
     }
 
     public Write8(Write8 operation) {
         this.personId = operation.personId;
         this.companyId = operation.companyId;
-        this.time = operation.time;
+        this.timeAsMilli = operation.timeAsMilli;
         this.ratio = operation.ratio;
     }
 
@@ -55,7 +62,11 @@ public class Write8 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getTime() {
-        return time;
+        return asDate(timeAsMilli);
+    }
+
+    public long timeAsMilli() {
+        return timeAsMilli;
     }
 
     public double getRatio() {
@@ -72,7 +83,7 @@ public class Write8 extends LdbcOperation<LdbcNoResult> {
         return ImmutableMap.<String, Object>builder()
             .put(PERSON_ID, personId)
             .put(COMPANY_ID, companyId)
-            .put(TIME, time)
+            .put(TIME, getTime())
             .put(RATIO, ratio)
             .build();
     }
@@ -93,13 +104,13 @@ public class Write8 extends LdbcOperation<LdbcNoResult> {
         Write8 that = (Write8) o;
         return personId == that.personId
             && companyId == that.companyId
-            && Objects.equals(time, that.time)
+            && timeAsMilli == that.timeAsMilli
             && ratio == that.ratio;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(personId, companyId, time, ratio);
+        return Objects.hash(personId, companyId, timeAsMilli, ratio);
     }
 
     @Override
@@ -110,7 +121,7 @@ public class Write8 extends LdbcOperation<LdbcNoResult> {
             + ", companyId="
             + companyId
             + ", time="
-            + time
+            + getTime()
             + ", ratio="
             + ratio
             + '}';
@@ -21,23 +21,30 @@ public class Write9 extends LdbcOperation<LdbcNoResult> {
     public static final String RATIO = "ratio";
     private final long companyId1;
     private final long companyId2;
-    private final Date time;
+    private final long timeAsMilli;
     private final double ratio;
 
     public Write9(@JsonProperty(COMPANY_ID1) long companyId1,
                   @JsonProperty(COMPANY_ID2) long companyId2,
                   @JsonProperty(TIME) Date time,
                   @JsonProperty(RATIO) double ratio) {
+        this(companyId1, companyId2, asMilli(time), ratio);
+    }
+
+    public Write9(long companyId1,
+                  long companyId2,
+                  long timeAsMilli,
+                  double ratio) {
         this.companyId1 = companyId1;
         this.companyId2 = companyId2;
-        this.time = time;
+        this.timeAsMilli = timeAsMilli;
         this.ratio = ratio;
     }
 
     public Write9(Write9 operation) {
         this.companyId1 = operation.companyId1;
         this.companyId2 = operation.companyId2;
-        this.time = operation.time;
+        this.timeAsMilli = operation.timeAsMilli;
         this.ratio = operation.ratio;
     }
 
@@ -55,7 +62,11 @@ public class Write9 extends LdbcOperation<LdbcNoResult> {
     }
 
     public Date getTime() {
-        return time;
+        return asDate(timeAsMilli);
+    }
+
+    public long timeAsMilli() {
+        return timeAsMilli;
     }
 
     public double getRatio() {
@@ -72,7 +83,7 @@ public class Write9 extends LdbcOperation<LdbcNoResult> {
         return ImmutableMap.<String, Object>builder()
             .put(COMPANY_ID1, companyId1)
             .put(COMPANY_ID2, companyId2)
-            .put(TIME, time)
+            .put(TIME, getTime())
             .put(RATIO, ratio)
             .build();
     }
@@ -93,13 +104,13 @@ public class Write9 extends LdbcOperation<LdbcNoResult> {
         Write9 that = (Write9) o;
         return companyId1 == that.companyId1
             && companyId2 == that.companyId2
-            && Objects.equals(time, that.time)
+            && timeAsMilli == that.timeAsMilli
             && ratio == that.ratio;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(companyId1, companyId2, time, ratio);
+        return Objects.hash(companyId1, companyId2, timeAsMilli, ratio);
     }
 
     @Override
@@ -110,7 +121,7 @@ public class Write9 extends LdbcOperation<LdbcNoResult> {
             + ", companyId2="
             + companyId2
             + ", time="
-            + time
+            + getTime()
             + ", ratio="
             + ratio
             + '}';
@@ -0,0 +1,203 @@
+package org.ldbcouncil.finbench.impls.common;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.ldbcouncil.finbench.driver.DbException;
+import org.ldbcouncil.finbench.driver.ResultReporter;
+
+/**
+ * Pool of connections of a connector, shared by the operation handlers of all executor threads.
+ * <p>
+ * At most size connections are opened, min idle of them when the pool is created and the others when all opened
+ * connections are in use. With thread affinity a thread gets back the connection it used last, if that one is idle.
+ * A thread that finds every connection in use waits for one, that time is excluded from the run duration of the
+ * operation and counted by the pool.
+ */
+public class ConnectionPool<C> implements AutoCloseable {
+    public static final String SIZE = "connectionPoolSize";
+    public static final String MIN_IDLE = "connectionPoolMinIdle";
+    public static final String THREAD_AFFINITY = "connectionPoolThreadAffinity";
+
+    public interface ConnectionFactory<C> {
+        C open() throws Exception;
+
+        void close(C connection) throws Exception;
+    }
+
+    private final ConnectionFactory<C> connectionFactory;
+    private final int size;
+    private final boolean threadAffinity;
+    private final LinkedBlockingDeque<C> idleConnections = new LinkedBlockingDeque<>();
+    private final List<C> openedConnections = new ArrayList<>();
+    private final ThreadLocal<C> lastConnection = new ThreadLocal<>();
+    private final AtomicInteger openedCount = new AtomicInteger(0);
+    private final AtomicInteger inUseCount = new AtomicInteger(0);
+    private final AtomicInteger maxInUseCount = new AtomicInteger(0);
+    private final AtomicLong waitCount = new AtomicLong(0);
+    private final AtomicLong waitDurationAsNano = new AtomicLong(0);
+
+    public ConnectionPool(ConnectionFactory<C> connectionFactory, int size, int minIdle, boolean threadAffinity)
+        throws DbException {
+        if (size < 1 || minIdle < 0 || minIdle > size) {
+            throw new DbException(format("Invalid connection pool, size: %s, min idle: %s", size, minIdle));
+        }
+        this.connectionFactory = connectionFactory;
+        this.size = size;
+        this.threadAffinity = threadAffinity;
+        for (int i = 0; i < minIdle; i++) {
+            openedCount.incrementAndGet();
+            idleConnections.offer(open());
+        }
+    }
+
+    /**
+     * Creates a pool configured by the connectionPoolSize (default 1), connectionPoolMinIdle (default the size) and
+     * connectionPoolThreadAffinity (default true) properties
+     */
+    public static <C> ConnectionPool<C> fromProperties(Map<String, String> properties,
+                                                       ConnectionFactory<C> connectionFactory) throws DbException {
+        try {
+            int size = properties.containsKey(SIZE) ? Integer.parseInt(properties.get(SIZE)) : 1;
+            int minIdle = properties.containsKey(MIN_IDLE) ? Integer.parseInt(properties.get(MIN_IDLE)) : size;
+            boolean threadAffinity = !properties.containsKey(THREAD_AFFINITY)
+                || Boolean.parseBoolean(properties.get(THREAD_AFFINITY));
+            return new ConnectionPool<>(connectionFactory, size, minIdle, threadAffinity);
+        } catch (NumberFormatException e) {
+            throw new DbException(format("Invalid connection pool configuration: %s=%s, %s=%s",
+                SIZE, properties.get(SIZE), MIN_IDLE, properties.get(MIN_IDLE)), e);
+        }
+    }
+
+    private C open() throws DbException {
+        C connection;
+        try {
+            connection = connectionFactory.open();
+        } catch (Exception e) {
+            openedCount.decrementAndGet();
+            throw new DbException("Error opening connection", e);
+        }
+        synchronized (openedConnections) {
+            openedConnections.add(connection);
+        }
+        return connection;
+    }
+
+    /**
+     * Takes a connection, which must be given back with {@link #release}
+     *
+     * @param resultReporter Reporter of the operation the connection is taken for, the time waited for a connection
+     *                       is excluded from its run duration
+     */
+    public C acquire(ResultReporter resultReporter) throws DbException {
+        C connection = null;
+        if (threadAffinity) {
+            C last = lastConnection.get();
+            if (null != last && idleConnections.remove(last)) {
+                connection = last;
+            }
+        }
+        if (null == connection) {
+            connection = idleConnections.pollFirst();
+        }
+        if (null == connection) {
+            if (openedCount.incrementAndGet() <= size) {
+                connection = open();
+            } else {
+                openedCount.decrementAndGet();
+                long startOfWaitAsNano = System.nanoTime();
+                try {
+                    connection = idleConnections.takeFirst();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new DbException("Interrupted while waiting for a connection", e);
+                }
+                long waitedAsNano = System.nanoTime() - startOfWaitAsNano;
+                waitCount.incrementAndGet();
+                waitDurationAsNano.addAndGet(waitedAsNano);
+                if (null != resultReporter) {
+                    resultReporter.excludeFromRunDuration(waitedAsNano);
+                }
+            }
+        }
+        int inUse = inUseCount.incrementAndGet();
+        int maxInUse = maxInUseCount.get();
+        while (inUse > maxInUse && !maxInUseCount.compareAndSet(maxInUse, inUse)) {
+            maxInUse = maxInUseCount.get();
+        }
+        if (threadAffinity) {
+            lastConnection.set(connection);
+        }
+        return connection;
+    }
+
+    public void release(C connection) {
+        inUseCount.decrementAndGet();
+        // most recently used first, the connections used last stay warm
+        idleConnections.offerFirst(connection);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int openedCount() {
+        return Math.min(openedCount.get(), size);
+    }
+
+    public int inUseCount() {
+        return inUseCount.get();
+    }
+
+    public int maxInUseCount() {
+        return maxInUseCount.get();
+    }
+
+    /**
+     * Number of times a thread found every connection in use and waited for one
+     */
+    public long waitCount() {
+        return waitCount.get();
+    }
+
+    public long waitDurationAsNano() {
+        return waitDurationAsNano.get();
+    }
+
+    @Override
+    public String toString() {
+        return format("ConnectionPool{size=%s, opened=%s, inUse=%s, maxInUse=%s, waitCount=%s, waitDuration=%s ms}",
+            size, openedCount(), inUseCount(), maxInUseCount(), waitCount(),
+            TimeUnit.NANOSECONDS.toMillis(waitDurationAsNano()));
+    }
+
+    /**
+     * Closes every opened connection, also the ones still in use
+     */
+    @Override
+    public void close() throws DbException {
+        DbException error = null;
+        synchronized (openedConnections) {
+            for (C connection : openedConnections) {
+                try {
+                    connectionFactory.close(connection);
+                } catch (Exception e) {
+                    if (null == error) {
+                        error = new DbException("Error closing connection", e);
+                    }
+                }
+            }
+            openedConnections.clear();
+        }
+        idleConnections.clear();
+        if (null != error) {
+            throw error;
+        }
+    }
+}
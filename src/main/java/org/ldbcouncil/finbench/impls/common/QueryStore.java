@@ -5,7 +5,7 @@ package org.ldbcouncil.finbench.impls.common;
  * This class stores functions to query definition files and to retrieve the following used in operation handlers:
  * - Query definition strings
  * - Parameter map (Map<String, Object>), with as default String objects as values
- * - Prepared queries (using string substitution)
+ * - Prepared queries (rendered from query templates compiled when the store is created)
  * <p>
  * Implementations can extend this class and override functions to change e.g.
  * - ParameterPrefix ()
@@ -13,7 +13,6 @@ package org.ldbcouncil.finbench.impls.common;
  * - Parameter map with different type stored than a string.
  */
 
-import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.finbench.driver.DbException;
 import org.ldbcouncil.finbench.driver.workloads.transaction.queries.*;
 
@@ -32,6 +31,13 @@ public abstract class QueryStore {
      */
     protected Map<QueryType, String> queries = new HashMap<>();
 
+    /**
+     * The loaded queries, compiled into templates.
+     */
+    protected Map<QueryType, QueryTemplate> templates = new HashMap<>();
+
+    private final ThreadLocal<QueryTemplate.Renderer> renderers = ThreadLocal.withInitial(QueryTemplate.Renderer::new);
+
     /**
      * Create QueryStore
      *
@@ -41,7 +47,11 @@ public abstract class QueryStore {
      */
     public QueryStore(String path, String postfix) throws DbException {
         for (QueryType queryType : QueryType.values()) {
-            queries.put(queryType, loadQueryFromFile(path, queryType.getName() + postfix));
+            String query = loadQueryFromFile(path, queryType.getName() + postfix);
+            queries.put(queryType, query);
+            if (null != query) {
+                templates.put(queryType, QueryTemplate.compile(query, getParameterPrefix(), getParameterPostfix()));
+            }
         }
     }
 
@@ -89,14 +99,29 @@ public abstract class QueryStore {
      * @return Prepared query string
      */
     protected String prepare(QueryType queryType, Map<String, Object> parameterSubstitutions) {
-        String querySpecification = queries.get(queryType);
-        for (String parameter : parameterSubstitutions.keySet()) {
-            querySpecification = querySpecification.replace(
-                    getParameterPrefix() + parameter + getParameterPostfix(),
-                    (String) parameterSubstitutions.get(parameter)
-            );
+        QueryTemplate.Renderer renderer = renderer(queryType);
+        for (Map.Entry<String, Object> parameterSubstitution : parameterSubstitutions.entrySet()) {
+            renderer.set(parameterSubstitution.getKey(), (String) parameterSubstitution.getValue());
         }
-        return querySpecification;
+        return renderer.render();
+    }
+
+    /**
+     * Renderer of the calling thread, reset to the template of the query
+     *
+     * @param queryType Type of query to prepare (QueryType)
+     * @return Renderer to bind the parameter values to
+     */
+    protected QueryTemplate.Renderer renderer(QueryType queryType) {
+        return renderer(templates.get(queryType));
+    }
+
+    protected QueryTemplate.Renderer renderer(QueryTemplate template) {
+        return renderers.get().reset(template);
+    }
+
+    public QueryTemplate getQueryTemplate(QueryType queryType) {
+        return templates.get(queryType);
     }
 
     public String getParameterizedQuery(QueryType queryType) {
@@ -104,372 +129,372 @@ public abstract class QueryStore {
     }
 
     public String getComplexRead1(ComplexRead1 operation) {
-        return prepare(QueryType.TransactionComplexRead1, new ImmutableMap.Builder<String, Object>()
-                .put(ComplexRead1.ID, Long.toString(operation.getId()))
-                .put(ComplexRead1.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(ComplexRead1.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .put(ComplexRead1.TRUNCATION_LIMIT, Integer.toString(operation.getTruncationLimit()))
-                .put(ComplexRead1.TRUNCATION_ORDER, operation.getTruncationOrder().name())
-                .build());
+        return renderer(QueryType.TransactionComplexRead1)
+                .set(ComplexRead1.ID, operation.getId())
+                .set(ComplexRead1.START_TIME, operation.startTimeAsMilli())
+                .set(ComplexRead1.END_TIME, operation.endTimeAsMilli())
+                .set(ComplexRead1.TRUNCATION_LIMIT, operation.getTruncationLimit())
+                .set(ComplexRead1.TRUNCATION_ORDER, operation.getTruncationOrder().name())
+                .render();
     }
 
     public String getComplexRead2(ComplexRead2 operation) {
-        return prepare(QueryType.TransactionComplexRead2, new ImmutableMap.Builder<String, Object>()
-                .put(ComplexRead2.ID, Long.toString(operation.getId()))
-                .put(ComplexRead2.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(ComplexRead2.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .put(ComplexRead2.TRUNCATION_LIMIT, Integer.toString(operation.getTruncationLimit()))
-                .put(ComplexRead2.TRUNCATION_ORDER, operation.getTruncationOrder().name())
-                .build());
+        return renderer(QueryType.TransactionComplexRead2)
+                .set(ComplexRead2.ID, operation.getId())
+                .set(ComplexRead2.START_TIME, operation.startTimeAsMilli())
+                .set(ComplexRead2.END_TIME, operation.endTimeAsMilli())
+                .set(ComplexRead2.TRUNCATION_LIMIT, operation.getTruncationLimit())
+                .set(ComplexRead2.TRUNCATION_ORDER, operation.getTruncationOrder().name())
+                .render();
     }
 
     public String getComplexRead3(ComplexRead3 operation) {
-        return prepare(QueryType.TransactionComplexRead3, new ImmutableMap.Builder<String, Object>()
-                .put(ComplexRead3.ID1, Long.toString(operation.getId1()))
-                .put(ComplexRead3.ID2, Long.toString(operation.getId2()))
-                .put(ComplexRead3.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(ComplexRead3.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .build());
+        return renderer(QueryType.TransactionComplexRead3)
+                .set(ComplexRead3.ID1, operation.getId1())
+                .set(ComplexRead3.ID2, operation.getId2())
+                .set(ComplexRead3.START_TIME, operation.startTimeAsMilli())
+                .set(ComplexRead3.END_TIME, operation.endTimeAsMilli())
+                .render();
     }
 
     public String getComplexRead4(ComplexRead4 operation) {
-        return prepare(QueryType.TransactionComplexRead4, new ImmutableMap.Builder<String, Object>()
-                .put(ComplexRead4.ID1, Long.toString(operation.getId1()))
-                .put(ComplexRead4.ID2, Long.toString(operation.getId2()))
-                .put(ComplexRead4.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(ComplexRead4.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .build());
+        return renderer(QueryType.TransactionComplexRead4)
+                .set(ComplexRead4.ID1, operation.getId1())
+                .set(ComplexRead4.ID2, operation.getId2())
+                .set(ComplexRead4.START_TIME, operation.startTimeAsMilli())
+                .set(ComplexRead4.END_TIME, operation.endTimeAsMilli())
+                .render();
     }
 
     public String getComplexRead5(ComplexRead5 operation) {
-        return prepare(QueryType.TransactionComplexRead5, new ImmutableMap.Builder<String, Object>()
-                .put(ComplexRead5.ID, Long.toString(operation.getId()))
-                .put(ComplexRead5.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(ComplexRead5.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .put(ComplexRead5.TRUNCATION_LIMIT, Integer.toString(operation.getTruncationLimit()))
-                .put(ComplexRead5.TRUNCATION_ORDER, operation.getTruncationOrder().name())
-                .build());
+        return renderer(QueryType.TransactionComplexRead5)
+                .set(ComplexRead5.ID, operation.getId())
+                .set(ComplexRead5.START_TIME, operation.startTimeAsMilli())
+                .set(ComplexRead5.END_TIME, operation.endTimeAsMilli())
+                .set(ComplexRead5.TRUNCATION_LIMIT, operation.getTruncationLimit())
+                .set(ComplexRead5.TRUNCATION_ORDER, operation.getTruncationOrder().name())
+                .render();
     }
 
     public String getComplexRead6(ComplexRead6 operation) {
-        return prepare(QueryType.TransactionComplexRead6, new ImmutableMap.Builder<String, Object>()
-                .put(ComplexRead6.ID, Long.toString(operation.getId()))
-                .put(ComplexRead6.THRESHOLD1, Double.toString(operation.getThreshold1()))
-                .put(ComplexRead6.THRESHOLD2, Double.toString(operation.getThreshold2()))
-                .put(ComplexRead6.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(ComplexRead6.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .put(ComplexRead6.TRUNCATION_LIMIT, Integer.toString(operation.getTruncationLimit()))
-                .put(ComplexRead6.TRUNCATION_ORDER, operation.getTruncationOrder().name())
-                .build());
+        return renderer(QueryType.TransactionComplexRead6)
+                .set(ComplexRead6.ID, operation.getId())
+                .set(ComplexRead6.THRESHOLD1, operation.getThreshold1())
+                .set(ComplexRead6.THRESHOLD2, operation.getThreshold2())
+                .set(ComplexRead6.START_TIME, operation.startTimeAsMilli())
+                .set(ComplexRead6.END_TIME, operation.endTimeAsMilli())
+                .set(ComplexRead6.TRUNCATION_LIMIT, operation.getTruncationLimit())
+                .set(ComplexRead6.TRUNCATION_ORDER, operation.getTruncationOrder().name())
+                .render();
     }
 
     public String getComplexRead7(ComplexRead7 operation) {
-        return prepare(QueryType.TransactionComplexRead7, new ImmutableMap.Builder<String, Object>()
-                .put(ComplexRead7.ID, Long.toString(operation.getId()))
-                .put(ComplexRead7.THRESHOLD, Double.toString(operation.getThreshold()))
-                .put(ComplexRead7.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(ComplexRead7.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .put(ComplexRead7.TRUNCATION_LIMIT, Integer.toString(operation.getTruncationLimit()))
-                .put(ComplexRead7.TRUNCATION_ORDER, operation.getTruncationOrder().name())
-                .build());
+        return renderer(QueryType.TransactionComplexRead7)
+                .set(ComplexRead7.ID, operation.getId())
+                .set(ComplexRead7.THRESHOLD, operation.getThreshold())
+                .set(ComplexRead7.START_TIME, operation.startTimeAsMilli())
+                .set(ComplexRead7.END_TIME, operation.endTimeAsMilli())
+                .set(ComplexRead7.TRUNCATION_LIMIT, operation.getTruncationLimit())
+                .set(ComplexRead7.TRUNCATION_ORDER, operation.getTruncationOrder().name())
+                .render();
     }
 
     public String getComplexRead8(ComplexRead8 operation) {
-        return prepare(QueryType.TransactionComplexRead8, new ImmutableMap.Builder<String, Object>()
-                .put(ComplexRead8.ID, Long.toString(operation.getId()))
-                .put(ComplexRead8.THRESHOLD, Double.toString(operation.getThreshold()))
-                .put(ComplexRead8.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(ComplexRead8.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .put(ComplexRead8.TRUNCATION_LIMIT, Integer.toString(operation.getTruncationLimit()))
-                .put(ComplexRead8.TRUNCATION_ORDER, operation.getTruncationOrder().name())
-                .build());
+        return renderer(QueryType.TransactionComplexRead8)
+                .set(ComplexRead8.ID, operation.getId())
+                .set(ComplexRead8.THRESHOLD, (double) operation.getThreshold())
+                .set(ComplexRead8.START_TIME, operation.startTimeAsMilli())
+                .set(ComplexRead8.END_TIME, operation.endTimeAsMilli())
+                .set(ComplexRead8.TRUNCATION_LIMIT, operation.getTruncationLimit())
+                .set(ComplexRead8.TRUNCATION_ORDER, operation.getTruncationOrder().name())
+                .render();
     }
 
     public String getComplexRead9(ComplexRead9 operation) {
-        return prepare(QueryType.TransactionComplexRead9, new ImmutableMap.Builder<String, Object>()
-                .put(ComplexRead9.ID, Long.toString(operation.getId()))
-                .put(ComplexRead9.THRESHOLD, Double.toString(operation.getThreshold()))
-                .put(ComplexRead9.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(ComplexRead9.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .put(ComplexRead9.TRUNCATION_LIMIT, Integer.toString(operation.getTruncationLimit()))
-                .put(ComplexRead9.TRUNCATION_ORDER, operation.getTruncationOrder().name())
-                .build());
+        return renderer(QueryType.TransactionComplexRead9)
+                .set(ComplexRead9.ID, operation.getId())
+                .set(ComplexRead9.THRESHOLD, operation.getThreshold())
+                .set(ComplexRead9.START_TIME, operation.startTimeAsMilli())
+                .set(ComplexRead9.END_TIME, operation.endTimeAsMilli())
+                .set(ComplexRead9.TRUNCATION_LIMIT, operation.getTruncationLimit())
+                .set(ComplexRead9.TRUNCATION_ORDER, operation.getTruncationOrder().name())
+                .render();
     }
 
     public String getComplexRead10(ComplexRead10 operation) {
-        return prepare(QueryType.TransactionComplexRead10, new ImmutableMap.Builder<String, Object>()
-                .put(ComplexRead10.PID1, Long.toString(operation.getPid1()))
-                .put(ComplexRead10.PID2, Long.toString(operation.getPid2()))
-                .put(ComplexRead10.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(ComplexRead10.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .build());
+        return renderer(QueryType.TransactionComplexRead10)
+                .set(ComplexRead10.PID1, operation.getPid1())
+                .set(ComplexRead10.PID2, operation.getPid2())
+                .set(ComplexRead10.START_TIME, operation.startTimeAsMilli())
+                .set(ComplexRead10.END_TIME, operation.endTimeAsMilli())
+                .render();
     }
 
     public String getComplexRead11(ComplexRead11 operation) {
-        return prepare(QueryType.TransactionComplexRead11, new ImmutableMap.Builder<String, Object>()
-                .put(ComplexRead11.ID, Long.toString(operation.getId()))
-                .put(ComplexRead11.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(ComplexRead11.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .put(ComplexRead11.TRUNCATION_LIMIT, Integer.toString(operation.getTruncationLimit()))
-                .put(ComplexRead11.TRUNCATION_ORDER, operation.getTruncationOrder().name())
-                .build());
+        return renderer(QueryType.TransactionComplexRead11)
+                .set(ComplexRead11.ID, operation.getId())
+                .set(ComplexRead11.START_TIME, operation.startTimeAsMilli())
+                .set(ComplexRead11.END_TIME, operation.endTimeAsMilli())
+                .set(ComplexRead11.TRUNCATION_LIMIT, operation.getTruncationLimit())
+                .set(ComplexRead11.TRUNCATION_ORDER, operation.getTruncationOrder().name())
+                .render();
     }
 
     public String getComplexRead12(ComplexRead12 operation) {
-        return prepare(QueryType.TransactionComplexRead12, new ImmutableMap.Builder<String, Object>()
-            .put(ComplexRead12.ID, Long.toString(operation.getId()))
-            .put(ComplexRead12.START_TIME, Long.toString(operation.getStartTime().getTime()))
-            .put(ComplexRead12.END_TIME, Long.toString(operation.getEndTime().getTime()))
-            .put(ComplexRead12.TRUNCATION_LIMIT, Integer.toString(operation.getTruncationLimit()))
-            .put(ComplexRead12.TRUNCATION_ORDER, operation.getTruncationOrder().name())
-            .build());
+        return renderer(QueryType.TransactionComplexRead12)
+            .set(ComplexRead12.ID, operation.getId())
+            .set(ComplexRead12.START_TIME, operation.startTimeAsMilli())
+            .set(ComplexRead12.END_TIME, operation.endTimeAsMilli())
+            .set(ComplexRead12.TRUNCATION_LIMIT, operation.getTruncationLimit())
+            .set(ComplexRead12.TRUNCATION_ORDER, operation.getTruncationOrder().name())
+            .render();
     }
 
     public String getSimpleRead1(SimpleRead1 operation) {
-        return prepare(QueryType.TransactionSimpleRead1, new ImmutableMap.Builder<String, Object>()
-                .put(SimpleRead1.ID, Long.toString(operation.getId()))
-                .build());
+        return renderer(QueryType.TransactionSimpleRead1)
+                .set(SimpleRead1.ID, operation.getId())
+                .render();
     }
 
     public String getSimpleRead2(SimpleRead2 operation) {
-        return prepare(QueryType.TransactionSimpleRead2, new ImmutableMap.Builder<String, Object>()
-                .put(SimpleRead2.ID, Long.toString(operation.getId()))
-                .put(SimpleRead2.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(SimpleRead2.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .build());
+        return renderer(QueryType.TransactionSimpleRead2)
+                .set(SimpleRead2.ID, operation.getId())
+                .set(SimpleRead2.START_TIME, operation.startTimeAsMilli())
+                .set(SimpleRead2.END_TIME, operation.endTimeAsMilli())
+                .render();
     }
 
     public String getSimpleRead3(SimpleRead3 operation) {
-        return prepare(QueryType.TransactionSimpleRead3, new ImmutableMap.Builder<String, Object>()
-                .put(SimpleRead3.ID, Long.toString(operation.getId()))
-                .put(SimpleRead3.THRESHOLD, Double.toString(operation.getThreshold()))
-                .put(SimpleRead3.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(SimpleRead3.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .build());
+        return renderer(QueryType.TransactionSimpleRead3)
+                .set(SimpleRead3.ID, operation.getId())
+                .set(SimpleRead3.THRESHOLD, operation.getThreshold())
+                .set(SimpleRead3.START_TIME, operation.startTimeAsMilli())
+                .set(SimpleRead3.END_TIME, operation.endTimeAsMilli())
+                .render();
     }
 
     public String getSimpleRead4(SimpleRead4 operation) {
-        return prepare(QueryType.TransactionSimpleRead4, new ImmutableMap.Builder<String, Object>()
-                .put(SimpleRead4.ID, Long.toString(operation.getId()))
-                .put(SimpleRead4.THRESHOLD, Double.toString(operation.getThreshold()))
-                .put(SimpleRead4.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(SimpleRead4.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .build());
+        return renderer(QueryType.TransactionSimpleRead4)
+                .set(SimpleRead4.ID, operation.getId())
+                .set(SimpleRead4.THRESHOLD, operation.getThreshold())
+                .set(SimpleRead4.START_TIME, operation.startTimeAsMilli())
+                .set(SimpleRead4.END_TIME, operation.endTimeAsMilli())
+                .render();
     }
 
     public String getSimpleRead5(SimpleRead5 operation) {
-        return prepare(QueryType.TransactionSimpleRead5, new ImmutableMap.Builder<String, Object>()
-                .put(SimpleRead5.ID, Long.toString(operation.getId()))
-                .put(SimpleRead5.THRESHOLD, Double.toString(operation.getThreshold()))
-                .put(SimpleRead5.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(SimpleRead5.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .build());
+        return renderer(QueryType.TransactionSimpleRead5)
+                .set(SimpleRead5.ID, operation.getId())
+                .set(SimpleRead5.THRESHOLD, operation.getThreshold())
+                .set(SimpleRead5.START_TIME, operation.startTimeAsMilli())
+                .set(SimpleRead5.END_TIME, operation.endTimeAsMilli())
+                .render();
     }
 
     public String getSimpleRead6(SimpleRead6 operation) {
-        return prepare(QueryType.TransactionSimpleRead6, new ImmutableMap.Builder<String, Object>()
-                .put(SimpleRead6.ID, Long.toString(operation.getId()))
-                .put(SimpleRead6.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(SimpleRead6.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .build());
+        return renderer(QueryType.TransactionSimpleRead6)
+                .set(SimpleRead6.ID, operation.getId())
+                .set(SimpleRead6.START_TIME, operation.startTimeAsMilli())
+                .set(SimpleRead6.END_TIME, operation.endTimeAsMilli())
+                .render();
     }
 
     public String getWrite1(Write1 operation) {
-        return prepare(QueryType.TransactionWrite1, new ImmutableMap.Builder<String, Object>()
-                .put(Write1.PERSON_ID, Long.toString(operation.getPersonId()))
-                .put(Write1.PERSON_NAME, operation.getPersonName())
-                .put(Write1.IS_BLOCKED, Boolean.toString(operation.getIsBlocked()))
-                .build());
+        return renderer(QueryType.TransactionWrite1)
+                .set(Write1.PERSON_ID, operation.getPersonId())
+                .set(Write1.PERSON_NAME, operation.getPersonName())
+                .set(Write1.IS_BLOCKED, operation.getIsBlocked())
+                .render();
     }
 
     public String getWrite2(Write2 operation) {
-        return prepare(QueryType.TransactionWrite2, new ImmutableMap.Builder<String, Object>()
-                .put(Write2.COMPANY_ID, Long.toString(operation.getCompanyId()))
-                .put(Write2.COMPANY_NAME, operation.getCompanyName())
-                .put(Write2.IS_BLOCKED, Boolean.toString(operation.getIsBlocked()))
-                .build());
+        return renderer(QueryType.TransactionWrite2)
+                .set(Write2.COMPANY_ID, operation.getCompanyId())
+                .set(Write2.COMPANY_NAME, operation.getCompanyName())
+                .set(Write2.IS_BLOCKED, operation.getIsBlocked())
+                .render();
     }
 
     public String getWrite3(Write3 operation) {
-        return prepare(QueryType.TransactionWrite3, new ImmutableMap.Builder<String, Object>()
-                .put(Write3.MEDIUM_ID, Long.toString(operation.getMediumId()))
-                .put(Write3.MEDIUM_TYPE, operation.getMediumType())
-                .put(Write3.IS_BLOCKED, Boolean.toString(operation.getIsBlocked()))
-                .build());
+        return renderer(QueryType.TransactionWrite3)
+                .set(Write3.MEDIUM_ID, operation.getMediumId())
+                .set(Write3.MEDIUM_TYPE, operation.getMediumType())
+                .set(Write3.IS_BLOCKED, operation.getIsBlocked())
+                .render();
     }
 
     public String getWrite4(Write4 operation) {
-        return prepare(QueryType.TransactionWrite4, new ImmutableMap.Builder<String, Object>()
-                .put(Write4.PERSON_ID, Long.toString(operation.getPersonId()))
-                .put(Write4.ACCOUNT_ID, Long.toString(operation.getAccountId()))
-                .put(Write4.TIME, Long.toString(operation.getTime().getTime()))
-                .put(Write4.ACCOUNT_BLOCKED, Boolean.toString(operation.getAccountBlocked()))
-                .put(Write4.ACCOUNT_TYPE, operation.getAccountType())
-                .build());
+        return renderer(QueryType.TransactionWrite4)
+                .set(Write4.PERSON_ID, operation.getPersonId())
+                .set(Write4.ACCOUNT_ID, operation.getAccountId())
+                .set(Write4.TIME, operation.timeAsMilli())
+                .set(Write4.ACCOUNT_BLOCKED, operation.getAccountBlocked())
+                .set(Write4.ACCOUNT_TYPE, operation.getAccountType())
+                .render();
     }
 
     public String getWrite5(Write5 operation) {
-        return prepare(QueryType.TransactionWrite5, new ImmutableMap.Builder<String, Object>()
-                .put(Write5.COMPANY_ID, Long.toString(operation.getCompanyId()))
-                .put(Write5.ACCOUNT_ID, Long.toString(operation.getAccountId()))
-                .put(Write5.TIME, Long.toString(operation.getTime().getTime()))
-                .put(Write5.ACCOUNT_BLOCKED, Boolean.toString(operation.getAccountBlocked()))
-                .put(Write5.ACCOUNT_TYPE, operation.getAccountType())
-                .build());
+        return renderer(QueryType.TransactionWrite5)
+                .set(Write5.COMPANY_ID, operation.getCompanyId())
+                .set(Write5.ACCOUNT_ID, operation.getAccountId())
+                .set(Write5.TIME, operation.timeAsMilli())
+                .set(Write5.ACCOUNT_BLOCKED, operation.getAccountBlocked())
+                .set(Write5.ACCOUNT_TYPE, operation.getAccountType())
+                .render();
     }
 
     public String getWrite6(Write6 operation) {
-        return prepare(QueryType.TransactionWrite6, new ImmutableMap.Builder<String, Object>()
-                .put(Write6.PERSON_ID, Long.toString(operation.getPersonId()))
-                .put(Write6.LOAN_ID, Long.toString(operation.getLoanId()))
-                .put(Write6.LOAN_AMOUNT, Double.toString(operation.getLoanAmount()))
-                .put(Write6.BALANCE, Double.toString(operation.getBalance()))
-                .put(Write6.TIME, Long.toString(operation.getTime().getTime()))
-                .build());
+        return renderer(QueryType.TransactionWrite6)
+                .set(Write6.PERSON_ID, operation.getPersonId())
+                .set(Write6.LOAN_ID, operation.getLoanId())
+                .set(Write6.LOAN_AMOUNT, operation.getLoanAmount())
+                .set(Write6.BALANCE, operation.getBalance())
+                .set(Write6.TIME, operation.timeAsMilli())
+                .render();
     }
 
     public String getWrite7(Write7 operation) {
-        return prepare(QueryType.TransactionWrite7, new ImmutableMap.Builder<String, Object>()
-                .put(Write7.COMPANY_ID, Long.toString(operation.getCompanyId()))
-                .put(Write7.LOAN_ID, Long.toString(operation.getLoanId()))
-                .put(Write7.LOAN_AMOUNT, Double.toString(operation.getLoanAmount()))
-                .put(Write7.BALANCE, Double.toString(operation.getBalance()))
-                .put(Write7.TIME, Long.toString(operation.getTime().getTime()))
-                .build());
+        return renderer(QueryType.TransactionWrite7)
+                .set(Write7.COMPANY_ID, operation.getCompanyId())
+                .set(Write7.LOAN_ID, operation.getLoanId())
+                .set(Write7.LOAN_AMOUNT, operation.getLoanAmount())
+                .set(Write7.BALANCE, operation.getBalance())
+                .set(Write7.TIME, operation.timeAsMilli())
+                .render();
     }
 
     public String getWrite8(Write8 operation) {
-        return prepare(QueryType.TransactionWrite8, new ImmutableMap.Builder<String, Object>()
-                .put(Write8.PERSON_ID, Long.toString(operation.getPersonId()))
-                .put(Write8.COMPANY_ID, Long.toString(operation.getCompanyId()))
-                .put(Write8.TIME, Long.toString(operation.getTime().getTime()))
-                .put(Write8.RATIO, Double.toString(operation.getRatio()))
-                .build());
+        return renderer(QueryType.TransactionWrite8)
+                .set(Write8.PERSON_ID, operation.getPersonId())
+                .set(Write8.COMPANY_ID, operation.getCompanyId())
+                .set(Write8.TIME, operation.timeAsMilli())
+                .set(Write8.RATIO, operation.getRatio())
+                .render();
     }
 
     public String getWrite9(Write9 operation) {
-        return prepare(QueryType.TransactionWrite9, new ImmutableMap.Builder<String, Object>()
-                .put(Write9.COMPANY_ID1, Long.toString(operation.getCompanyId1()))
-                .put(Write9.COMPANY_ID2, Long.toString(operation.getCompanyId2()))
-                .put(Write9.TIME, Long.toString(operation.getTime().getTime()))
-                .put(Write9.RATIO, Double.toString(operation.getRatio()))
-                .build());
+        return renderer(QueryType.TransactionWrite9)
+                .set(Write9.COMPANY_ID1, operation.getCompanyId1())
+                .set(Write9.COMPANY_ID2, operation.getCompanyId2())
+                .set(Write9.TIME, operation.timeAsMilli())
+                .set(Write9.RATIO, operation.getRatio())
+                .render();
     }
 
     public String getWrite10(Write10 operation) {
-        return prepare(QueryType.TransactionWrite10, new ImmutableMap.Builder<String, Object>()
-                .put(Write10.PERSON_ID1, Long.toString(operation.getPersonId1()))
-                .put(Write10.PERSON_ID2, Long.toString(operation.getPersonId2()))
-                .put(Write10.TIME, Long.toString(operation.getTime().getTime()))
-                .build());
+        return renderer(QueryType.TransactionWrite10)
+                .set(Write10.PERSON_ID1, operation.getPersonId1())
+                .set(Write10.PERSON_ID2, operation.getPersonId2())
+                .set(Write10.TIME, operation.timeAsMilli())
+                .render();
     }
 
     public String getWrite11(Write11 operation) {
-        return prepare(QueryType.TransactionWrite11, new ImmutableMap.Builder<String, Object>()
-                .put(Write11.COMPANY_ID1, Long.toString(operation.getCompanyId1()))
-                .put(Write11.COMPANY_ID2, Long.toString(operation.getCompanyId2()))
-                .put(Write11.TIME, Long.toString(operation.getTime().getTime()))
-                .build());
+        return renderer(QueryType.TransactionWrite11)
+                .set(Write11.COMPANY_ID1, operation.getCompanyId1())
+                .set(Write11.COMPANY_ID2, operation.getCompanyId2())
+                .set(Write11.TIME, operation.timeAsMilli())
+                .render();
     }
 
     public String getWrite12(Write12 operation) {
-        return prepare(QueryType.TransactionWrite12, new ImmutableMap.Builder<String, Object>()
-                .put(Write12.ACCOUNT_ID1, Long.toString(operation.getAccountId1()))
-                .put(Write12.ACCOUNT_ID2, Long.toString(operation.getAccountId2()))
-                .put(Write12.TIME, Long.toString(operation.getTime().getTime()))
-                .put(Write12.AMOUNT, Double.toString(operation.getAmount()))
-                .build());
+        return renderer(QueryType.TransactionWrite12)
+                .set(Write12.ACCOUNT_ID1, operation.getAccountId1())
+                .set(Write12.ACCOUNT_ID2, operation.getAccountId2())
+                .set(Write12.TIME, operation.timeAsMilli())
+                .set(Write12.AMOUNT, operation.getAmount())
+                .render();
     }
 
     public String getWrite13(Write13 operation) {
-        return prepare(QueryType.TransactionWrite13, new ImmutableMap.Builder<String, Object>()
-                .put(Write13.ACCOUNT_ID1, Long.toString(operation.getAccountId1()))
-                .put(Write13.ACCOUNT_ID2, Long.toString(operation.getAccountId2()))
-                .put(Write13.TIME, Long.toString(operation.getTime().getTime()))
-                .put(Write13.AMOUNT, Double.toString(operation.getAmount()))
-                .build());
+        return renderer(QueryType.TransactionWrite13)
+                .set(Write13.ACCOUNT_ID1, operation.getAccountId1())
+                .set(Write13.ACCOUNT_ID2, operation.getAccountId2())
+                .set(Write13.TIME, operation.timeAsMilli())
+                .set(Write13.AMOUNT, operation.getAmount())
+                .render();
     }
 
     public String getWrite14(Write14 operation) {
-        return prepare(QueryType.TransactionWrite14, new ImmutableMap.Builder<String, Object>()
-            .put(Write14.ACCOUNT_ID, Long.toString(operation.getAccountId()))
-            .put(Write14.LOAN_ID, Long.toString(operation.getLoanId()))
-            .put(Write14.TIME, Long.toString(operation.getTime().getTime()))
-            .put(Write14.AMOUNT, Double.toString(operation.getAmount()))
-            .build());
+        return renderer(QueryType.TransactionWrite14)
+            .set(Write14.ACCOUNT_ID, operation.getAccountId())
+            .set(Write14.LOAN_ID, operation.getLoanId())
+            .set(Write14.TIME, operation.timeAsMilli())
+            .set(Write14.AMOUNT, operation.getAmount())
+            .render();
     }
 
     public String getWrite15(Write15 operation) {
-        return prepare(QueryType.TransactionWrite15, new ImmutableMap.Builder<String, Object>()
-            .put(Write15.LOAN_ID, Long.toString(operation.getLoanId()))
-            .put(Write15.ACCOUNT_ID, Long.toString(operation.getAccountId()))
-            .put(Write15.TIME, Long.toString(operation.getTime().getTime()))
-            .put(Write15.AMOUNT, Double.toString(operation.getAmount()))
-            .build());
+        return renderer(QueryType.TransactionWrite15)
+            .set(Write15.LOAN_ID, operation.getLoanId())
+            .set(Write15.ACCOUNT_ID, operation.getAccountId())
+            .set(Write15.TIME, operation.timeAsMilli())
+            .set(Write15.AMOUNT, operation.getAmount())
+            .render();
     }
 
     public String getWrite16(Write16 operation) {
-        return prepare(QueryType.TransactionWrite16, new ImmutableMap.Builder<String, Object>()
-            .put(Write16.MEDIUM_ID, Long.toString(operation.getMediumId()))
-            .put(Write16.ACCOUNT_ID, Long.toString(operation.getAccountId()))
-            .put(Write16.TIME, Long.toString(operation.getTime().getTime()))
-            .build());
+        return renderer(QueryType.TransactionWrite16)
+            .set(Write16.MEDIUM_ID, operation.getMediumId())
+            .set(Write16.ACCOUNT_ID, operation.getAccountId())
+            .set(Write16.TIME, operation.timeAsMilli())
+            .render();
     }
 
     public String getWrite17(Write17 operation) {
-        return prepare(QueryType.TransactionWrite17, new ImmutableMap.Builder<String, Object>()
-            .put(Write17.ACCOUNT_ID, Long.toString(operation.getAccountId()))
-            .build());
+        return renderer(QueryType.TransactionWrite17)
+            .set(Write17.ACCOUNT_ID, operation.getAccountId())
+            .render();
     }
 
     public String getWrite18(Write18 operation) {
-        return prepare(QueryType.TransactionWrite18, new ImmutableMap.Builder<String, Object>()
-            .put(Write18.ACCOUNT_ID, Long.toString(operation.getAccountId()))
-            .build());
+        return renderer(QueryType.TransactionWrite18)
+            .set(Write18.ACCOUNT_ID, operation.getAccountId())
+            .render();
     }
 
     public String getWrite19(Write19 operation) {
-        return prepare(QueryType.TransactionWrite19, new ImmutableMap.Builder<String, Object>()
-            .put(Write19.PERSON_ID, Long.toString(operation.getPersonId()))
-            .build());
+        return renderer(QueryType.TransactionWrite19)
+            .set(Write19.PERSON_ID, operation.getPersonId())
+            .render();
     }
 
     public String getReadWrite1(ReadWrite1 operation) {
-        return prepare(QueryType.TransactionReadWrite1, new ImmutableMap.Builder<String, Object>()
-                .put(ReadWrite1.SRC_ID, Long.toString(operation.getSrcId()))
-                .put(ReadWrite1.DST_ID, Long.toString(operation.getDstId()))
-                .put(ReadWrite1.TIME, Long.toString(operation.getTime().getTime()))
-                .put(ReadWrite1.AMOUNT, Double.toString(operation.getAmount()))
-                .put(ReadWrite1.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(ReadWrite1.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .build());
+        return renderer(QueryType.TransactionReadWrite1)
+                .set(ReadWrite1.SRC_ID, operation.getSrcId())
+                .set(ReadWrite1.DST_ID, operation.getDstId())
+                .set(ReadWrite1.TIME, operation.timeAsMilli())
+                .set(ReadWrite1.AMOUNT, operation.getAmount())
+                .set(ReadWrite1.START_TIME, operation.startTimeAsMilli())
+                .set(ReadWrite1.END_TIME, operation.endTimeAsMilli())
+                .render();
     }
 
     public String getReadWrite2(ReadWrite2 operation) {
-        return prepare(QueryType.TransactionReadWrite2, new ImmutableMap.Builder<String, Object>()
-                .put(ReadWrite2.SRC_ID, Long.toString(operation.getSrcId()))
-                .put(ReadWrite2.DST_ID, Long.toString(operation.getDstId()))
-                .put(ReadWrite2.TIME, Long.toString(operation.getTime().getTime()))
-                .put(ReadWrite2.AMOUNT_THRESHOLD, Double.toString(operation.getAmountThreshold()))
-                .put(ReadWrite2.AMOUNT, Double.toString(operation.getAmount()))
-                .put(ReadWrite2.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(ReadWrite2.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .put(ReadWrite2.RATIO_THRESHOLD, Float.toString(operation.getRatioThreshold()))
-                .put(ReadWrite2.TRUNCATION_LIMIT, Integer.toString(operation.getTruncationLimit()))
-                .put(ReadWrite2.TRUNCATION_ORDER, operation.getTruncationOrder().name())
-                .build());
+        return renderer(QueryType.TransactionReadWrite2)
+                .set(ReadWrite2.SRC_ID, operation.getSrcId())
+                .set(ReadWrite2.DST_ID, operation.getDstId())
+                .set(ReadWrite2.TIME, operation.timeAsMilli())
+                .set(ReadWrite2.AMOUNT_THRESHOLD, operation.getAmountThreshold())
+                .set(ReadWrite2.AMOUNT, operation.getAmount())
+                .set(ReadWrite2.START_TIME, operation.startTimeAsMilli())
+                .set(ReadWrite2.END_TIME, operation.endTimeAsMilli())
+                .set(ReadWrite2.RATIO_THRESHOLD, operation.getRatioThreshold())
+                .set(ReadWrite2.TRUNCATION_LIMIT, operation.getTruncationLimit())
+                .set(ReadWrite2.TRUNCATION_ORDER, operation.getTruncationOrder().name())
+                .render();
     }
 
     public String getReadWrite3(ReadWrite3 operation) {
-        return prepare(QueryType.TransactionReadWrite3, new ImmutableMap.Builder<String, Object>()
-                .put(ReadWrite3.SRC_ID, Long.toString(operation.getSrcId()))
-                .put(ReadWrite3.DST_ID, Long.toString(operation.getDstId()))
-                .put(ReadWrite2.TIME, Long.toString(operation.getTime().getTime()))
-                .put(ReadWrite3.THRESHOLD, Double.toString(operation.getThreshold()))
-                .put(ReadWrite3.START_TIME, Long.toString(operation.getStartTime().getTime()))
-                .put(ReadWrite3.END_TIME, Long.toString(operation.getEndTime().getTime()))
-                .put(ReadWrite3.TRUNCATION_LIMIT, Integer.toString(operation.getTruncationLimit()))
-                .put(ReadWrite3.TRUNCATION_ORDER, operation.getTruncationOrder().name())
-                .build());
+        return renderer(QueryType.TransactionReadWrite3)
+                .set(ReadWrite3.SRC_ID, operation.getSrcId())
+                .set(ReadWrite3.DST_ID, operation.getDstId())
+                .set(ReadWrite2.TIME, operation.timeAsMilli())
+                .set(ReadWrite3.THRESHOLD, operation.getThreshold())
+                .set(ReadWrite3.START_TIME, operation.startTimeAsMilli())
+                .set(ReadWrite3.END_TIME, operation.endTimeAsMilli())
+                .set(ReadWrite3.TRUNCATION_LIMIT, operation.getTruncationLimit())
+                .set(ReadWrite3.TRUNCATION_ORDER, operation.getTruncationOrder().name())
+                .render();
     }
 }
@@ -0,0 +1,227 @@
+package org.ldbcouncil.finbench.impls.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Query definition parsed once into literal segments and parameter slots.
+ * <p>
+ * A slot is the parameter prefix, a name of letters, digits and underscores, and the parameter postfix. A query is
+ * rendered by appending the segments and the values bound to the slots to a reusable {@link Renderer}, so that
+ * preparing a query neither scans the query text per parameter nor converts values to intermediate strings. Slots
+ * without a bound value are rendered as they appear in the query definition.
+ */
+public final class QueryTemplate {
+    private final String text;
+    // segments[i] precedes slot i, the last segment follows the last slot
+    private final String[] segments;
+    private final int[] slotParameters;
+    private final String[] parameters;
+    private final String[] slotTexts;
+    private final Map<String, Integer> parameterIndices;
+
+    private QueryTemplate(String text, String[] segments, int[] slotParameters, String[] parameters,
+                          String[] slotTexts) {
+        this.text = text;
+        this.segments = segments;
+        this.slotParameters = slotParameters;
+        this.parameters = parameters;
+        this.slotTexts = slotTexts;
+        this.parameterIndices = new HashMap<>();
+        for (int i = 0; i < parameters.length; i++) {
+            parameterIndices.put(parameters[i], i);
+        }
+    }
+
+    public static QueryTemplate compile(String text, String parameterPrefix, String parameterPostfix) {
+        List<String> segments = new ArrayList<>();
+        List<Integer> slotParameters = new ArrayList<>();
+        List<String> parameters = new ArrayList<>();
+        int segmentStart = 0;
+        int from = 0;
+        int prefixIndex;
+        while ((prefixIndex = text.indexOf(parameterPrefix, from)) >= 0) {
+            int nameStart = prefixIndex + parameterPrefix.length();
+            int nameEnd = nameStart;
+            while (nameEnd < text.length() && isNameCharacter(text.charAt(nameEnd))) {
+                nameEnd++;
+            }
+            if (nameEnd == nameStart || !text.startsWith(parameterPostfix, nameEnd)) {
+                from = nameStart;
+                continue;
+            }
+            String parameter = text.substring(nameStart, nameEnd);
+            int parameterIndex = parameters.indexOf(parameter);
+            if (parameterIndex < 0) {
+                parameterIndex = parameters.size();
+                parameters.add(parameter);
+            }
+            segments.add(text.substring(segmentStart, prefixIndex));
+            slotParameters.add(parameterIndex);
+            segmentStart = nameEnd + parameterPostfix.length();
+            from = segmentStart;
+        }
+        segments.add(text.substring(segmentStart));
+
+        String[] parameterArray = parameters.toArray(new String[0]);
+        String[] slotTexts = new String[parameterArray.length];
+        for (int i = 0; i < parameterArray.length; i++) {
+            slotTexts[i] = parameterPrefix + parameterArray[i] + parameterPostfix;
+        }
+        return new QueryTemplate(
+            text,
+            segments.toArray(new String[0]),
+            slotParameters.stream().mapToInt(Integer::intValue).toArray(),
+            parameterArray,
+            slotTexts);
+    }
+
+    private static boolean isNameCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * Query definition the template was compiled from
+     */
+    public String text() {
+        return text;
+    }
+
+    /**
+     * Distinct parameter names, in order of first appearance
+     */
+    public List<String> parameters() {
+        return Arrays.asList(parameters);
+    }
+
+    public int slotCount() {
+        return slotParameters.length;
+    }
+
+    public boolean hasParameter(String parameter) {
+        return parameterIndices.containsKey(parameter);
+    }
+
+    private int parameterIndex(String parameter) {
+        Integer index = parameterIndices.get(parameter);
+        return null == index ? -1 : index;
+    }
+
+    /**
+     * Renders templates with the values bound to their parameters. Keeps its buffers between queries and is not
+     * thread safe, each thread uses its own renderer.
+     */
+    public static final class Renderer {
+        private static final byte UNBOUND = 0;
+        private static final byte LONG = 1;
+        private static final byte DOUBLE = 2;
+        private static final byte FLOAT = 3;
+        private static final byte BOOLEAN = 4;
+        private static final byte STRING = 5;
+
+        private final StringBuilder builder = new StringBuilder(1024);
+        private QueryTemplate template;
+        private byte[] kinds = new byte[16];
+        private long[] primitiveValues = new long[16];
+        private String[] stringValues = new String[16];
+
+        /**
+         * Starts rendering the template, with no values bound
+         */
+        public Renderer reset(QueryTemplate template) {
+            this.template = template;
+            int parameterCount = template.parameters.length;
+            if (kinds.length < parameterCount) {
+                kinds = new byte[parameterCount];
+                primitiveValues = new long[parameterCount];
+                stringValues = new String[parameterCount];
+            } else {
+                Arrays.fill(kinds, 0, parameterCount, UNBOUND);
+                Arrays.fill(stringValues, 0, parameterCount, null);
+            }
+            return this;
+        }
+
+        public Renderer set(String parameter, long value) {
+            int index = template.parameterIndex(parameter);
+            if (index >= 0) {
+                kinds[index] = LONG;
+                primitiveValues[index] = value;
+            }
+            return this;
+        }
+
+        public Renderer set(String parameter, double value) {
+            int index = template.parameterIndex(parameter);
+            if (index >= 0) {
+                kinds[index] = DOUBLE;
+                primitiveValues[index] = Double.doubleToRawLongBits(value);
+            }
+            return this;
+        }
+
+        public Renderer set(String parameter, float value) {
+            int index = template.parameterIndex(parameter);
+            if (index >= 0) {
+                kinds[index] = FLOAT;
+                primitiveValues[index] = Float.floatToRawIntBits(value);
+            }
+            return this;
+        }
+
+        public Renderer set(String parameter, boolean value) {
+            int index = template.parameterIndex(parameter);
+            if (index >= 0) {
+                kinds[index] = BOOLEAN;
+                primitiveValues[index] = value ? 1 : 0;
+            }
+            return this;
+        }
+
+        public Renderer set(String parameter, String value) {
+            int index = template.parameterIndex(parameter);
+            if (index >= 0) {
+                kinds[index] = STRING;
+                stringValues[index] = value;
+            }
+            return this;
+        }
+
+        /**
+         * Renders the template with the values bound since the last {@link #reset}
+         */
+        public String render() {
+            builder.setLength(0);
+            String[] segments = template.segments;
+            int[] slotParameters = template.slotParameters;
+            for (int slot = 0; slot < slotParameters.length; slot++) {
+                builder.append(segments[slot]);
+                int index = slotParameters[slot];
+                switch (kinds[index]) {
+                    case LONG:
+                        builder.append(primitiveValues[index]);
+                        break;
+                    case DOUBLE:
+                        builder.append(Double.longBitsToDouble(primitiveValues[index]));
+                        break;
+                    case FLOAT:
+                        builder.append(Float.intBitsToFloat((int) primitiveValues[index]));
+                        break;
+                    case BOOLEAN:
+                        builder.append(primitiveValues[index] != 0);
+                        break;
+                    case STRING:
+                        builder.append(stringValues[index]);
+                        break;
+                    default:
+                        builder.append(template.slotTexts[index]);
+                }
+            }
+            builder.append(segments[slotParameters.length]);
+            return builder.toString();
+        }
+    }
+}
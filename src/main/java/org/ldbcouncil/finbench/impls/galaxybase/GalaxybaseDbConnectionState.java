@@ -7,33 +7,75 @@ import com.graphdbapi.driver.v1.Driver;
 import java.util.Map;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.ldbcouncil.finbench.driver.DbException;
+import org.ldbcouncil.finbench.driver.ResultReporter;
 import org.ldbcouncil.finbench.impls.common.BaseDbConnectionState;
+import org.ldbcouncil.finbench.impls.common.ConnectionPool;
 
 public class GalaxybaseDbConnectionState extends BaseDbConnectionState<GalaxybaseQueryStore> {
     static Logger logger = LogManager.getLogger("GalaxybaseDbConnectionState");
-    private final Driver driver;
-    protected Graph graph;
+    private final ConnectionPool<Session> sessionPool;
 
-    public GalaxybaseDbConnectionState(Map<String, String> properties, GalaxybaseQueryStore store) {
+    public GalaxybaseDbConnectionState(Map<String, String> properties, GalaxybaseQueryStore store)
+        throws DbException {
         super(properties, store);
         String endPoint = properties.get("endpoint");
         String user = properties.get("user");
         String password = properties.get("password");
         String graphName = properties.get("graphName");
-        driver = GraphDb.connect(endPoint, user, password);
-        graph = GraphDb.driver(driver, graphName);
+        sessionPool = ConnectionPool.fromProperties(properties, new ConnectionPool.ConnectionFactory<Session>() {
+            @Override
+            public Session open() {
+                Driver driver = GraphDb.connect(endPoint, user, password);
+                return new Session(driver, GraphDb.driver(driver, graphName));
+            }
+
+            @Override
+            public void close(Session session) throws Exception {
+                session.driver.close();
+            }
+        });
+    }
+
+    /**
+     * Takes a session from the pool, the caller gives it back with {@link #releaseSession}
+     */
+    public Session acquireSession(ResultReporter resultReporter) throws DbException {
+        return sessionPool.acquire(resultReporter);
     }
 
-    public Graph getGraph() {
-        return graph;
+    public void releaseSession(Session session) {
+        sessionPool.release(session);
+    }
+
+    public ConnectionPool<Session> sessionPool() {
+        return sessionPool;
     }
 
     @Override
     public void close() {
+        logger.info(sessionPool);
         try {
-            driver.close();
+            sessionPool.close();
         } catch (Exception e) {
             logger.error("Galaxybase closed", e);
         }
     }
+
+    /**
+     * Driver with the graph opened on it, the SDK has no lighter session to pool
+     */
+    public static class Session {
+        private final Driver driver;
+        private final Graph graph;
+
+        private Session(Driver driver, Graph graph) {
+            this.driver = driver;
+            this.graph = graph;
+        }
+
+        public Graph graph() {
+            return graph;
+        }
+    }
 }
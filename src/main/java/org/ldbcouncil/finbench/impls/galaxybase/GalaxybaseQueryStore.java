@@ -3,6 +3,7 @@ package org.ldbcouncil.finbench.impls.galaxybase;
 import com.google.common.collect.ImmutableMap;
 import com.graphdbapi.driver.v1.Value;
 import com.graphdbapi.driver.v1.Values;
+import java.util.HashMap;
 import java.util.Map;
 import org.ldbcouncil.finbench.driver.DbException;
 import org.ldbcouncil.finbench.driver.truncation.TruncationOrder;
@@ -47,23 +48,55 @@ import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write7;
 import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write8;
 import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write9;
 import org.ldbcouncil.finbench.impls.common.QueryStore;
+import org.ldbcouncil.finbench.impls.common.QueryTemplate;
 import org.ldbcouncil.finbench.impls.common.QueryType;
 
 public class GalaxybaseQueryStore extends QueryStore {
 
+    private static final String TRUNCATION_ORDER = "truncationOrder";
+    private static final String TRUNCATION_LIMIT = "truncationLimit";
+
+    // templates by query text, handlers only get the text of their query
+    private final Map<String, QueryTemplate> templatesByQuery = new HashMap<>();
+
     public GalaxybaseQueryStore(String path) throws DbException {
         super(path, ".cypher");
+        for (QueryTemplate template : templates.values()) {
+            templatesByQuery.put(template.text(), template);
+        }
     }
 
     protected String getQuery(QueryType queryType) {
         return queries.get(queryType);
     }
 
+    /**
+     * Inlines the truncation order and limit, which Galaxybase does not accept as parameters of EXPANDCONFIG, into
+     * the query. The other parameters are left to be passed with the query.
+     *
+     * @param query  Query as returned by {@link #getQuery}
+     * @param params Parameters of the query
+     * @return The query with the truncation inlined, or the query itself when it has no truncation
+     */
+    public String inlineTruncation(String query, Map<String, Value> params) {
+        QueryTemplate template = templatesByQuery.get(query);
+        if (null == template) {
+            template = QueryTemplate.compile(query, getParameterPrefix(), getParameterPostfix());
+        }
+        if (!template.hasParameter(TRUNCATION_ORDER)) {
+            return query;
+        }
+        return renderer(template)
+            .set(TRUNCATION_ORDER, params.get(TRUNCATION_ORDER).asString())
+            .set(TRUNCATION_LIMIT, params.get(TRUNCATION_LIMIT).asInt())
+            .render();
+    }
+
     public Map<String, Value> getParamsComplexRead1(ComplexRead1 operation) {
         return new ImmutableMap.Builder<String, Value>()
             .put(ComplexRead1.ID, Values.value(String.valueOf(operation.getId())))
-            .put(ComplexRead1.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(ComplexRead1.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(ComplexRead1.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(ComplexRead1.END_TIME, Values.value(operation.endTimeAsMilli()))
             .put(ComplexRead1.TRUNCATION_LIMIT, Values.value(operation.getTruncationLimit()))
             .put(ComplexRead1.TRUNCATION_ORDER, Values.value(Values.value(operation.getTruncationOrder().name().equals(TruncationOrder.TIMESTAMP_DESCENDING.name()) ? "DESC" : "ASC").equals(TruncationOrder.TIMESTAMP_DESCENDING.name()) ? "DESC" : "ASC"))
             .build();
@@ -72,8 +105,8 @@ public class GalaxybaseQueryStore extends QueryStore {
     public Map<String, Value> getParamsComplexRead2(ComplexRead2 operation) {
         return new ImmutableMap.Builder<String, Value>()
             .put(ComplexRead2.ID, Values.value(String.valueOf(operation.getId())))
-            .put(ComplexRead2.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(ComplexRead2.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(ComplexRead2.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(ComplexRead2.END_TIME, Values.value(operation.endTimeAsMilli()))
             .put(ComplexRead2.TRUNCATION_LIMIT, Values.value(operation.getTruncationLimit()))
             .put(ComplexRead2.TRUNCATION_ORDER, Values.value(operation.getTruncationOrder().name().equals(TruncationOrder.TIMESTAMP_DESCENDING.name()) ? "DESC" : "ASC"))
             .build();
@@ -83,8 +116,8 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(ComplexRead3.ID1, Values.value(String.valueOf(operation.getId1())))
             .put(ComplexRead3.ID2, Values.value(String.valueOf(operation.getId2())))
-            .put(ComplexRead3.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(ComplexRead3.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(ComplexRead3.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(ComplexRead3.END_TIME, Values.value(operation.endTimeAsMilli()))
             .build();
     }
 
@@ -92,16 +125,16 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(ComplexRead4.ID1, Values.value(String.valueOf(operation.getId1())))
             .put(ComplexRead4.ID2, Values.value(String.valueOf(operation.getId2())))
-            .put(ComplexRead4.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(ComplexRead4.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(ComplexRead4.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(ComplexRead4.END_TIME, Values.value(operation.endTimeAsMilli()))
             .build();
     }
 
     public Map<String, Value> getParamsComplexRead5(ComplexRead5 operation) {
         return new ImmutableMap.Builder<String, Value>()
             .put(ComplexRead5.ID, Values.value(String.valueOf(operation.getId())))
-            .put(ComplexRead5.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(ComplexRead5.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(ComplexRead5.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(ComplexRead5.END_TIME, Values.value(operation.endTimeAsMilli()))
             .put(ComplexRead5.TRUNCATION_LIMIT, Values.value(operation.getTruncationLimit()))
             .put(ComplexRead5.TRUNCATION_ORDER, Values.value(operation.getTruncationOrder().name().equals(TruncationOrder.TIMESTAMP_DESCENDING.name()) ? "DESC" : "ASC"))
             .build();
@@ -112,8 +145,8 @@ public class GalaxybaseQueryStore extends QueryStore {
             .put(ComplexRead6.ID, Values.value(String.valueOf(operation.getId())))
             .put(ComplexRead6.THRESHOLD1, Values.value(operation.getThreshold1()))
             .put(ComplexRead6.THRESHOLD2, Values.value(operation.getThreshold2()))
-            .put(ComplexRead6.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(ComplexRead6.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(ComplexRead6.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(ComplexRead6.END_TIME, Values.value(operation.endTimeAsMilli()))
             .put(ComplexRead6.TRUNCATION_LIMIT, Values.value(operation.getTruncationLimit()))
             .put(ComplexRead6.TRUNCATION_ORDER, Values.value(operation.getTruncationOrder().name().equals(TruncationOrder.TIMESTAMP_DESCENDING.name()) ? "DESC" : "ASC"))
             .build();
@@ -123,8 +156,8 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(ComplexRead7.ID, Values.value(String.valueOf(operation.getId())))
             .put(ComplexRead7.THRESHOLD, Values.value(operation.getThreshold()))
-            .put(ComplexRead7.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(ComplexRead7.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(ComplexRead7.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(ComplexRead7.END_TIME, Values.value(operation.endTimeAsMilli()))
             .put(ComplexRead7.TRUNCATION_LIMIT, Values.value(operation.getTruncationLimit()))
             .put(ComplexRead7.TRUNCATION_ORDER, Values.value(operation.getTruncationOrder().name().equals(TruncationOrder.TIMESTAMP_DESCENDING.name()) ? "DESC" : "ASC"))
             .build();
@@ -134,8 +167,8 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(ComplexRead8.ID, Values.value(String.valueOf(operation.getId())))
             .put(ComplexRead8.THRESHOLD, Values.value(operation.getThreshold()))
-            .put(ComplexRead8.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(ComplexRead8.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(ComplexRead8.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(ComplexRead8.END_TIME, Values.value(operation.endTimeAsMilli()))
             .put(ComplexRead8.TRUNCATION_LIMIT, Values.value(operation.getTruncationLimit()))
             .put(ComplexRead8.TRUNCATION_ORDER, Values.value(operation.getTruncationOrder().name().equals(TruncationOrder.TIMESTAMP_DESCENDING.name()) ? "DESC" : "ASC"))
             .build();
@@ -145,8 +178,8 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(ComplexRead9.ID, Values.value(String.valueOf(operation.getId())))
             .put(ComplexRead9.THRESHOLD, Values.value(operation.getThreshold()))
-            .put(ComplexRead9.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(ComplexRead9.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(ComplexRead9.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(ComplexRead9.END_TIME, Values.value(operation.endTimeAsMilli()))
             .put(ComplexRead9.TRUNCATION_LIMIT, Values.value(operation.getTruncationLimit()))
             .put(ComplexRead9.TRUNCATION_ORDER, Values.value(operation.getTruncationOrder().name().equals(TruncationOrder.TIMESTAMP_DESCENDING.name()) ? "DESC" : "ASC"))
             .build();
@@ -156,16 +189,16 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(ComplexRead10.PID1, Values.value(String.valueOf(operation.getPid1())))
             .put(ComplexRead10.PID2, Values.value(String.valueOf(operation.getPid2())))
-            .put(ComplexRead10.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(ComplexRead10.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(ComplexRead10.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(ComplexRead10.END_TIME, Values.value(operation.endTimeAsMilli()))
             .build();
     }
 
     public Map<String, Value> getParamsComplexRead11(ComplexRead11 operation) {
         return new ImmutableMap.Builder<String, Value>()
             .put(ComplexRead11.ID, Values.value(String.valueOf(operation.getId())))
-            .put(ComplexRead11.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(ComplexRead11.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(ComplexRead11.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(ComplexRead11.END_TIME, Values.value(operation.endTimeAsMilli()))
             .put(ComplexRead11.TRUNCATION_LIMIT, Values.value(operation.getTruncationLimit()))
             .put(ComplexRead11.TRUNCATION_ORDER, Values.value(operation.getTruncationOrder().name().equals(TruncationOrder.TIMESTAMP_DESCENDING.name()) ? "DESC" : "ASC"))
             .build();
@@ -174,8 +207,8 @@ public class GalaxybaseQueryStore extends QueryStore {
     public Map<String, Value> getParamsComplexRead12(ComplexRead12 operation) {
         return new ImmutableMap.Builder<String, Value>()
             .put(ComplexRead12.ID, Values.value(String.valueOf(operation.getId())))
-            .put(ComplexRead12.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(ComplexRead12.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(ComplexRead12.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(ComplexRead12.END_TIME, Values.value(operation.endTimeAsMilli()))
             .put(ComplexRead12.TRUNCATION_LIMIT, Values.value(operation.getTruncationLimit()))
             .put(ComplexRead12.TRUNCATION_ORDER, Values.value(operation.getTruncationOrder().name().equals(TruncationOrder.TIMESTAMP_DESCENDING.name()) ? "DESC" : "ASC"))
             .build();
@@ -190,8 +223,8 @@ public class GalaxybaseQueryStore extends QueryStore {
     public Map<String, Value> getParamsSimpleRead2(SimpleRead2 operation) {
         return new ImmutableMap.Builder<String, Value>()
             .put(SimpleRead2.ID, Values.value(String.valueOf(operation.getId())))
-            .put(SimpleRead2.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(SimpleRead2.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(SimpleRead2.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(SimpleRead2.END_TIME, Values.value(operation.endTimeAsMilli()))
             .build();
     }
 
@@ -199,8 +232,8 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(SimpleRead3.ID, Values.value(String.valueOf(operation.getId())))
             .put(SimpleRead3.THRESHOLD, Values.value(operation.getThreshold()))
-            .put(SimpleRead3.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(SimpleRead3.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(SimpleRead3.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(SimpleRead3.END_TIME, Values.value(operation.endTimeAsMilli()))
             .build();
     }
 
@@ -208,8 +241,8 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(SimpleRead4.ID, Values.value(String.valueOf(operation.getId())))
             .put(SimpleRead4.THRESHOLD, Values.value(operation.getThreshold()))
-            .put(SimpleRead4.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(SimpleRead4.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(SimpleRead4.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(SimpleRead4.END_TIME, Values.value(operation.endTimeAsMilli()))
             .build();
     }
 
@@ -217,16 +250,16 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(SimpleRead5.ID, Values.value(String.valueOf(operation.getId())))
             .put(SimpleRead5.THRESHOLD, Values.value(operation.getThreshold()))
-            .put(SimpleRead5.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(SimpleRead5.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(SimpleRead5.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(SimpleRead5.END_TIME, Values.value(operation.endTimeAsMilli()))
             .build();
     }
 
     public Map<String, Value> getParamsSimpleRead6(SimpleRead6 operation) {
         return new ImmutableMap.Builder<String, Value>()
             .put(SimpleRead6.ID, Values.value(String.valueOf(operation.getId())))
-            .put(SimpleRead6.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(SimpleRead6.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(SimpleRead6.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(SimpleRead6.END_TIME, Values.value(operation.endTimeAsMilli()))
             .build();
     }
 
@@ -258,7 +291,7 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(Write4.PERSON_ID, Values.value(String.valueOf(operation.getPersonId())))
             .put(Write4.ACCOUNT_ID, Values.value(String.valueOf(operation.getAccountId())))
-            .put(Write4.TIME, Values.value(operation.getTime().getTime()))
+            .put(Write4.TIME, Values.value(operation.timeAsMilli()))
             .put(Write4.ACCOUNT_BLOCKED, Values.value(operation.getAccountBlocked()))
             .put(Write4.ACCOUNT_TYPE, Values.value(operation.getAccountType()))
             .build();
@@ -268,7 +301,7 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(Write5.COMPANY_ID, Values.value(String.valueOf(operation.getCompanyId())))
             .put(Write5.ACCOUNT_ID, Values.value(String.valueOf(operation.getAccountId())))
-            .put(Write5.TIME, Values.value(operation.getTime().getTime()))
+            .put(Write5.TIME, Values.value(operation.timeAsMilli()))
             .put(Write5.ACCOUNT_BLOCKED, Values.value(operation.getAccountBlocked()))
             .put(Write5.ACCOUNT_TYPE, Values.value(operation.getAccountType()))
             .build();
@@ -280,7 +313,7 @@ public class GalaxybaseQueryStore extends QueryStore {
             .put(Write6.LOAN_ID, Values.value(String.valueOf(operation.getLoanId())))
             .put(Write6.LOAN_AMOUNT, Values.value(operation.getLoanAmount()))
             .put(Write6.BALANCE, Values.value(operation.getBalance()))
-            .put(Write6.TIME, Values.value(operation.getTime().getTime()))
+            .put(Write6.TIME, Values.value(operation.timeAsMilli()))
             .build();
     }
 
@@ -290,7 +323,7 @@ public class GalaxybaseQueryStore extends QueryStore {
             .put(Write7.LOAN_ID, Values.value(String.valueOf(operation.getLoanId())))
             .put(Write7.LOAN_AMOUNT, Values.value(operation.getLoanAmount()))
             .put(Write7.BALANCE, Values.value(operation.getBalance()))
-            .put(Write7.TIME, Values.value(operation.getTime().getTime()))
+            .put(Write7.TIME, Values.value(operation.timeAsMilli()))
             .build();
     }
 
@@ -298,7 +331,7 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(Write8.PERSON_ID, Values.value(String.valueOf(operation.getPersonId())))
             .put(Write8.COMPANY_ID, Values.value(String.valueOf(operation.getCompanyId())))
-            .put(Write8.TIME, Values.value(operation.getTime().getTime()))
+            .put(Write8.TIME, Values.value(operation.timeAsMilli()))
             .put(Write8.RATIO, Values.value(operation.getRatio()))
             .build();
     }
@@ -307,7 +340,7 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(Write9.COMPANY_ID1, Values.value(String.valueOf(operation.getCompanyId1())))
             .put(Write9.COMPANY_ID2, Values.value(String.valueOf(operation.getCompanyId2())))
-            .put(Write9.TIME, Values.value(operation.getTime().getTime()))
+            .put(Write9.TIME, Values.value(operation.timeAsMilli()))
             .put(Write9.RATIO, Values.value(operation.getRatio()))
             .build();
     }
@@ -316,7 +349,7 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(Write10.PERSON_ID1, Values.value(String.valueOf(operation.getPersonId1())))
             .put(Write10.PERSON_ID2, Values.value(String.valueOf(operation.getPersonId2())))
-            .put(Write10.TIME, Values.value(operation.getTime().getTime()))
+            .put(Write10.TIME, Values.value(operation.timeAsMilli()))
             .build();
     }
 
@@ -324,7 +357,7 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(Write11.COMPANY_ID1, Values.value(String.valueOf(operation.getCompanyId1())))
             .put(Write11.COMPANY_ID2, Values.value(String.valueOf(operation.getCompanyId2())))
-            .put(Write11.TIME, Values.value(operation.getTime().getTime()))
+            .put(Write11.TIME, Values.value(operation.timeAsMilli()))
             .build();
     }
 
@@ -332,7 +365,7 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(Write12.ACCOUNT_ID1, Values.value(String.valueOf(operation.getAccountId1())))
             .put(Write12.ACCOUNT_ID2, Values.value(String.valueOf(operation.getAccountId2())))
-            .put(Write12.TIME, Values.value(operation.getTime().getTime()))
+            .put(Write12.TIME, Values.value(operation.timeAsMilli()))
             .put(Write12.AMOUNT, Values.value(operation.getAmount()))
             .build();
     }
@@ -341,7 +374,7 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(Write13.ACCOUNT_ID1, Values.value(String.valueOf(operation.getAccountId1())))
             .put(Write13.ACCOUNT_ID2, Values.value(String.valueOf(operation.getAccountId2())))
-            .put(Write13.TIME, Values.value(operation.getTime().getTime()))
+            .put(Write13.TIME, Values.value(operation.timeAsMilli()))
             .put(Write13.AMOUNT, Values.value(operation.getAmount()))
             .build();
     }
@@ -350,7 +383,7 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(Write14.ACCOUNT_ID, Values.value(String.valueOf(operation.getAccountId())))
             .put(Write14.LOAN_ID, Values.value(String.valueOf(operation.getLoanId())))
-            .put(Write14.TIME, Values.value(operation.getTime().getTime()))
+            .put(Write14.TIME, Values.value(operation.timeAsMilli()))
             .put(Write14.AMOUNT, Values.value(operation.getAmount()))
             .build();
     }
@@ -359,7 +392,7 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(Write15.LOAN_ID, Values.value(String.valueOf(operation.getLoanId())))
             .put(Write15.ACCOUNT_ID, Values.value(String.valueOf(operation.getAccountId())))
-            .put(Write15.TIME, Values.value(operation.getTime().getTime()))
+            .put(Write15.TIME, Values.value(operation.timeAsMilli()))
             .put(Write15.AMOUNT, Values.value(operation.getAmount()))
             .build();
     }
@@ -368,7 +401,7 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(Write16.MEDIUM_ID, Values.value(String.valueOf(operation.getMediumId())))
             .put(Write16.ACCOUNT_ID, Values.value(String.valueOf(operation.getAccountId())))
-            .put(Write16.TIME, Values.value(operation.getTime().getTime()))
+            .put(Write16.TIME, Values.value(operation.timeAsMilli()))
             .build();
     }
 
@@ -394,10 +427,10 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(ReadWrite1.SRC_ID, Values.value(String.valueOf(operation.getSrcId())))
             .put(ReadWrite1.DST_ID, Values.value(String.valueOf(operation.getDstId())))
-            .put(ReadWrite1.TIME, Values.value(operation.getTime().getTime()))
+            .put(ReadWrite1.TIME, Values.value(operation.timeAsMilli()))
             .put(ReadWrite1.AMOUNT, Values.value(operation.getAmount()))
-            .put(ReadWrite1.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(ReadWrite1.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(ReadWrite1.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(ReadWrite1.END_TIME, Values.value(operation.endTimeAsMilli()))
             .build();
     }
 
@@ -405,11 +438,11 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(ReadWrite2.SRC_ID, Values.value(String.valueOf(operation.getSrcId())))
             .put(ReadWrite2.DST_ID, Values.value(String.valueOf(operation.getDstId())))
-            .put(ReadWrite2.TIME, Values.value(operation.getTime().getTime()))
+            .put(ReadWrite2.TIME, Values.value(operation.timeAsMilli()))
             .put(ReadWrite2.AMOUNT_THRESHOLD, Values.value(operation.getAmountThreshold()))
             .put(ReadWrite2.AMOUNT, Values.value(operation.getAmount()))
-            .put(ReadWrite2.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(ReadWrite2.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(ReadWrite2.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(ReadWrite2.END_TIME, Values.value(operation.endTimeAsMilli()))
             .put(ReadWrite2.RATIO_THRESHOLD, Values.value(operation.getRatioThreshold()))
             .put(ReadWrite2.TRUNCATION_LIMIT, Values.value(operation.getTruncationLimit()))
             .put(ReadWrite2.TRUNCATION_ORDER, Values.value(operation.getTruncationOrder().name().equals(TruncationOrder.TIMESTAMP_DESCENDING.name()) ? "DESC" : "ASC"))
@@ -420,10 +453,10 @@ public class GalaxybaseQueryStore extends QueryStore {
         return new ImmutableMap.Builder<String, Value>()
             .put(ReadWrite3.SRC_ID, Values.value(String.valueOf(operation.getSrcId())))
             .put(ReadWrite3.DST_ID, Values.value(String.valueOf(operation.getDstId())))
-            .put(ReadWrite2.TIME, Values.value(operation.getTime().getTime()))
+            .put(ReadWrite2.TIME, Values.value(operation.timeAsMilli()))
             .put(ReadWrite3.THRESHOLD, Values.value(operation.getThreshold()))
-            .put(ReadWrite3.START_TIME, Values.value(operation.getStartTime().getTime()))
-            .put(ReadWrite3.END_TIME, Values.value(operation.getEndTime().getTime()))
+            .put(ReadWrite3.START_TIME, Values.value(operation.startTimeAsMilli()))
+            .put(ReadWrite3.END_TIME, Values.value(operation.endTimeAsMilli()))
             .put(ReadWrite3.TRUNCATION_LIMIT, Values.value(operation.getTruncationLimit()))
             .put(ReadWrite3.TRUNCATION_ORDER, Values.value(operation.getTruncationOrder().name().equals(TruncationOrder.TIMESTAMP_DESCENDING.name()) ? "DESC" : "ASC"))
             .build();
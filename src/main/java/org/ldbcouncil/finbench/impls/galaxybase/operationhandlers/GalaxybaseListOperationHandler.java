@@ -22,18 +22,16 @@ public abstract class GalaxybaseListOperationHandler<TOperationResult, TOperatio
     public void executeOperation(TOperation operation,
                                  GalaxybaseDbConnectionState state,
                                  ResultReporter resultReporter) throws DbException {
-        Graph graph = state.getGraph();
         List<TOperationResult> results = new ArrayList<>();
         int resultCount = 0;
 
         String query = getQuery(state, operation);
         Map<String, Value> params = getParams(state, operation);
-        if (query.contains("$truncationOrder")) {
-            query = query.replace("$truncationOrder", params.get("truncationOrder").asString());
-            query = query.replace("$truncationLimit", String.valueOf(params.get("truncationLimit").asInt()));
-        }
+        query = state.getQueryStore().inlineTruncation(query, params);
 
+        GalaxybaseDbConnectionState.Session session = state.acquireSession(resultReporter);
         try {
+            Graph graph = session.graph();
             StatementResult statementResult = graph.executeCypher(query, params);
             while (statementResult.hasNext()) {
                 Record record = statementResult.next();
@@ -44,6 +42,8 @@ public abstract class GalaxybaseListOperationHandler<TOperationResult, TOperatio
             }
         } catch (Exception e) {
             System.out.println(e.getMessage());
+        } finally {
+            state.releaseSession(session);
         }
 
         resultReporter.report(resultCount, results, operation);
@@ -23,17 +23,14 @@ public abstract class GalaxybaseTransactionUpdateOperationHandler<
     public void executeOperation(TOperation operation,
                                  GalaxybaseDbConnectionState state,
                                  ResultReporter resultReporter) throws DbException {
-        Graph graph = state.getGraph();
-
         String queryString = getQuery(state, operation);
         Map<String, Value> params = getParams(state, operation);
-        if (queryString.contains("$truncationOrder")) {
-            queryString = queryString.replace("$truncationOrder", params.get("truncationOrder").asString());
-            queryString = queryString.replace("$truncationLimit", String.valueOf(params.get("truncationLimit").asInt()));
-        }
+        queryString = state.getQueryStore().inlineTruncation(queryString, params);
         String[] txns = queryString.split("BEGIN|COMMIT", 1000);
 
+        GalaxybaseDbConnectionState.Session session = state.acquireSession(resultReporter);
         try {
+            Graph graph = session.graph();
             for (String txn : txns) {
                 if (txn.trim().isEmpty()) {
                     continue;
@@ -80,6 +77,8 @@ public abstract class GalaxybaseTransactionUpdateOperationHandler<
             }
         } catch (Exception e) {
             System.out.println(e.getMessage());
+        } finally {
+            state.releaseSession(session);
         }
         resultReporter.report(0, LdbcNoResult.INSTANCE, operation);
     }
@@ -22,22 +22,21 @@ public abstract class GalaxybaseUpdateOperationHandler<
                                  GalaxybaseDbConnectionState state,
                                  ResultReporter resultReporter)
         throws DbException {
-        Graph graph = state.getGraph();
-
         String query = getQuery(state, operation);
         Map<String, Value> params = getParams(state, operation);
-        if (query.contains("$truncationOrder")) {
-            query = query.replace("$truncationOrder", params.get("truncationOrder").asString());
-            query = query.replace("$truncationLimit", String.valueOf(params.get("truncationLimit").asInt()));
-        }
+        query = state.getQueryStore().inlineTruncation(query, params);
 
+        GalaxybaseDbConnectionState.Session session = state.acquireSession(resultReporter);
         try {
+            Graph graph = session.graph();
             StatementResult statementResult = graph.executeCypher(query, params);
             while (statementResult.hasNext()) {
                 statementResult.next();
             }
         } catch (Exception e) {
             System.out.println(e.getMessage());
+        } finally {
+            state.releaseSession(session);
         }
         resultReporter.report(0, LdbcNoResult.INSTANCE, operation);
     }
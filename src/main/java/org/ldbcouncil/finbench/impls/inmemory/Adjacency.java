@@ -0,0 +1,265 @@
+package org.ldbcouncil.finbench.impls.inmemory;
+
+import java.util.Arrays;
+
+/**
+ * Edges of one label in one direction in compressed sparse row form: the edges of vertex v are at positions
+ * offsets[v] until offsets[v + 1] of the edge columns, ascending by timestamp, so the edges of a time window are found
+ * by binary search. Edges added after the arrays were built are kept per vertex, also ascending by timestamp, until
+ * the arrays are built again.
+ */
+final class Adjacency {
+    private final int[] offsets;
+    private final int[] neighbors;
+    private final long[] timestamps;
+    private final double[] values;
+    private final int[] ids;
+    private AddedEdges[] added = new AddedEdges[0];
+    private int addedCount = 0;
+
+    private Adjacency(int[] offsets, int[] neighbors, long[] timestamps, double[] values, int[] ids) {
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+        this.timestamps = timestamps;
+        this.values = values;
+        this.ids = ids;
+    }
+
+    /**
+     * @param buffer      Edges to build from
+     * @param outgoing    Whether the edges are indexed by their source or by their target
+     * @param vertexCount Number of vertices edges are indexed by
+     */
+    static Adjacency build(EdgeBuffer buffer, boolean outgoing, int vertexCount) {
+        int[] vertices = outgoing ? buffer.sources : buffer.targets;
+        int[] others = outgoing ? buffer.targets : buffer.sources;
+        int[] byTime = sortByTimestamp(buffer.timestamps, buffer.size);
+
+        // counting sort by vertex, stable so the edges of every vertex stay ascending by timestamp
+        int[] offsets = new int[vertexCount + 1];
+        for (int i = 0; i < buffer.size; i++) {
+            offsets[vertices[i] + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] next = Arrays.copyOf(offsets, vertexCount);
+        int[] neighbors = new int[buffer.size];
+        long[] timestamps = new long[buffer.size];
+        double[] values = new double[buffer.size];
+        int[] ids = new int[buffer.size];
+        for (int edge : byTime) {
+            int position = next[vertices[edge]]++;
+            neighbors[position] = others[edge];
+            timestamps[position] = buffer.timestamps[edge];
+            values[position] = buffer.values[edge];
+            ids[position] = buffer.ids[edge];
+        }
+        return new Adjacency(offsets, neighbors, timestamps, values, ids);
+    }
+
+    /**
+     * Stable merge sort of the positions of the timestamps
+     */
+    private static int[] sortByTimestamp(long[] timestamps, int size) {
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = i;
+        }
+        int[] scratch = new int[size];
+        for (int width = 1; width < size; width *= 2) {
+            for (int from = 0; from < size; from += 2 * width) {
+                int middle = Math.min(from + width, size);
+                int to = Math.min(from + 2 * width, size);
+                int left = from;
+                int right = middle;
+                for (int i = from; i < to; i++) {
+                    if (right >= to || (left < middle && timestamps[positions[left]] <= timestamps[positions[right]])) {
+                        scratch[i] = positions[left++];
+                    } else {
+                        scratch[i] = positions[right++];
+                    }
+                }
+            }
+            int[] sorted = scratch;
+            scratch = positions;
+            positions = sorted;
+        }
+        return positions;
+    }
+
+    void add(int vertex, int neighbor, long timestamp, double value, int id) {
+        if (vertex >= added.length) {
+            added = Arrays.copyOf(added, Math.max(vertex + 1, added.length * 2));
+        }
+        if (null == added[vertex]) {
+            added[vertex] = new AddedEdges();
+        }
+        added[vertex].insert(neighbor, timestamp, value, id);
+        addedCount++;
+    }
+
+    /**
+     * Removes an edge added since the arrays were built
+     */
+    void remove(int vertex, int id) {
+        if (vertex < added.length && null != added[vertex] && added[vertex].remove(id)) {
+            addedCount--;
+        }
+    }
+
+    int addedCount() {
+        return addedCount;
+    }
+
+    /**
+     * @param neighborTable Vertices the edges point to, edges to deleted ones are left out
+     * @return Edges of the vertex with startTime < timestamp < endTime
+     */
+    Edges window(int vertex, long startTime, long endTime, VertexTable neighborTable) {
+        int from = 0;
+        int to = 0;
+        if (vertex < offsets.length - 1) {
+            from = firstAfter(timestamps, offsets[vertex], offsets[vertex + 1], startTime);
+            to = firstNotBefore(timestamps, from, offsets[vertex + 1], endTime);
+        }
+        AddedEdges addedEdges = (vertex < added.length) ? added[vertex] : null;
+        int addedFrom = 0;
+        int addedTo = 0;
+        if (null != addedEdges) {
+            addedFrom = firstAfter(addedEdges.timestamps, 0, addedEdges.size, startTime);
+            addedTo = firstNotBefore(addedEdges.timestamps, addedFrom, addedEdges.size, endTime);
+        }
+        if (addedFrom == addedTo && !neighborTable.hasDeletedVertices()) {
+            return (from == to) ? Edges.EMPTY : new Edges(neighbors, timestamps, values, ids, from, to);
+        }
+
+        int capacity = (to - from) + (addedTo - addedFrom);
+        int[] windowNeighbors = new int[capacity];
+        long[] windowTimestamps = new long[capacity];
+        double[] windowValues = new double[capacity];
+        int[] windowIds = new int[capacity];
+        int size = 0;
+        int base = from;
+        int addedPosition = addedFrom;
+        while (base < to || addedPosition < addedTo) {
+            boolean takeBase = addedPosition >= addedTo
+                || (base < to && timestamps[base] <= addedEdges.timestamps[addedPosition]);
+            int neighbor = takeBase ? neighbors[base] : addedEdges.neighbors[addedPosition];
+            if (!neighborTable.isDeleted(neighbor)) {
+                windowNeighbors[size] = neighbor;
+                windowTimestamps[size] = takeBase ? timestamps[base] : addedEdges.timestamps[addedPosition];
+                windowValues[size] = takeBase ? values[base] : addedEdges.values[addedPosition];
+                windowIds[size] = takeBase ? ids[base] : addedEdges.ids[addedPosition];
+                size++;
+            }
+            if (takeBase) {
+                base++;
+            } else {
+                addedPosition++;
+            }
+        }
+        return new Edges(windowNeighbors, windowTimestamps, windowValues, windowIds, 0, size);
+    }
+
+    /**
+     * Appends all edges, the vertex of this adjacency as source if outgoing, else as target
+     */
+    void copyTo(EdgeBuffer buffer, boolean outgoing) {
+        int vertexCount = Math.max(offsets.length - 1, added.length);
+        for (int v = 0; v < vertexCount; v++) {
+            if (v < offsets.length - 1) {
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    buffer.add(outgoing ? v : neighbors[i], outgoing ? neighbors[i] : v, timestamps[i], values[i],
+                        ids[i]);
+                }
+            }
+            AddedEdges addedEdges = (v < added.length) ? added[v] : null;
+            if (null != addedEdges) {
+                for (int i = 0; i < addedEdges.size; i++) {
+                    int neighbor = addedEdges.neighbors[i];
+                    buffer.add(outgoing ? v : neighbor, outgoing ? neighbor : v, addedEdges.timestamps[i],
+                        addedEdges.values[i], addedEdges.ids[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return first position in [from, to) with a timestamp after the time, to if there is none
+     */
+    private static int firstAfter(long[] sortedTimestamps, int from, int to, long time) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (sortedTimestamps[middle] <= time) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * @return first position in [from, to) with a timestamp at or after the time, to if there is none
+     */
+    private static int firstNotBefore(long[] sortedTimestamps, int from, int to, long time) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (sortedTimestamps[middle] < time) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Edges of one vertex added since the arrays were built, ascending by timestamp, in order of addition for equal
+     * timestamps
+     */
+    private static final class AddedEdges {
+        private int[] neighbors = new int[4];
+        private long[] timestamps = new long[4];
+        private double[] values = new double[4];
+        private int[] ids = new int[4];
+        private int size = 0;
+
+        private void insert(int neighbor, long timestamp, double value, int id) {
+            if (size == neighbors.length) {
+                int capacity = size * 2;
+                neighbors = Arrays.copyOf(neighbors, capacity);
+                timestamps = Arrays.copyOf(timestamps, capacity);
+                values = Arrays.copyOf(values, capacity);
+                ids = Arrays.copyOf(ids, capacity);
+            }
+            int position = firstAfter(timestamps, 0, size, timestamp);
+            int moved = size - position;
+            System.arraycopy(neighbors, position, neighbors, position + 1, moved);
+            System.arraycopy(timestamps, position, timestamps, position + 1, moved);
+            System.arraycopy(values, position, values, position + 1, moved);
+            System.arraycopy(ids, position, ids, position + 1, moved);
+            neighbors[position] = neighbor;
+            timestamps[position] = timestamp;
+            values[position] = value;
+            ids[position] = id;
+            size++;
+        }
+
+        private boolean remove(int id) {
+            for (int position = size - 1; position >= 0; position--) {
+                if (ids[position] == id) {
+                    int moved = size - position - 1;
+                    System.arraycopy(neighbors, position + 1, neighbors, position, moved);
+                    System.arraycopy(timestamps, position + 1, timestamps, position, moved);
+                    System.arraycopy(values, position + 1, values, position, moved);
+                    System.arraycopy(ids, position + 1, ids, position, moved);
+                    size--;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.ldbcouncil.finbench.impls.inmemory;
+
+import java.util.Arrays;
+
+/**
+ * Growable columns of edges in no particular order, from which the adjacency arrays are built
+ */
+final class EdgeBuffer {
+    int[] sources = new int[64];
+    int[] targets = new int[64];
+    long[] timestamps = new long[64];
+    double[] values = new double[64];
+    int[] ids = new int[64];
+    int size = 0;
+
+    void add(int source, int target, long timestamp, double value, int id) {
+        if (size == sources.length) {
+            int capacity = size * 2;
+            sources = Arrays.copyOf(sources, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            values = Arrays.copyOf(values, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+        }
+        sources[size] = source;
+        targets[size] = target;
+        timestamps[size] = timestamp;
+        values[size] = value;
+        ids[size] = id;
+        size++;
+    }
+}
@@ -0,0 +1,95 @@
+package org.ldbcouncil.finbench.impls.inmemory;
+
+/**
+ * Edges of one label, indexed by source and by target. Edges are loaded into a buffer and the adjacency arrays are
+ * built once loading finished, edges added later are merged into new arrays when they grow beyond a quarter of the
+ * edges the arrays were built with.
+ */
+final class EdgeTable {
+    private static final int MIN_EDGES_TO_COMPACT = 1024;
+
+    private final VertexTable sources;
+    private final VertexTable targets;
+    private EdgeBuffer loading = new EdgeBuffer();
+    private Adjacency out;
+    private Adjacency in;
+    private int edgeCount = 0;
+    private int builtEdgeCount = 0;
+
+    EdgeTable(VertexTable sources, VertexTable targets) {
+        this.sources = sources;
+        this.targets = targets;
+    }
+
+    VertexTable sources() {
+        return sources;
+    }
+
+    VertexTable targets() {
+        return targets;
+    }
+
+    void load(int source, int target, long timestamp, double value) {
+        loading.add(source, target, timestamp, value, edgeCount++);
+    }
+
+    void finishLoading() {
+        build(loading);
+        loading = null;
+    }
+
+    private void build(EdgeBuffer buffer) {
+        out = Adjacency.build(buffer, true, sources.count());
+        in = Adjacency.build(buffer, false, targets.count());
+        builtEdgeCount = buffer.size;
+    }
+
+    /**
+     * @return id of the edge
+     */
+    int add(int source, int target, long timestamp, double value) {
+        int id = edgeCount++;
+        out.add(source, target, timestamp, value, id);
+        in.add(target, source, timestamp, value, id);
+        return id;
+    }
+
+    void remove(int source, int target, int id) {
+        out.remove(source, id);
+        in.remove(target, id);
+    }
+
+    /**
+     * Builds the adjacency arrays again if many edges were added since they were built. Never called between adding
+     * an edge and removing it again, as only added edges can be removed.
+     */
+    void compactIfNeeded() {
+        if (out.addedCount() > Math.max(MIN_EDGES_TO_COMPACT, builtEdgeCount / 4)) {
+            EdgeBuffer buffer = new EdgeBuffer();
+            out.copyTo(buffer, true);
+            build(buffer);
+        }
+    }
+
+    /**
+     * @return edges from the source with startTime < timestamp < endTime
+     */
+    Edges out(int source, long startTime, long endTime) {
+        return out.window(source, startTime, endTime, targets);
+    }
+
+    /**
+     * @return edges to the target with startTime < timestamp < endTime
+     */
+    Edges in(int target, long startTime, long endTime) {
+        return in.window(target, startTime, endTime, sources);
+    }
+
+    Edges out(int source) {
+        return out(source, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    Edges in(int target) {
+        return in(target, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,62 @@
+package org.ldbcouncil.finbench.impls.inmemory;
+
+import org.ldbcouncil.finbench.driver.truncation.TruncationOrder;
+
+/**
+ * Edges of one vertex in one direction, ascending by timestamp. Either a range of the adjacency arrays or a copy,
+ * when edges added since the arrays were built or edges to deleted vertices had to be merged in or left out.
+ */
+final class Edges {
+    static final Edges EMPTY = new Edges(new int[0], new long[0], new double[0], new int[0], 0, 0);
+
+    private final int[] neighbors;
+    private final long[] timestamps;
+    private final double[] values;
+    private final int[] ids;
+    private final int from;
+    private final int to;
+
+    Edges(int[] neighbors, long[] timestamps, double[] values, int[] ids, int from, int to) {
+        this.neighbors = neighbors;
+        this.timestamps = timestamps;
+        this.values = values;
+        this.ids = ids;
+        this.from = from;
+        this.to = to;
+    }
+
+    int size() {
+        return to - from;
+    }
+
+    int neighbor(int i) {
+        return neighbors[from + i];
+    }
+
+    long timestamp(int i) {
+        return timestamps[from + i];
+    }
+
+    /**
+     * @return amount of a transfer, withdrawal, repayment or deposit, ratio of an investment
+     */
+    double value(int i) {
+        return values[from + i];
+    }
+
+    int id(int i) {
+        return ids[from + i];
+    }
+
+    /**
+     * @return the limit earliest edges for ascending order, the limit latest ones for descending order
+     */
+    Edges truncate(TruncationOrder order, int limit) {
+        if (size() <= limit) {
+            return this;
+        }
+        return (TruncationOrder.TIMESTAMP_ASCENDING == order)
+            ? new Edges(neighbors, timestamps, values, ids, from, from + limit)
+            : new Edges(neighbors, timestamps, values, ids, to - limit, to);
+    }
+}
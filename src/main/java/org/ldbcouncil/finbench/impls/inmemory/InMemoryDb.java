@@ -0,0 +1,435 @@
+package org.ldbcouncil.finbench.impls.inmemory;
+
+import static java.lang.String.format;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.ldbcouncil.finbench.driver.Db;
+import org.ldbcouncil.finbench.driver.DbConnectionState;
+import org.ldbcouncil.finbench.driver.DbException;
+import org.ldbcouncil.finbench.driver.log.LoggingService;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead1;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead10;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead10Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead11;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead11Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead12;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead12Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead1Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead2;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead2Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead3;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead3Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead4;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead4Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead5;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead5Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead6;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead6Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead7;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead7Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead8;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead8Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead9;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead9Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ReadWrite1;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ReadWrite2;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ReadWrite3;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead1;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead1Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead2;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead2Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead3;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead3Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead4;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead4Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead5;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead5Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead6;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead6Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write1;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write10;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write11;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write12;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write13;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write14;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write15;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write16;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write17;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write18;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write19;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write2;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write3;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write4;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write5;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write6;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write7;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write8;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write9;
+import org.ldbcouncil.finbench.impls.inmemory.operationhandlers.InMemoryListOperationHandler;
+import org.ldbcouncil.finbench.impls.inmemory.operationhandlers.InMemoryUpdateOperationHandler;
+
+/**
+ * Runs the transaction workload against a snapshot loaded into memory, e.g. to validate the driver or to measure its
+ * overhead without an external database. Loads the snapshot files from the directory in the snapshotDir property.
+ */
+public class InMemoryDb extends Db {
+    static Logger logger = LogManager.getLogger("InMemoryDb");
+    private InMemoryDbConnectionState connectionState = null;
+
+    @Override
+    protected void onInit(Map<String, String> properties, LoggingService loggingService) throws DbException {
+        String snapshotDir = properties.get("snapshotDir");
+        if (null == snapshotDir) {
+            throw new DbException("Missing property: snapshotDir");
+        }
+        try {
+            connectionState = new InMemoryDbConnectionState(InMemoryGraph.load(new File(snapshotDir)));
+        } catch (IOException | RuntimeException e) {
+            throw new DbException(format("Failed to load snapshot from %s", snapshotDir), e);
+        }
+        logger.info("InMemoryDb initialized");
+
+        // complex reads
+        registerOperationHandler(ComplexRead1.class, ComplexRead1Handler.class);
+        registerOperationHandler(ComplexRead2.class, ComplexRead2Handler.class);
+        registerOperationHandler(ComplexRead3.class, ComplexRead3Handler.class);
+        registerOperationHandler(ComplexRead4.class, ComplexRead4Handler.class);
+        registerOperationHandler(ComplexRead5.class, ComplexRead5Handler.class);
+        registerOperationHandler(ComplexRead6.class, ComplexRead6Handler.class);
+        registerOperationHandler(ComplexRead7.class, ComplexRead7Handler.class);
+        registerOperationHandler(ComplexRead8.class, ComplexRead8Handler.class);
+        registerOperationHandler(ComplexRead9.class, ComplexRead9Handler.class);
+        registerOperationHandler(ComplexRead10.class, ComplexRead10Handler.class);
+        registerOperationHandler(ComplexRead11.class, ComplexRead11Handler.class);
+        registerOperationHandler(ComplexRead12.class, ComplexRead12Handler.class);
+
+        // simple reads
+        registerOperationHandler(SimpleRead1.class, SimpleRead1Handler.class);
+        registerOperationHandler(SimpleRead2.class, SimpleRead2Handler.class);
+        registerOperationHandler(SimpleRead3.class, SimpleRead3Handler.class);
+        registerOperationHandler(SimpleRead4.class, SimpleRead4Handler.class);
+        registerOperationHandler(SimpleRead5.class, SimpleRead5Handler.class);
+        registerOperationHandler(SimpleRead6.class, SimpleRead6Handler.class);
+
+        // writes
+        registerOperationHandler(Write1.class, Write1Handler.class);
+        registerOperationHandler(Write2.class, Write2Handler.class);
+        registerOperationHandler(Write3.class, Write3Handler.class);
+        registerOperationHandler(Write4.class, Write4Handler.class);
+        registerOperationHandler(Write5.class, Write5Handler.class);
+        registerOperationHandler(Write6.class, Write6Handler.class);
+        registerOperationHandler(Write7.class, Write7Handler.class);
+        registerOperationHandler(Write8.class, Write8Handler.class);
+        registerOperationHandler(Write9.class, Write9Handler.class);
+        registerOperationHandler(Write10.class, Write10Handler.class);
+        registerOperationHandler(Write11.class, Write11Handler.class);
+        registerOperationHandler(Write12.class, Write12Handler.class);
+        registerOperationHandler(Write13.class, Write13Handler.class);
+        registerOperationHandler(Write14.class, Write14Handler.class);
+        registerOperationHandler(Write15.class, Write15Handler.class);
+        registerOperationHandler(Write16.class, Write16Handler.class);
+        registerOperationHandler(Write17.class, Write17Handler.class);
+        registerOperationHandler(Write18.class, Write18Handler.class);
+        registerOperationHandler(Write19.class, Write19Handler.class);
+
+        // read-writes
+        registerOperationHandler(ReadWrite1.class, ReadWrite1Handler.class);
+        registerOperationHandler(ReadWrite2.class, ReadWrite2Handler.class);
+        registerOperationHandler(ReadWrite3.class, ReadWrite3Handler.class);
+    }
+
+    @Override
+    protected void onClose() throws IOException {
+        logger.info("InMemoryDb closed");
+    }
+
+    @Override
+    protected DbConnectionState getConnectionState() throws DbException {
+        return connectionState;
+    }
+
+    public static class ComplexRead1Handler extends InMemoryListOperationHandler<ComplexRead1Result, ComplexRead1> {
+        @Override
+        protected List<ComplexRead1Result> execute(InMemoryGraph graph, ComplexRead1 operation) {
+            return InMemoryQueries.complexRead1(graph, operation);
+        }
+    }
+
+    public static class ComplexRead2Handler extends InMemoryListOperationHandler<ComplexRead2Result, ComplexRead2> {
+        @Override
+        protected List<ComplexRead2Result> execute(InMemoryGraph graph, ComplexRead2 operation) {
+            return InMemoryQueries.complexRead2(graph, operation);
+        }
+    }
+
+    public static class ComplexRead3Handler extends InMemoryListOperationHandler<ComplexRead3Result, ComplexRead3> {
+        @Override
+        protected List<ComplexRead3Result> execute(InMemoryGraph graph, ComplexRead3 operation) {
+            return InMemoryQueries.complexRead3(graph, operation);
+        }
+    }
+
+    public static class ComplexRead4Handler extends InMemoryListOperationHandler<ComplexRead4Result, ComplexRead4> {
+        @Override
+        protected List<ComplexRead4Result> execute(InMemoryGraph graph, ComplexRead4 operation) {
+            return InMemoryQueries.complexRead4(graph, operation);
+        }
+    }
+
+    public static class ComplexRead5Handler extends InMemoryListOperationHandler<ComplexRead5Result, ComplexRead5> {
+        @Override
+        protected List<ComplexRead5Result> execute(InMemoryGraph graph, ComplexRead5 operation) {
+            return InMemoryQueries.complexRead5(graph, operation);
+        }
+    }
+
+    public static class ComplexRead6Handler extends InMemoryListOperationHandler<ComplexRead6Result, ComplexRead6> {
+        @Override
+        protected List<ComplexRead6Result> execute(InMemoryGraph graph, ComplexRead6 operation) {
+            return InMemoryQueries.complexRead6(graph, operation);
+        }
+    }
+
+    public static class ComplexRead7Handler extends InMemoryListOperationHandler<ComplexRead7Result, ComplexRead7> {
+        @Override
+        protected List<ComplexRead7Result> execute(InMemoryGraph graph, ComplexRead7 operation) {
+            return InMemoryQueries.complexRead7(graph, operation);
+        }
+    }
+
+    public static class ComplexRead8Handler extends InMemoryListOperationHandler<ComplexRead8Result, ComplexRead8> {
+        @Override
+        protected List<ComplexRead8Result> execute(InMemoryGraph graph, ComplexRead8 operation) {
+            return InMemoryQueries.complexRead8(graph, operation);
+        }
+    }
+
+    public static class ComplexRead9Handler extends InMemoryListOperationHandler<ComplexRead9Result, ComplexRead9> {
+        @Override
+        protected List<ComplexRead9Result> execute(InMemoryGraph graph, ComplexRead9 operation) {
+            return InMemoryQueries.complexRead9(graph, operation);
+        }
+    }
+
+    public static class ComplexRead10Handler extends InMemoryListOperationHandler<ComplexRead10Result, ComplexRead10> {
+        @Override
+        protected List<ComplexRead10Result> execute(InMemoryGraph graph, ComplexRead10 operation) {
+            return InMemoryQueries.complexRead10(graph, operation);
+        }
+    }
+
+    public static class ComplexRead11Handler extends InMemoryListOperationHandler<ComplexRead11Result, ComplexRead11> {
+        @Override
+        protected List<ComplexRead11Result> execute(InMemoryGraph graph, ComplexRead11 operation) {
+            return InMemoryQueries.complexRead11(graph, operation);
+        }
+    }
+
+    public static class ComplexRead12Handler extends InMemoryListOperationHandler<ComplexRead12Result, ComplexRead12> {
+        @Override
+        protected List<ComplexRead12Result> execute(InMemoryGraph graph, ComplexRead12 operation) {
+            return InMemoryQueries.complexRead12(graph, operation);
+        }
+    }
+
+    public static class SimpleRead1Handler extends InMemoryListOperationHandler<SimpleRead1Result, SimpleRead1> {
+        @Override
+        protected List<SimpleRead1Result> execute(InMemoryGraph graph, SimpleRead1 operation) {
+            return InMemoryQueries.simpleRead1(graph, operation);
+        }
+    }
+
+    public static class SimpleRead2Handler extends InMemoryListOperationHandler<SimpleRead2Result, SimpleRead2> {
+        @Override
+        protected List<SimpleRead2Result> execute(InMemoryGraph graph, SimpleRead2 operation) {
+            return InMemoryQueries.simpleRead2(graph, operation);
+        }
+    }
+
+    public static class SimpleRead3Handler extends InMemoryListOperationHandler<SimpleRead3Result, SimpleRead3> {
+        @Override
+        protected List<SimpleRead3Result> execute(InMemoryGraph graph, SimpleRead3 operation) {
+            return InMemoryQueries.simpleRead3(graph, operation);
+        }
+    }
+
+    public static class SimpleRead4Handler extends InMemoryListOperationHandler<SimpleRead4Result, SimpleRead4> {
+        @Override
+        protected List<SimpleRead4Result> execute(InMemoryGraph graph, SimpleRead4 operation) {
+            return InMemoryQueries.simpleRead4(graph, operation);
+        }
+    }
+
+    public static class SimpleRead5Handler extends InMemoryListOperationHandler<SimpleRead5Result, SimpleRead5> {
+        @Override
+        protected List<SimpleRead5Result> execute(InMemoryGraph graph, SimpleRead5 operation) {
+            return InMemoryQueries.simpleRead5(graph, operation);
+        }
+    }
+
+    public static class SimpleRead6Handler extends InMemoryListOperationHandler<SimpleRead6Result, SimpleRead6> {
+        @Override
+        protected List<SimpleRead6Result> execute(InMemoryGraph graph, SimpleRead6 operation) {
+            return InMemoryQueries.simpleRead6(graph, operation);
+        }
+    }
+
+    public static class Write1Handler extends InMemoryUpdateOperationHandler<Write1> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write1 operation) {
+            InMemoryQueries.write1(graph, operation);
+        }
+    }
+
+    public static class Write2Handler extends InMemoryUpdateOperationHandler<Write2> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write2 operation) {
+            InMemoryQueries.write2(graph, operation);
+        }
+    }
+
+    public static class Write3Handler extends InMemoryUpdateOperationHandler<Write3> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write3 operation) {
+            InMemoryQueries.write3(graph, operation);
+        }
+    }
+
+    public static class Write4Handler extends InMemoryUpdateOperationHandler<Write4> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write4 operation) {
+            InMemoryQueries.write4(graph, operation);
+        }
+    }
+
+    public static class Write5Handler extends InMemoryUpdateOperationHandler<Write5> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write5 operation) {
+            InMemoryQueries.write5(graph, operation);
+        }
+    }
+
+    public static class Write6Handler extends InMemoryUpdateOperationHandler<Write6> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write6 operation) {
+            InMemoryQueries.write6(graph, operation);
+        }
+    }
+
+    public static class Write7Handler extends InMemoryUpdateOperationHandler<Write7> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write7 operation) {
+            InMemoryQueries.write7(graph, operation);
+        }
+    }
+
+    public static class Write8Handler extends InMemoryUpdateOperationHandler<Write8> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write8 operation) {
+            InMemoryQueries.write8(graph, operation);
+        }
+    }
+
+    public static class Write9Handler extends InMemoryUpdateOperationHandler<Write9> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write9 operation) {
+            InMemoryQueries.write9(graph, operation);
+        }
+    }
+
+    public static class Write10Handler extends InMemoryUpdateOperationHandler<Write10> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write10 operation) {
+            InMemoryQueries.write10(graph, operation);
+        }
+    }
+
+    public static class Write11Handler extends InMemoryUpdateOperationHandler<Write11> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write11 operation) {
+            InMemoryQueries.write11(graph, operation);
+        }
+    }
+
+    public static class Write12Handler extends InMemoryUpdateOperationHandler<Write12> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write12 operation) {
+            InMemoryQueries.write12(graph, operation);
+        }
+    }
+
+    public static class Write13Handler extends InMemoryUpdateOperationHandler<Write13> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write13 operation) {
+            InMemoryQueries.write13(graph, operation);
+        }
+    }
+
+    public static class Write14Handler extends InMemoryUpdateOperationHandler<Write14> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write14 operation) {
+            InMemoryQueries.write14(graph, operation);
+        }
+    }
+
+    public static class Write15Handler extends InMemoryUpdateOperationHandler<Write15> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write15 operation) {
+            InMemoryQueries.write15(graph, operation);
+        }
+    }
+
+    public static class Write16Handler extends InMemoryUpdateOperationHandler<Write16> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write16 operation) {
+            InMemoryQueries.write16(graph, operation);
+        }
+    }
+
+    public static class Write17Handler extends InMemoryUpdateOperationHandler<Write17> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write17 operation) {
+            InMemoryQueries.write17(graph, operation);
+        }
+    }
+
+    public static class Write18Handler extends InMemoryUpdateOperationHandler<Write18> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write18 operation) {
+            InMemoryQueries.write18(graph, operation);
+        }
+    }
+
+    public static class Write19Handler extends InMemoryUpdateOperationHandler<Write19> {
+        @Override
+        protected void execute(InMemoryGraph graph, Write19 operation) {
+            InMemoryQueries.write19(graph, operation);
+        }
+    }
+
+    public static class ReadWrite1Handler extends InMemoryUpdateOperationHandler<ReadWrite1> {
+        @Override
+        protected void execute(InMemoryGraph graph, ReadWrite1 operation) {
+            InMemoryQueries.readWrite1(graph, operation);
+        }
+    }
+
+    public static class ReadWrite2Handler extends InMemoryUpdateOperationHandler<ReadWrite2> {
+        @Override
+        protected void execute(InMemoryGraph graph, ReadWrite2 operation) {
+            InMemoryQueries.readWrite2(graph, operation);
+        }
+    }
+
+    public static class ReadWrite3Handler extends InMemoryUpdateOperationHandler<ReadWrite3> {
+        @Override
+        protected void execute(InMemoryGraph graph, ReadWrite3 operation) {
+            InMemoryQueries.readWrite3(graph, operation);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.ldbcouncil.finbench.impls.inmemory;
+
+import org.ldbcouncil.finbench.driver.DbConnectionState;
+
+public class InMemoryDbConnectionState extends DbConnectionState {
+    private final InMemoryGraph graph;
+
+    public InMemoryDbConnectionState(InMemoryGraph graph) {
+        this.graph = graph;
+    }
+
+    public InMemoryGraph getGraph() {
+        return graph;
+    }
+
+    @Override
+    public void close() {
+    }
+}
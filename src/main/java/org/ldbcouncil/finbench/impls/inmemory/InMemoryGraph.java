@@ -0,0 +1,178 @@
+package org.ldbcouncil.finbench.impls.inmemory;
+
+import static java.lang.String.format;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The FinBench graph held in memory: vertex columns per label and adjacency arrays per edge label. Operations read
+ * under the read lock and write under the write lock of the graph.
+ */
+public class InMemoryGraph {
+    static Logger logger = LogManager.getLogger("InMemoryGraph");
+
+    // snapshot times are written in UTC, with up to 3 fraction digits
+    private static final DateTimeFormatter TIME_FORMAT = new DateTimeFormatterBuilder()
+        .appendPattern("yyyy-MM-dd HH:mm:ss")
+        .optionalStart()
+        .appendFraction(ChronoField.MILLI_OF_SECOND, 0, 3, true)
+        .optionalEnd()
+        .toFormatter();
+
+    final VertexTable accounts = new VertexTable();
+    final VertexTable persons = new VertexTable();
+    final VertexTable companies = new VertexTable();
+    final VertexTable loans = new VertexTable();
+    final VertexTable media = new VertexTable();
+
+    final EdgeTable transfer = new EdgeTable(accounts, accounts);
+    final EdgeTable withdraw = new EdgeTable(accounts, accounts);
+    final EdgeTable repay = new EdgeTable(accounts, loans);
+    final EdgeTable deposit = new EdgeTable(loans, accounts);
+    final EdgeTable signIn = new EdgeTable(media, accounts);
+    final EdgeTable personOwnAccount = new EdgeTable(persons, accounts);
+    final EdgeTable companyOwnAccount = new EdgeTable(companies, accounts);
+    final EdgeTable personApplyLoan = new EdgeTable(persons, loans);
+    final EdgeTable companyApplyLoan = new EdgeTable(companies, loans);
+    final EdgeTable personInvestCompany = new EdgeTable(persons, companies);
+    final EdgeTable companyInvestCompany = new EdgeTable(companies, companies);
+    final EdgeTable personGuaranteePerson = new EdgeTable(persons, persons);
+    final EdgeTable companyGuaranteeCompany = new EdgeTable(companies, companies);
+
+    private final EdgeTable[] edgeTables = {
+        transfer, withdraw, repay, deposit, signIn, personOwnAccount, companyOwnAccount, personApplyLoan,
+        companyApplyLoan, personInvestCompany, companyInvestCompany, personGuaranteePerson, companyGuaranteeCompany
+    };
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ReadWriteLock lock() {
+        return lock;
+    }
+
+    /**
+     * Loads the vertex and edge files of a snapshot, one file per label, e.g. Account.csv and
+     * AccountTransferAccount.csv, with a header line and '|' separated columns
+     *
+     * @param snapshotDir Directory of the snapshot files
+     */
+    public static InMemoryGraph load(File snapshotDir) throws IOException {
+        InMemoryGraph graph = new InMemoryGraph();
+        // accountId|createTime|isBlocked|type
+        for (String[] row : rows(snapshotDir, "Account")) {
+            graph.accounts.add(Long.parseLong(row[0]), parseTime(row[1]), Boolean.parseBoolean(row[2]), row[3], 0, 0);
+        }
+        // personId|personName|isBlocked|createTime
+        for (String[] row : rows(snapshotDir, "Person")) {
+            graph.persons.add(Long.parseLong(row[0]), parseTime(row[3]), Boolean.parseBoolean(row[2]), row[1], 0, 0);
+        }
+        // companyId|companyName|isBlocked|createTime
+        for (String[] row : rows(snapshotDir, "Company")) {
+            graph.companies.add(Long.parseLong(row[0]), parseTime(row[3]), Boolean.parseBoolean(row[2]), row[1], 0,
+                0);
+        }
+        // loanId|loanAmount|balance|createTime
+        for (String[] row : rows(snapshotDir, "Loan")) {
+            graph.loans.add(Long.parseLong(row[0]), parseTime(row[3]), false, null, Double.parseDouble(row[1]),
+                Double.parseDouble(row[2]));
+        }
+        // mediumId|mediumType|isBlocked|createTime
+        for (String[] row : rows(snapshotDir, "Medium")) {
+            graph.media.add(Long.parseLong(row[0]), parseTime(row[3]), Boolean.parseBoolean(row[2]), row[1], 0, 0);
+        }
+
+        loadEdges(snapshotDir, "AccountTransferAccount", graph.transfer);
+        loadEdges(snapshotDir, "AccountWithdrawAccount", graph.withdraw);
+        loadEdges(snapshotDir, "AccountRepayLoan", graph.repay);
+        loadEdges(snapshotDir, "LoanDepositAccount", graph.deposit);
+        loadEdges(snapshotDir, "MediumSignInAccount", graph.signIn);
+        loadEdges(snapshotDir, "PersonOwnAccount", graph.personOwnAccount);
+        loadEdges(snapshotDir, "CompanyOwnAccount", graph.companyOwnAccount);
+        loadEdges(snapshotDir, "PersonApplyLoan", graph.personApplyLoan);
+        loadEdges(snapshotDir, "CompanyApplyLoan", graph.companyApplyLoan);
+        loadEdges(snapshotDir, "PersonInvestCompany", graph.personInvestCompany);
+        loadEdges(snapshotDir, "CompanyInvestCompany", graph.companyInvestCompany);
+        loadEdges(snapshotDir, "PersonGuaranteePerson", graph.personGuaranteePerson);
+        loadEdges(snapshotDir, "CompanyGuaranteeCompany", graph.companyGuaranteeCompany);
+        logger.info(format("Loaded %s accounts, %s persons, %s companies, %s loans and %s media",
+            graph.accounts.count(), graph.persons.count(), graph.companies.count(), graph.loans.count(),
+            graph.media.count()));
+        return graph;
+    }
+
+    /**
+     * Edge files have the source and target id in the first two columns and the time in the last one, in between the
+     * amount or ratio of edges that have one
+     */
+    private static void loadEdges(File snapshotDir, String label, EdgeTable edges) throws IOException {
+        int skipped = 0;
+        for (String[] row : rows(snapshotDir, label)) {
+            int source = edges.sources().indexOf(Long.parseLong(row[0]));
+            int target = edges.targets().indexOf(Long.parseLong(row[1]));
+            if (LongIntMap.MISSING == source || LongIntMap.MISSING == target) {
+                skipped++;
+                continue;
+            }
+            double value = (row.length > 3) ? Double.parseDouble(row[2]) : 0;
+            edges.load(source, target, parseTime(row[row.length - 1]), value);
+        }
+        edges.finishLoading();
+        if (skipped > 0) {
+            logger.warn(format("Skipped %s %s edges with an unknown source or target", skipped, label));
+        }
+    }
+
+    private static Iterable<String[]> rows(File snapshotDir, String label) throws IOException {
+        File file = new File(snapshotDir, label + ".csv");
+        if (!file.exists()) {
+            throw new IOException(format("Snapshot file not found: %s", file.getAbsolutePath()));
+        }
+        List<String[]> rows = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            // header
+            reader.readLine();
+            String line;
+            while (null != (line = reader.readLine())) {
+                if (!line.isEmpty()) {
+                    rows.add(line.split("\\|", -1));
+                }
+            }
+        }
+        return rows;
+    }
+
+    static long parseTime(String time) throws IOException {
+        try {
+            // epoch milliseconds or formatted
+            return (time.indexOf(':') < 0)
+                ? Long.parseLong(time)
+                : LocalDateTime.parse(time, TIME_FORMAT).toInstant(ZoneOffset.UTC).toEpochMilli();
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IOException(format("Invalid time in snapshot: %s", time), e);
+        }
+    }
+
+    /**
+     * Builds adjacency arrays again where many edges were added, called under the write lock
+     */
+    public void compactIfNeeded() {
+        for (EdgeTable edges : edgeTables) {
+            edges.compactIfNeeded();
+        }
+    }
+}
@@ -0,0 +1,985 @@
+package org.ldbcouncil.finbench.impls.inmemory;
+
+import static org.ldbcouncil.finbench.impls.inmemory.LongIntMap.MISSING;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.ldbcouncil.finbench.driver.result.Path;
+import org.ldbcouncil.finbench.driver.truncation.TruncationOrder;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead1;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead10;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead10Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead11;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead11Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead12;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead12Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead1Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead2;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead2Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead3;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead3Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead4;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead4Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead5;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead5Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead6;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead6Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead7;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead7Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead8;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead8Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead9;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead9Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ReadWrite1;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ReadWrite2;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ReadWrite3;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead1;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead1Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead2;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead2Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead3;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead3Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead4;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead4Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead5;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead5Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead6;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead6Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write1;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write10;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write11;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write12;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write13;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write14;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write15;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write16;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write17;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write18;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write19;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write2;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write3;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write4;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write5;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write6;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write7;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write8;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write9;
+
+/**
+ * Native implementations of the transaction workload operations, following the Cypher queries in queries/. Time
+ * windows are exclusive on both ends. Where a query truncates expansions, the edges of a vertex in the time window are
+ * truncated first and then filtered by their other conditions, e.g. a threshold on their amount.
+ * <p>
+ * Reads are called under the read lock of the graph, writes and read-writes under its write lock.
+ */
+public class InMemoryQueries {
+    private static final int CR1_MAX_DISTANCE = 3;
+    private static final int CR2_MAX_DISTANCE = 3;
+    private static final int CR3_MAX_DISTANCE = 15;
+    private static final int CR5_MAX_DISTANCE = 3;
+    private static final int CR8_MAX_DISTANCE = 3;
+    private static final int CR11_MAX_DISTANCE = 5;
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    // complex reads
+
+    public static List<ComplexRead1Result> complexRead1(InMemoryGraph graph, ComplexRead1 operation) {
+        List<ComplexRead1Result> results = new ArrayList<>();
+        int account = graph.accounts.indexOf(operation.getId());
+        if (MISSING == account) {
+            return results;
+        }
+        // an account may be reached at several distances, keys are account index << 2 | distance
+        Set<Long> reached = new LinkedHashSet<>();
+        transferPathsForward(graph, account, Long.MIN_VALUE, 1, CR1_MAX_DISTANCE, operation.startTimeAsMilli(),
+            operation.endTimeAsMilli(), operation.getTruncationOrder(), operation.getTruncationLimit(), reached, null);
+        for (long key : reached) {
+            int other = (int) (key >>> 2);
+            int distance = (int) (key & 3);
+            Edges signIns = graph.signIn.in(other, operation.startTimeAsMilli(), operation.endTimeAsMilli());
+            Set<Integer> media = new HashSet<>();
+            for (int i = 0; i < signIns.size(); i++) {
+                int medium = signIns.neighbor(i);
+                if (graph.media.isBlocked(medium) && media.add(medium)) {
+                    results.add(new ComplexRead1Result(graph.accounts.id(other), distance, graph.media.id(medium),
+                        graph.media.label(medium)));
+                }
+            }
+        }
+        results.sort(Comparator.comparingInt(ComplexRead1Result::getAccountDistance)
+            .thenComparingLong(ComplexRead1Result::getOtherId)
+            .thenComparingLong(ComplexRead1Result::getMediumId));
+        return results;
+    }
+
+    /**
+     * Follows transfers with ascending timestamps from the account
+     *
+     * @param reached Receives the reached accounts as account index << 2 | distance, if not null
+     * @param paths   Receives the paths of distinct accounts, if not null, the first element is the path so far
+     */
+    private static void transferPathsForward(InMemoryGraph graph, int account, long after, int distance,
+                                             int maxDistance, long startTime, long endTime, TruncationOrder order,
+                                             int limit, Set<Long> reached, List<List<Integer>> paths) {
+        Edges transfers = graph.transfer.out(account, startTime, endTime).truncate(order, limit);
+        for (int i = 0; i < transfers.size(); i++) {
+            if (transfers.timestamp(i) <= after) {
+                continue;
+            }
+            int other = transfers.neighbor(i);
+            List<Integer> path = null;
+            if (null != paths) {
+                if (paths.get(0).contains(other)) {
+                    continue;
+                }
+                path = new ArrayList<>(paths.get(0));
+                path.add(other);
+                paths.add(path);
+            }
+            if (null != reached) {
+                reached.add(((long) other << 2) | distance);
+            }
+            if (distance < maxDistance) {
+                if (null != paths) {
+                    List<Integer> previous = paths.set(0, path);
+                    transferPathsForward(graph, other, transfers.timestamp(i), distance + 1, maxDistance, startTime,
+                        endTime, order, limit, reached, paths);
+                    paths.set(0, previous);
+                } else {
+                    transferPathsForward(graph, other, transfers.timestamp(i), distance + 1, maxDistance, startTime,
+                        endTime, order, limit, reached, null);
+                }
+            }
+        }
+    }
+
+    public static List<ComplexRead2Result> complexRead2(InMemoryGraph graph, ComplexRead2 operation) {
+        List<ComplexRead2Result> results = new ArrayList<>();
+        int person = graph.persons.indexOf(operation.getId());
+        if (MISSING == person) {
+            return results;
+        }
+        long startTime = operation.startTimeAsMilli();
+        long endTime = operation.endTimeAsMilli();
+        Set<Integer> others = new LinkedHashSet<>();
+        Edges owned = graph.personOwnAccount.out(person);
+        for (int i = 0; i < owned.size(); i++) {
+            transferPathsBackward(graph, owned.neighbor(i), Long.MAX_VALUE, 1, startTime, endTime,
+                operation.getTruncationOrder(), operation.getTruncationLimit(), others);
+        }
+        for (int other : others) {
+            Edges deposits = graph.deposit.in(other, startTime, endTime);
+            if (0 == deposits.size()) {
+                continue;
+            }
+            // sums of the distinct values, as sum(DISTINCT loan.loanAmount)
+            Set<Double> loanAmounts = new HashSet<>();
+            Set<Double> loanBalances = new HashSet<>();
+            for (int i = 0; i < deposits.size(); i++) {
+                loanAmounts.add(graph.loans.amount(deposits.neighbor(i)));
+                loanBalances.add(graph.loans.balance(deposits.neighbor(i)));
+            }
+            results.add(new ComplexRead2Result(graph.accounts.id(other), round(sum(loanAmounts)),
+                round(sum(loanBalances))));
+        }
+        results.sort(Comparator.comparingDouble(ComplexRead2Result::getSumLoanAmount).reversed()
+            .thenComparingLong(ComplexRead2Result::getOtherId));
+        return results;
+    }
+
+    /**
+     * Follows transfers backwards from the account, with timestamps descending, so the transfers of a found path
+     * ascend from the found account to the first one
+     */
+    private static void transferPathsBackward(InMemoryGraph graph, int account, long before, int distance,
+                                              long startTime, long endTime, TruncationOrder order, int limit,
+                                              Set<Integer> reached) {
+        Edges transfers = graph.transfer.in(account, startTime, endTime).truncate(order, limit);
+        for (int i = 0; i < transfers.size(); i++) {
+            if (transfers.timestamp(i) >= before) {
+                continue;
+            }
+            reached.add(transfers.neighbor(i));
+            if (distance < CR2_MAX_DISTANCE) {
+                transferPathsBackward(graph, transfers.neighbor(i), transfers.timestamp(i), distance + 1, startTime,
+                    endTime, order, limit, reached);
+            }
+        }
+    }
+
+    private static double sum(Set<Double> values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    public static List<ComplexRead3Result> complexRead3(InMemoryGraph graph, ComplexRead3 operation) {
+        int source = graph.accounts.indexOf(operation.getId1());
+        int target = graph.accounts.indexOf(operation.getId2());
+        long shortestPathLength = -1;
+        if (MISSING != source && MISSING != target) {
+            shortestPathLength = shortestTransferPath(graph, source, target, operation.startTimeAsMilli(),
+                operation.endTimeAsMilli());
+        }
+        List<ComplexRead3Result> results = new ArrayList<>();
+        results.add(new ComplexRead3Result(shortestPathLength));
+        return results;
+    }
+
+    private static int shortestTransferPath(InMemoryGraph graph, int source, int target, long startTime,
+                                            long endTime) {
+        LongIntMap visited = new LongIntMap();
+        visited.put(source, 0);
+        int[] frontier = {source};
+        int frontierSize = 1;
+        for (int distance = 1; distance <= CR3_MAX_DISTANCE && frontierSize > 0; distance++) {
+            int[] next = new int[16];
+            int nextSize = 0;
+            for (int f = 0; f < frontierSize; f++) {
+                Edges transfers = graph.transfer.out(frontier[f], startTime, endTime);
+                for (int i = 0; i < transfers.size(); i++) {
+                    int other = transfers.neighbor(i);
+                    if (other == target) {
+                        return distance;
+                    }
+                    if (MISSING == visited.get(other)) {
+                        visited.put(other, distance);
+                        if (nextSize == next.length) {
+                            next = Arrays.copyOf(next, nextSize * 2);
+                        }
+                        next[nextSize++] = other;
+                    }
+                }
+            }
+            frontier = next;
+            frontierSize = nextSize;
+        }
+        return -1;
+    }
+
+    public static List<ComplexRead4Result> complexRead4(InMemoryGraph graph, ComplexRead4 operation) {
+        List<ComplexRead4Result> results = new ArrayList<>();
+        int source = graph.accounts.indexOf(operation.getId1());
+        int target = graph.accounts.indexOf(operation.getId2());
+        if (MISSING == source || MISSING == target) {
+            return results;
+        }
+        long startTime = operation.startTimeAsMilli();
+        long endTime = operation.endTimeAsMilli();
+        if (!contains(graph.transfer.out(source, startTime, endTime), target)) {
+            return results;
+        }
+        // transfers from others to the source and from the target to others
+        Map<Integer, double[]> edge2 = countSumMax(graph.transfer.in(source, startTime, endTime),
+            Double.NEGATIVE_INFINITY);
+        Map<Integer, double[]> edge3 = countSumMax(graph.transfer.out(target, startTime, endTime),
+            Double.NEGATIVE_INFINITY);
+        for (Map.Entry<Integer, double[]> entry : edge2.entrySet()) {
+            double[] edge3Aggregates = edge3.get(entry.getKey());
+            if (null == edge3Aggregates) {
+                continue;
+            }
+            double[] edge2Aggregates = entry.getValue();
+            results.add(new ComplexRead4Result(graph.accounts.id(entry.getKey()), (long) edge2Aggregates[0],
+                round(edge2Aggregates[1]), round(edge2Aggregates[2]), (long) edge3Aggregates[0],
+                round(edge3Aggregates[1]), round(edge3Aggregates[2])));
+        }
+        results.sort(Comparator.comparingDouble(ComplexRead4Result::getSumEdge2Amount).reversed()
+            .thenComparing(Comparator.comparingDouble(ComplexRead4Result::getSumEdge3Amount).reversed())
+            .thenComparingLong(ComplexRead4Result::getOtherId));
+        return results;
+    }
+
+    private static boolean contains(Edges edges, int neighbor) {
+        for (int i = 0; i < edges.size(); i++) {
+            if (edges.neighbor(i) == neighbor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return {count, sum, max} of the values of the edges above the threshold, by neighbor
+     */
+    private static Map<Integer, double[]> countSumMax(Edges edges, double threshold) {
+        Map<Integer, double[]> aggregates = new LinkedHashMap<>();
+        for (int i = 0; i < edges.size(); i++) {
+            double value = edges.value(i);
+            if (value <= threshold) {
+                continue;
+            }
+            double[] aggregate = aggregates.computeIfAbsent(edges.neighbor(i),
+                neighbor -> new double[] {0, 0, Double.NEGATIVE_INFINITY});
+            aggregate[0]++;
+            aggregate[1] += value;
+            aggregate[2] = Math.max(aggregate[2], value);
+        }
+        return aggregates;
+    }
+
+    public static List<ComplexRead5Result> complexRead5(InMemoryGraph graph, ComplexRead5 operation) {
+        List<ComplexRead5Result> results = new ArrayList<>();
+        int person = graph.persons.indexOf(operation.getId());
+        if (MISSING == person) {
+            return results;
+        }
+        Set<List<Long>> distinctPaths = new LinkedHashSet<>();
+        Edges owned = graph.personOwnAccount.out(person);
+        for (int i = 0; i < owned.size(); i++) {
+            List<List<Integer>> paths = new ArrayList<>();
+            paths.add(Collections.singletonList(owned.neighbor(i)));
+            transferPathsForward(graph, owned.neighbor(i), Long.MIN_VALUE, 1, CR5_MAX_DISTANCE,
+                operation.startTimeAsMilli(), operation.endTimeAsMilli(), operation.getTruncationOrder(),
+                operation.getTruncationLimit(), null, paths);
+            for (List<Integer> path : paths.subList(1, paths.size())) {
+                List<Long> ids = new ArrayList<>(path.size());
+                for (int account : path) {
+                    ids.add(graph.accounts.id(account));
+                }
+                distinctPaths.add(ids);
+            }
+        }
+        for (List<Long> path : distinctPaths) {
+            results.add(new ComplexRead5Result(new Path(path)));
+        }
+        results.sort(Comparator.comparingInt((ComplexRead5Result result) -> result.getPath().getPath().size())
+            .reversed());
+        return results;
+    }
+
+    public static List<ComplexRead6Result> complexRead6(InMemoryGraph graph, ComplexRead6 operation) {
+        List<ComplexRead6Result> results = new ArrayList<>();
+        int account = graph.accounts.indexOf(operation.getId());
+        if (MISSING == account) {
+            return results;
+        }
+        long startTime = operation.startTimeAsMilli();
+        long endTime = operation.endTimeAsMilli();
+        Map<Integer, double[]> withdrawals = countSumMax(graph.withdraw.in(account, startTime, endTime)
+            .truncate(operation.getTruncationOrder(), operation.getTruncationLimit()), operation.getThreshold2());
+        for (Map.Entry<Integer, double[]> entry : withdrawals.entrySet()) {
+            int mid = entry.getKey();
+            Edges transfers = graph.transfer.in(mid, startTime, endTime)
+                .truncate(operation.getTruncationOrder(), operation.getTruncationLimit());
+            int numEdge1 = 0;
+            double sumEdge1Amount = 0;
+            for (int i = 0; i < transfers.size(); i++) {
+                if (transfers.value(i) > operation.getThreshold1()) {
+                    numEdge1++;
+                    sumEdge1Amount += transfers.value(i);
+                }
+            }
+            if (numEdge1 > 3) {
+                results.add(new ComplexRead6Result(graph.accounts.id(mid), round(sumEdge1Amount),
+                    round(entry.getValue()[1])));
+            }
+        }
+        results.sort(Comparator.comparingDouble(ComplexRead6Result::getSumEdge2Amount).reversed()
+            .thenComparingLong(ComplexRead6Result::getMidId));
+        return results;
+    }
+
+    public static List<ComplexRead7Result> complexRead7(InMemoryGraph graph, ComplexRead7 operation) {
+        List<ComplexRead7Result> results = new ArrayList<>();
+        int mid = graph.accounts.indexOf(operation.getId());
+        if (MISSING == mid) {
+            return results;
+        }
+        long startTime = operation.startTimeAsMilli();
+        long endTime = operation.endTimeAsMilli();
+        Map<Integer, double[]> sources = countSumMax(graph.transfer.in(mid, startTime, endTime)
+            .truncate(operation.getTruncationOrder(), operation.getTruncationLimit()), operation.getThreshold());
+        Map<Integer, double[]> targets = countSumMax(graph.transfer.out(mid, startTime, endTime)
+            .truncate(operation.getTruncationOrder(), operation.getTruncationLimit()), operation.getThreshold());
+        double amountSrc = sumOfSums(sources);
+        double amountDst = sumOfSums(targets);
+        float inOutRatio = targets.isEmpty() ? -1 : (float) round(amountSrc / amountDst);
+        results.add(new ComplexRead7Result(sources.size(), targets.size(), inOutRatio));
+        return results;
+    }
+
+    private static double sumOfSums(Map<Integer, double[]> aggregates) {
+        double sum = 0;
+        for (double[] aggregate : aggregates.values()) {
+            sum += aggregate[1];
+        }
+        return sum;
+    }
+
+    public static List<ComplexRead8Result> complexRead8(InMemoryGraph graph, ComplexRead8 operation) {
+        List<ComplexRead8Result> results = new ArrayList<>();
+        int loan = graph.loans.indexOf(operation.getId());
+        if (MISSING == loan) {
+            return results;
+        }
+        Edges deposits = graph.deposit.out(loan, operation.startTimeAsMilli(), operation.endTimeAsMilli());
+        Set<Integer> sources = new LinkedHashSet<>();
+        for (int i = 0; i < deposits.size(); i++) {
+            sources.add(deposits.neighbor(i));
+        }
+        // by target: {min distance from the loan, sum of the amounts of the distinct last edges}
+        Map<Integer, double[]> targets = new LinkedHashMap<>();
+        Set<Long> lastEdges = new HashSet<>();
+        for (int source : sources) {
+            fundPaths(graph, operation, source, Double.NaN, 1, new int[CR8_MAX_DISTANCE], targets, lastEdges);
+        }
+        for (Map.Entry<Integer, double[]> entry : targets.entrySet()) {
+            float ratio = (float) round(entry.getValue()[1] / graph.loans.amount(loan));
+            results.add(new ComplexRead8Result(graph.accounts.id(entry.getKey()), ratio, (int) entry.getValue()[0]));
+        }
+        results.sort(Comparator.comparingInt(ComplexRead8Result::getMinDistanceFromLoan).reversed()
+            .thenComparing(Comparator.comparingDouble(ComplexRead8Result::getRatio).reversed())
+            .thenComparingLong(ComplexRead8Result::getDstId));
+        return results;
+    }
+
+    /**
+     * Follows transfers and withdrawals, each amount above the previous one times the threshold, without using an
+     * edge twice on a path
+     *
+     * @param pathEdges Keys of the edges of the path so far, transfer ids are even and withdrawal ids odd
+     * @param lastEdges Keys of the last edges counted for a target, as target << 32 | edge key
+     */
+    private static void fundPaths(InMemoryGraph graph, ComplexRead8 operation, int account, double previousAmount,
+                                  int distance, int[] pathEdges, Map<Integer, double[]> targets,
+                                  Set<Long> lastEdges) {
+        Edges edges = transfersAndWithdrawals(graph, account, operation.startTimeAsMilli(),
+            operation.endTimeAsMilli()).truncate(operation.getTruncationOrder(), operation.getTruncationLimit());
+        for (int i = 0; i < edges.size(); i++) {
+            double amount = edges.value(i);
+            if (distance > 1 && !(amount > previousAmount * operation.getThreshold())) {
+                continue;
+            }
+            int edge = edges.id(i);
+            boolean used = false;
+            for (int d = 0; d < distance - 1; d++) {
+                used |= pathEdges[d] == edge;
+            }
+            if (used) {
+                continue;
+            }
+            int target = edges.neighbor(i);
+            double[] aggregate = targets.computeIfAbsent(target, t -> new double[] {Integer.MAX_VALUE, 0});
+            aggregate[0] = Math.min(aggregate[0], distance + 1);
+            if (lastEdges.add(((long) target << 32) | (edge & 0xFFFFFFFFL))) {
+                aggregate[1] += amount;
+            }
+            if (distance < CR8_MAX_DISTANCE) {
+                pathEdges[distance - 1] = edge;
+                fundPaths(graph, operation, target, amount, distance + 1, pathEdges, targets, lastEdges);
+            }
+        }
+    }
+
+    /**
+     * @return transfers and withdrawals from the account merged by timestamp, ids as keys, see {@link #fundPaths}
+     */
+    private static Edges transfersAndWithdrawals(InMemoryGraph graph, int account, long startTime, long endTime) {
+        Edges transfers = graph.transfer.out(account, startTime, endTime);
+        Edges withdrawals = graph.withdraw.out(account, startTime, endTime);
+        int size = transfers.size() + withdrawals.size();
+        int[] neighbors = new int[size];
+        long[] timestamps = new long[size];
+        double[] values = new double[size];
+        int[] keys = new int[size];
+        int t = 0;
+        int w = 0;
+        for (int i = 0; i < size; i++) {
+            boolean takeTransfer = w >= withdrawals.size()
+                || (t < transfers.size() && transfers.timestamp(t) <= withdrawals.timestamp(w));
+            Edges from = takeTransfer ? transfers : withdrawals;
+            int position = takeTransfer ? t++ : w++;
+            neighbors[i] = from.neighbor(position);
+            timestamps[i] = from.timestamp(position);
+            values[i] = from.value(position);
+            keys[i] = 2 * from.id(position) + (takeTransfer ? 0 : 1);
+        }
+        return new Edges(neighbors, timestamps, values, keys, 0, size);
+    }
+
+    public static List<ComplexRead9Result> complexRead9(InMemoryGraph graph, ComplexRead9 operation) {
+        double edge1Amount = 0;
+        double edge2Amount = 0;
+        double edge3Amount = 0;
+        double edge4Amount = 0;
+        int mid = graph.accounts.indexOf(operation.getId());
+        if (MISSING != mid) {
+            long startTime = operation.startTimeAsMilli();
+            long endTime = operation.endTimeAsMilli();
+            double threshold = operation.getThreshold();
+            edge1Amount = sumAbove(graph.deposit.in(mid, startTime, endTime), threshold);
+            edge2Amount = sumAbove(graph.repay.out(mid, startTime, endTime), threshold);
+            edge3Amount = sumAbove(graph.transfer.in(mid, startTime, endTime)
+                .truncate(operation.getTruncationOrder(), operation.getTruncationLimit()), threshold);
+            edge4Amount = sumAbove(graph.transfer.out(mid, startTime, endTime)
+                .truncate(operation.getTruncationOrder(), operation.getTruncationLimit()), threshold);
+        }
+        List<ComplexRead9Result> results = new ArrayList<>();
+        results.add(new ComplexRead9Result(
+            (0 == edge2Amount) ? -1 : (float) round(edge1Amount / edge2Amount),
+            (0 == edge4Amount) ? -1 : (float) round(edge1Amount / edge4Amount),
+            (0 == edge4Amount) ? -1 : (float) round(edge3Amount / edge4Amount)));
+        return results;
+    }
+
+    private static double sumAbove(Edges edges, double threshold) {
+        double sum = 0;
+        for (int i = 0; i < edges.size(); i++) {
+            if (edges.value(i) > threshold) {
+                sum += edges.value(i);
+            }
+        }
+        return sum;
+    }
+
+    public static List<ComplexRead10Result> complexRead10(InMemoryGraph graph, ComplexRead10 operation) {
+        List<ComplexRead10Result> results = new ArrayList<>();
+        int person1 = graph.persons.indexOf(operation.getPid1());
+        int person2 = graph.persons.indexOf(operation.getPid2());
+        if (MISSING == person1 || MISSING == person2) {
+            return results;
+        }
+        Set<Integer> companies1 = neighbors(graph.personInvestCompany.out(person1, operation.startTimeAsMilli(),
+            operation.endTimeAsMilli()));
+        Set<Integer> companies2 = neighbors(graph.personInvestCompany.out(person2, operation.startTimeAsMilli(),
+            operation.endTimeAsMilli()));
+        int intersection = 0;
+        for (int company : companies1) {
+            if (companies2.contains(company)) {
+                intersection++;
+            }
+        }
+        int union = companies1.size() + companies2.size() - intersection;
+        results.add(new ComplexRead10Result((0 == union) ? 0 : (float) round((double) intersection / union)));
+        return results;
+    }
+
+    private static Set<Integer> neighbors(Edges edges) {
+        Set<Integer> neighbors = new LinkedHashSet<>();
+        for (int i = 0; i < edges.size(); i++) {
+            neighbors.add(edges.neighbor(i));
+        }
+        return neighbors;
+    }
+
+    public static List<ComplexRead11Result> complexRead11(InMemoryGraph graph, ComplexRead11 operation) {
+        Set<Integer> loans = guaranteedLoans(graph, operation.getId(), operation.startTimeAsMilli(),
+            operation.endTimeAsMilli(), operation.getTruncationOrder(), operation.getTruncationLimit());
+        List<ComplexRead11Result> results = new ArrayList<>();
+        results.add(new ComplexRead11Result(round(sumOfLoanAmounts(graph, loans)), loans.size()));
+        return results;
+    }
+
+    /**
+     * @return loans applied for by the persons reached by guarantees from the person, the person included if a chain
+     *     of guarantees leads back to it
+     */
+    private static Set<Integer> guaranteedLoans(InMemoryGraph graph, long personId, long startTime, long endTime,
+                                                TruncationOrder order, int limit) {
+        Set<Integer> loans = new LinkedHashSet<>();
+        int person = graph.persons.indexOf(personId);
+        if (MISSING == person) {
+            return loans;
+        }
+        Set<Integer> reached = new LinkedHashSet<>();
+        List<Integer> frontier = Collections.singletonList(person);
+        for (int distance = 1; distance <= CR11_MAX_DISTANCE && !frontier.isEmpty(); distance++) {
+            List<Integer> next = new ArrayList<>();
+            for (int from : frontier) {
+                Edges guarantees = graph.personGuaranteePerson.out(from, startTime, endTime).truncate(order, limit);
+                for (int i = 0; i < guarantees.size(); i++) {
+                    if (reached.add(guarantees.neighbor(i))) {
+                        next.add(guarantees.neighbor(i));
+                    }
+                }
+            }
+            frontier = next;
+        }
+        for (int guaranteed : reached) {
+            loans.addAll(neighbors(graph.personApplyLoan.out(guaranteed)));
+        }
+        return loans;
+    }
+
+    private static double sumOfLoanAmounts(InMemoryGraph graph, Set<Integer> loans) {
+        double sum = 0;
+        for (int loan : loans) {
+            sum += graph.loans.amount(loan);
+        }
+        return sum;
+    }
+
+    public static List<ComplexRead12Result> complexRead12(InMemoryGraph graph, ComplexRead12 operation) {
+        List<ComplexRead12Result> results = new ArrayList<>();
+        int person = graph.persons.indexOf(operation.getId());
+        if (MISSING == person) {
+            return results;
+        }
+        Map<Integer, Double> sums = new LinkedHashMap<>();
+        Edges owned = graph.personOwnAccount.out(person);
+        for (int i = 0; i < owned.size(); i++) {
+            Edges transfers = graph.transfer.out(owned.neighbor(i), operation.startTimeAsMilli(),
+                operation.endTimeAsMilli()).truncate(operation.getTruncationOrder(), operation.getTruncationLimit());
+            for (int j = 0; j < transfers.size(); j++) {
+                int companyAccount = transfers.neighbor(j);
+                // one match per company owning the account
+                int owners = graph.companyOwnAccount.in(companyAccount).size();
+                if (owners > 0) {
+                    sums.merge(companyAccount, transfers.value(j) * owners, Double::sum);
+                }
+            }
+        }
+        for (Map.Entry<Integer, Double> entry : sums.entrySet()) {
+            results.add(new ComplexRead12Result(graph.accounts.id(entry.getKey()), round(entry.getValue())));
+        }
+        results.sort(Comparator.comparingDouble(ComplexRead12Result::getSumEdge2Amount).reversed()
+            .thenComparingLong(ComplexRead12Result::getCompAccountId));
+        return results;
+    }
+
+    // simple reads
+
+    public static List<SimpleRead1Result> simpleRead1(InMemoryGraph graph, SimpleRead1 operation) {
+        List<SimpleRead1Result> results = new ArrayList<>();
+        int account = graph.accounts.indexOf(operation.getId());
+        if (MISSING != account) {
+            results.add(new SimpleRead1Result(new Date(graph.accounts.createTime(account)),
+                graph.accounts.isBlocked(account), graph.accounts.label(account)));
+        }
+        return results;
+    }
+
+    public static List<SimpleRead2Result> simpleRead2(InMemoryGraph graph, SimpleRead2 operation) {
+        int account = graph.accounts.indexOf(operation.getId());
+        Edges out = Edges.EMPTY;
+        Edges in = Edges.EMPTY;
+        if (MISSING != account) {
+            out = graph.transfer.out(account, operation.startTimeAsMilli(), operation.endTimeAsMilli());
+            in = graph.transfer.in(account, operation.startTimeAsMilli(), operation.endTimeAsMilli());
+        }
+        double[] outAggregate = countSumMax(out);
+        double[] inAggregate = countSumMax(in);
+        List<SimpleRead2Result> results = new ArrayList<>();
+        results.add(new SimpleRead2Result(round(outAggregate[1]), round(outAggregate[2]), (long) outAggregate[0],
+            round(inAggregate[1]), round(inAggregate[2]), (long) inAggregate[0]));
+        return results;
+    }
+
+    /**
+     * @return {count, sum, max} of the values of all edges, max -1 if there are none
+     */
+    private static double[] countSumMax(Edges edges) {
+        double sum = 0;
+        double max = -1;
+        for (int i = 0; i < edges.size(); i++) {
+            sum += edges.value(i);
+            max = (0 == i) ? edges.value(i) : Math.max(max, edges.value(i));
+        }
+        return new double[] {edges.size(), sum, max};
+    }
+
+    public static List<SimpleRead3Result> simpleRead3(InMemoryGraph graph, SimpleRead3 operation) {
+        int account = graph.accounts.indexOf(operation.getId());
+        int edge1Num = 0;
+        int edge2Num = 0;
+        if (MISSING != account) {
+            edge2Num = graph.transfer.in(account).size();
+            Edges transfers = graph.transfer.in(account, operation.startTimeAsMilli(), operation.endTimeAsMilli());
+            for (int i = 0; i < transfers.size(); i++) {
+                if (graph.accounts.isBlocked(transfers.neighbor(i)) && transfers.value(i) > operation.getThreshold()) {
+                    edge1Num++;
+                }
+            }
+        }
+        List<SimpleRead3Result> results = new ArrayList<>();
+        results.add(new SimpleRead3Result((0 == edge2Num) ? -1 : (float) round((double) edge1Num / edge2Num)));
+        return results;
+    }
+
+    public static List<SimpleRead4Result> simpleRead4(InMemoryGraph graph, SimpleRead4 operation) {
+        List<SimpleRead4Result> results = new ArrayList<>();
+        int account = graph.accounts.indexOf(operation.getId());
+        if (MISSING == account) {
+            return results;
+        }
+        Map<Integer, double[]> targets = countSumMax(graph.transfer.out(account, operation.startTimeAsMilli(),
+            operation.endTimeAsMilli()), operation.getThreshold());
+        for (Map.Entry<Integer, double[]> entry : targets.entrySet()) {
+            results.add(new SimpleRead4Result(graph.accounts.id(entry.getKey()), (int) entry.getValue()[0],
+                round(entry.getValue()[1])));
+        }
+        results.sort(Comparator.comparingDouble(SimpleRead4Result::getSumAmount).reversed()
+            .thenComparingLong(SimpleRead4Result::getDstId));
+        return results;
+    }
+
+    public static List<SimpleRead5Result> simpleRead5(InMemoryGraph graph, SimpleRead5 operation) {
+        List<SimpleRead5Result> results = new ArrayList<>();
+        int account = graph.accounts.indexOf(operation.getId());
+        if (MISSING == account) {
+            return results;
+        }
+        Map<Integer, double[]> sources = countSumMax(graph.transfer.in(account, operation.startTimeAsMilli(),
+            operation.endTimeAsMilli()), operation.getThreshold());
+        for (Map.Entry<Integer, double[]> entry : sources.entrySet()) {
+            results.add(new SimpleRead5Result(graph.accounts.id(entry.getKey()), (int) entry.getValue()[0],
+                round(entry.getValue()[1])));
+        }
+        results.sort(Comparator.comparingDouble(SimpleRead5Result::getSumAmount).reversed()
+            .thenComparingLong(SimpleRead5Result::getSrcId));
+        return results;
+    }
+
+    public static List<SimpleRead6Result> simpleRead6(InMemoryGraph graph, SimpleRead6 operation) {
+        List<SimpleRead6Result> results = new ArrayList<>();
+        int account = graph.accounts.indexOf(operation.getId());
+        if (MISSING == account) {
+            return results;
+        }
+        long startTime = operation.startTimeAsMilli();
+        long endTime = operation.endTimeAsMilli();
+        Set<Long> targetIds = new TreeSet<>();
+        for (int mid : neighbors(graph.transfer.in(account, startTime, endTime))) {
+            Edges transfers = graph.transfer.out(mid, startTime, endTime);
+            for (int i = 0; i < transfers.size(); i++) {
+                int target = transfers.neighbor(i);
+                if (target != account && graph.accounts.isBlocked(target)) {
+                    targetIds.add(graph.accounts.id(target));
+                }
+            }
+        }
+        for (long targetId : targetIds) {
+            results.add(new SimpleRead6Result(targetId));
+        }
+        return results;
+    }
+
+    // writes, edges are only added between existing vertices, as the Cypher queries match them first
+
+    public static void write1(InMemoryGraph graph, Write1 operation) {
+        graph.persons.add(operation.getPersonId(), 0, operation.getIsBlocked(), operation.getPersonName(), 0, 0);
+    }
+
+    public static void write2(InMemoryGraph graph, Write2 operation) {
+        graph.companies.add(operation.getCompanyId(), 0, operation.getIsBlocked(), operation.getCompanyName(), 0, 0);
+    }
+
+    public static void write3(InMemoryGraph graph, Write3 operation) {
+        graph.media.add(operation.getMediumId(), 0, operation.getIsBlocked(), operation.getMediumType(), 0, 0);
+    }
+
+    public static void write4(InMemoryGraph graph, Write4 operation) {
+        int person = graph.persons.indexOf(operation.getPersonId());
+        if (MISSING != person) {
+            int account = graph.accounts.add(operation.getAccountId(), operation.timeAsMilli(),
+                operation.getAccountBlocked(), operation.getAccountType(), 0, 0);
+            graph.personOwnAccount.add(person, account, operation.timeAsMilli(), 0);
+        }
+    }
+
+    public static void write5(InMemoryGraph graph, Write5 operation) {
+        int company = graph.companies.indexOf(operation.getCompanyId());
+        if (MISSING != company) {
+            int account = graph.accounts.add(operation.getAccountId(), operation.timeAsMilli(),
+                operation.getAccountBlocked(), operation.getAccountType(), 0, 0);
+            graph.companyOwnAccount.add(company, account, operation.timeAsMilli(), 0);
+        }
+    }
+
+    public static void write6(InMemoryGraph graph, Write6 operation) {
+        int person = graph.persons.indexOf(operation.getPersonId());
+        if (MISSING != person) {
+            int loan = graph.loans.add(operation.getLoanId(), operation.timeAsMilli(), false, null,
+                operation.getLoanAmount(), operation.getBalance());
+            graph.personApplyLoan.add(person, loan, operation.timeAsMilli(), 0);
+        }
+    }
+
+    public static void write7(InMemoryGraph graph, Write7 operation) {
+        int company = graph.companies.indexOf(operation.getCompanyId());
+        if (MISSING != company) {
+            int loan = graph.loans.add(operation.getLoanId(), operation.timeAsMilli(), false, null,
+                operation.getLoanAmount(), operation.getBalance());
+            graph.companyApplyLoan.add(company, loan, operation.timeAsMilli(), 0);
+        }
+    }
+
+    public static void write8(InMemoryGraph graph, Write8 operation) {
+        addEdge(graph.personInvestCompany, operation.getPersonId(), operation.getCompanyId(), operation.timeAsMilli(),
+            operation.getRatio());
+    }
+
+    public static void write9(InMemoryGraph graph, Write9 operation) {
+        addEdge(graph.companyInvestCompany, operation.getCompanyId1(), operation.getCompanyId2(),
+            operation.timeAsMilli(), operation.getRatio());
+    }
+
+    public static void write10(InMemoryGraph graph, Write10 operation) {
+        addEdge(graph.personGuaranteePerson, operation.getPersonId1(), operation.getPersonId2(),
+            operation.timeAsMilli(), 0);
+    }
+
+    public static void write11(InMemoryGraph graph, Write11 operation) {
+        addEdge(graph.companyGuaranteeCompany, operation.getCompanyId1(), operation.getCompanyId2(),
+            operation.timeAsMilli(), 0);
+    }
+
+    public static void write12(InMemoryGraph graph, Write12 operation) {
+        addEdge(graph.transfer, operation.getAccountId1(), operation.getAccountId2(), operation.timeAsMilli(),
+            operation.getAmount());
+    }
+
+    public static void write13(InMemoryGraph graph, Write13 operation) {
+        addEdge(graph.withdraw, operation.getAccountId1(), operation.getAccountId2(), operation.timeAsMilli(),
+            operation.getAmount());
+    }
+
+    public static void write14(InMemoryGraph graph, Write14 operation) {
+        addEdge(graph.repay, operation.getAccountId(), operation.getLoanId(), operation.timeAsMilli(),
+            operation.getAmount());
+    }
+
+    public static void write15(InMemoryGraph graph, Write15 operation) {
+        addEdge(graph.deposit, operation.getLoanId(), operation.getAccountId(), operation.timeAsMilli(),
+            operation.getAmount());
+    }
+
+    public static void write16(InMemoryGraph graph, Write16 operation) {
+        addEdge(graph.signIn, operation.getMediumId(), operation.getAccountId(), operation.timeAsMilli(), 0);
+    }
+
+    private static void addEdge(EdgeTable edges, long sourceId, long targetId, long timestamp, double value) {
+        int source = edges.sources().indexOf(sourceId);
+        int target = edges.targets().indexOf(targetId);
+        if (MISSING != source && MISSING != target) {
+            edges.add(source, target, timestamp, value);
+        }
+    }
+
+    /**
+     * Deletes the account, the loans it repaid and the loans deposited to it
+     */
+    public static void write17(InMemoryGraph graph, Write17 operation) {
+        int account = graph.accounts.indexOf(operation.getAccountId());
+        if (MISSING == account) {
+            return;
+        }
+        for (int loan : neighbors(graph.repay.out(account))) {
+            graph.loans.delete(loan);
+        }
+        for (int loan : neighbors(graph.deposit.in(account))) {
+            graph.loans.delete(loan);
+        }
+        graph.accounts.delete(account);
+    }
+
+    public static void write18(InMemoryGraph graph, Write18 operation) {
+        int account = graph.accounts.indexOf(operation.getAccountId());
+        if (MISSING != account) {
+            graph.accounts.setBlocked(account, true);
+        }
+    }
+
+    public static void write19(InMemoryGraph graph, Write19 operation) {
+        int person = graph.persons.indexOf(operation.getPersonId());
+        if (MISSING != person) {
+            graph.persons.setBlocked(person, true);
+        }
+    }
+
+    // read-writes: nothing is done if either vertex is blocked, the edge is added and removed again if the check after
+    // adding it fails, in which case both vertices are blocked
+
+    public static void readWrite1(InMemoryGraph graph, ReadWrite1 operation) {
+        int source = graph.accounts.indexOf(operation.getSrcId());
+        int target = graph.accounts.indexOf(operation.getDstId());
+        if (!canAddEdge(graph.accounts, source, target)) {
+            return;
+        }
+        int edge = graph.transfer.add(source, target, operation.timeAsMilli(), operation.getAmount());
+        long startTime = operation.startTimeAsMilli();
+        long endTime = operation.endTimeAsMilli();
+        // fails if the target transferred to an account that transferred to the source
+        Set<Integer> others = neighbors(graph.transfer.out(target, startTime, endTime));
+        others.retainAll(neighbors(graph.transfer.in(source, startTime, endTime)));
+        if (!others.isEmpty()) {
+            graph.transfer.remove(source, target, edge);
+            graph.accounts.setBlocked(source, true);
+            graph.accounts.setBlocked(target, true);
+        }
+    }
+
+    public static void readWrite2(InMemoryGraph graph, ReadWrite2 operation) {
+        int source = graph.accounts.indexOf(operation.getSrcId());
+        int target = graph.accounts.indexOf(operation.getDstId());
+        if (!canAddEdge(graph.accounts, source, target)) {
+            return;
+        }
+        int edge = graph.transfer.add(source, target, operation.timeAsMilli(), operation.getAmount());
+        if (inOutRatio(graph, source, operation) > operation.getRatioThreshold()
+            || inOutRatio(graph, target, operation) > operation.getRatioThreshold()) {
+            graph.transfer.remove(source, target, edge);
+            graph.accounts.setBlocked(source, true);
+            graph.accounts.setBlocked(target, true);
+        }
+    }
+
+    /**
+     * @return number of transfers in to the account by number of transfers out of it, -1 if there are none out of it
+     */
+    private static double inOutRatio(InMemoryGraph graph, int account, ReadWrite2 operation) {
+        long startTime = operation.startTimeAsMilli();
+        long endTime = operation.endTimeAsMilli();
+        int in = countAbove(graph.transfer.in(account, startTime, endTime)
+            .truncate(operation.getTruncationOrder(), operation.getTruncationLimit()), operation.getAmountThreshold());
+        int out = countAbove(graph.transfer.out(account, startTime, endTime)
+            .truncate(operation.getTruncationOrder(), operation.getTruncationLimit()), operation.getAmountThreshold());
+        return (0 == out) ? -1 : round((double) in / out);
+    }
+
+    private static int countAbove(Edges edges, double threshold) {
+        int count = 0;
+        for (int i = 0; i < edges.size(); i++) {
+            if (edges.value(i) > threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static void readWrite3(InMemoryGraph graph, ReadWrite3 operation) {
+        int source = graph.persons.indexOf(operation.getSrcId());
+        int target = graph.persons.indexOf(operation.getDstId());
+        if (!canAddEdge(graph.persons, source, target)) {
+            return;
+        }
+        int edge = graph.personGuaranteePerson.add(source, target, operation.timeAsMilli(), 0);
+        Set<Integer> loans = guaranteedLoans(graph, operation.getSrcId(), operation.startTimeAsMilli(),
+            operation.endTimeAsMilli(), operation.getTruncationOrder(), operation.getTruncationLimit());
+        if (sumOfLoanAmounts(graph, loans) > operation.getThreshold()) {
+            graph.personGuaranteePerson.remove(source, target, edge);
+            graph.persons.setBlocked(source, true);
+            graph.persons.setBlocked(target, true);
+        }
+    }
+
+    private static boolean canAddEdge(VertexTable vertices, int source, int target) {
+        return MISSING != source && MISSING != target && !vertices.isBlocked(source) && !vertices.isBlocked(target);
+    }
+}
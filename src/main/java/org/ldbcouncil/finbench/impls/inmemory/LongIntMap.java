@@ -0,0 +1,68 @@
+package org.ldbcouncil.finbench.impls.inmemory;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map from long ids to int vertex indexes, without boxing
+ */
+final class LongIntMap {
+    static final int MISSING = -1;
+
+    private long[] keys;
+    // MISSING marks a free slot, indexes are never negative
+    private int[] values;
+    private int size = 0;
+
+    LongIntMap() {
+        this.keys = new long[64];
+        this.values = new int[64];
+        Arrays.fill(values, MISSING);
+    }
+
+    int get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            if (MISSING == values[slot]) {
+                return MISSING;
+            }
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+    }
+
+    void put(long key, int value) {
+        if (2 * (size + 1) > keys.length) {
+            resize();
+        }
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (MISSING != values[slot] && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (MISSING == values[slot]) {
+            size++;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        Arrays.fill(values, MISSING);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (MISSING != oldValues[i]) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,105 @@
+package org.ldbcouncil.finbench.impls.inmemory;
+
+import java.util.Arrays;
+
+/**
+ * Vertices of one label as columns indexed by dense vertex indexes. The label column holds the name or type of the
+ * vertex, the amount and balance columns are only used by loans. Deleted vertices keep their index, so edges pointing
+ * to them stay valid and are skipped when read.
+ */
+final class VertexTable {
+    private final LongIntMap indexes = new LongIntMap();
+    private long[] ids = new long[16];
+    private long[] createTimes = new long[16];
+    private boolean[] blocked = new boolean[16];
+    private boolean[] deleted = new boolean[16];
+    private String[] labels = new String[16];
+    private double[] amounts = new double[16];
+    private double[] balances = new double[16];
+    private int count = 0;
+    private int deletedCount = 0;
+
+    /**
+     * @return index of the vertex, the index of the existing vertex if one with the id exists
+     */
+    int add(long id, long createTime, boolean isBlocked, String label, double amount, double balance) {
+        int existing = indexOf(id);
+        if (LongIntMap.MISSING != existing) {
+            return existing;
+        }
+        if (count == ids.length) {
+            int capacity = count * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            createTimes = Arrays.copyOf(createTimes, capacity);
+            blocked = Arrays.copyOf(blocked, capacity);
+            deleted = Arrays.copyOf(deleted, capacity);
+            labels = Arrays.copyOf(labels, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            balances = Arrays.copyOf(balances, capacity);
+        }
+        int index = count++;
+        ids[index] = id;
+        createTimes[index] = createTime;
+        blocked[index] = isBlocked;
+        labels[index] = label;
+        amounts[index] = amount;
+        balances[index] = balance;
+        indexes.put(id, index);
+        return index;
+    }
+
+    /**
+     * @return index of the vertex, {@link LongIntMap#MISSING} if there is none or it was deleted
+     */
+    int indexOf(long id) {
+        int index = indexes.get(id);
+        return (LongIntMap.MISSING == index || deleted[index]) ? LongIntMap.MISSING : index;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long id(int index) {
+        return ids[index];
+    }
+
+    long createTime(int index) {
+        return createTimes[index];
+    }
+
+    boolean isBlocked(int index) {
+        return blocked[index];
+    }
+
+    void setBlocked(int index, boolean isBlocked) {
+        blocked[index] = isBlocked;
+    }
+
+    String label(int index) {
+        return labels[index];
+    }
+
+    double amount(int index) {
+        return amounts[index];
+    }
+
+    double balance(int index) {
+        return balances[index];
+    }
+
+    boolean isDeleted(int index) {
+        return deleted[index];
+    }
+
+    boolean hasDeletedVertices() {
+        return deletedCount > 0;
+    }
+
+    void delete(int index) {
+        if (!deleted[index]) {
+            deleted[index] = true;
+            deletedCount++;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.ldbcouncil.finbench.impls.inmemory.operationhandlers;
+
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import org.ldbcouncil.finbench.driver.DbException;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.OperationHandler;
+import org.ldbcouncil.finbench.driver.ResultReporter;
+import org.ldbcouncil.finbench.impls.inmemory.InMemoryDbConnectionState;
+import org.ldbcouncil.finbench.impls.inmemory.InMemoryGraph;
+
+/**
+ * Runs a read under the read lock of the graph, so reads run concurrently with each other but not with writes
+ */
+public abstract class InMemoryListOperationHandler<TOperationResult,
+    TOperation extends Operation<List<TOperationResult>>>
+    implements OperationHandler<TOperation, InMemoryDbConnectionState> {
+
+    @Override
+    public void executeOperation(TOperation operation,
+                                 InMemoryDbConnectionState state,
+                                 ResultReporter resultReporter) throws DbException {
+        InMemoryGraph graph = state.getGraph();
+        List<TOperationResult> results;
+        Lock lock = graph.lock().readLock();
+        lock.lock();
+        try {
+            results = execute(graph, operation);
+        } finally {
+            lock.unlock();
+        }
+        resultReporter.report(results.size(), results, operation);
+    }
+
+    protected abstract List<TOperationResult> execute(InMemoryGraph graph, TOperation operation);
+}
@@ -0,0 +1,36 @@
+package org.ldbcouncil.finbench.impls.inmemory.operationhandlers;
+
+import java.util.concurrent.locks.Lock;
+import org.ldbcouncil.finbench.driver.DbException;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.OperationHandler;
+import org.ldbcouncil.finbench.driver.ResultReporter;
+import org.ldbcouncil.finbench.driver.workloads.transaction.LdbcNoResult;
+import org.ldbcouncil.finbench.impls.inmemory.InMemoryDbConnectionState;
+import org.ldbcouncil.finbench.impls.inmemory.InMemoryGraph;
+
+/**
+ * Runs a write or read-write under the write lock of the graph. The graph is compacted after the whole operation, as
+ * a read-write may remove the edge it added.
+ */
+public abstract class InMemoryUpdateOperationHandler<TOperation extends Operation<LdbcNoResult>>
+    implements OperationHandler<TOperation, InMemoryDbConnectionState> {
+
+    @Override
+    public void executeOperation(TOperation operation,
+                                 InMemoryDbConnectionState state,
+                                 ResultReporter resultReporter) throws DbException {
+        InMemoryGraph graph = state.getGraph();
+        Lock lock = graph.lock().writeLock();
+        lock.lock();
+        try {
+            execute(graph, operation);
+            graph.compactIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+        resultReporter.report(0, LdbcNoResult.INSTANCE, operation);
+    }
+
+    protected abstract void execute(InMemoryGraph graph, TOperation operation);
+}
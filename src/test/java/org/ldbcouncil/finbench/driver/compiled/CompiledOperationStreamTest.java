@@ -0,0 +1,150 @@
+package org.ldbcouncil.finbench.driver.compiled;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.csv.DuckDbExtractor;
+import org.ldbcouncil.finbench.driver.csv.FileLoader;
+import org.ldbcouncil.finbench.driver.csv.OperationStreamCursor;
+import org.ldbcouncil.finbench.driver.generator.EventStreamReader;
+import org.ldbcouncil.finbench.driver.testutils.BenchmarkTest;
+import org.ldbcouncil.finbench.driver.workloads.transaction.LdbcFinBenchTransactionWorkloadConfiguration;
+import org.ldbcouncil.finbench.driver.workloads.transaction.QueryEventStreamReader;
+import org.ldbcouncil.finbench.driver.workloads.transaction.UpdateEventStreamReader;
+
+public class CompiledOperationStreamTest {
+    private static final File INCREMENTAL_DIR = new File("src/main/resources/example/data/incremental");
+    private static final File READ_PARAMS_DIR = new File("src/main/resources/example/data/dummy_read_params");
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void shouldReplayCompiledUpdateStreamsLikeDecodedOnes() throws Exception {
+        try (DuckDbExtractor db = new DuckDbExtractor(); FileLoader loader = new FileLoader(db)) {
+            for (Map.Entry<Class<? extends Operation>, String> entry :
+                LdbcFinBenchTransactionWorkloadConfiguration.getUpdateStreamClassToPathMapping().entrySet()) {
+                File compiled = new File(tempDir, entry.getValue() + ".fbops");
+                List<Operation> decoded = decodeUpdateStream(loader, entry.getKey(), entry.getValue());
+                compile(decoded, entry.getKey(), compiled);
+                assertSameOperations(decoded, replay(compiled, entry.getKey()));
+            }
+        }
+    }
+
+    @BenchmarkTest
+    public void benchmarkCompiledReplayAgainstDecoding() throws Exception {
+        long decodeNanos = 0;
+        long replayNanos = 0;
+        long operationCount = 0;
+        try (DuckDbExtractor db = new DuckDbExtractor(); FileLoader loader = new FileLoader(db)) {
+            // first round warms up both
+            for (int round = 0; round < 4; round++) {
+                for (Map.Entry<Class<? extends Operation>, String> entry :
+                    LdbcFinBenchTransactionWorkloadConfiguration.getUpdateStreamClassToPathMapping().entrySet()) {
+                    File compiled = new File(tempDir, entry.getValue() + ".fbops");
+
+                    long startNanos = System.nanoTime();
+                    List<Operation> decoded = decodeUpdateStream(loader, entry.getKey(), entry.getValue());
+                    long decodeRoundNanos = System.nanoTime() - startNanos;
+
+                    compile(decoded, entry.getKey(), compiled);
+
+                    startNanos = System.nanoTime();
+                    List<Operation> replayed = replay(compiled, entry.getKey());
+                    long replayRoundNanos = System.nanoTime() - startNanos;
+
+                    assertSameOperations(decoded, replayed);
+                    if (round > 0) {
+                        decodeNanos += decodeRoundNanos;
+                        replayNanos += replayRoundNanos;
+                        operationCount += decoded.size();
+                    }
+                }
+            }
+        }
+        System.out.println(format("Update stream operations: %s, DuckDB decoding: %s ms, Compiled replay: %s ms",
+            operationCount, TimeUnit.NANOSECONDS.toMillis(decodeNanos), TimeUnit.NANOSECONDS.toMillis(replayNanos)));
+    }
+
+    @Test
+    public void shouldReplayCompiledReadParametersAndRewind() throws Exception {
+        Map<Integer, EventStreamReader.EventDecoder<Operation>> decoders = QueryEventStreamReader.getDecoders();
+        Map<Integer, Class<? extends Operation>> typeToClass =
+            LdbcFinBenchTransactionWorkloadConfiguration.operationTypeToClassMapping();
+        try (DuckDbExtractor db = new DuckDbExtractor(); FileLoader loader = new FileLoader(db)) {
+            for (Map.Entry<Integer, String> entry :
+                LdbcFinBenchTransactionWorkloadConfiguration.COMPLEX_READ_OPERATION_PARAMS_FILENAMES.entrySet()) {
+                String csv = new File(READ_PARAMS_DIR, entry.getValue() + ".csv").getAbsolutePath();
+                File compiled = new File(tempDir, entry.getValue() + ".fbops");
+
+                List<Operation> decoded = new ArrayList<>();
+                try (OperationStreamCursor cursor = loader.loadOperationStream(csv, decoders.get(entry.getKey()))) {
+                    cursor.forEachRemaining(decoded::add);
+                }
+                compile(decoded, typeToClass.get(entry.getKey()), compiled);
+
+                try (CompiledOperationStreamReader reader = new CompiledOperationStreamReader(compiled)) {
+                    for (int round = 0; round < 2; round++) {
+                        List<Operation> replayed = new ArrayList<>();
+                        reader.forEachRemaining(replayed::add);
+                        assertSameOperations(decoded, replayed);
+                        reader.rewind();
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Operation> decodeUpdateStream(FileLoader loader, Class<? extends Operation> operationClass,
+                                                      String path) throws Exception {
+        String csv = new File(INCREMENTAL_DIR, path + ".csv").getAbsolutePath();
+        List<Operation> decoded = new ArrayList<>();
+        try (OperationStreamCursor cursor = loader.loadOperationStreamOrderedBy(csv,
+            UpdateEventStreamReader.getDecoders().get(operationClass),
+            LdbcFinBenchTransactionWorkloadConfiguration.getUpdateStreamClassToDateColumn().get(operationClass))) {
+            cursor.forEachRemaining(decoded::add);
+        }
+        return decoded;
+    }
+
+    private static void compile(List<Operation> operations, Class<? extends Operation> operationClass, File file)
+        throws Exception {
+        try (CompiledOperationStreamWriter writer =
+                 new CompiledOperationStreamWriter(file, new OperationCodec(operationClass))) {
+            for (Operation operation : operations) {
+                writer.write(operation);
+            }
+        }
+    }
+
+    private static List<Operation> replay(File file, Class<? extends Operation> operationClass) throws Exception {
+        List<Operation> operations = new ArrayList<>();
+        try (CompiledOperationStreamReader reader = new CompiledOperationStreamReader(file)) {
+            assertThat(reader.operationClass(), equalTo(operationClass));
+            reader.forEachRemaining(operations::add);
+            assertThat(reader.operationCount(), equalTo((long) operations.size()));
+        }
+        return operations;
+    }
+
+    private static void assertSameOperations(List<Operation> expected, List<Operation> actual) {
+        assertThat(actual.size(), equalTo(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i), equalTo(expected.get(i)));
+            assertThat(actual.get(i).scheduledStartTimeAsMilli(), equalTo(expected.get(i).scheduledStartTimeAsMilli()));
+            assertThat(actual.get(i).timeStamp(), equalTo(expected.get(i).timeStamp()));
+            assertThat(actual.get(i).dependencyTimeStamp(), equalTo(expected.get(i).dependencyTimeStamp()));
+            assertThat(actual.get(i).expiryTimeStamp(), equalTo(expected.get(i).expiryTimeStamp()));
+        }
+    }
+}
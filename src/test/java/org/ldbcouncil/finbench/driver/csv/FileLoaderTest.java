@@ -0,0 +1,196 @@
+package org.ldbcouncil.finbench.driver.csv;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.generator.EventStreamReader;
+import org.ldbcouncil.finbench.driver.testutils.BenchmarkTest;
+import org.ldbcouncil.finbench.driver.util.Tuple2;
+import org.ldbcouncil.finbench.driver.workloads.transaction.LdbcFinBenchTransactionWorkloadConfiguration;
+import org.ldbcouncil.finbench.driver.workloads.transaction.UpdateEventStreamReader;
+
+public class FileLoaderTest {
+    private static final File INCREMENTAL_DIR = new File("src/main/resources/example/data/incremental");
+    private static final long BATCH_SIZE =
+        TimeUnit.HOURS.toMillis(LdbcFinBenchTransactionWorkloadConfiguration.DEFAULT_BATCH_SIZE);
+
+    @TempDir
+    File tempDir;
+
+    /**
+     * Batches the example incremental update streams, as parquet files, by the default batch size, with the loader on
+     * views and on tables, and with the former approach of one statement per batch and boundaries from two sorted
+     * scans
+     */
+    @Test
+    public void shouldLoadSameBatchesAsPerBatchStatements() throws Exception {
+        try (DuckDbExtractor db = new DuckDbExtractor()) {
+            writeParquetFiles(db);
+            LoadRound loadRound = loadAllWays(db, 0);
+            assertThat(loadRound.operationCount > 0, equalTo(true));
+        }
+    }
+
+    @BenchmarkTest
+    public void benchmarkPreparedStatementsAgainstPerBatchStatements() throws Exception {
+        try (DuckDbExtractor db = new DuckDbExtractor()) {
+            writeParquetFiles(db);
+            long perBatchStatementsNanos = 0;
+            long preparedStatementsNanos = 0;
+            long tableNanos = 0;
+            // first round warms up all of them
+            for (int round = 0; round < 4; round++) {
+                LoadRound loadRound = loadAllWays(db, round);
+                if (round == 0) {
+                    System.out.println(format("Update stream operations: %s", loadRound.operationCount));
+                } else {
+                    preparedStatementsNanos += loadRound.preparedStatementsNanos;
+                    tableNanos += loadRound.tableNanos;
+                    perBatchStatementsNanos += loadRound.perBatchStatementsNanos;
+                }
+            }
+            System.out.println(format("Per batch statements: %s ms, Prepared statements on views: %s ms, "
+                    + "Prepared statements on tables: %s ms, Speedup: %s",
+                TimeUnit.NANOSECONDS.toMillis(perBatchStatementsNanos),
+                TimeUnit.NANOSECONDS.toMillis(preparedStatementsNanos),
+                TimeUnit.NANOSECONDS.toMillis(tableNanos),
+                (double) perBatchStatementsNanos / tableNanos));
+        }
+    }
+
+    private static class LoadRound {
+        private long operationCount;
+        private long perBatchStatementsNanos;
+        private long preparedStatementsNanos;
+        private long tableNanos;
+    }
+
+    private void writeParquetFiles(DuckDbExtractor db) throws Exception {
+        for (String path : LdbcFinBenchTransactionWorkloadConfiguration.getUpdateStreamClassToPathMapping().values()) {
+            File csv = new File(INCREMENTAL_DIR, path + ".csv");
+            File parquet = new File(tempDir, path + ".parquet");
+            try (Statement stmt = db.getConnection().createStatement()) {
+                stmt.execute(format("COPY (SELECT * FROM read_csv_auto('%s', delim='|', header=TRUE)) TO '%s' "
+                    + "(FORMAT PARQUET)", csv.getAbsolutePath(), parquet.getAbsolutePath()));
+            }
+        }
+    }
+
+    /**
+     * Loads every update stream in all three ways and checks that they agree
+     *
+     * @param round Distinguishes the views and tables created by this round from those of earlier rounds
+     */
+    private LoadRound loadAllWays(DuckDbExtractor db, int round) throws Exception {
+        Map<Class<? extends Operation>, String> classToPath =
+            LdbcFinBenchTransactionWorkloadConfiguration.getUpdateStreamClassToPathMapping();
+        Map<Class<? extends Operation>, String> classToBatchColumn =
+            LdbcFinBenchTransactionWorkloadConfiguration.getUpdateStreamClassToDateColumn();
+        Map<Class<? extends Operation>, EventStreamReader.EventDecoder<Operation>> decoders =
+            UpdateEventStreamReader.getDecoders();
+
+        LoadRound loadRound = new LoadRound();
+        long preparedStatementsOperationCount = 0;
+        long tableOperationCount = 0;
+        for (Map.Entry<Class<? extends Operation>, String> entry : classToPath.entrySet()) {
+            File parquet = new File(tempDir, entry.getValue() + ".parquet");
+            String viewName = entry.getKey().getSimpleName() + round;
+            String batchColumn = classToBatchColumn.get(entry.getKey());
+            EventStreamReader.EventDecoder<Operation> decoder = decoders.get(entry.getKey());
+
+            long startNanos = System.nanoTime();
+            FileLoader loader = new FileLoader(db);
+            loader.createViewOnParquetFile(parquet.getAbsolutePath(), viewName);
+            Tuple2<Long, Long> boundaries = loader.getBoundaryValues(batchColumn, viewName);
+            preparedStatementsOperationCount += loadBatches(loader, decoder, viewName, batchColumn, boundaries);
+            loader.close();
+            loadRound.preparedStatementsNanos += System.nanoTime() - startNanos;
+
+            startNanos = System.nanoTime();
+            loader = new FileLoader(db);
+            loader.createTableOnParquetFile(parquet.getAbsolutePath(), viewName + "_table", batchColumn);
+            Tuple2<Long, Long> tableBoundaries = loader.getBoundaryValues(batchColumn, viewName + "_table");
+            tableOperationCount += loadBatches(loader, decoder, viewName + "_table", batchColumn, tableBoundaries);
+            loader.close();
+            loadRound.tableNanos += System.nanoTime() - startNanos;
+
+            startNanos = System.nanoTime();
+            Tuple2<Long, Long> sortedBoundaries = perBatchStatementsBoundaries(db, viewName, batchColumn);
+            for (long offset = sortedBoundaries._1(); offset <= sortedBoundaries._2(); offset += BATCH_SIZE) {
+                loadRound.operationCount += perBatchStatementsBatchSize(db, decoder, viewName, batchColumn, offset);
+            }
+            loadRound.perBatchStatementsNanos += System.nanoTime() - startNanos;
+
+            assertThat(boundaries._1(), equalTo(sortedBoundaries._1()));
+            assertThat(boundaries._2(), equalTo(sortedBoundaries._2()));
+            assertThat(tableBoundaries._1(), equalTo(sortedBoundaries._1()));
+            assertThat(tableBoundaries._2(), equalTo(sortedBoundaries._2()));
+        }
+        assertThat(preparedStatementsOperationCount, equalTo(loadRound.operationCount));
+        assertThat(tableOperationCount, equalTo(loadRound.operationCount));
+        return loadRound;
+    }
+
+    private static long loadBatches(FileLoader loader, EventStreamReader.EventDecoder<Operation> decoder,
+                                    String viewName, String batchColumn, Tuple2<Long, Long> boundaries)
+        throws Exception {
+        long operationCount = 0;
+        for (long offset = boundaries._1(); offset <= boundaries._2(); offset += BATCH_SIZE) {
+            Iterator<Operation> batch =
+                loader.getOperationStreamBatch(decoder, viewName, batchColumn, offset, BATCH_SIZE);
+            while (batch.hasNext()) {
+                batch.next();
+                operationCount++;
+            }
+        }
+        return operationCount;
+    }
+
+    private static Tuple2<Long, Long> perBatchStatementsBoundaries(DuckDbExtractor db, String viewName,
+                                                                   String batchColumn) throws Exception {
+        long startValue = -1;
+        long endValue = -1;
+        try (Statement stmt = db.getConnection().createStatement()) {
+            ResultSet rs = stmt.executeQuery(
+                "SELECT " + batchColumn + " FROM " + viewName + " ORDER BY " + batchColumn + " ASC LIMIT 1 ");
+            while (rs.next()) {
+                startValue = rs.getLong(1);
+            }
+            rs.close();
+            rs = stmt.executeQuery(
+                "SELECT " + batchColumn + " FROM " + viewName + " ORDER BY " + batchColumn + " DESC LIMIT 1 ");
+            while (rs.next()) {
+                endValue = rs.getLong(1);
+            }
+            rs.close();
+        }
+        return new Tuple2<>(startValue, endValue);
+    }
+
+    private static long perBatchStatementsBatchSize(DuckDbExtractor db,
+                                                    EventStreamReader.EventDecoder<Operation> decoder,
+                                                    String viewName, String batchColumn, long offset) throws Exception {
+        long operationCount = 0;
+        try (Statement stmt = db.getConnection().createStatement()) {
+            ResultSet rs = stmt.executeQuery(
+                format("SELECT * FROM %s WHERE %s >= %d AND %s < %d ORDER BY %s ASC", viewName, batchColumn, offset,
+                    batchColumn, offset + BATCH_SIZE, batchColumn));
+            while (rs.next()) {
+                decoder.decodeEvent(rs);
+                operationCount++;
+            }
+            rs.close();
+        }
+        return operationCount;
+    }
+}
@@ -0,0 +1,101 @@
+package org.ldbcouncil.finbench.driver.csv;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.WorkloadException;
+import org.ldbcouncil.finbench.driver.generator.EventStreamReader;
+import org.ldbcouncil.finbench.driver.generator.GeneratorFactory;
+import org.ldbcouncil.finbench.driver.generator.RandomDataGeneratorFactory;
+import org.ldbcouncil.finbench.driver.workloads.dummy.TimedNamedOperation1;
+
+public class OperationStreamCursorTest {
+    private static final EventStreamReader.EventDecoder<Operation> DECODER = rs -> {
+        try {
+            return new TimedNamedOperation1(rs.getLong(1), rs.getLong(1), 0, rs.getString(2));
+        } catch (SQLException e) {
+            throw new WorkloadException("Error decoding row", e);
+        }
+    };
+
+    @TempDir
+    File tempDir;
+
+    private File writeParams(int rowCount) throws IOException {
+        File file = new File(tempDir, "params_" + rowCount + ".csv");
+        try (PrintWriter writer = new PrintWriter(file)) {
+            writer.println("id|name");
+            for (int i = 0; i < rowCount; i++) {
+                writer.println(i + "|name" + i);
+            }
+        }
+        return file;
+    }
+
+    private static List<Long> take(Iterator<Operation> operations, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count && operations.hasNext(); i++) {
+            ids.add(operations.next().timeStamp());
+        }
+        return ids;
+    }
+
+    private static List<Long> range(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (long i = 0; i < count; i++) {
+            ids.add(i);
+        }
+        return ids;
+    }
+
+    @Test
+    public void shouldStreamAllRowsInBatchesAndRewind() throws Exception {
+        File file = writeParams(25);
+        try (DuckDbExtractor db = new DuckDbExtractor();
+             OperationStreamCursor cursor = new FileLoader(db).loadOperationStream(file.getAbsolutePath(), DECODER, 4)) {
+            assertThat(take(cursor, 100), equalTo(range(25)));
+            assertThat(cursor.hasNext(), is(false));
+
+            cursor.rewind();
+            assertThat(take(cursor, 100), equalTo(range(25)));
+        }
+    }
+
+    @Test
+    public void shouldRepeatSingleAndMultipleBatchStreams() throws Exception {
+        GeneratorFactory gf = new GeneratorFactory(new RandomDataGeneratorFactory(42L));
+        for (int rowCount : new int[] {3, 10}) {
+            File file = writeParams(rowCount);
+            try (DuckDbExtractor db = new DuckDbExtractor();
+                 OperationStreamCursor cursor =
+                     new FileLoader(db).loadOperationStream(file.getAbsolutePath(), DECODER, 4)) {
+                List<Long> expected = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                    expected.addAll(range(rowCount));
+                }
+                assertThat(take(gf.repeating(cursor), rowCount * 3), equalTo(expected));
+            }
+        }
+    }
+
+    @Test
+    public void shouldEndRepeatingEmptyStream() throws Exception {
+        GeneratorFactory gf = new GeneratorFactory(new RandomDataGeneratorFactory(42L));
+        File file = writeParams(0);
+        try (DuckDbExtractor db = new DuckDbExtractor();
+             OperationStreamCursor cursor = new FileLoader(db).loadOperationStream(file.getAbsolutePath(), DECODER)) {
+            assertThat(gf.repeating(cursor).hasNext(), is(false));
+        }
+    }
+}
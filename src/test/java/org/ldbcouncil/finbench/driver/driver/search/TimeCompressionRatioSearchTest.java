@@ -0,0 +1,73 @@
+package org.ldbcouncil.finbench.driver.driver.search;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.junit.jupiter.api.Test;
+import org.ldbcouncil.finbench.driver.validation.ResultsLogValidationResult;
+
+public class TimeCompressionRatioSearchTest {
+    private static final double ERROR_RANGE = 1E-5;
+    private static final double TIMEOUT_RATE = 0.05;
+    private static final double TCR_MIN = 1E-9;
+    private static final double TCR_MAX = 1;
+    // simulated SUT: operations per second scheduled at tcr = 1, and operations per second it can complete
+    private static final long OPERATIONS_PER_SECOND_AT_TCR_ONE = 1000;
+    private static final long CAPACITY = 50_000;
+
+    @Test
+    public void shouldBracketSustainableTimeCompressionRatio() {
+        // late operations exceed the timeout rate once offered load exceeds capacity / (1 - timeout rate)
+        double sustainableTcr = OPERATIONS_PER_SECOND_AT_TCR_ONE * (1 - TIMEOUT_RATE) / CAPACITY;
+        int bisectionRounds = search(new BisectionSearch(ERROR_RANGE, 0), sustainableTcr);
+        int logBisectionRounds = search(new LogBisectionSearch(ERROR_RANGE, 0), sustainableTcr);
+        int throughputModelRounds = search(new ThroughputModelSearch(ERROR_RANGE, 0, TIMEOUT_RATE), sustainableTcr);
+        assertThat(logBisectionRounds, lessThanOrEqualTo(bisectionRounds));
+        assertThat(throughputModelRounds, lessThanOrEqualTo(logBisectionRounds));
+    }
+
+    @Test
+    public void shouldFinishAfterStableRounds() {
+        BisectionSearch search = new BisectionSearch(ERROR_RANGE, 3);
+        search.reset(TCR_MIN, TCR_MAX);
+        int rounds = 0;
+        while (!search.isFinished()) {
+            double tcr = search.nextTimeCompressionRatio();
+            search.report(tcr, simulateRound(tcr));
+            rounds++;
+        }
+        // every round passes until the midpoint drops below the sustainable tcr
+        assertThat(rounds, lessThanOrEqualTo(3));
+    }
+
+    private int search(TimeCompressionRatioSearch search, double sustainableTcr) {
+        search.reset(TCR_MIN, TCR_MAX);
+        int rounds = 0;
+        while (!search.isFinished()) {
+            double tcr = search.nextTimeCompressionRatio();
+            search.report(tcr, simulateRound(tcr));
+            rounds++;
+        }
+        assertThat(search.upperTcr() - search.lowerTcr(), lessThan(ERROR_RANGE));
+        assertThat(search.upperTcr(), greaterThanOrEqualTo(sustainableTcr));
+        assertThat(search.lowerTcr(), lessThan(sustainableTcr));
+        return rounds;
+    }
+
+    private static ResultsLogValidationResult simulateRound(double tcr) {
+        double offeredLoad = OPERATIONS_PER_SECOND_AT_TCR_ONE / tcr;
+        double throughput = Math.min(offeredLoad, CAPACITY);
+        double lateRatio = Math.max(0, 1 - CAPACITY / offeredLoad);
+        long operationCount = 1_000_000;
+        ResultsLogValidationResult result = new ResultsLogValidationResult();
+        result.setOperationCount(operationCount);
+        result.setThroughput(throughput);
+        result.computeOnTimeRatio((long) (lateRatio * operationCount));
+        if (lateRatio > TIMEOUT_RATE) {
+            result.aboveThreshold();
+        }
+        return result;
+    }
+}
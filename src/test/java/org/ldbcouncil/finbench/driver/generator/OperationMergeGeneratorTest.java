@@ -0,0 +1,154 @@
+package org.ldbcouncil.finbench.driver.generator;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.testutils.BenchmarkTest;
+import org.ldbcouncil.finbench.driver.workloads.dummy.TimedNamedOperation1;
+
+public class OperationMergeGeneratorTest {
+    private static final Comparator<Operation> TIME_STAMP_COMPARATOR =
+        (o1, o2) -> Long.compare(o1.timeStamp(), o2.timeStamp());
+
+    @Test
+    public void shouldMergeByKeyKeepingStreamOrderOnTies() {
+        List<Operation> a = stream("a", 1, 4, 4, 9);
+        List<Operation> c = stream("c", 2, 4, 10);
+        List<Operation> d = stream("d", 0, 3);
+
+        List<String> names = new ArrayList<>();
+        new OperationMergeGenerator(OperationMergeGenerator.MergeKey.TIME_STAMP,
+            a.iterator(), new ArrayList<Operation>().iterator(), c.iterator(), d.iterator())
+            .forEachRemaining(operation -> names.add(((TimedNamedOperation1) operation).name()));
+        assertThat(names, equalTo(Arrays.asList("d", "a", "c", "d", "a", "a", "c", "a", "c")));
+
+        // scheduled start times in reverse order of time stamps
+        List<Operation> early = Arrays.asList(new TimedNamedOperation1(1, 20, 0, "e1"),
+            new TimedNamedOperation1(5, 10, 0, "e2"));
+        List<Operation> late = Arrays.asList(new TimedNamedOperation1(3, 15, 0, "l1"));
+        names.clear();
+        new OperationMergeGenerator(OperationMergeGenerator.MergeKey.SCHEDULED_START_TIME,
+            early.iterator(), late.iterator())
+            .forEachRemaining(operation -> names.add(((TimedNamedOperation1) operation).name()));
+        assertThat(names, equalTo(Arrays.asList("e1", "l1", "e2")));
+
+        assertThat(new OperationMergeGenerator(OperationMergeGenerator.MergeKey.TIME_STAMP).hasNext(), is(false));
+    }
+
+    /**
+     * Merges as many streams as there are complex read and write operation types with the heap of primitive keys, the
+     * former comparator merge and the linear scan of {@link OrderedMultiGenerator}
+     */
+    @Test
+    public void shouldMergeLikeComparatorMerges() {
+        List<List<Operation>> streams = streams(22, 100_000);
+        assertSameMerge(
+            drain(new OperationMergeGenerator(OperationMergeGenerator.MergeKey.TIME_STAMP, iterators(streams))),
+            drain(Iterators.mergeSorted(Lists.newArrayList(iterators(streams)), TIME_STAMP_COMPARATOR)),
+            drain(new OrderedMultiGenerator<>(TIME_STAMP_COMPARATOR, 1, iterators(streams))));
+    }
+
+    @BenchmarkTest
+    public void benchmarkMergeAgainstComparatorMerges() {
+        for (int streamCount : new int[] {12, 22}) {
+            List<List<Operation>> streams = streams(streamCount, 2_000_000);
+            long heapNanos = 0;
+            long comparatorNanos = 0;
+            long linearScanNanos = 0;
+            // first round warms up all of them
+            for (int round = 0; round < 4; round++) {
+                long startNanos = System.nanoTime();
+                List<Operation> heapMerged = drain(
+                    new OperationMergeGenerator(OperationMergeGenerator.MergeKey.TIME_STAMP, iterators(streams)));
+                long heapRoundNanos = System.nanoTime() - startNanos;
+
+                startNanos = System.nanoTime();
+                List<Operation> comparatorMerged =
+                    drain(Iterators.mergeSorted(Lists.newArrayList(iterators(streams)), TIME_STAMP_COMPARATOR));
+                long comparatorRoundNanos = System.nanoTime() - startNanos;
+
+                startNanos = System.nanoTime();
+                List<Operation> linearScanMerged =
+                    drain(new OrderedMultiGenerator<>(TIME_STAMP_COMPARATOR, 1, iterators(streams)));
+                long linearScanRoundNanos = System.nanoTime() - startNanos;
+
+                assertSameMerge(heapMerged, comparatorMerged, linearScanMerged);
+                if (round > 0) {
+                    heapNanos += heapRoundNanos;
+                    comparatorNanos += comparatorRoundNanos;
+                    linearScanNanos += linearScanRoundNanos;
+                }
+            }
+            System.out.println(format("%s streams, Comparator merge: %s ms, Linear scan: %s ms, Heap of primitive "
+                    + "keys: %s ms, Speedup: %s", streamCount,
+                TimeUnit.NANOSECONDS.toMillis(comparatorNanos),
+                TimeUnit.NANOSECONDS.toMillis(linearScanNanos),
+                TimeUnit.NANOSECONDS.toMillis(heapNanos),
+                (double) comparatorNanos / heapNanos));
+        }
+    }
+
+    private static void assertSameMerge(List<Operation> heapMerged, List<Operation> comparatorMerged,
+                                        List<Operation> linearScanMerged) {
+        assertThat(heapMerged.size(), equalTo(linearScanMerged.size()));
+        assertThat(heapMerged.size(), equalTo(comparatorMerged.size()));
+        for (int i = 0; i < heapMerged.size(); i++) {
+            // both keep the order of the streams on ties, the comparator merge does not
+            assertThat(heapMerged.get(i), sameInstance(linearScanMerged.get(i)));
+            assertThat(heapMerged.get(i).timeStamp(), equalTo(comparatorMerged.get(i).timeStamp()));
+        }
+    }
+
+    private static List<Operation> stream(String name, long... timeStamps) {
+        List<Operation> stream = new ArrayList<>();
+        for (long timeStamp : timeStamps) {
+            stream.add(new TimedNamedOperation1(0, timeStamp, 0, name));
+        }
+        return stream;
+    }
+
+    private static List<List<Operation>> streams(int streamCount, int operationCount) {
+        Random random = new Random(42);
+        List<List<Operation>> streams = new ArrayList<>();
+        for (int i = 0; i < streamCount; i++) {
+            streams.add(new ArrayList<>());
+        }
+        long[] timeStamps = new long[streamCount];
+        for (int i = 0; i < operationCount; i++) {
+            // streams of different frequencies with frequent equal time stamps
+            int stream = random.nextInt(random.nextInt(streamCount) + 1);
+            timeStamps[stream] += random.nextInt(4);
+            streams.get(stream).add(new TimedNamedOperation1(0, timeStamps[stream], 0, "s" + stream));
+        }
+        return streams;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Iterator<Operation>[] iterators(List<List<Operation>> streams) {
+        Iterator<Operation>[] iterators = new Iterator[streams.size()];
+        for (int i = 0; i < streams.size(); i++) {
+            iterators[i] = streams.get(i).iterator();
+        }
+        return iterators;
+    }
+
+    private static List<Operation> drain(Iterator<Operation> merged) {
+        List<Operation> operations = new ArrayList<>();
+        merged.forEachRemaining(operations::add);
+        return operations;
+    }
+}
@@ -0,0 +1,91 @@
+package org.ldbcouncil.finbench.driver.generator;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.workloads.dummy.TimedNamedOperation1;
+
+public class OperationStreamBufferTest {
+
+    private static Iterator<Operation> batch(long... timeStamps) {
+        List<Operation> batch = new ArrayList<>();
+        for (long timeStamp : timeStamps) {
+            batch.add(new TimedNamedOperation1(0, timeStamp, 0, "name"));
+        }
+        return batch.iterator();
+    }
+
+    private static List<Long> timeStamps(Iterator<Operation> operations) {
+        List<Long> timeStamps = new ArrayList<>();
+        operations.forEachRemaining(operation -> timeStamps.add(operation.timeStamp()));
+        return timeStamps;
+    }
+
+    @Test
+    public void shouldEndOnlyAtEndOfStream() throws InterruptedException {
+        BlockingQueue<Iterator<Operation>> blockingQueue = new ArrayBlockingQueue<>(5);
+        blockingQueue.put(batch(1, 2));
+        blockingQueue.put(Collections.emptyIterator());
+        blockingQueue.put(batch());
+        blockingQueue.put(batch(3));
+        blockingQueue.put(OperationStreamBuffer.END_OF_STREAM);
+        OperationStreamBuffer buffer = new OperationStreamBuffer(blockingQueue);
+        BufferedIterator operations = new BufferedIterator(buffer);
+        operations.init();
+
+        assertThat(timeStamps(operations), equalTo(Arrays.asList(1L, 2L, 3L)));
+        assertThat(buffer.hasNext(), is(false));
+        assertThat(operations.next(), is((Operation) null));
+        assertThat(buffer.stallCount(), equalTo(0L));
+    }
+
+    @Test
+    public void shouldWaitForSlowLoaderAndCountStalls() throws InterruptedException {
+        BlockingQueue<Iterator<Operation>> blockingQueue = new ArrayBlockingQueue<>(1);
+        Thread loader = new Thread(() -> {
+            try {
+                for (long timeStamp = 0; timeStamp < 3; timeStamp++) {
+                    Thread.sleep(100);
+                    blockingQueue.put(batch(timeStamp));
+                }
+                Thread.sleep(100);
+                blockingQueue.put(OperationStreamBuffer.END_OF_STREAM);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        loader.start();
+        OperationStreamBuffer buffer = new OperationStreamBuffer(blockingQueue);
+
+        assertThat(timeStamps(new BufferedIterator(buffer)), equalTo(Arrays.asList(0L, 1L, 2L)));
+        loader.join();
+        assertThat(buffer.stallCount(), equalTo(4L));
+        assertThat(buffer.stallDurationAsNano() >= TimeUnit.MILLISECONDS.toNanos(300), is(true));
+    }
+
+    @Test
+    public void shouldFailWithLoaderErrorInsteadOfEnding() throws InterruptedException {
+        BlockingQueue<Iterator<Operation>> blockingQueue = new ArrayBlockingQueue<>(2);
+        blockingQueue.put(batch(1, 2));
+        IllegalStateException loaderError = new IllegalStateException("update file missing");
+        blockingQueue.put(OperationStreamBuffer.failedStream(loaderError));
+        BufferedIterator operations = new BufferedIterator(new OperationStreamBuffer(blockingQueue));
+
+        assertThat(operations.next().timeStamp(), equalTo(1L));
+        assertThat(operations.next().timeStamp(), equalTo(2L));
+        GeneratorException e = assertThrows(GeneratorException.class, operations::hasNext);
+        assertThat(e.getCause(), is((Throwable) loaderError));
+    }
+}
@@ -0,0 +1,71 @@
+package org.ldbcouncil.finbench.driver.runtime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogFormat;
+import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogReader;
+import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogWriter;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead1;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead1;
+
+public class BinaryResultsLogWriterTest {
+    // spans more than one mapped region
+    private static final int OPERATION_COUNT = 1_500_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void shouldConvertToSameCsvAsSimpleResultsLogWriter() throws Exception {
+        Map<Integer, Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put(ComplexRead1.TYPE, ComplexRead1.class);
+        operationTypeToClassMapping.put(SimpleRead1.TYPE, SimpleRead1.class);
+
+        File binaryResultsLog = tempDir.resolve("results_log.bin").toFile();
+        File csvResultsLog = tempDir.resolve("results_log.csv").toFile();
+        File convertedResultsLog = tempDir.resolve("converted_results_log.csv").toFile();
+        try (ResultsLogWriter binaryWriter = new BinaryResultsLogWriter(
+            binaryResultsLog, TimeUnit.MICROSECONDS, operationTypeToClassMapping);
+             ResultsLogWriter csvWriter = new SimpleResultsLogWriter(csvResultsLog, TimeUnit.MICROSECONDS, false)) {
+            for (int i = 0; i < OPERATION_COUNT; i++) {
+                String operationName = (i % 3 == 0) ? ComplexRead1.class.getSimpleName()
+                    : SimpleRead1.class.getSimpleName();
+                binaryWriter.write(operationName, i, i + 2, i * 1000L + 123, i % 2, i - 1);
+                csvWriter.write(operationName, i, i + 2, i * 1000L + 123, i % 2, i - 1);
+            }
+        }
+
+        assertThat(ResultsLogFormat.of(binaryResultsLog), is(ResultsLogFormat.BINARY));
+        assertThat(ResultsLogFormat.of(csvResultsLog), is(ResultsLogFormat.CSV));
+        try (ResultsLogReader reader = new BinaryResultsLogReader(binaryResultsLog)) {
+            assertThat(reader.unit(), is(TimeUnit.MICROSECONDS));
+            long operationCount = 0;
+            while (reader.next()) {
+                assertThat(reader.getActualStartTimeAsMilli(), equalTo(operationCount + 2));
+                assertThat(reader.getRunDurationAsNano(), equalTo(operationCount * 1000L + 123));
+                operationCount++;
+            }
+            assertThat(operationCount, equalTo((long) OPERATION_COUNT));
+        }
+
+        assertThat(ResultsLogConverter.toCsv(binaryResultsLog, convertedResultsLog), equalTo((long) OPERATION_COUNT));
+        List<String> expected = Files.readAllLines(csvResultsLog.toPath(), StandardCharsets.UTF_8);
+        List<String> converted = Files.readAllLines(convertedResultsLog.toPath(), StandardCharsets.UTF_8);
+        assertThat(converted, equalTo(expected));
+        assertThat(binaryResultsLog.length(), lessThan(csvResultsLog.length()));
+    }
+}
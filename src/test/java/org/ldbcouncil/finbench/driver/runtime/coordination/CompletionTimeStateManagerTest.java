@@ -0,0 +1,130 @@
+package org.ldbcouncil.finbench.driver.runtime.coordination;
+
+import static java.lang.String.format;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeStateManager.CompletedTimeTracker;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeStateManager.HeapCompletedTimeTracker;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeStateManager.InitiatedTimeTracker;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeStateManager.RingBufferInitiatedTimeTracker;
+import org.ldbcouncil.finbench.driver.testutils.BenchmarkTest;
+
+public class CompletionTimeStateManagerTest {
+    @Test
+    public void primitiveTrackersShouldComputeSameCompletionTimesAsCollectionTrackers()
+        throws CompletionTimeException {
+        long[] events = generateEvents(100000, 5000, 42);
+        long treeMultiSetChecksum = applyEvents(
+            events,
+            CompletionTimeStateManager.InitiatedTimeTrackerImpl.createUsingTreeMultiSet(),
+            CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingTreeMultiSet());
+        long arrayListChecksum = applyEvents(
+            generateEvents(100000, 500, 42),
+            CompletionTimeStateManager.InitiatedTimeTrackerImpl.createUsingArrayList(),
+            CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList());
+        long primitiveChecksum = applyEvents(
+            events,
+            new RingBufferInitiatedTimeTracker(),
+            new HeapCompletedTimeTracker());
+        long primitiveSmallWindowChecksum = applyEvents(
+            generateEvents(100000, 500, 42),
+            new RingBufferInitiatedTimeTracker(),
+            new HeapCompletedTimeTracker());
+        assertThat(primitiveChecksum, equalTo(treeMultiSetChecksum));
+        assertThat(primitiveSmallWindowChecksum, equalTo(arrayListChecksum));
+    }
+
+    @BenchmarkTest
+    public void benchmarkTrackers() throws CompletionTimeException {
+        int count = 10000;
+        while (count <= 1000000) {
+            for (int inFlight : new int[] {100, 10000}) {
+                long[] events = generateEvents(count, inFlight, 42);
+                long treeMultiSetDuration = time(events,
+                    CompletionTimeStateManager.InitiatedTimeTrackerImpl.createUsingTreeMultiSet(),
+                    CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingTreeMultiSet());
+                // array list trackers are quadratic in number of in-flight operations
+                long arrayListDuration = (inFlight > 1000) ? -1 : time(events,
+                    CompletionTimeStateManager.InitiatedTimeTrackerImpl.createUsingArrayList(),
+                    CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList());
+                long primitiveDuration = time(events,
+                    new RingBufferInitiatedTimeTracker(),
+                    new HeapCompletedTimeTracker());
+                System.out.println(format(
+                    "Count: %s, In Flight: %s, TreeMultiSet: %s ms, ArrayList: %s ms, Primitive: %s ms, Speedup: %s",
+                    count, inFlight, treeMultiSetDuration, arrayListDuration, primitiveDuration,
+                    treeMultiSetDuration / (double) Math.max(1, primitiveDuration)));
+            }
+            count = count * 10;
+        }
+    }
+
+    private long time(long[] events,
+                      InitiatedTimeTracker initiatedTimeTracker,
+                      CompletedTimeTracker completedTimeTracker) throws CompletionTimeException {
+        long startTime = System.nanoTime();
+        applyEvents(events, initiatedTimeTracker, completedTimeTracker);
+        return (System.nanoTime() - startTime) / 1000000;
+    }
+
+    /**
+     * Same logic as CompletionTimeStateManager, returns sum of all completion times it went through
+     */
+    private long applyEvents(long[] events,
+                             InitiatedTimeTracker initiatedTimeTracker,
+                             CompletedTimeTracker completedTimeTracker) throws CompletionTimeException {
+        long completionTimeAsMilli = -1;
+        long checksum = 0;
+        for (long event : events) {
+            long lastKnownLowestInitiatedTimeAsMilli;
+            if (event >= 0) {
+                lastKnownLowestInitiatedTimeAsMilli =
+                    initiatedTimeTracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli(event);
+            } else {
+                long timeAsMilli = -event - 1;
+                lastKnownLowestInitiatedTimeAsMilli =
+                    initiatedTimeTracker.removeTimeAndReturnLastKnownLowestTimeAsMilli(timeAsMilli);
+                completedTimeTracker.addCompletedTimeAsMilli(timeAsMilli);
+            }
+            long highestSafeCompletedTimeAsMilli =
+                completedTimeTracker.removeTimesLowerThanAndReturnHighestRemoved(lastKnownLowestInitiatedTimeAsMilli);
+            if (-1 != highestSafeCompletedTimeAsMilli) {
+                completionTimeAsMilli = highestSafeCompletedTimeAsMilli;
+            }
+            checksum += completionTimeAsMilli;
+        }
+        return checksum;
+    }
+
+    /**
+     * Initiated times (ascending, with duplicates) are encoded as t, completed times as -(t + 1).
+     * Operations complete in random order, with up to maxInFlight operations uncompleted at any time.
+     */
+    private long[] generateEvents(int operationCount, int maxInFlight, long seed) {
+        Random random = new Random(seed);
+        long[] events = new long[operationCount * 2];
+        long[] inFlight = new long[maxInFlight];
+        int inFlightCount = 0;
+        int eventIndex = 0;
+        long timeAsMilli = 0;
+        int initiated = 0;
+        while (eventIndex < events.length) {
+            boolean initiate = initiated < operationCount
+                && (0 == inFlightCount || (inFlightCount < maxInFlight && random.nextBoolean()));
+            if (initiate) {
+                timeAsMilli += random.nextInt(3);
+                events[eventIndex++] = timeAsMilli;
+                inFlight[inFlightCount++] = timeAsMilli;
+                initiated++;
+            } else {
+                int completed = random.nextInt(inFlightCount);
+                events[eventIndex++] = -inFlight[completed] - 1;
+                inFlight[completed] = inFlight[--inFlightCount];
+            }
+        }
+        return events;
+    }
+}
@@ -0,0 +1,209 @@
+package org.ldbcouncil.finbench.driver.runtime.coordination;
+
+import static java.lang.String.format;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.ldbcouncil.finbench.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.finbench.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.finbench.driver.temporal.TimeSource;
+import org.ldbcouncil.finbench.driver.testutils.BenchmarkTest;
+
+public class LockFreeCompletionTimeServiceTest {
+    private static final long END_OF_STREAM = -1;
+
+    @Test
+    public void shouldAdvanceCompletionTimeInOrder() throws CompletionTimeException {
+        LockFreeCompletionTimeService completionTimeService = new LockFreeCompletionTimeService(4);
+        CompletionTimeWriter writer1 = completionTimeService.newCompletionTimeWriter();
+        CompletionTimeWriter writer2 = completionTimeService.newCompletionTimeWriter();
+        assertThat(completionTimeService.completionTimeAsMilli(), equalTo(-1L));
+
+        writer1.submitInitiatedTime(1);
+        writer1.submitInitiatedTime(2);
+        writer1.submitInitiatedTime(2);
+        writer2.submitInitiatedTime(3);
+        writer1.submitCompletedTime(2);
+        writer1.submitCompletedTime(2);
+        // 1 is still uncompleted
+        assertThat(completionTimeService.completionTimeAsMilli(), equalTo(-1L));
+
+        writer1.submitCompletedTime(1);
+        // 2 is lowest initiated time of writer 1, but it may still initiate more operations at 2
+        assertThat(completionTimeService.completionTimeAsMilli(), equalTo(1L));
+
+        writer1.submitInitiatedTime(4);
+        writer1.submitInitiatedTime(5);
+        writer1.submitInitiatedTime(6);
+        writer1.submitInitiatedTime(7);
+        assertThat(completionTimeService.completionTimeAsMilli(), equalTo(2L));
+        writer2.submitCompletedTime(3);
+        writer2.submitInitiatedTime(4);
+        assertThat(completionTimeService.completionTimeAsMilli(), equalTo(3L));
+        writer1.submitCompletedTime(4);
+        writer1.submitCompletedTime(6);
+        writer1.submitCompletedTime(5);
+        writer2.submitCompletedTime(4);
+        writer2.submitInitiatedTime(10);
+        // writer 1 lowest initiated time is 7
+        assertThat(completionTimeService.completionTimeAsMilli(), equalTo(6L));
+    }
+
+    @Test
+    public void shouldFailOnUnknownCompletedTime() throws CompletionTimeException {
+        LockFreeCompletionTimeService completionTimeService = new LockFreeCompletionTimeService(4);
+        CompletionTimeWriter writer = completionTimeService.newCompletionTimeWriter();
+        writer.submitInitiatedTime(1);
+        boolean exceptionThrown = false;
+        try {
+            writer.submitCompletedTime(2);
+        } catch (CompletionTimeException e) {
+            exceptionThrown = true;
+        }
+        assertThat(exceptionThrown, is(true));
+    }
+
+    @Test
+    public void shouldBoundUncompletedOperationsWithSameInitiatedTime() throws CompletionTimeException {
+        int maxCount = (1 << 20) - 1;
+        LockFreeCompletionTimeService completionTimeService = new LockFreeCompletionTimeService(4);
+        CompletionTimeWriter writer = completionTimeService.newCompletionTimeWriter();
+        for (int i = 0; i < maxCount; i++) {
+            writer.submitInitiatedTime(1);
+        }
+        boolean exceptionThrown = false;
+        try {
+            writer.submitInitiatedTime(1);
+        } catch (CompletionTimeException e) {
+            exceptionThrown = true;
+        }
+        assertThat(exceptionThrown, is(true));
+
+        // a full slot is not mistaken for a released one
+        writer.submitInitiatedTime(2);
+        assertThat(completionTimeService.completionTimeAsMilli(), equalTo(-1L));
+        for (int i = 0; i < maxCount; i++) {
+            writer.submitCompletedTime(1);
+        }
+        assertThat(completionTimeService.completionTimeAsMilli(), equalTo(1L));
+    }
+
+    @Test
+    public void shouldNeverMoveCompletionTimeBackWithManyCompletingThreads() throws Exception {
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        LockFreeCompletionTimeService lockFreeCompletionTimeService =
+            new CompletionTimeServiceAssistant().newLockFreeCompletionTimeService();
+        doStressTest(lockFreeCompletionTimeService, 100000, 8, timeSource, errorReporter);
+        lockFreeCompletionTimeService.shutdown();
+    }
+
+    @BenchmarkTest
+    public void benchmarkManyCompletingThreads() throws Exception {
+        int operationCount = 1000000;
+        int threadCount = 32;
+        TimeSource timeSource = new SystemTimeSource();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        ThreadedQueuedCompletionTimeService threadedQueuedCompletionTimeService =
+            assistant.newThreadedQueuedCompletionTimeService(timeSource, errorReporter);
+        long threadedQueuedDuration =
+            doStressTest(threadedQueuedCompletionTimeService, operationCount, threadCount, timeSource, errorReporter);
+        threadedQueuedCompletionTimeService.shutdown();
+
+        errorReporter = new ConcurrentErrorReporter();
+        LockFreeCompletionTimeService lockFreeCompletionTimeService = assistant.newLockFreeCompletionTimeService();
+        long lockFreeDuration =
+            doStressTest(lockFreeCompletionTimeService, operationCount, threadCount, timeSource, errorReporter);
+        lockFreeCompletionTimeService.shutdown();
+
+        System.out.println(format("Operations: %s, Threads: %s, ThreadedQueued: %s ms, LockFree: %s ms, Speedup: %s",
+            operationCount, threadCount, threadedQueuedDuration, lockFreeDuration,
+            threadedQueuedDuration / (double) Math.max(1, lockFreeDuration)));
+    }
+
+    /**
+     * One thread initiates operations in ascending time order, many threads complete them in arbitrary order.
+     * Completion Time is sampled throughout and must never go backwards.
+     */
+    private long doStressTest(CompletionTimeService completionTimeService,
+                              int operationCount,
+                              int threadCount,
+                              TimeSource timeSource,
+                              ConcurrentErrorReporter errorReporter) throws Exception {
+        CompletionTimeWriter writer = completionTimeService.newCompletionTimeWriter();
+        BlockingQueue<Long> initiatedTimes = new ArrayBlockingQueue<>(10000);
+        List<Thread> completingThreads = new ArrayList<>();
+        AtomicBoolean failed = new AtomicBoolean(false);
+        for (int i = 0; i < threadCount; i++) {
+            Thread completingThread = new Thread(() -> {
+                try {
+                    long timeAsMilli;
+                    while (END_OF_STREAM != (timeAsMilli = initiatedTimes.take())) {
+                        writer.submitCompletedTime(timeAsMilli);
+                    }
+                } catch (Exception e) {
+                    failed.set(true);
+                }
+            });
+            completingThreads.add(completingThread);
+        }
+        AtomicBoolean done = new AtomicBoolean(false);
+        Thread samplingThread = new Thread(() -> {
+            long previousCompletionTimeAsMilli = -1;
+            try {
+                while (!done.get()) {
+                    long completionTimeAsMilli = completionTimeService.completionTimeAsMilli();
+                    if (completionTimeAsMilli < previousCompletionTimeAsMilli) {
+                        failed.set(true);
+                    }
+                    previousCompletionTimeAsMilli = completionTimeAsMilli;
+                }
+            } catch (CompletionTimeException e) {
+                failed.set(true);
+            }
+        });
+
+        long startTime = timeSource.nowAsMilli();
+        completingThreads.forEach(Thread::start);
+        samplingThread.start();
+        long lastTimeAsMilli = 0;
+        for (int i = 0; i < operationCount; i++) {
+            // several operations per time stamp
+            lastTimeAsMilli = i / 4;
+            writer.submitInitiatedTime(lastTimeAsMilli);
+            initiatedTimes.put(lastTimeAsMilli);
+        }
+        writer.submitInitiatedTime(Long.MAX_VALUE);
+        for (int i = 0; i < threadCount; i++) {
+            initiatedTimes.put(END_OF_STREAM);
+        }
+        for (Thread completingThread : completingThreads) {
+            completingThread.join();
+        }
+        boolean completionTimeAdvanced = new CompletionTimeServiceAssistant().waitForCompletionTime(
+            timeSource,
+            lastTimeAsMilli,
+            TimeUnit.SECONDS.toMillis(30),
+            completionTimeService,
+            errorReporter);
+        long duration = timeSource.nowAsMilli() - startTime;
+        done.set(true);
+        samplingThread.join();
+
+        assertThat(failed.get(), is(false));
+        assertThat(errorReporter.errorEncountered(), is(false));
+        assertThat(completionTimeAdvanced, is(true));
+        assertThat(completionTimeService.completionTimeAsMilli(), equalTo(lastTimeAsMilli));
+        return duration;
+    }
+}
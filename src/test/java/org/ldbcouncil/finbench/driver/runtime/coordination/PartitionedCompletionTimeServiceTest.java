@@ -0,0 +1,88 @@
+package org.ldbcouncil.finbench.driver.runtime.coordination;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class PartitionedCompletionTimeServiceTest {
+    private static final long WAIT_AS_MILLI = TimeUnit.SECONDS.toMillis(10);
+
+    @Test
+    public void shouldAdvanceCompletionTimeWithTheSlowestPartition() throws Exception {
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        try (PartitionCoordinator coordinator = new PartitionCoordinator(2, 0)) {
+            CompletableFuture<Integer> phaseCount = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return coordinator.run();
+                } catch (CompletionTimeException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            CompletableFuture<PartitionCoordinatorClient> connected0 = connect(coordinator.port(), 0, 100);
+            CompletableFuture<PartitionCoordinatorClient> connected1 = connect(coordinator.port(), 1, 200);
+            PartitionCoordinatorClient client0 = connected0.get(WAIT_AS_MILLI, TimeUnit.MILLISECONDS);
+            PartitionCoordinatorClient client1 = connected1.get(WAIT_AS_MILLI, TimeUnit.MILLISECONDS);
+            // latest proposed start time
+            assertThat(client0.workloadStartTimeAsMilli(), equalTo(200L));
+            assertThat(client1.workloadStartTimeAsMilli(), equalTo(200L));
+
+            CompletionTimeService partition0 =
+                new PartitionedCompletionTimeService(assistant.newLockFreeCompletionTimeService(), client0);
+            CompletionTimeService partition1 =
+                new PartitionedCompletionTimeService(assistant.newLockFreeCompletionTimeService(), client1);
+            CompletionTimeWriter writer0 = partition0.newCompletionTimeWriter();
+            CompletionTimeWriter writer1 = partition1.newCompletionTimeWriter();
+
+            writer0.submitInitiatedTime(10);
+            writer0.submitCompletedTime(10);
+            writer0.submitInitiatedTime(20);
+            // Completion Time of partition 1 is not known yet
+            assertThat(partition0.completionTimeAsMilli(), equalTo(-1L));
+
+            writer1.submitInitiatedTime(5);
+            writer1.submitCompletedTime(5);
+            writer1.submitInitiatedTime(30);
+            awaitCompletionTime(partition0, 5);
+            awaitCompletionTime(partition1, 5);
+
+            writer1.submitCompletedTime(30);
+            writer1.submitInitiatedTime(40);
+            awaitCompletionTime(partition0, 10);
+            awaitCompletionTime(partition1, 10);
+
+            // a finished partition no longer holds back the others
+            partition1.shutdown();
+            writer0.submitCompletedTime(20);
+            writer0.submitInitiatedTime(50);
+            awaitCompletionTime(partition0, 20);
+            partition0.shutdown();
+
+            assertThat(phaseCount.get(WAIT_AS_MILLI, TimeUnit.MILLISECONDS), equalTo(1));
+        }
+    }
+
+    private static CompletableFuture<PartitionCoordinatorClient> connect(int port, int partition,
+                                                                         long proposedStartTimeAsMilli) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return PartitionCoordinatorClient.connect(port, 2, partition, proposedStartTimeAsMilli, true,
+                    WAIT_AS_MILLI);
+            } catch (CompletionTimeException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    private static void awaitCompletionTime(CompletionTimeService completionTimeService, long completionTimeAsMilli)
+        throws Exception {
+        long deadlineAsMilli = System.currentTimeMillis() + WAIT_AS_MILLI;
+        while (completionTimeService.completionTimeAsMilli() != completionTimeAsMilli
+            && System.currentTimeMillis() < deadlineAsMilli) {
+            Thread.sleep(1);
+        }
+        assertThat(completionTimeService.completionTimeAsMilli(), equalTo(completionTimeAsMilli));
+    }
+}
@@ -0,0 +1,161 @@
+package org.ldbcouncil.finbench.driver.runtime.executor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.ldbcouncil.finbench.driver.ChildOperationGenerator;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.WorkloadStreams;
+import org.ldbcouncil.finbench.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeService;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import org.ldbcouncil.finbench.driver.runtime.coordination.DummyCompletionTimeWriter;
+import org.ldbcouncil.finbench.driver.runtime.metrics.DummyCountingMetricsService;
+import org.ldbcouncil.finbench.driver.runtime.scheduling.Spinner;
+import org.ldbcouncil.finbench.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.finbench.driver.temporal.TimeSource;
+import org.ldbcouncil.finbench.driver.workloads.dummy.TimedNamedOperation1;
+
+public class AsyncOperationExecutorTest {
+    private static final long WAIT_AS_MILLI = TimeUnit.SECONDS.toMillis(10);
+    private final TimeSource timeSource = new SystemTimeSource();
+
+    @Test
+    public void shouldBlockSubmittingBeyondMaxInFlightOperations() throws Exception {
+        RecordingDb db = RecordingDb.newInitializedDb();
+        db.hold("first");
+        db.hold("second");
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeService completionTimeService =
+            new CompletionTimeServiceAssistant().newLockFreeCompletionTimeService();
+        OperationExecutor executor = newExecutor(2, db, null, completionTimeService, errorReporter);
+
+        executor.execute(new TimedNamedOperation1(0L, 0L, 0L, "first"));
+        executor.execute(new TimedNamedOperation1(0L, 0L, 0L, "second"));
+        CompletableFuture<Void> thirdSubmitted = CompletableFuture.runAsync(() -> {
+            try {
+                executor.execute(new TimedNamedOperation1(0L, 0L, 0L, "third"));
+            } catch (OperationExecutorException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertThat(db.awaitStarted("third", 300), equalTo(false));
+        assertThat(thirdSubmitted.isDone(), equalTo(false));
+
+        db.release("first");
+        thirdSubmitted.get(WAIT_AS_MILLI, TimeUnit.MILLISECONDS);
+        assertThat(db.awaitStarted("third", WAIT_AS_MILLI), equalTo(true));
+        db.release("second");
+        assertThat(awaitNoUncompletedHandlers(executor), equalTo(true));
+        executor.shutdown(1000);
+        completionTimeService.shutdown();
+        db.close();
+        assertThat(errorReporter.toString(), errorReporter.errorEncountered(), equalTo(false));
+    }
+
+    @Test
+    public void shouldRunChildOperationsAndCompleteAllHandlers() throws Exception {
+        RecordingDb db = RecordingDb.newInitializedDb();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeService completionTimeService =
+            new CompletionTimeServiceAssistant().newLockFreeCompletionTimeService();
+        OperationExecutor executor =
+            newExecutor(2, db, twoChildrenOfParent(), completionTimeService, errorReporter);
+
+        executor.execute(new TimedNamedOperation1(0L, 0L, 0L, "parent"));
+        assertThat(awaitNoUncompletedHandlers(executor), equalTo(true));
+
+        assertThat(db.started(), contains("parent", "child-1", "child-2"));
+        executor.shutdown(1000);
+        completionTimeService.shutdown();
+        db.close();
+        assertThat(errorReporter.toString(), errorReporter.errorEncountered(), equalTo(false));
+    }
+
+    @Test
+    public void shouldReleasePermitOfFailedOperationAndReportError() throws Exception {
+        RecordingDb db = RecordingDb.newInitializedDb();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeService completionTimeService =
+            new CompletionTimeServiceAssistant().newLockFreeCompletionTimeService();
+        OperationExecutor executor = newExecutor(1, db, null, completionTimeService, errorReporter);
+
+        // with a single permit the second operation is only accepted once the failed one gave its permit back
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            executor.execute(new TimedNamedOperation1(0L, 0L, 0L, RecordingDb.FAILING_NAME));
+            executor.execute(new TimedNamedOperation1(0L, 0L, 0L, "after"));
+        });
+        assertThat(awaitNoUncompletedHandlers(executor), equalTo(true));
+
+        assertThat(db.started(), contains(RecordingDb.FAILING_NAME, "after"));
+        assertThat(errorReporter.errorEncountered(), equalTo(true));
+        executor.shutdown(1000);
+        completionTimeService.shutdown();
+        db.close();
+    }
+
+    private OperationExecutor newExecutor(int maxInFlightOperations,
+                                          RecordingDb db,
+                                          ChildOperationGenerator childOperationGenerator,
+                                          CompletionTimeService completionTimeService,
+                                          ConcurrentErrorReporter errorReporter) {
+        return new AsyncOperationExecutor(
+            maxInFlightOperations,
+            db,
+            new WorkloadStreams.WorkloadStreamDefinition(
+                Collections.emptySet(), Collections.emptySet(), null, null, childOperationGenerator),
+            new DummyCompletionTimeWriter(),
+            completionTimeService,
+            new Spinner(timeSource, 0, false),
+            timeSource,
+            errorReporter,
+            new DummyCountingMetricsService(),
+            childOperationGenerator
+        );
+    }
+
+    private boolean awaitNoUncompletedHandlers(OperationExecutor executor) throws InterruptedException {
+        long deadlineAsMilli = timeSource.nowAsMilli() + WAIT_AS_MILLI;
+        while (0 != executor.uncompletedOperationHandlerCount()) {
+            if (timeSource.nowAsMilli() > deadlineAsMilli) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    /**
+     * Generates child-1 and child-2 after the operation named parent
+     */
+    private static ChildOperationGenerator twoChildrenOfParent() {
+        return new ChildOperationGenerator() {
+            @Override
+            public double initialState() {
+                return 1;
+            }
+
+            @Override
+            public Operation nextOperation(double state, Operation operation, Object result,
+                                           long actualStartTimeAsMilli, long runDurationAsNano) {
+                String name = ((TimedNamedOperation1) operation).name();
+                if (!name.equals("parent") && !name.startsWith("child-")) {
+                    return null;
+                }
+                return (state <= 2) ? new TimedNamedOperation1(0L, 0L, 0L, "child-" + (int) state) : null;
+            }
+
+            @Override
+            public double updateState(double previousState, int previousOperationType) {
+                return previousState + 1;
+            }
+        };
+    }
+}
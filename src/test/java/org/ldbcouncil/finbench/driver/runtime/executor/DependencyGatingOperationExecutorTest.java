@@ -0,0 +1,61 @@
+package org.ldbcouncil.finbench.driver.runtime.executor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import com.google.common.collect.Sets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeService;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import org.ldbcouncil.finbench.driver.workloads.dummy.NothingOperation;
+import org.ldbcouncil.finbench.driver.workloads.dummy.TimedNamedOperation1;
+
+public class DependencyGatingOperationExecutorTest {
+
+    @Test
+    public void shouldShutdownWithoutWaitingForHeldOperations() throws Exception {
+        // no writers, so Completion Time never advances
+        CompletionTimeService completionTimeService =
+            new CompletionTimeServiceAssistant().newLockFreeCompletionTimeService();
+        List<Operation> executed = Collections.synchronizedList(new ArrayList<>());
+        DependencyGatingOperationExecutor executor = new DependencyGatingOperationExecutor(
+            new OperationExecutor() {
+                @Override
+                public void execute(Operation operation) {
+                    executed.add(operation);
+                }
+
+                @Override
+                public void shutdown(long waitAsMilli) {
+                }
+
+                @Override
+                public long uncompletedOperationHandlerCount() {
+                    return 0;
+                }
+            },
+            Sets.<Class<? extends Operation>>newHashSet(TimedNamedOperation1.class),
+            completionTimeService,
+            10,
+            new ConcurrentErrorReporter());
+
+        executor.execute(new TimedNamedOperation1(0L, 20L, 10L, "dependent"));
+        executor.execute(new NothingOperation());
+        assertThat(executed.size(), equalTo(1));
+        assertThat(executor.uncompletedOperationHandlerCount(), equalTo(1L));
+
+        OperationExecutorException e = assertTimeoutPreemptively(Duration.ofSeconds(10),
+            () -> assertThrows(OperationExecutorException.class, () -> executor.shutdown(1000)));
+        assertThat(e.getMessage(), containsString("1 operations were waiting for completion time"));
+        completionTimeService.shutdown();
+    }
+}
@@ -0,0 +1,117 @@
+package org.ldbcouncil.finbench.driver.runtime.executor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.ldbcouncil.finbench.driver.Db;
+import org.ldbcouncil.finbench.driver.DbConnectionState;
+import org.ldbcouncil.finbench.driver.DbException;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.OperationHandler;
+import org.ldbcouncil.finbench.driver.ResultReporter;
+import org.ldbcouncil.finbench.driver.log.Log4jLoggingServiceFactory;
+import org.ldbcouncil.finbench.driver.log.LoggingService;
+import org.ldbcouncil.finbench.driver.workloads.dummy.DummyResult;
+import org.ldbcouncil.finbench.driver.workloads.dummy.TimedNamedOperation1;
+
+/**
+ * Records the names of the operations it starts, in start order. Operations may be held until they are released,
+ * operations named failing throw instead of reporting a result
+ */
+class RecordingDb extends Db {
+    static final String FAILING_NAME = "failing";
+    private final RecordingConnectionState connectionState = new RecordingConnectionState();
+
+    static RecordingDb newInitializedDb() throws DbException {
+        Map<Integer, Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put(TimedNamedOperation1.TYPE, TimedNamedOperation1.class);
+        RecordingDb db = new RecordingDb();
+        db.init(
+            new HashMap<>(),
+            new Log4jLoggingServiceFactory(false).loggingServiceFor(RecordingDb.class.getSimpleName()),
+            operationTypeToClassMapping);
+        return db;
+    }
+
+    /**
+     * Operations with this name wait in their handler until released
+     */
+    void hold(String name) {
+        connectionState.releases.put(name, new CountDownLatch(1));
+    }
+
+    void release(String name) {
+        connectionState.releases.get(name).countDown();
+    }
+
+    boolean awaitStarted(String name, long timeoutAsMilli) throws InterruptedException {
+        long deadlineAsMilli = System.currentTimeMillis() + timeoutAsMilli;
+        while (!connectionState.started.contains(name)) {
+            if (System.currentTimeMillis() > deadlineAsMilli) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    boolean started(String name) {
+        return connectionState.started.contains(name);
+    }
+
+    List<String> started() {
+        synchronized (connectionState.started) {
+            return new ArrayList<>(connectionState.started);
+        }
+    }
+
+    @Override
+    protected void onInit(Map<String, String> params, LoggingService loggingService) throws DbException {
+        registerOperationHandler(TimedNamedOperation1.class, RecordingHandler.class);
+    }
+
+    @Override
+    protected void onClose() throws IOException {
+    }
+
+    @Override
+    protected DbConnectionState getConnectionState() throws DbException {
+        return connectionState;
+    }
+
+    public static class RecordingHandler implements OperationHandler<TimedNamedOperation1, RecordingConnectionState> {
+        @Override
+        public void executeOperation(TimedNamedOperation1 operation,
+                                     RecordingConnectionState connectionState,
+                                     ResultReporter resultReporter) throws DbException {
+            connectionState.started.add(operation.name());
+            CountDownLatch release = connectionState.releases.get(operation.name());
+            try {
+                if (null != release && !release.await(10, TimeUnit.SECONDS)) {
+                    throw new DbException("Operation was never released: " + operation.name());
+                }
+            } catch (InterruptedException e) {
+                throw new DbException("Interrupted while held: " + operation.name(), e);
+            }
+            if (FAILING_NAME.equals(operation.name())) {
+                throw new DbException("Failing operation");
+            }
+            resultReporter.report(0, new DummyResult(), operation);
+        }
+    }
+
+    static class RecordingConnectionState extends DbConnectionState {
+        private final List<String> started = Collections.synchronizedList(new ArrayList<>());
+        private final Map<String, CountDownLatch> releases = new ConcurrentHashMap<>();
+
+        @Override
+        public void close() throws IOException {
+        }
+    }
+}
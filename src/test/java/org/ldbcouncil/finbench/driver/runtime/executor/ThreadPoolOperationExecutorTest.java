@@ -0,0 +1,174 @@
+package org.ldbcouncil.finbench.driver.runtime.executor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.ldbcouncil.finbench.driver.ChildOperationGenerator;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.WorkloadStreams;
+import org.ldbcouncil.finbench.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeService;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import org.ldbcouncil.finbench.driver.runtime.coordination.DummyCompletionTimeWriter;
+import org.ldbcouncil.finbench.driver.runtime.metrics.DummyCountingMetricsService;
+import org.ldbcouncil.finbench.driver.runtime.scheduling.Spinner;
+import org.ldbcouncil.finbench.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.finbench.driver.temporal.TimeSource;
+import org.ldbcouncil.finbench.driver.workloads.dummy.TimedNamedOperation1;
+
+public class ThreadPoolOperationExecutorTest {
+    private static final long WAIT_AS_MILLI = TimeUnit.SECONDS.toMillis(10);
+    private final TimeSource timeSource = new SystemTimeSource();
+
+    @Test
+    public void shouldRunEveryChildOperationOfChainInOrderWithUpdatedState() throws Exception {
+        RecordingDb db = RecordingDb.newInitializedDb();
+        List<Double> states = Collections.synchronizedList(new ArrayList<>());
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeService completionTimeService =
+            new CompletionTimeServiceAssistant().newLockFreeCompletionTimeService();
+        OperationExecutor executor =
+            newExecutor(4, db, chain(3, 0, states), completionTimeService, errorReporter);
+
+        executor.execute(new TimedNamedOperation1(0L, 0L, 0L, "parent"));
+        assertThat(awaitNoUncompletedHandlers(executor), equalTo(true));
+
+        assertThat(db.started(), contains("parent", "child-1", "child-2", "child-3"));
+        // last child generates no further child
+        assertThat(states, contains(1.0, 2.0, 3.0, 4.0));
+        executor.shutdown(1000);
+        completionTimeService.shutdown();
+        db.close();
+        assertThat(errorReporter.toString(), errorReporter.errorEncountered(), equalTo(false));
+    }
+
+    @Test
+    public void shouldCountChainAsUncompletedBetweenParentAndChild() throws Exception {
+        RecordingDb db = RecordingDb.newInitializedDb();
+        db.hold("child-3");
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeService completionTimeService =
+            new CompletionTimeServiceAssistant().newLockFreeCompletionTimeService();
+        // children are due some time after their parent completed, so they wait in the child operation scheduler
+        OperationExecutor executor = newExecutor(4, db, chain(3, 20, Collections.synchronizedList(new ArrayList<>())),
+            completionTimeService, errorReporter);
+
+        executor.execute(new TimedNamedOperation1(0L, 0L, 0L, "parent"));
+        boolean seenWithoutUncompletedHandlers = false;
+        long deadlineAsMilli = timeSource.nowAsMilli() + WAIT_AS_MILLI;
+        while (!db.started("child-3") && timeSource.nowAsMilli() < deadlineAsMilli) {
+            if (0 == executor.uncompletedOperationHandlerCount()) {
+                seenWithoutUncompletedHandlers = true;
+            }
+        }
+        assertThat(db.started("child-3"), equalTo(true));
+        assertThat(seenWithoutUncompletedHandlers, equalTo(false));
+
+        db.release("child-3");
+        assertThat(awaitNoUncompletedHandlers(executor), equalTo(true));
+        executor.shutdown(1000);
+        completionTimeService.shutdown();
+        db.close();
+        assertThat(errorReporter.toString(), errorReporter.errorEncountered(), equalTo(false));
+    }
+
+    @Test
+    public void shouldRunDueChildOperationsBeforeWaitingStreamOperations() throws Exception {
+        RecordingDb db = RecordingDb.newInitializedDb();
+        db.hold("parent");
+        db.hold("stream-1");
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeService completionTimeService =
+            new CompletionTimeServiceAssistant().newLockFreeCompletionTimeService();
+        // single thread, child of parent is due while the thread is busy with the first stream operation
+        OperationExecutor executor = newExecutor(1, db, chain(1, 200, Collections.synchronizedList(new ArrayList<>())),
+            completionTimeService, errorReporter);
+
+        executor.execute(new TimedNamedOperation1(0L, 0L, 0L, "parent"));
+        assertThat(db.awaitStarted("parent", WAIT_AS_MILLI), equalTo(true));
+        executor.execute(new TimedNamedOperation1(0L, 0L, 0L, "stream-1"));
+        executor.execute(new TimedNamedOperation1(0L, 0L, 0L, "stream-2"));
+        executor.execute(new TimedNamedOperation1(0L, 0L, 0L, "stream-3"));
+        db.release("parent");
+        assertThat(db.awaitStarted("stream-1", WAIT_AS_MILLI), equalTo(true));
+        // child is handed over to the pool while stream-2 and stream-3 are queued
+        Thread.sleep(500);
+        db.release("stream-1");
+        assertThat(awaitNoUncompletedHandlers(executor), equalTo(true));
+
+        assertThat(db.started(), contains("parent", "stream-1", "child-1", "stream-2", "stream-3"));
+        executor.shutdown(1000);
+        completionTimeService.shutdown();
+        db.close();
+        assertThat(errorReporter.toString(), errorReporter.errorEncountered(), equalTo(false));
+    }
+
+    private OperationExecutor newExecutor(int threadCount,
+                                          RecordingDb db,
+                                          ChildOperationGenerator childOperationGenerator,
+                                          CompletionTimeService completionTimeService,
+                                          ConcurrentErrorReporter errorReporter) {
+        return new ThreadPoolOperationExecutor(
+            threadCount,
+            10,
+            db,
+            new WorkloadStreams.WorkloadStreamDefinition(
+                Collections.emptySet(), Collections.emptySet(), null, null, childOperationGenerator),
+            new DummyCompletionTimeWriter(),
+            completionTimeService,
+            new Spinner(timeSource, 0, false),
+            timeSource,
+            errorReporter,
+            new DummyCountingMetricsService(),
+            childOperationGenerator
+        );
+    }
+
+    private boolean awaitNoUncompletedHandlers(OperationExecutor executor) throws InterruptedException {
+        long deadlineAsMilli = timeSource.nowAsMilli() + WAIT_AS_MILLI;
+        while (0 != executor.uncompletedOperationHandlerCount()) {
+            if (timeSource.nowAsMilli() > deadlineAsMilli) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    /**
+     * Generates children child-1 to child-length after the operation named parent, every child due gapAsMilli after
+     * its parent completed. Records the states it is called with
+     */
+    private ChildOperationGenerator chain(int length, long gapAsMilli, List<Double> states) {
+        return new ChildOperationGenerator() {
+            @Override
+            public double initialState() {
+                return 1;
+            }
+
+            @Override
+            public Operation nextOperation(double state, Operation operation, Object result,
+                                           long actualStartTimeAsMilli, long runDurationAsNano) {
+                String name = ((TimedNamedOperation1) operation).name();
+                if (!name.equals("parent") && !name.startsWith("child-")) {
+                    return null;
+                }
+                states.add(state);
+                return (state <= length)
+                    ? new TimedNamedOperation1(timeSource.nowAsMilli() + gapAsMilli, 0L, 0L, "child-" + (int) state)
+                    : null;
+            }
+
+            @Override
+            public double updateState(double previousState, int previousOperationType) {
+                return previousState + 1;
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package org.ldbcouncil.finbench.driver.runtime.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead1;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead1;
+
+public class OnTimeTrackerTest {
+    private static final long EXCESSIVE_DELAY_THRESHOLD_AS_MILLI = 1000;
+    private static final double TIMEOUT_RATE = 0.05;
+
+    @Test
+    public void shouldOnlyBeCertainOfFailureWhenLateRatioIsClearlyAboveTimeoutRate() throws Exception {
+        // 4% late is never certain to fail, 8% late, all of them complex reads, is
+        OnTimeTracker passing = newOnTimeTracker();
+        OnTimeTracker failing = newOnTimeTracker();
+        for (int i = 0; i < 100_000; i++) {
+            record(passing, i, i % 100 < 4);
+            assertThat(passing.failureIsCertain(), equalTo(false));
+            record(failing, i, i % 100 < 16 && i % 2 == 0);
+        }
+        assertThat(failing.failureIsCertain(), equalTo(true));
+        assertThat(failing.operationCount(), equalTo(100_000L));
+        assertThat(failing.lateOperationCount(), equalTo(8_000L));
+        assertThat(failing.lateOperationRatioPerType().get(ComplexRead1.class.getSimpleName()), equalTo(0.16));
+        assertThat(failing.lateOperationRatioPerType().get(SimpleRead1.class.getSimpleName()), equalTo(0.0));
+    }
+
+    @Test
+    public void shouldNotBeCertainOfFailureBeforeMinimumOperationCount() throws Exception {
+        OnTimeTracker onTimeTracker = newOnTimeTracker();
+        for (int i = 0; i < OnTimeTracker.DEFAULT_MINIMUM_OPERATION_COUNT - 1; i++) {
+            record(onTimeTracker, i, true);
+        }
+        assertThat(onTimeTracker.failureIsCertain(), equalTo(false));
+        record(onTimeTracker, 0, true);
+        assertThat(onTimeTracker.failureIsCertain(), equalTo(true));
+    }
+
+    private static OnTimeTracker newOnTimeTracker() throws MetricsCollectionException {
+        Map<Integer, Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put(ComplexRead1.TYPE, ComplexRead1.class);
+        operationTypeToClassMapping.put(SimpleRead1.TYPE, SimpleRead1.class);
+        return new OnTimeTracker(operationTypeToClassMapping, EXCESSIVE_DELAY_THRESHOLD_AS_MILLI, TIMEOUT_RATE);
+    }
+
+    // even operations are complex reads, odd operations are simple reads
+    private static void record(OnTimeTracker onTimeTracker, int i, boolean late) {
+        long scheduledStartTimeAsMilli = i;
+        long delayAsMilli = late ? EXCESSIVE_DELAY_THRESHOLD_AS_MILLI + 1 : EXCESSIVE_DELAY_THRESHOLD_AS_MILLI;
+        int operationType = (i % 2 == 0) ? ComplexRead1.TYPE : SimpleRead1.TYPE;
+        onTimeTracker.record(operationType, scheduledStartTimeAsMilli, scheduledStartTimeAsMilli + delayAsMilli);
+    }
+}
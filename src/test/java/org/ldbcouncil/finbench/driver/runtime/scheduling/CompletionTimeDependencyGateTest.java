@@ -0,0 +1,114 @@
+package org.ldbcouncil.finbench.driver.runtime.scheduling;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.finbench.driver.runtime.coordination.CompletionTimeReader;
+import org.ldbcouncil.finbench.driver.workloads.dummy.TimedNamedOperation1;
+
+public class CompletionTimeDependencyGateTest {
+    // longer than the park timeout of the release thread, so it has re-checked Completion Time at least once
+    private static final long RECHECK_DURATION_AS_MILLI = 300;
+
+    @Test
+    public void shouldHoldOperationUntilCompletionTimeReachesDependencyTimeStamp() throws InterruptedException {
+        AtomicLong completionTime = new AtomicLong(0);
+        List<Operation> dispatched = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch released = new CountDownLatch(1);
+        CompletionTimeDependencyGate gate = new CompletionTimeDependencyGate(
+            completionTimeReader(completionTime), 10,
+            operation -> {
+                dispatched.add(operation);
+                released.countDown();
+            },
+            new ConcurrentErrorReporter());
+
+        Operation operation = new TimedNamedOperation1(0L, 20L, 10L, "dependent");
+        gate.gate(operation);
+        advanceCompletionTime(gate, completionTime, 9);
+        assertThat(released.await(RECHECK_DURATION_AS_MILLI, TimeUnit.MILLISECONDS), equalTo(false));
+        assertThat(gate.heldOperationCount(), equalTo(1L));
+
+        advanceCompletionTime(gate, completionTime, 10);
+        assertThat(released.await(10, TimeUnit.SECONDS), equalTo(true));
+        assertThat(dispatched.get(0), sameInstance(operation));
+        assertThat(gate.shutdown(1000), equalTo(0L));
+    }
+
+    @Test
+    public void shouldReleaseOperationsInDependencyOrder() throws InterruptedException {
+        AtomicLong completionTime = new AtomicLong(0);
+        List<Operation> dispatched = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch released = new CountDownLatch(3);
+        CompletionTimeDependencyGate gate = new CompletionTimeDependencyGate(
+            completionTimeReader(completionTime), 10,
+            operation -> {
+                dispatched.add(operation);
+                released.countDown();
+            },
+            new ConcurrentErrorReporter());
+
+        Operation third = new TimedNamedOperation1(0L, 40L, 30L, "third");
+        Operation first = new TimedNamedOperation1(0L, 20L, 10L, "first");
+        Operation second = new TimedNamedOperation1(0L, 30L, 20L, "second");
+        gate.gate(third);
+        gate.gate(first);
+        gate.gate(second);
+
+        advanceCompletionTime(gate, completionTime, 30);
+        assertThat(released.await(10, TimeUnit.SECONDS), equalTo(true));
+        assertThat(dispatched.get(0), sameInstance(first));
+        assertThat(dispatched.get(1), sameInstance(second));
+        assertThat(dispatched.get(2), sameInstance(third));
+        assertThat(gate.shutdown(1000), equalTo(0L));
+    }
+
+    @Test
+    public void shouldShutdownWithoutWaitingForHeldOperations() {
+        AtomicLong completionTime = new AtomicLong(0);
+        List<Operation> dispatched = Collections.synchronizedList(new ArrayList<>());
+        CompletionTimeDependencyGate gate = new CompletionTimeDependencyGate(
+            completionTimeReader(completionTime), 10, dispatched::add, new ConcurrentErrorReporter());
+
+        long discardedOperations = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            gate.gate(new TimedNamedOperation1(0L, 20L, 10L, "never released"));
+            gate.gate(new TimedNamedOperation1(0L, 30L, 20L, "never released"));
+            return gate.shutdown(1000);
+        });
+        assertThat(discardedOperations, equalTo(2L));
+        assertThat(dispatched.size(), equalTo(0));
+    }
+
+    private static void advanceCompletionTime(CompletionTimeDependencyGate gate,
+                                              AtomicLong completionTime,
+                                              long completionTimeAsMilli) {
+        completionTime.set(completionTimeAsMilli);
+        gate.onCompletionTimeAdvance(completionTimeAsMilli);
+    }
+
+    private static CompletionTimeReader completionTimeReader(AtomicLong completionTime) {
+        return new CompletionTimeReader() {
+            @Override
+            public long lastKnownLowestInitiatedTimeAsMilli() {
+                return completionTime.get();
+            }
+
+            @Override
+            public long completionTimeAsMilli() {
+                return completionTime.get();
+            }
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package org.ldbcouncil.finbench.driver.runtime.scheduling;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.finbench.driver.temporal.ManualTimeSource;
+import org.ldbcouncil.finbench.driver.workloads.dummy.NothingOperation;
+
+public class ScheduledStartTimeDispatcherTest {
+
+    @Test
+    public void shouldDispatchOperationsDueAtSameTimeInSchedulingOrder() throws InterruptedException {
+        ManualTimeSource timeSource = new ManualTimeSource(0);
+        int operationCount = 100;
+        List<Operation> dispatched = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch allDispatched = new CountDownLatch(operationCount + 1);
+        ScheduledStartTimeDispatcher dispatcher = new ScheduledStartTimeDispatcher(
+            timeSource, SchedulerType.DISPATCHER_PARK, operationCount + 1,
+            operation -> {
+                dispatched.add(operation);
+                allDispatched.countDown();
+            },
+            new ConcurrentErrorReporter());
+
+        List<Operation> scheduled = new ArrayList<>();
+        for (int i = 0; i < operationCount; i++) {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli(100);
+            scheduled.add(operation);
+            dispatcher.schedule(operation);
+        }
+        Operation earlier = new NothingOperation();
+        earlier.setScheduledStartTimeAsMilli(90);
+        dispatcher.schedule(earlier);
+        assertThat(dispatched.size(), equalTo(0));
+
+        timeSource.setNowFromMilli(100);
+        assertThat(allDispatched.await(10, TimeUnit.SECONDS), equalTo(true));
+        // operations of the same type are equal, so compare identities
+        assertThat(dispatched.get(0), sameInstance(earlier));
+        for (int i = 0; i < operationCount; i++) {
+            assertThat(dispatched.get(i + 1), sameInstance(scheduled.get(i)));
+        }
+        assertThat(dispatcher.shutdown(1000), equalTo(0L));
+    }
+}
@@ -0,0 +1,20 @@
+package org.ldbcouncil.finbench.driver.testutils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test that measures and prints throughput or allocation instead of checking behaviour.
+ * Benchmarks are excluded from the default test run, mvn test -Pbenchmark runs only them.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag(BenchmarkTest.TAG)
+@Test
+public @interface BenchmarkTest {
+    String TAG = "benchmark";
+}
@@ -0,0 +1,117 @@
+package org.ldbcouncil.finbench.driver.validation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.runtime.BinaryResultsLogWriter;
+import org.ldbcouncil.finbench.driver.runtime.SimpleResultsLogWriter;
+import org.ldbcouncil.finbench.driver.runtime.metrics.ResultsLogWriter;
+import org.ldbcouncil.finbench.driver.testutils.BenchmarkTest;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead1;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead1;
+
+public class ResultsLogValidatorTest {
+    private static final int OPERATION_COUNT = 100_000;
+    private static final int BENCHMARK_OPERATION_COUNT = 500_000;
+    private static final long EXCESSIVE_DELAY_THRESHOLD_AS_MILLI = 1000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void shouldComputeSameSummaryForAllFormatsAndChunkSizes() throws Exception {
+        File csvResultsLog = tempDir.resolve("results_log.csv").toFile();
+        File binaryResultsLog = tempDir.resolve("results_log.bin").toFile();
+        long expectedExcessiveDelayCount = writeResultsLogs(csvResultsLog, binaryResultsLog, OPERATION_COUNT, false);
+
+        ResultsLogValidator validator = new ResultsLogValidator();
+        ResultsLogValidationSummary csvSummary = validator.compute(csvResultsLog, EXCESSIVE_DELAY_THRESHOLD_AS_MILLI);
+        ResultsLogValidationSummary binarySummary =
+            validator.compute(binaryResultsLog, EXCESSIVE_DELAY_THRESHOLD_AS_MILLI);
+        // small chunks, so both logs are split and validated in parallel
+        ResultsLogValidationSummary chunkedCsvSummary =
+            validator.compute(csvResultsLog, EXCESSIVE_DELAY_THRESHOLD_AS_MILLI, 1024 * 1024, 50_000);
+        ResultsLogValidationSummary chunkedBinarySummary =
+            validator.compute(binaryResultsLog, EXCESSIVE_DELAY_THRESHOLD_AS_MILLI, 1024 * 1024, 50_000);
+
+        assertThat(csvSummary.excessiveDelayCount(), equalTo(expectedExcessiveDelayCount));
+        assertThat(binarySummary, equalTo(csvSummary));
+        assertThat(chunkedCsvSummary, equalTo(csvSummary));
+        assertThat(chunkedBinarySummary, equalTo(csvSummary));
+    }
+
+    @BenchmarkTest
+    public void benchmarkCsvAgainstBinaryResultsLog() throws Exception {
+        File csvResultsLog = tempDir.resolve("results_log.csv").toFile();
+        File binaryResultsLog = tempDir.resolve("results_log.bin").toFile();
+        writeResultsLogs(csvResultsLog, binaryResultsLog, BENCHMARK_OPERATION_COUNT, false);
+
+        ResultsLogValidator validator = new ResultsLogValidator();
+        long startTime = System.nanoTime();
+        ResultsLogValidationSummary csvSummary = validator.compute(csvResultsLog, EXCESSIVE_DELAY_THRESHOLD_AS_MILLI);
+        long csvDuration = System.nanoTime() - startTime;
+        startTime = System.nanoTime();
+        ResultsLogValidationSummary binarySummary =
+            validator.compute(binaryResultsLog, EXCESSIVE_DELAY_THRESHOLD_AS_MILLI);
+        long binaryDuration = System.nanoTime() - startTime;
+
+        assertThat(binarySummary, equalTo(csvSummary));
+        System.out.println(String.format("Validated %s operations: CSV %s ms, binary %s ms",
+            BENCHMARK_OPERATION_COUNT,
+            TimeUnit.NANOSECONDS.toMillis(csvDuration),
+            TimeUnit.NANOSECONDS.toMillis(binaryDuration)));
+    }
+
+    @Test
+    public void shouldFailOnNegativeDelay() throws Exception {
+        File csvResultsLog = tempDir.resolve("results_log.csv").toFile();
+        File binaryResultsLog = tempDir.resolve("results_log.bin").toFile();
+        writeResultsLogs(csvResultsLog, binaryResultsLog, OPERATION_COUNT, true);
+
+        ResultsLogValidator validator = new ResultsLogValidator();
+        assertThrows(ValidationException.class, () ->
+            validator.compute(csvResultsLog, EXCESSIVE_DELAY_THRESHOLD_AS_MILLI, 1024 * 1024, 50_000));
+        assertThrows(ValidationException.class, () ->
+            validator.compute(binaryResultsLog, EXCESSIVE_DELAY_THRESHOLD_AS_MILLI, 1024 * 1024, 50_000));
+    }
+
+    private static long writeResultsLogs(File csvResultsLog, File binaryResultsLog, int operationCount,
+                                         boolean negativeDelay) throws Exception {
+        Map<Integer, Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put(ComplexRead1.TYPE, ComplexRead1.class);
+        operationTypeToClassMapping.put(SimpleRead1.TYPE, SimpleRead1.class);
+        Random random = new Random(42);
+        long excessiveDelayCount = 0;
+        try (ResultsLogWriter csvWriter = new SimpleResultsLogWriter(csvResultsLog, TimeUnit.MICROSECONDS, false);
+             ResultsLogWriter binaryWriter = new BinaryResultsLogWriter(
+                 binaryResultsLog, TimeUnit.MICROSECONDS, operationTypeToClassMapping)) {
+            for (int i = 0; i < operationCount; i++) {
+                String operationName = (0 == random.nextInt(3)) ? ComplexRead1.class.getSimpleName()
+                    : SimpleRead1.class.getSimpleName();
+                long scheduledStartTimeAsMilli = 1_000_000L + i;
+                // mostly small delays, with a long tail
+                long delayAsMilli = (0 == random.nextInt(100)) ? random.nextInt(100_000) : random.nextInt(50);
+                if (negativeDelay && i == operationCount - 10) {
+                    delayAsMilli = -1;
+                }
+                if (delayAsMilli > EXCESSIVE_DELAY_THRESHOLD_AS_MILLI) {
+                    excessiveDelayCount++;
+                }
+                long actualStartTimeAsMilli = scheduledStartTimeAsMilli + delayAsMilli;
+                csvWriter.write(operationName, scheduledStartTimeAsMilli, actualStartTimeAsMilli, 1000, 0, i);
+                binaryWriter.write(operationName, scheduledStartTimeAsMilli, actualStartTimeAsMilli, 1000, 0, i);
+            }
+        }
+        return excessiveDelayCount;
+    }
+}
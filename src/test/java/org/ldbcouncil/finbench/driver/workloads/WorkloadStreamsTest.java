@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
+import org.ldbcouncil.finbench.driver.CachedWorkloadStreams;
 import org.ldbcouncil.finbench.driver.ChildOperationGenerator;
 import org.ldbcouncil.finbench.driver.Operation;
 import org.ldbcouncil.finbench.driver.Workload;
@@ -203,6 +204,64 @@ public class WorkloadStreamsTest {
         workload.close();
     }
 
+    @Test
+    public void shouldReturnSameOperationsFromCachedStreamsAsFromNewWorkloadInEveryRound()
+        throws WorkloadException, DriverConfigurationException, IOException {
+        GeneratorFactory gf = new GeneratorFactory(new RandomDataGeneratorFactory(42L));
+        WorkloadFactory workloadFactory = new WorkloadFactory() {
+            @Override
+            public Workload createWorkload() throws WorkloadException {
+                return new TestWorkload();
+            }
+        };
+        ConsoleAndFileDriverConfiguration configuration =
+            ConsoleAndFileDriverConfiguration.fromDefaults(null, null, 100);
+        LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory(false);
+        CachedWorkloadStreams cachedWorkloadStreams =
+            new CachedWorkloadStreams(workloadFactory, configuration, gf);
+
+        // first round, time mapping overwrites the scheduled start times of the cached operations
+        WorkloadStreams firstRoundStreams = WorkloadStreams.timeOffsetAndCompressWorkloadStreams(
+            cachedWorkloadStreams.createOffsetAndLimitedWorkloadStreams(0, 100, loggingServiceFactory)._1(),
+            TimeUnit.SECONDS.toMillis(100),
+            0.5,
+            gf);
+        assertThat(Iterators.size(
+            WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators(gf, firstRoundStreams)), is(100));
+
+        // second round, with different offset and limit
+        Tuple3<WorkloadStreams, Workload, Long> cachedStreamsAndWorkload =
+            cachedWorkloadStreams.createOffsetAndLimitedWorkloadStreams(10, 50, loggingServiceFactory);
+        List<Operation> cachedOperations = Lists.newArrayList(
+            WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators(gf, cachedStreamsAndWorkload._1()));
+
+        Tuple3<WorkloadStreams, Workload, Long> newStreamsAndWorkload =
+            WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                workloadFactory,
+                configuration,
+                gf,
+                false,
+                10,
+                50,
+                loggingServiceFactory
+            );
+        List<Operation> newOperations = Lists.newArrayList(
+            WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators(gf, newStreamsAndWorkload._1()));
+
+        assertThat(cachedOperations.size(), is(50));
+        assertThat(cachedOperations, equalTo(newOperations));
+        for (int i = 0; i < newOperations.size(); i++) {
+            assertThat(cachedOperations.get(i).scheduledStartTimeAsMilli(),
+                is(newOperations.get(i).scheduledStartTimeAsMilli()));
+            assertThat(cachedOperations.get(i).timeStamp(), is(newOperations.get(i).timeStamp()));
+            assertThat(cachedOperations.get(i).dependencyTimeStamp(), is(newOperations.get(i).dependencyTimeStamp()));
+        }
+        assertThat(cachedStreamsAndWorkload._3(), is(newStreamsAndWorkload._3()));
+
+        newStreamsAndWorkload._2().close();
+        cachedWorkloadStreams.close();
+    }
+
     @Test
     public void shouldLimitStreamsCorrectly() throws WorkloadException {
         GeneratorFactory gf = new GeneratorFactory(new RandomDataGeneratorFactory(42L));
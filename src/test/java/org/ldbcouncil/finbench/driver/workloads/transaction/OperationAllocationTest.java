@@ -0,0 +1,127 @@
+package org.ldbcouncil.finbench.driver.workloads.transaction;
+
+import static java.lang.String.format;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.generator.GeneratorFactory;
+import org.ldbcouncil.finbench.driver.generator.RandomDataGeneratorFactory;
+import org.ldbcouncil.finbench.driver.testutils.BenchmarkTest;
+import org.ldbcouncil.finbench.driver.truncation.TruncationOrder;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead1;
+
+public class OperationAllocationTest {
+    private static final int PARAMETER_COUNT = 1000;
+    private static final int OPERATION_COUNT = 1_000_000;
+    private static final long START_TIME_AS_MILLI = 1_600_000_000_000L;
+    private static final long INTERLEAVE_AS_MILLI = 7;
+
+    private final com.sun.management.ThreadMXBean threadMxBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    public void shouldDecodeAndAssignStartTimesLikeBoxedTimes() {
+        GeneratorFactory gf = new GeneratorFactory(new RandomDataGeneratorFactory(42L));
+        List<Operation> parameters = parameters();
+        for (int i = 0; i < PARAMETER_COUNT; i++) {
+            assertThat(new ComplexRead1(i, new Date(START_TIME_AS_MILLI + i), new Date(START_TIME_AS_MILLI + 2 * i),
+                10, TruncationOrder.TIMESTAMP_DESCENDING), equalTo(parameters.get(i)));
+        }
+
+        int operationCount = 10 * PARAMETER_COUNT;
+        Iterator<Operation> boxed = gf.limit(gf.assignStartTimes(
+            gf.incrementing(START_TIME_AS_MILLI, INTERLEAVE_AS_MILLI),
+            new QueryEventStreamReader(gf.repeating(parameters.iterator()))), operationCount);
+        Iterator<Operation> primitive = gf.limit(gf.assignStartTimes(
+            START_TIME_AS_MILLI, INTERLEAVE_AS_MILLI,
+            new QueryEventStreamReader(gf.repeating(parameters.iterator()))), operationCount);
+        for (int i = 0; i < operationCount; i++) {
+            assertThat(primitive.next().scheduledStartTimeAsMilli(), equalTo(boxed.next().scheduledStartTimeAsMilli()));
+        }
+        assertThat(primitive.hasNext(), equalTo(false));
+        assertThat(boxed.hasNext(), equalTo(false));
+    }
+
+    /**
+     * Bytes allocated per operation when decoding parameters into operations, and when assigning start times to the
+     * operations of a repeated read stream, with boxed and with primitive times
+     */
+    @BenchmarkTest
+    public void benchmarkAllocationPerOperationWithPrimitiveTimes() {
+        GeneratorFactory gf = new GeneratorFactory(new RandomDataGeneratorFactory(42L));
+        List<Operation> parameters = parameters();
+
+        double boxedDecodingBytes = 0;
+        double primitiveDecodingBytes = 0;
+        double boxedStartTimesBytes = 0;
+        double primitiveStartTimesBytes = 0;
+        // first round warms up all of them
+        for (int round = 0; round < 3; round++) {
+            Operation[] decoded = new Operation[PARAMETER_COUNT];
+            long startBytes = allocatedBytes();
+            for (int i = 0; i < PARAMETER_COUNT; i++) {
+                decoded[i] = new ComplexRead1(i, new Date(START_TIME_AS_MILLI + i),
+                    new Date(START_TIME_AS_MILLI + 2 * i), 10, TruncationOrder.TIMESTAMP_DESCENDING);
+            }
+            boxedDecodingBytes = (double) (allocatedBytes() - startBytes) / PARAMETER_COUNT;
+
+            startBytes = allocatedBytes();
+            for (int i = 0; i < PARAMETER_COUNT; i++) {
+                decoded[i] = new ComplexRead1(i, START_TIME_AS_MILLI + i, START_TIME_AS_MILLI + 2 * i, 10,
+                    TruncationOrder.TIMESTAMP_DESCENDING);
+            }
+            primitiveDecodingBytes = (double) (allocatedBytes() - startBytes) / PARAMETER_COUNT;
+
+            Iterator<Operation> boxed = gf.limit(gf.assignStartTimes(
+                gf.incrementing(START_TIME_AS_MILLI, INTERLEAVE_AS_MILLI),
+                new QueryEventStreamReader(gf.repeating(parameters.iterator()))), OPERATION_COUNT);
+            startBytes = allocatedBytes();
+            long boxedLastStartTime = consume(boxed);
+            boxedStartTimesBytes = (double) (allocatedBytes() - startBytes) / OPERATION_COUNT;
+
+            Iterator<Operation> primitive = gf.limit(gf.assignStartTimes(
+                START_TIME_AS_MILLI, INTERLEAVE_AS_MILLI,
+                new QueryEventStreamReader(gf.repeating(parameters.iterator()))), OPERATION_COUNT);
+            startBytes = allocatedBytes();
+            long primitiveLastStartTime = consume(primitive);
+            primitiveStartTimesBytes = (double) (allocatedBytes() - startBytes) / OPERATION_COUNT;
+
+            assertThat(primitiveLastStartTime, equalTo(boxedLastStartTime));
+        }
+        System.out.println(format("Decoding: Date parameters %.1f bytes/op, epoch milli parameters %.1f bytes/op",
+            boxedDecodingBytes, primitiveDecodingBytes));
+        System.out.println(format("Assigning start times: boxed %.1f bytes/op, primitive %.1f bytes/op",
+            boxedStartTimesBytes, primitiveStartTimesBytes));
+        assertThat(primitiveDecodingBytes, lessThan(boxedDecodingBytes));
+        assertThat(primitiveStartTimesBytes, lessThan(boxedStartTimesBytes));
+    }
+
+    private static List<Operation> parameters() {
+        List<Operation> parameters = new ArrayList<>(PARAMETER_COUNT);
+        for (int i = 0; i < PARAMETER_COUNT; i++) {
+            parameters.add(new ComplexRead1(i, START_TIME_AS_MILLI + i, START_TIME_AS_MILLI + 2 * i, 10,
+                TruncationOrder.TIMESTAMP_DESCENDING));
+        }
+        return parameters;
+    }
+
+    private long allocatedBytes() {
+        return threadMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static long consume(Iterator<Operation> operations) {
+        long lastStartTimeAsMilli = -1;
+        while (operations.hasNext()) {
+            lastStartTimeAsMilli = operations.next().scheduledStartTimeAsMilli();
+        }
+        return lastStartTimeAsMilli;
+    }
+}
@@ -0,0 +1,72 @@
+package org.ldbcouncil.finbench.driver.workloads.transaction;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ldbcouncil.finbench.driver.Operation;
+import org.ldbcouncil.finbench.driver.WorkloadException;
+import org.ldbcouncil.finbench.driver.generator.BufferedIterator;
+import org.ldbcouncil.finbench.driver.generator.GeneratorException;
+import org.ldbcouncil.finbench.driver.generator.OperationStreamBuffer;
+import org.ldbcouncil.finbench.driver.workloads.dummy.TimedNamedOperation1;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write1;
+
+public class RunnableOperationStreamBatchLoaderTest {
+
+    private static List<Operation> batch(String name, long... timeStamps) {
+        List<Operation> batch = new ArrayList<>();
+        for (long timeStamp : timeStamps) {
+            batch.add(new TimedNamedOperation1(0, timeStamp, 0, name));
+        }
+        return batch;
+    }
+
+    @Test
+    public void shouldMergeBatchesByTimeStampKeepingBatchOrderOnTies() {
+        List<Operation> merged = RunnableOperationStreamBatchLoader.mergeByTimeStamp(Arrays.asList(
+            batch("a", 1, 4, 4, 9),
+            batch("b"),
+            batch("c", 2, 4, 10),
+            batch("d", 0, 3)
+        ));
+
+        List<String> names = new ArrayList<>();
+        List<Long> timeStamps = new ArrayList<>();
+        for (Operation operation : merged) {
+            names.add(((TimedNamedOperation1) operation).name());
+            timeStamps.add(operation.timeStamp());
+        }
+        assertThat(timeStamps, equalTo(Arrays.asList(0L, 1L, 2L, 3L, 4L, 4L, 4L, 9L, 10L)));
+        assertThat(names, equalTo(Arrays.asList("d", "a", "c", "d", "a", "a", "c", "a", "c")));
+        assertThat(RunnableOperationStreamBatchLoader.mergeByTimeStamp(Arrays.asList(batch("b"))).isEmpty(),
+            is(true));
+    }
+
+    @Test
+    public void shouldFailStreamWhenUpdatesCannotBeLoaded(@TempDir File updatesDir) throws InterruptedException {
+        BlockingQueue<Iterator<Operation>> blockingQueue = new LinkedBlockingQueue<>(2);
+        CountDownLatch finishInit = new CountDownLatch(1);
+        RunnableOperationStreamBatchLoader loader = new RunnableOperationStreamBatchLoader(
+            updatesDir, "*.parquet", blockingQueue, Collections.singleton(Write1.class), 1000, 2, false, finishInit);
+        loader.start();
+        finishInit.await();
+        BufferedIterator operations = new BufferedIterator(new OperationStreamBuffer(blockingQueue));
+
+        GeneratorException e = assertThrows(GeneratorException.class, operations::hasNext);
+        assertThat(e.getCause() instanceof WorkloadException, is(true));
+        loader.join();
+    }
+}
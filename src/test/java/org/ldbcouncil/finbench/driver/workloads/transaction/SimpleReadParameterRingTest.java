@@ -0,0 +1,156 @@
+package org.ldbcouncil.finbench.driver.workloads.transaction;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.google.common.collect.EvictingQueue;
+import com.google.common.collect.Queues;
+import java.util.Date;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.ldbcouncil.finbench.driver.testutils.BenchmarkTest;
+import org.ldbcouncil.finbench.driver.util.Tuple4;
+
+public class SimpleReadParameterRingTest {
+    @Test
+    public void shouldPollInOrderAndEvictOldestWhenFull() {
+        SimpleReadParameterRing ring = new SimpleReadParameterRing(3);
+        assertThat(ring.capacity(), equalTo(4));
+        SimpleReadParameterBuffer.Parameters parameters = new SimpleReadParameterBuffer.Parameters();
+        assertThat(ring.poll(parameters), is(false));
+
+        for (long id = 1; id <= 6; id++) {
+            ring.add(id, id * 0.5, id * 10, id * 100);
+        }
+        assertThat(ring.offer(7, 0, 0, 0), is(false));
+        for (long id = 3; id <= 6; id++) {
+            assertThat(ring.poll(parameters), is(true));
+            assertThat(parameters.id, equalTo(id));
+            assertThat(parameters.threshold, equalTo(id * 0.5));
+            assertThat(parameters.startTimeAsMilli, equalTo(id * 10));
+            assertThat(parameters.endTimeAsMilli, equalTo(id * 100));
+        }
+        assertThat(ring.poll(parameters), is(false));
+    }
+
+    @Test
+    public void shouldPassEveryParameterOnceBetweenConcurrentProducersAndConsumers() throws InterruptedException {
+        int producers = 4;
+        int consumers = 4;
+        int perProducer = 50_000;
+        int total = producers * perProducer;
+        SimpleReadParameterRing ring = new SimpleReadParameterRing(64);
+        AtomicIntegerArray received = new AtomicIntegerArray(total);
+        AtomicLong receivedCount = new AtomicLong();
+        AtomicLong tornReads = new AtomicLong();
+
+        Thread[] threads = new Thread[producers + consumers];
+        for (int p = 0; p < producers; p++) {
+            final int from = p * perProducer;
+            threads[p] = new Thread(() -> {
+                for (int id = from; id < from + perProducer; id++) {
+                    while (!ring.offer(id, id * 2.0, id + 1, id + 2)) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads[producers + c] = new Thread(() -> {
+                SimpleReadParameterBuffer.Parameters parameters = new SimpleReadParameterBuffer.Parameters();
+                while (receivedCount.get() < total) {
+                    if (ring.poll(parameters)) {
+                        int id = (int) parameters.id;
+                        if (parameters.threshold != id * 2.0 || parameters.startTimeAsMilli != id + 1
+                            || parameters.endTimeAsMilli != id + 2) {
+                            tornReads.incrementAndGet();
+                        }
+                        received.incrementAndGet(id);
+                        receivedCount.incrementAndGet();
+                    } else {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(tornReads.get(), equalTo(0L));
+        for (int id = 0; id < total; id++) {
+            assertThat(received.get(id), equalTo(1));
+        }
+    }
+
+    /**
+     * Threads alternately add the parameters of a result and poll the parameters of a simple read, as operation
+     * handler threads do when complex reads complete and simple reads are generated
+     */
+    @BenchmarkTest
+    public void benchmarkContentionAgainstSynchronizedEvictingQueue() throws InterruptedException {
+        int operations = 4_000_000;
+        for (int threadCount : new int[] {8, 32, 64}) {
+            int perThread = operations / threadCount;
+            Queue<Tuple4<Long, Double, Date, Date>> queue =
+                Queues.synchronizedQueue(EvictingQueue.<Tuple4<Long, Double, Date, Date>>create(1024));
+            long queueNanos = run(threadCount, () -> {
+                Date startTime = new Date(1);
+                Date endTime = new Date(2);
+                for (long i = 0; i < perThread; i++) {
+                    queue.add(new Tuple4<>(i, 100D, startTime, endTime));
+                    Tuple4<Long, Double, Date, Date> tuple4 = queue.poll();
+                    if (null != tuple4 && tuple4._1() < 0) {
+                        throw new IllegalStateException();
+                    }
+                }
+            });
+
+            SimpleReadParameterRing ring = new SimpleReadParameterRing(1024);
+            long ringNanos = run(threadCount, () -> {
+                SimpleReadParameterBuffer.Parameters parameters = new SimpleReadParameterBuffer.Parameters();
+                for (long i = 0; i < perThread; i++) {
+                    ring.add(i, 100D, 1, 2);
+                    if (ring.poll(parameters) && parameters.id < 0) {
+                        throw new IllegalStateException();
+                    }
+                }
+            });
+
+            System.out.println(format("%s threads, %s add and poll pairs: synchronized EvictingQueue %s ms, "
+                    + "ring %s ms", threadCount, perThread * threadCount, TimeUnit.NANOSECONDS.toMillis(queueNanos),
+                TimeUnit.NANOSECONDS.toMillis(ringNanos)));
+        }
+    }
+
+    private static long run(int threadCount, Runnable task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                task.run();
+            });
+            threads[t].start();
+        }
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return System.nanoTime() - startNanos;
+    }
+}
@@ -0,0 +1,114 @@
+package org.ldbcouncil.finbench.impls.common;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.ldbcouncil.finbench.driver.DbException;
+import org.ldbcouncil.finbench.driver.ResultReporter;
+import org.ldbcouncil.finbench.driver.runtime.ConcurrentErrorReporter;
+
+public class ConnectionPoolTest {
+
+    private static class CountingConnectionFactory implements ConnectionPool.ConnectionFactory<Integer> {
+        private final AtomicInteger opened = new AtomicInteger(0);
+        private final List<Integer> closed = new ArrayList<>();
+
+        @Override
+        public Integer open() {
+            return opened.incrementAndGet();
+        }
+
+        @Override
+        public void close(Integer connection) {
+            closed.add(connection);
+        }
+    }
+
+    @Test
+    public void shouldOpenMinIdleUpFrontAndOthersOnDemand() throws DbException {
+        CountingConnectionFactory connectionFactory = new CountingConnectionFactory();
+        ConnectionPool<Integer> pool = new ConnectionPool<>(connectionFactory, 3, 1, false);
+        assertThat(pool.openedCount(), equalTo(1));
+
+        Integer first = pool.acquire(null);
+        Integer second = pool.acquire(null);
+        assertThat(first, not(equalTo(second)));
+        assertThat(pool.openedCount(), equalTo(2));
+        assertThat(pool.inUseCount(), equalTo(2));
+
+        pool.release(second);
+        assertThat(pool.acquire(null), equalTo(second));
+        assertThat(pool.openedCount(), equalTo(2));
+        assertThat(pool.maxInUseCount(), equalTo(2));
+        assertThat(pool.waitCount(), equalTo(0L));
+
+        pool.close();
+        assertThat(connectionFactory.closed.size(), equalTo(2));
+    }
+
+    @Test
+    public void shouldGiveThreadItsLastConnectionBack() throws Exception {
+        ConnectionPool<Integer> pool = new ConnectionPool<>(new CountingConnectionFactory(), 2, 2, true);
+        Integer mine = pool.acquire(null);
+        pool.release(mine);
+
+        AtomicReference<Integer> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                Integer connection = pool.acquire(null);
+                other.set(connection);
+                pool.release(connection);
+            } catch (DbException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        thread.start();
+        thread.join();
+        // the other thread released last, so without affinity its connection would be handed out first
+        assertThat(pool.acquire(null), sameInstance(mine));
+        pool.close();
+    }
+
+    @Test
+    public void shouldExcludeWaitForConnectionFromRunDuration() throws Exception {
+        ConnectionPool<Integer> pool = new ConnectionPool<>(new CountingConnectionFactory(), 1, 1, true);
+        Integer connection = pool.acquire(null);
+        Thread waiter = Thread.currentThread();
+        Thread releaser = new Thread(() -> {
+            // release only once the acquiring thread is blocked on the pool
+            while (waiter.getState() != Thread.State.WAITING) {
+                Thread.yield();
+            }
+            pool.release(connection);
+        });
+        releaser.start();
+
+        ResultReporter.SimpleResultReporter resultReporter =
+            new ResultReporter.SimpleResultReporter(new ConcurrentErrorReporter());
+        assertThat(pool.acquire(resultReporter), equalTo(connection));
+        releaser.join();
+        assertThat(pool.waitCount(), equalTo(1L));
+        assertThat(pool.waitDurationAsNano() > 0, is(true));
+        assertThat(resultReporter.excludedDurationAsNano(), equalTo(pool.waitDurationAsNano()));
+        pool.close();
+    }
+
+    @Test
+    public void shouldDefaultToSingleConnection() throws DbException {
+        Map<String, String> properties = new HashMap<>();
+        ConnectionPool<Integer> pool = ConnectionPool.fromProperties(properties, new CountingConnectionFactory());
+        assertThat(pool.size(), equalTo(1));
+        assertThat(pool.openedCount(), equalTo(1));
+        pool.close();
+    }
+}
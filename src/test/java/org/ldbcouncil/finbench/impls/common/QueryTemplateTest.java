@@ -0,0 +1,176 @@
+package org.ldbcouncil.finbench.impls.common;
+
+import static java.lang.String.format;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import com.google.common.collect.ImmutableMap;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.ldbcouncil.finbench.driver.DbException;
+import org.ldbcouncil.finbench.driver.testutils.BenchmarkTest;
+import org.ldbcouncil.finbench.driver.truncation.TruncationOrder;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead8;
+
+public class QueryTemplateTest {
+    private static final int PREPARE_COUNT = 20_000;
+
+    private final com.sun.management.ThreadMXBean threadMxBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static class CypherQueryStore extends QueryStore {
+        CypherQueryStore() throws DbException {
+            super("queries", ".cypher");
+        }
+    }
+
+    @Test
+    public void shouldRenderSlotsWithBoundValues() {
+        QueryTemplate template = QueryTemplate.compile(
+            "MATCH (a {id: $id}) WHERE a.t > $time AND a.t < $time2 AND $id <> $other RETURN 'US$' + a.x", "$", "");
+        assertThat(template.parameters(), equalTo(Arrays.asList("id", "time", "time2", "other")));
+        assertThat(template.slotCount(), equalTo(5));
+
+        QueryTemplate.Renderer renderer = new QueryTemplate.Renderer();
+        String rendered = renderer.reset(template)
+            .set("id", 42L)
+            .set("time", 0.1f)
+            .set("time2", 0.1)
+            .set("unused", "x")
+            .render();
+        assertThat(rendered,
+            equalTo("MATCH (a {id: 42}) WHERE a.t > 0.1 AND a.t < 0.1 AND 42 <> $other RETURN 'US$' + a.x"));
+        // values do not carry over to the next query
+        assertThat(renderer.reset(template).set("other", true).render(),
+            equalTo("MATCH (a {id: $id}) WHERE a.t > $time AND a.t < $time2 AND $id <> true RETURN 'US$' + a.x"));
+
+        QueryTemplate withPostfix = QueryTemplate.compile("f(:id:, :id, :name:)", ":", ":");
+        assertThat(renderer.reset(withPostfix).set("id", 1).set("name", "n").render(), equalTo("f(1, :id, n)"));
+    }
+
+    @Test
+    public void shouldPrepareQueriesLikeStringReplace() throws DbException {
+        CypherQueryStore queryStore = new CypherQueryStore();
+        ComplexRead8 operation = new ComplexRead8(7, 0.1f, 1_600_000_000_000L, 1_700_000_000_000L, 10,
+            TruncationOrder.TIMESTAMP_DESCENDING);
+        assertThat(queryStore.getComplexRead8(operation), equalTo(replace(
+            queryStore.getParameterizedQuery(QueryType.TransactionComplexRead8),
+            new ImmutableMap.Builder<String, Object>()
+                .put(ComplexRead8.ID, Long.toString(operation.getId()))
+                .put(ComplexRead8.THRESHOLD, Double.toString(operation.getThreshold()))
+                .put(ComplexRead8.START_TIME, Long.toString(operation.startTimeAsMilli()))
+                .put(ComplexRead8.END_TIME, Long.toString(operation.endTimeAsMilli()))
+                .put(ComplexRead8.TRUNCATION_LIMIT, Integer.toString(operation.getTruncationLimit()))
+                .put(ComplexRead8.TRUNCATION_ORDER, operation.getTruncationOrder().name())
+                .build())));
+
+        for (QueryType queryType : QueryType.values()) {
+            QueryTemplate template = queryStore.getQueryTemplate(queryType);
+            if (null == template) {
+                continue;
+            }
+            List<String> parameters = parametersLongestFirst(template);
+            Map<String, Object> substitutions = new LinkedHashMap<>();
+            for (int i = 0; i < parameters.size(); i++) {
+                substitutions.put(parameters.get(i), Long.toString(1_600_000_000_000L + i));
+            }
+            assertThat(queryType.name(), queryStore.prepare(queryType, substitutions),
+                equalTo(replace(template.text(), substitutions)));
+        }
+    }
+
+    @BenchmarkTest
+    public void benchmarkPrepareAgainstStringReplace() throws DbException {
+        CypherQueryStore queryStore = new CypherQueryStore();
+        long replaceDurationAsNano = 0;
+        long templateDurationAsNano = 0;
+        for (QueryType queryType : QueryType.values()) {
+            QueryTemplate template = queryStore.getQueryTemplate(queryType);
+            if (null == template) {
+                continue;
+            }
+            List<String> parameters = parametersLongestFirst(template);
+            long[] values = new long[parameters.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = 1_600_000_000_000L + i;
+            }
+
+            double replaceBytes = 0;
+            double templateBytes = 0;
+            long replaceRoundAsNano = 0;
+            long templateRoundAsNano = 0;
+            int checksum = 0;
+            // first round warms up both
+            for (int round = 0; round < 2; round++) {
+                long startBytes = allocatedBytes();
+                long startAsNano = System.nanoTime();
+                for (int n = 0; n < PREPARE_COUNT; n++) {
+                    ImmutableMap.Builder<String, Object> builder = new ImmutableMap.Builder<>();
+                    for (int i = 0; i < values.length; i++) {
+                        builder.put(parameters.get(i), Long.toString(values[i]));
+                    }
+                    checksum += replace(template.text(), builder.build()).length();
+                }
+                replaceRoundAsNano = System.nanoTime() - startAsNano;
+                replaceBytes = (double) (allocatedBytes() - startBytes) / PREPARE_COUNT;
+
+                startBytes = allocatedBytes();
+                startAsNano = System.nanoTime();
+                for (int n = 0; n < PREPARE_COUNT; n++) {
+                    QueryTemplate.Renderer renderer = queryStore.renderer(queryType);
+                    for (int i = 0; i < values.length; i++) {
+                        renderer.set(parameters.get(i), values[i]);
+                    }
+                    checksum -= renderer.render().length();
+                }
+                templateRoundAsNano = System.nanoTime() - startAsNano;
+                templateBytes = (double) (allocatedBytes() - startBytes) / PREPARE_COUNT;
+            }
+            assertThat(checksum, equalTo(0));
+            replaceDurationAsNano += replaceRoundAsNano;
+            templateDurationAsNano += templateRoundAsNano;
+            System.out.println(format(
+                "%s (%s parameters): String.replace %.0f queries/s %.0f bytes/query, template %.0f queries/s "
+                    + "%.0f bytes/query",
+                queryType.name(), values.length, perSecond(replaceRoundAsNano), replaceBytes,
+                perSecond(templateRoundAsNano), templateBytes));
+        }
+        System.out.println(format("All query types: String.replace %s ms, template %s ms",
+            TimeUnit.NANOSECONDS.toMillis(replaceDurationAsNano),
+            TimeUnit.NANOSECONDS.toMillis(templateDurationAsNano)));
+    }
+
+    /**
+     * Parameter names with the longest first, String.replace would otherwise replace $amount within $amountThreshold
+     */
+    private static List<String> parametersLongestFirst(QueryTemplate template) {
+        List<String> parameters = new ArrayList<>(template.parameters());
+        parameters.sort(Comparator.comparing(String::length).reversed());
+        return parameters;
+    }
+
+    /**
+     * Query preparation as it was done before query templates
+     */
+    private static String replace(String query, Map<String, Object> parameterSubstitutions) {
+        for (String parameter : parameterSubstitutions.keySet()) {
+            query = query.replace("$" + parameter, (String) parameterSubstitutions.get(parameter));
+        }
+        return query;
+    }
+
+    private static double perSecond(long durationAsNano) {
+        return PREPARE_COUNT / (durationAsNano / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private long allocatedBytes() {
+        return threadMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,152 @@
+package org.ldbcouncil.finbench.impls.inmemory;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ldbcouncil.finbench.driver.truncation.TruncationOrder;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead1;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead1Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ComplexRead3;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.ReadWrite1;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead1;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead1Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead2;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead2Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead4;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.SimpleRead4Result;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write12;
+import org.ldbcouncil.finbench.driver.workloads.transaction.queries.Write17;
+
+public class InMemoryQueriesTest {
+    private static final String[] LABELS = {
+        "Account", "Person", "Company", "Loan", "Medium", "AccountTransferAccount", "AccountWithdrawAccount",
+        "AccountRepayLoan", "LoanDepositAccount", "MediumSignInAccount", "PersonOwnAccount", "CompanyOwnAccount",
+        "PersonApplyLoan", "CompanyApplyLoan", "PersonInvestCompany", "CompanyInvestCompany", "PersonGuaranteePerson",
+        "CompanyGuaranteeCompany"
+    };
+
+    @TempDir
+    File snapshotDir;
+    InMemoryGraph graph;
+
+    @BeforeEach
+    public void loadSnapshot() throws IOException {
+        for (String label : LABELS) {
+            write(label, "header");
+        }
+        write("Account", "accountId|createTime|isBlocked|accountType",
+            "1|1970-01-01 00:00:01.5|false|debit",
+            "2|2000|false|debit",
+            "3|3000|false|credit",
+            "4|4000|false|credit",
+            "5|5000|false|debit");
+        write("Medium", "mediumId|mediumType|isBlocked|createTime",
+            "10|POS|true|1000");
+        write("AccountTransferAccount", "fromId|toId|amount|createTime",
+            "1|2|10.0|100",
+            "2|3|20.0|200",
+            "3|4|30.0|150",
+            "1|3|5.0|50",
+            "1|99|1.0|60");
+        write("MediumSignInAccount", "mediumId|accountId|createTime",
+            "10|3|300");
+        graph = InMemoryGraph.load(snapshotDir);
+    }
+
+    private void write(String label, String... lines) throws IOException {
+        Files.write(new File(snapshotDir, label + ".csv").toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void shouldFollowTransfersWithAscendingTimestamps() {
+        List<ComplexRead1Result> results = InMemoryQueries.complexRead1(graph,
+            new ComplexRead1(1, 0, 1000, 10, TruncationOrder.TIMESTAMP_ASCENDING));
+        assertThat(results, equalTo(Arrays.asList(
+            new ComplexRead1Result(3, 1, 10, "POS"),
+            new ComplexRead1Result(3, 2, 10, "POS"))));
+
+        // only the earliest transfer of every account: 1 -> 3 -> 4
+        results = InMemoryQueries.complexRead1(graph,
+            new ComplexRead1(1, 0, 1000, 1, TruncationOrder.TIMESTAMP_ASCENDING));
+        assertThat(results, equalTo(Collections.singletonList(new ComplexRead1Result(3, 1, 10, "POS"))));
+
+        // the window excludes its bounds
+        results = InMemoryQueries.complexRead1(graph,
+            new ComplexRead1(1, 0, 300, 10, TruncationOrder.TIMESTAMP_ASCENDING));
+        assertThat(results.isEmpty(), is(true));
+
+        assertThat(InMemoryQueries.complexRead3(graph, new ComplexRead3(1, 4, 0, 1000)).get(0).getShortestPathLength(),
+            equalTo(2L));
+        assertThat(InMemoryQueries.complexRead3(graph, new ComplexRead3(4, 1, 0, 1000)).get(0).getShortestPathLength(),
+            equalTo(-1L));
+    }
+
+    @Test
+    public void shouldReadAddedTransfersInTimestampOrder() {
+        SimpleRead1Result account = InMemoryQueries.simpleRead1(graph, new SimpleRead1(1)).get(0);
+        assertThat(account.getCreateTime(), equalTo(new Date(1500)));
+
+        InMemoryQueries.write12(graph, new Write12(2, 5, 400, 7.0));
+        InMemoryQueries.write12(graph, new Write12(2, 5, 50, 8.0));
+        List<SimpleRead4Result> results = InMemoryQueries.simpleRead4(graph, new SimpleRead4(2, 0, 0, 1000));
+        assertThat(results.size(), equalTo(2));
+        assertThat(results.get(0).getDstId(), equalTo(3L));
+        assertThat(results.get(1).getDstId(), equalTo(5L));
+        assertThat(results.get(1).getNumEdges(), equalTo(2));
+        assertThat(results.get(1).getSumAmount(), equalTo(15.0));
+
+        // enough additions to build the adjacency arrays again
+        for (int i = 0; i < 2000; i++) {
+            InMemoryQueries.write12(graph, new Write12(2, 5, 500 + i, 1.0));
+            graph.compactIfNeeded();
+        }
+        SimpleRead2Result transfers = InMemoryQueries.simpleRead2(graph, new SimpleRead2(2, 0, 3000)).get(0);
+        assertThat(transfers.getNumEdge1(), equalTo(2003L));
+        assertThat(transfers.getNumEdge2(), equalTo(1L));
+        assertThat(transfers.getMaxEdge1Amount(), equalTo(20.0));
+    }
+
+    @Test
+    public void shouldRollBackTransferAndBlockAccountsOnCycle() {
+        // 1 -> 2 -> 3 already, 3 -> 1 closes the cycle
+        InMemoryQueries.readWrite1(graph, new ReadWrite1(3, 1, 500, 1.0, 0, 1000));
+        assertThat(InMemoryQueries.simpleRead1(graph, new SimpleRead1(1)).get(0).getIsBlocked(), is(true));
+        assertThat(InMemoryQueries.simpleRead1(graph, new SimpleRead1(3)).get(0).getIsBlocked(), is(true));
+        assertThat(InMemoryQueries.simpleRead2(graph, new SimpleRead2(3, 0, 1000)).get(0).getNumEdge1(), equalTo(1L));
+
+        // no transfer from blocked accounts
+        InMemoryQueries.readWrite1(graph, new ReadWrite1(1, 5, 500, 1.0, 0, 1000));
+        assertThat(InMemoryQueries.simpleRead2(graph, new SimpleRead2(1, 0, 1000)).get(0).getNumEdge1(), equalTo(2L));
+
+        InMemoryQueries.readWrite1(graph, new ReadWrite1(4, 5, 500, 1.0, 0, 1000));
+        assertThat(InMemoryQueries.simpleRead2(graph, new SimpleRead2(4, 0, 1000)).get(0).getNumEdge1(), equalTo(1L));
+        assertThat(InMemoryQueries.simpleRead1(graph, new SimpleRead1(4)).get(0).getIsBlocked(), is(false));
+    }
+
+    @Test
+    public void shouldLeaveOutDeletedAccounts() {
+        InMemoryQueries.write17(graph, new Write17(4));
+        assertThat(InMemoryQueries.simpleRead1(graph, new SimpleRead1(4)).isEmpty(), is(true));
+        assertThat(InMemoryQueries.simpleRead4(graph, new SimpleRead4(3, 0, 0, 1000)).isEmpty(), is(true));
+        assertThat(InMemoryQueries.complexRead3(graph, new ComplexRead3(1, 4, 0, 1000)).get(0).getShortestPathLength(),
+            equalTo(-1L));
+    }
+
+    @Test
+    public void shouldLoadExampleSnapshot() throws IOException {
+        InMemoryGraph example = InMemoryGraph.load(new File("src/main/resources/example/data/snapshot"));
+        assertThat(example.accounts.count() > 0, is(true));
+    }
+}